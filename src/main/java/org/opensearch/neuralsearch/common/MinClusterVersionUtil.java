@@ -31,6 +31,9 @@ public final class MinClusterVersionUtil {
     public static final Version MINIMAL_SUPPORTED_VERSION_STATS_CATEGORY_FILTERING = Version.V_3_1_0;
     public static final Version MINIMAL_SUPPORTED_VERSION_METRICS_STATS = Version.V_3_3_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_NEURAL_KNN_QUERY_BUILDER = Version.V_3_0_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SEISMIC_QUERY_MASS_RATIO = Version.V_3_4_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SEISMIC_BYPASS_CACHE = Version.V_3_4_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SPARSE_WARMUP_PROGRESS = Version.V_3_4_0;
 
     // Constant for neural_knn_query version check
     public static final String NEURAL_KNN_QUERY = "neural_knn_query";
@@ -101,4 +104,37 @@ public final class MinClusterVersionUtil {
     public static boolean isClusterOnOrAfterMinReqVersionForNeuralKNNQueryBuilder() {
         return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_NEURAL_KNN_QUERY_BUILDER);
     }
+
+    /**
+     * Checks if the version from StreamInput/StreamOutput is on or after the minimum required version for the query mass
+     * ratio of SEISMIC queries
+     *
+     * @param version The version to check
+     * @return true if the version is on or after the minimum required version
+     */
+    public static boolean isVersionOnOrAfterMinReqVersionForSeismicQueryMassRatio(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_SEISMIC_QUERY_MASS_RATIO);
+    }
+
+    /**
+     * Checks if the version from StreamInput/StreamOutput is on or after the minimum required version for the bypass
+     * cache option of SEISMIC queries
+     *
+     * @param version The version to check
+     * @return true if the version is on or after the minimum required version
+     */
+    public static boolean isVersionOnOrAfterMinReqVersionForSeismicBypassCache(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_SEISMIC_BYPASS_CACHE);
+    }
+
+    /**
+     * Checks if the version from StreamInput/StreamOutput is on or after the minimum required version for the progress
+     * reported by the warm up of sparse indices
+     *
+     * @param version The version to check
+     * @return true if the version is on or after the minimum required version
+     */
+    public static boolean isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_SPARSE_WARMUP_PROGRESS);
+    }
 }
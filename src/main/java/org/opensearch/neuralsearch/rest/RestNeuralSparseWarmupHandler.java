@@ -4,7 +4,12 @@
  */
 package org.opensearch.neuralsearch.rest;
 
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.Booleans;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.neuralsearch.plugin.NeuralSearch;
 import org.opensearch.neuralsearch.transport.NeuralSparseWarmupAction;
 import org.opensearch.neuralsearch.transport.NeuralSparseWarmupRequest;
@@ -14,9 +19,12 @@ import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.index.Index;
 import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.tasks.Task;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -25,10 +33,15 @@ import static org.opensearch.action.support.IndicesOptions.strictExpandOpen;
 /**
  * RestHandler for SEISMIC index warmup API.
  * API provides the ability for a user to load forward index and clustered posting for SEISMIC indices
- * into memory.
+ * into memory. With wait_for_completion=false, the warm up runs in the background and the API returns the id of its
+ * task. Cancelling that task through the task API cancels the warm up of all shards, and the progress of every shard
+ * is the status of its child task, listed by {@code GET _tasks?parent_task_id=<task>&detailed}.
  */
+@Log4j2
 public class RestNeuralSparseWarmupHandler extends BaseRestHandler {
     private static final String URL_PATH = "/warmup/{index}";
+    private static final String WAIT_FOR_COMPLETION_PARAM = "wait_for_completion";
+    private static final String TASK_FIELD = "task";
     public static String NAME = "neural_sparse_warmup_action";
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final ClusterService clusterService;
@@ -58,6 +71,26 @@ public class RestNeuralSparseWarmupHandler extends BaseRestHandler {
     @Override
     protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) {
         NeuralSparseWarmupRequest neuralSparseWarmupRequest = createNeuralSparseWarmupRequest(request);
+        if (Booleans.parseBoolean(request.param(WAIT_FOR_COMPLETION_PARAM), true) == false) {
+            return channel -> {
+                Task task = client.executeLocally(
+                    NeuralSparseWarmupAction.INSTANCE,
+                    neuralSparseWarmupRequest,
+                    ActionListener.wrap(
+                        response -> log.info(
+                            "Warm up of {} loaded {} docs and terms in {} bytes",
+                            Arrays.toString(neuralSparseWarmupRequest.indices()),
+                            response.getLoadedItems(),
+                            response.getLoadedBytes()
+                        ),
+                        e -> log.error("Warm up of {} failed", Arrays.toString(neuralSparseWarmupRequest.indices()), e)
+                    )
+                );
+                XContentBuilder builder = channel.newBuilder();
+                builder.startObject().field(TASK_FIELD, client.getLocalNodeId() + ":" + task.getId()).endObject();
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            };
+        }
         return channel -> client.execute(
             NeuralSparseWarmupAction.INSTANCE,
             neuralSparseWarmupRequest,
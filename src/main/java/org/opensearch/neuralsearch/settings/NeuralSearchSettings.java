@@ -10,6 +10,8 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_MERGE_MEMORY_LIMIT_BYTES;
+
 /**
  * Class defines settings specific to neural-search plugin
  * DEFAULT_INDEX_THREAD_QTY: -1 represents that user did not give a specific thread quantity
@@ -112,4 +114,15 @@ public final class NeuralSearchSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * The memory a SEISMIC merge can hold for postings being clustered. Once reached, the merge waits for the oldest
+     * batch to be clustered and written before reading more postings. Default is 64mb.
+     */
+    public static final Setting<ByteSizeValue> SPARSE_MERGE_MEMORY_LIMIT = Setting.memorySizeSetting(
+        "plugins.neural_search.sparse.merge_memory_limit",
+        new ByteSizeValue(DEFAULT_MERGE_MEMORY_LIMIT_BYTES),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
 }
@@ -33,6 +33,8 @@ public class NeuralSearchSettingsAccessor {
      */
     public NeuralSearchSettingsAccessor(ClusterService clusterService, Settings settings) {
         isStatsEnabled = NeuralSearchSettings.NEURAL_STATS_ENABLED.get(settings);
+        ClusterTrainingExecutor.getInstance()
+            .setMergeMemoryLimitBytes(NeuralSearchSettings.SPARSE_MERGE_MEMORY_LIMIT.get(settings).getBytes());
         registerSettingsCallbacks(clusterService, settings);
     }
 
@@ -54,5 +56,10 @@ public class NeuralSearchSettingsAccessor {
                 int maxThreadQty = OpenSearchExecutors.allocatedProcessors(settings);
                 ClusterTrainingExecutor.updateThreadPoolSize(maxThreadQty, setting);
             });
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.SPARSE_MERGE_MEMORY_LIMIT,
+                limit -> ClusterTrainingExecutor.getInstance().setMergeMemoryLimitBytes(limit.getBytes())
+            );
     }
 }
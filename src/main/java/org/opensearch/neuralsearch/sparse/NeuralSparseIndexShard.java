@@ -24,14 +24,18 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.shard.IllegalIndexShardStateException;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
 import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCache;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCacheItem;
+import org.opensearch.neuralsearch.sparse.cache.LruDocumentCache;
+import org.opensearch.neuralsearch.sparse.cache.LruTermCache;
 import org.opensearch.neuralsearch.sparse.codec.CodecUtilWrapper;
 import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
@@ -39,12 +43,20 @@ import org.opensearch.neuralsearch.sparse.cache.CacheGatedForwardIndexReader;
 import org.opensearch.neuralsearch.sparse.cache.CacheGatedPostingsReader;
 import org.opensearch.neuralsearch.sparse.codec.SparseTermsLuceneReader;
 import org.opensearch.neuralsearch.sparse.codec.SparseBinaryDocValuesPassThrough;
+import org.opensearch.neuralsearch.sparse.data.PostingClusters;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
 import org.apache.lucene.index.SegmentReadState;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import java.io.IOException;
 import java.util.stream.Collectors;
@@ -64,6 +76,7 @@ public class NeuralSparseIndexShard {
 
     private static final String WARM_UP_SEARCHER_SOURCE = "warm-up-searcher-source";
     private static final String CLEAR_CACHE_SEARCHER_SOURCE = "clear-cache-searcher-source";
+    private static final String HOT_SET_SEARCHER_SOURCE = "hot-set-searcher-source";
 
     /**
      * Return the name of the shards index
@@ -80,14 +93,28 @@ public class NeuralSparseIndexShard {
      * Early stop to save resources if this is a repeated request
      */
     public void warmUp() throws IOException {
+        warmUp(new SparseWarmupProgress());
+    }
+
+    /**
+     * Load all the neural-sparse segments for this shard into the cache, reporting the progress as it goes.
+     * Segments and fields are warmed up in parallel on the SEISMIC thread pool, each one reading its docs and then its
+     * terms in order so that reads stay sequential.
+     *
+     * @param progress progress of the warm up, which also stops it once cancelled
+     * @throws TaskCancelledException if the warm up is cancelled
+     */
+    public void warmUp(@NonNull SparseWarmupProgress progress) throws IOException {
         try (Engine.Searcher searcher = indexShard.acquireSearcher(WARM_UP_SEARCHER_SOURCE)) {
             List<CacheOperationContext> cacheOperationContexts = collectCacheOperationContexts(searcher);
+            for (CacheOperationContext context : cacheOperationContexts) {
+                if (context.forwardIndexReader != null) {
+                    progress.addTotalItems(context.binaryDocValues.cost());
+                }
+                progress.addTotalItems(context.postingsReader.size());
+            }
 
-            // Fist warm up all forward indices
-            warmUpAllForwardIndices(cacheOperationContexts);
-
-            // Then warm up all clustered postings
-            warmUpAllClusteredPostings(cacheOperationContexts);
+            warmUpInParallel(cacheOperationContexts, progress);
         } catch (IllegalIndexShardStateException | EngineException e) {
             log.error("[Neural Sparse] Failed to acquire searcher", e);
             throw e;
@@ -100,6 +127,80 @@ public class NeuralSparseIndexShard {
         }
     }
 
+    /**
+     * Collect the hot set of this shard: the cached terms and docs of each segment which were missed the most
+     * recently, as counted by the caches for admission.
+     *
+     * @param limit maximum number of terms, and of docs, per segment and field
+     * @return the hot set
+     */
+    public SparseHotSet collectHotSet(int limit) {
+        try (Engine.Searcher searcher = indexShard.acquireSearcher(HOT_SET_SEARCHER_SOURCE)) {
+            // only reads the cache keys, so that no cache item is created for segments without cached data
+            Set<CacheKey> cacheKeys = new LinkedHashSet<>();
+            for (final LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
+                final LeafReader leafReader = leafReaderContext.reader();
+                final SegmentInfo segmentInfo = Lucene.segmentReader(leafReader).getSegmentInfo().info;
+                for (FieldInfo fieldInfo : collectSparseFieldInfos(leafReader)) {
+                    cacheKeys.add(new CacheKey(segmentInfo, fieldInfo));
+                }
+            }
+            // the caches are shared by the node, so each one is walked once for all the segments and fields
+            Map<CacheKey, List<LruTermCache.TermKey>> hottestTerms = LruTermCache.getInstance().hottestKeys(cacheKeys, limit);
+            Map<CacheKey, List<LruDocumentCache.DocumentKey>> hottestDocs = LruDocumentCache.getInstance().hottestKeys(cacheKeys, limit);
+            List<SparseHotSet.Entry> entries = new ArrayList<>();
+            for (CacheKey cacheKey : cacheKeys) {
+                final SegmentInfo segmentInfo = cacheKey.getSegmentInfo();
+                List<BytesRef> terms = hottestTerms.getOrDefault(cacheKey, List.of()).stream().map(LruTermCache.TermKey::getTerm).toList();
+                int[] docIds = hottestDocs.getOrDefault(cacheKey, List.of())
+                    .stream()
+                    .mapToInt(LruDocumentCache.DocumentKey::getDocId)
+                    .sorted()
+                    .toArray();
+                if (!terms.isEmpty() || docIds.length > 0) {
+                    entries.add(new SparseHotSet.Entry(segmentInfo.name, segmentInfo.getId(), cacheKey.getField(), terms, docIds));
+                }
+            }
+            return new SparseHotSet(entries);
+        } catch (IllegalIndexShardStateException | EngineException e) {
+            log.error("[Neural Sparse] Failed to acquire searcher", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Load the terms and docs of a hot set into the cache. Segments which are not in the hot set, e.g. as they were
+     * written after it, are skipped. Stops when the cache budget is reached.
+     *
+     * @param hotSet hot set of this shard
+     */
+    public void warmUp(@NonNull SparseHotSet hotSet) throws IOException {
+        try (Engine.Searcher searcher = indexShard.acquireSearcher(WARM_UP_SEARCHER_SOURCE)) {
+            for (CacheOperationContext context : collectCacheOperationContexts(searcher)) {
+                SparseHotSet.Entry entry = hotSet.find(context.cacheKey.getSegmentInfo(), context.cacheKey.getField());
+                if (entry == null) {
+                    continue;
+                }
+                if (context.forwardIndexReader != null) {
+                    for (int docId : entry.getDocIds()) {
+                        context.forwardIndexReader.read(docId);
+                    }
+                }
+                for (BytesRef term : entry.getTerms()) {
+                    context.postingsReader.read(term);
+                }
+            }
+        } catch (IllegalIndexShardStateException | EngineException e) {
+            log.error("[Neural Sparse] Failed to acquire searcher", e);
+            throw e;
+        } catch (CircuitBreakingException e) {
+            log.info("[Neural Sparse] Stopped preloading the hot set of shard {} as the cache is full", indexShard.shardId());
+        } catch (IOException e) {
+            log.error("[Neural Sparse] Failed to read data during hot set preload", e);
+            throw e;
+        }
+    }
+
     /**
      * Clear all cached neural-sparse data for this shard.
      * Removes sparse field data from memory to free up resources.
@@ -120,36 +221,89 @@ public class NeuralSparseIndexShard {
     }
 
     /**
-     * Warm up all forward indices
+     * Warm up the contexts in parallel. The calling thread warms up contexts too, so the warm up completes even when
+     * the pool, which also runs the shard operations, has no idle thread. The first failure stops the other contexts
+     * and is rethrown once they are done.
      */
-    private void warmUpAllForwardIndices(List<CacheOperationContext> contexts) throws IOException, CircuitBreakingException {
-        for (CacheOperationContext context : contexts) {
-            BinaryDocValues binaryDocValues = context.binaryDocValues;
-            SparseVectorReader forwardIndexReader = context.forwardIndexReader;
-            if (forwardIndexReader == null) {
-                continue;
+    private void warmUpInParallel(List<CacheOperationContext> contexts, SparseWarmupProgress progress) throws IOException {
+        AtomicInteger nextContext = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(contexts.size());
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int i = nextContext.getAndIncrement(); i < contexts.size(); i = nextContext.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        warmUp(contexts.get(i), progress);
+                    }
+                } catch (Exception e) {
+                    if (failure.compareAndSet(null, e)) {
+                        progress.cancel();
+                    }
+                } finally {
+                    done.countDown();
+                }
             }
+        };
 
-            int docId = binaryDocValues.nextDoc();
-            while (docId != DocIdSetIterator.NO_MORE_DOCS) {
-                forwardIndexReader.read(docId);
-                docId = binaryDocValues.nextDoc();
+        if (ClusterTrainingExecutor.getInstance().isInitialized()) {
+            int helpers = Math.min(contexts.size(), Runtime.getRuntime().availableProcessors()) - 1;
+            try {
+                for (int i = 0; i < helpers; ++i) {
+                    ClusterTrainingExecutor.getInstance().run(worker);
+                }
+            } catch (RejectedExecutionException e) {
+                log.debug("[Neural Sparse] Warm up continues on fewer threads as the pool rejects tasks", e);
             }
         }
+        worker.run();
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.cancel();
+            throw new TaskCancelledException("Warm up is interrupted");
+        }
+
+        Exception e = failure.get();
+        if (e instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (e instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
     }
 
     /**
-     * Warm up all clustered postings
+     * Warm up the forward index of a context, then its clustered postings
      */
-    private void warmUpAllClusteredPostings(List<CacheOperationContext> contexts) throws IOException, CircuitBreakingException {
-        for (CacheOperationContext context : contexts) {
-            CacheGatedPostingsReader postingsReader = context.postingsReader;
-
-            final Set<BytesRef> terms = postingsReader.getTerms();
-            for (BytesRef term : terms) {
-                postingsReader.read(term);
+    private void warmUp(CacheOperationContext context, SparseWarmupProgress progress) throws IOException, CircuitBreakingException {
+        BinaryDocValues binaryDocValues = context.binaryDocValues;
+        SparseVectorReader forwardIndexReader = context.forwardIndexReader;
+        if (forwardIndexReader != null) {
+            int docId = binaryDocValues.nextDoc();
+            while (docId != DocIdSetIterator.NO_MORE_DOCS) {
+                checkCancelled(progress);
+                SparseVector vector = forwardIndexReader.read(docId);
+                progress.recordLoaded(vector == null ? 0 : vector.ramBytesUsed());
+                docId = binaryDocValues.nextDoc();
             }
         }
+
+        CacheGatedPostingsReader postingsReader = context.postingsReader;
+        // terms are iterated in the order of the terms dictionary
+        final Set<BytesRef> terms = postingsReader.getTerms();
+        for (BytesRef term : terms) {
+            checkCancelled(progress);
+            PostingClusters clusters = postingsReader.read(term);
+            progress.recordLoaded(clusters == null ? 0 : clusters.ramBytesUsed());
+        }
+    }
+
+    private static void checkCancelled(SparseWarmupProgress progress) {
+        if (progress.isCancelled()) {
+            throw new TaskCancelledException("Warm up is cancelled");
+        }
     }
 
     /**
@@ -168,6 +322,10 @@ public class NeuralSparseIndexShard {
             return NOOP_READER;
         }
         SparseBinaryDocValuesPassThrough sparseBinaryDocValues = (SparseBinaryDocValuesPassThrough) binaryDocValues;
+        if (sparseBinaryDocValues.hasMappedForwardIndex()) {
+            // reading through a memory-mapped forward index warms up the OS page cache
+            return sparseBinaryDocValues;
+        }
         ForwardIndexCacheItem cacheItem = ForwardIndexCache.getInstance().getOrCreate(key, docCount);
         return new CacheGatedForwardIndexReader(
             cacheItem.getReader(),
@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hot set of a shard: the terms and docs of each segment and sparse field which queries used the most recently. It is
+ * persisted in the data path of the shard, so that after a restart the shard preloads only these terms and docs into
+ * the caches instead of warming up everything.
+ * <p>
+ * Segments are identified by their name and id, so a persisted hot set only applies to the segments which are still
+ * the same after the restart. The docs of an entry are written as ranges, as hot docs tend to be clustered.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SparseHotSet {
+    public static final String FILE_NAME = "neural_sparse_hot_set";
+    static final String CODEC_NAME = "NeuralSparseHotSet";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    @NonNull
+    private final List<Entry> entries;
+
+    /**
+     * Hot terms and docs of a sparse field of a segment
+     */
+    @Value
+    public static class Entry {
+        String segmentName;
+        byte[] segmentId;
+        String field;
+        List<BytesRef> terms;
+        // sorted doc ids
+        int[] docIds;
+
+        /**
+         * @return true if the entry is about this segment and field
+         */
+        public boolean matches(SegmentInfo segmentInfo, String field) {
+            return this.segmentName.equals(segmentInfo.name)
+                && Arrays.equals(this.segmentId, segmentInfo.getId())
+                && this.field.equals(field);
+        }
+    }
+
+    /**
+     * Finds the entry of a segment and field.
+     *
+     * @param segmentInfo segment info
+     * @param field field name
+     * @return the entry, or null if the segment and field have no entry
+     */
+    public Entry find(SegmentInfo segmentInfo, String field) {
+        for (Entry entry : entries) {
+            if (entry.matches(segmentInfo, field)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the hot set to a directory. It is written to a temporary file first and renamed atomically, so a crash
+     * while writing keeps the previous hot set.
+     *
+     * @param path directory to write to
+     * @throws IOException if unable to write the file
+     */
+    public void write(Path path) throws IOException {
+        try (Directory directory = new NIOFSDirectory(path)) {
+            String tempFileName = FILE_NAME + TEMP_FILE_SUFFIX;
+            Files.deleteIfExists(path.resolve(tempFileName));
+            try (IndexOutput out = directory.createOutput(tempFileName, IOContext.DEFAULT)) {
+                CodecUtil.writeHeader(out, CODEC_NAME, VERSION_CURRENT);
+                out.writeVInt(entries.size());
+                for (Entry entry : entries) {
+                    writeEntry(out, entry);
+                }
+                CodecUtil.writeFooter(out);
+            }
+            directory.sync(List.of(tempFileName));
+            // replaces the previous hot set
+            directory.rename(tempFileName, FILE_NAME);
+            directory.syncMetaData();
+        }
+    }
+
+    /**
+     * Reads the hot set persisted in a directory.
+     *
+     * @param path directory to read from
+     * @return the hot set, or an empty one if none was persisted
+     * @throws IOException if unable to read the file, or if it is corrupted
+     */
+    public static SparseHotSet read(Path path) throws IOException {
+        if (!Files.exists(path.resolve(FILE_NAME))) {
+            return new SparseHotSet(List.of());
+        }
+        try (Directory directory = new NIOFSDirectory(path); ChecksumIndexInput in = directory.openChecksumInput(FILE_NAME)) {
+            CodecUtil.checkHeader(in, CODEC_NAME, VERSION_START, VERSION_CURRENT);
+            int size = in.readVInt();
+            List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                entries.add(readEntry(in));
+            }
+            CodecUtil.checkFooter(in);
+            return new SparseHotSet(entries);
+        }
+    }
+
+    private static void writeEntry(IndexOutput out, Entry entry) throws IOException {
+        out.writeString(entry.getSegmentName());
+        byte[] segmentId = entry.getSegmentId() == null ? new byte[0] : entry.getSegmentId();
+        out.writeVInt(segmentId.length);
+        out.writeBytes(segmentId, segmentId.length);
+        out.writeString(entry.getField());
+
+        out.writeVInt(entry.getTerms().size());
+        for (BytesRef term : entry.getTerms()) {
+            out.writeVInt(term.length);
+            out.writeBytes(term.bytes, term.offset, term.length);
+        }
+
+        // runs of consecutive doc ids, as the gap from the end of the previous run and the length of the run
+        int[] docIds = entry.getDocIds();
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < docIds.length;) {
+            int start = i;
+            while (i + 1 < docIds.length && docIds[i + 1] == docIds[i] + 1) {
+                ++i;
+            }
+            ranges.add(new int[] { docIds[start], i - start + 1 });
+            ++i;
+        }
+        out.writeVInt(ranges.size());
+        int previousEnd = 0;
+        for (int[] range : ranges) {
+            out.writeVInt(range[0] - previousEnd);
+            out.writeVInt(range[1]);
+            previousEnd = range[0] + range[1];
+        }
+    }
+
+    private static Entry readEntry(ChecksumIndexInput in) throws IOException {
+        String segmentName = in.readString();
+        byte[] segmentId = new byte[in.readVInt()];
+        in.readBytes(segmentId, 0, segmentId.length);
+        String field = in.readString();
+
+        int termCount = in.readVInt();
+        List<BytesRef> terms = new ArrayList<>(termCount);
+        for (int i = 0; i < termCount; ++i) {
+            byte[] bytes = new byte[in.readVInt()];
+            in.readBytes(bytes, 0, bytes.length);
+            terms.add(new BytesRef(bytes));
+        }
+
+        int rangeCount = in.readVInt();
+        int[] starts = new int[rangeCount];
+        int[] lengths = new int[rangeCount];
+        int docCount = 0;
+        int previousEnd = 0;
+        for (int i = 0; i < rangeCount; ++i) {
+            starts[i] = previousEnd + in.readVInt();
+            lengths[i] = in.readVInt();
+            previousEnd = starts[i] + lengths[i];
+            docCount += lengths[i];
+        }
+        int[] docIds = new int[docCount];
+        int index = 0;
+        for (int i = 0; i < rangeCount; ++i) {
+            for (int j = 0; j < lengths[i]; ++j) {
+                docIds[index++] = starts[i] + j;
+            }
+        }
+        return new Entry(segmentName, segmentId.length == 0 ? null : segmentId, field, terms, docIds);
+    }
+}
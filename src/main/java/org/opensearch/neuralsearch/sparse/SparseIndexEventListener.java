@@ -8,24 +8,70 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentInfos;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
 import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCache;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorFieldType;
+import org.opensearch.threadpool.Scheduler;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Event listener for sparse index operations that handles cache cleanup during index removal.
  * Clears forward index and clustered posting caches for sparse token fields when indices are removed.
+ * <p>
+ * When {@link SparseSettings#HOT_SET_SNAPSHOT_INTERVAL_SETTING} is set, it also persists the hot set of each started
+ * shard periodically on the SEISMIC thread pool, and preloads the persisted hot set when the shard starts again.
+ * Closing a shard only cancels its next snapshot: shards are closed on the cluster applier thread, which must not walk
+ * the caches or write files, so the hot set preloaded later is the last periodic snapshot.
  */
 @AllArgsConstructor
 @Log4j2
 public class SparseIndexEventListener implements IndexEventListener {
+    // maximum number of terms, and of docs, per segment and field in a hot set
+    static final int HOT_SET_LIMIT = 1 << 16;
+    // delay after which a shard checks again whether hot set snapshots are enabled
+    static final TimeValue HOT_SET_SETTING_POLL_INTERVAL = TimeValue.timeValueMinutes(1);
+
+    // next hot set snapshot of each started shard
+    private final Map<ShardId, Scheduler.ScheduledCancellable> hotSetSnapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterIndexShardStarted(IndexShard indexShard) {
+        if (!ClusterTrainingExecutor.getInstance().isInitialized()) {
+            return;
+        }
+        try {
+            if (isHotSetSnapshotEnabled(indexShard)) {
+                ClusterTrainingExecutor.getInstance().run(() -> preloadHotSet(indexShard));
+            }
+            hotSetSnapshots.compute(indexShard.shardId(), (shardId, scheduled) -> scheduleHotSetSnapshot(indexShard));
+        } catch (RejectedExecutionException e) {
+            log.warn("[Neural Sparse] Failed to schedule the hot set of shard {} as the pool rejects tasks", indexShard.shardId(), e);
+        }
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, IndexShard indexShard, Settings indexSettings) {
+        Scheduler.ScheduledCancellable scheduled = hotSetSnapshots.remove(shardId);
+        if (scheduled != null) {
+            scheduled.cancel();
+        }
+    }
+
     @Override
     /**
      * This function is used to remove data from cache when index is removed.
@@ -54,4 +100,45 @@ public class SparseIndexEventListener implements IndexEventListener {
             }
         }
     }
+
+    /**
+     * Schedules the next snapshot of the hot set of a shard, which schedules the one after it unless the shard was
+     * closed in the meantime.
+     */
+    private Scheduler.ScheduledCancellable scheduleHotSetSnapshot(IndexShard indexShard) {
+        TimeValue interval = indexShard.indexSettings().getValue(SparseSettings.HOT_SET_SNAPSHOT_INTERVAL_SETTING);
+        return ClusterTrainingExecutor.getInstance().schedule(() -> {
+            if (isHotSetSnapshotEnabled(indexShard)) {
+                snapshotHotSet(indexShard);
+            }
+            hotSetSnapshots.computeIfPresent(indexShard.shardId(), (shardId, scheduled) -> scheduleHotSetSnapshot(indexShard));
+        }, interval.millis() > 0 ? interval : HOT_SET_SETTING_POLL_INTERVAL);
+    }
+
+    private static boolean isHotSetSnapshotEnabled(IndexShard indexShard) {
+        return indexShard.indexSettings().getValue(SparseSettings.HOT_SET_SNAPSHOT_INTERVAL_SETTING).millis() > 0;
+    }
+
+    private static Path hotSetPath(IndexShard indexShard) {
+        return indexShard.shardPath().getDataPath();
+    }
+
+    private static void snapshotHotSet(IndexShard indexShard) {
+        try {
+            new NeuralSparseIndexShard(indexShard).collectHotSet(HOT_SET_LIMIT).write(hotSetPath(indexShard));
+        } catch (Exception e) {
+            log.warn("[Neural Sparse] Failed to persist the hot set of shard {}", indexShard.shardId(), e);
+        }
+    }
+
+    private static void preloadHotSet(IndexShard indexShard) {
+        try {
+            SparseHotSet hotSet = SparseHotSet.read(hotSetPath(indexShard));
+            if (!hotSet.getEntries().isEmpty()) {
+                new NeuralSparseIndexShard(indexShard).warmUp(hotSet);
+            }
+        } catch (Exception e) {
+            log.warn("[Neural Sparse] Failed to preload the hot set of shard {}", indexShard.shardId(), e);
+        }
+    }
 }
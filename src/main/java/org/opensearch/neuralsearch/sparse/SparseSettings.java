@@ -5,7 +5,9 @@
 package org.opensearch.neuralsearch.sparse;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 
+import static org.opensearch.common.settings.Setting.Property.Dynamic;
 import static org.opensearch.common.settings.Setting.Property.Final;
 import static org.opensearch.common.settings.Setting.Property.IndexScope;
 import static org.opensearch.common.settings.Setting.Property.UnmodifiableOnRestore;
@@ -15,6 +17,8 @@ import static org.opensearch.common.settings.Setting.Property.UnmodifiableOnRest
  */
 public class SparseSettings {
     public static final String SPARSE_INDEX = "index.sparse";
+    public static final String SPARSE_AUTO_WARMUP = "index.sparse.auto_warmup";
+    public static final String SPARSE_HOT_SET_SNAPSHOT_INTERVAL = "index.sparse.hot_set_snapshot_interval";
 
     private static SparseSettings INSTANCE;
 
@@ -35,4 +39,24 @@ public class SparseSettings {
         Final,
         UnmodifiableOnRestore
     );
+
+    /**
+     * This setting enables the warm up of the caches of new segments in the background once a refresh or a merge
+     * opens them. The searcher over them is published without waiting for it, so the first queries may still load
+     * parts of the segment themselves.
+     */
+    public static final Setting<Boolean> AUTO_WARMUP_SETTING = Setting.boolSetting(SPARSE_AUTO_WARMUP, false, IndexScope, Dynamic);
+
+    /**
+     * This setting is the interval at which the hot set of each shard, i.e. its most used terms and docs, is persisted
+     * in the shard data path, which the shard preloads into the caches when it starts again. A negative value, the
+     * default, disables the snapshots.
+     */
+    public static final Setting<TimeValue> HOT_SET_SNAPSHOT_INTERVAL_SETTING = Setting.timeSetting(
+        SPARSE_HOT_SET_SNAPSHOT_INTERVAL,
+        TimeValue.MINUS_ONE,
+        TimeValue.MINUS_ONE,
+        IndexScope,
+        Dynamic
+    );
 }
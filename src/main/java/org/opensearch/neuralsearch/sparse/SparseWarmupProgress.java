@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of the warm up of a shard, counted in docs and terms loaded into the caches. It is updated by the threads
+ * warming up the segments and reported as the status of the warm up task, and as the result of the shard once done.
+ */
+public class SparseWarmupProgress implements Task.Status {
+    public static final String NAME = "neural_sparse_warmup_progress";
+
+    private final LongAdder totalItems = new LongAdder();
+    private final LongAdder loadedItems = new LongAdder();
+    private final LongAdder loadedBytes = new LongAdder();
+    private final long startNanos;
+    private volatile boolean cancelled;
+
+    public SparseWarmupProgress() {
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Constructor from stream input
+     *
+     * @param in StreamInput to initialize object from
+     * @throws IOException thrown if unable to read from input stream
+     */
+    public SparseWarmupProgress(StreamInput in) throws IOException {
+        long elapsedNanos = 0;
+        // Nodes of older versions send empty shard results
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(in.getVersion())) {
+            totalItems.add(in.readVLong());
+            loadedItems.add(in.readVLong());
+            loadedBytes.add(in.readVLong());
+            elapsedNanos = in.readVLong();
+        }
+        this.startNanos = System.nanoTime() - elapsedNanos;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(out.getVersion())) {
+            out.writeVLong(getTotalItems());
+            out.writeVLong(getLoadedItems());
+            out.writeVLong(getLoadedBytes());
+            out.writeVLong(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    /**
+     * Adds docs and terms to warm up.
+     *
+     * @param items number of docs and terms
+     */
+    public void addTotalItems(long items) {
+        totalItems.add(items);
+    }
+
+    /**
+     * Records a doc or term loaded into the caches.
+     *
+     * @param bytes size of the loaded doc vector or posting clusters
+     */
+    public void recordLoaded(long bytes) {
+        loadedItems.increment();
+        loadedBytes.add(bytes);
+    }
+
+    public long getTotalItems() {
+        return totalItems.sum();
+    }
+
+    public long getLoadedItems() {
+        return loadedItems.sum();
+    }
+
+    public long getLoadedBytes() {
+        return loadedBytes.sum();
+    }
+
+    /**
+     * @return percentage of the docs and terms loaded
+     */
+    public double getPercent() {
+        long total = getTotalItems();
+        return total == 0 ? 100.0 : Math.min(100.0, 100.0 * getLoadedItems() / total);
+    }
+
+    /**
+     * Estimates the remaining time by the rate the docs and terms were loaded so far.
+     *
+     * @return estimated time left in milliseconds, or -1 before anything is loaded
+     */
+    public long getEtaMillis() {
+        long loaded = getLoadedItems();
+        if (loaded == 0) {
+            return -1;
+        }
+        long remaining = Math.max(0, getTotalItems() - loaded);
+        return (long) ((double) getElapsedMillis() * remaining / loaded);
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Stops the warm up, which checks the flag between docs and terms.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("total_items", getTotalItems());
+        builder.field("loaded_items", getLoadedItems());
+        builder.field("loaded_bytes", getLoadedBytes());
+        builder.field("percent", getPercent());
+        builder.field("elapsed_in_millis", getElapsedMillis());
+        builder.field("eta_in_millis", getEtaMillis());
+        return builder.endObject();
+    }
+}
@@ -8,6 +8,7 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -16,6 +17,25 @@ import java.util.Set;
  * from the underlying storage format used by the clustered posting implementation.
  */
 public interface ClusteredPostingReader {
+    /**
+     * A no-op implementation of ClusteredPostingReader that has no terms.
+     */
+    ClusteredPostingReader NOOP_READER = new ClusteredPostingReader() {
+        @Override
+        public PostingClusters read(BytesRef term) {
+            return null;
+        }
+
+        @Override
+        public Set<BytesRef> getTerms() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public long size() {
+            return 0;
+        }
+    };
 
     /**
      * Reads and returns the document clusters associated with a specific term.
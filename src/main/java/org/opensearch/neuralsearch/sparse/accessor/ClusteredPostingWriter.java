@@ -16,6 +16,10 @@ import java.util.List;
  */
 @FunctionalInterface
 public interface ClusteredPostingWriter {
+    /**
+     * A no-op implementation of ClusteredPostingWriter that ignores all write operations.
+     */
+    ClusteredPostingWriter NOOP_WRITER = (term, clusters) -> {};
 
     /**
      * Inserts a term and its associated document clusters to the posting list.
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.sparse.accessor;
 import org.opensearch.neuralsearch.sparse.data.SparseVector;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * A functional interface for reading sparse vector data associated with document IDs.
@@ -23,6 +24,11 @@ public interface SparseVectorReader {
      */
     SparseVectorReader NOOP_READER = docId -> null;
 
+    /**
+     * Dot product returned for a document without a vector. Weights are unsigned, so real dot products are never negative.
+     */
+    int NO_VECTOR = -1;
+
     /**
      * Reads and returns the sparse vector associated with the specified document ID.
      *
@@ -32,4 +38,56 @@ public interface SparseVectorReader {
      *                     when accessing the underlying storage medium
      */
     SparseVector read(int docId) throws IOException;
+
+    /**
+     * Reads the sparse vectors of a block of documents. Implementations backed by doc values override it to read the
+     * whole block in one forward pass instead of one lookup per document.
+     *
+     * @param docIds document IDs in increasing order
+     * @param count number of document IDs to read
+     * @param vectors output array receiving the vector of each document ID, null if the document has none
+     * @throws IOException If an error occurs during the reading operation
+     */
+    default void read(int[] docIds, int count, SparseVector[] vectors) throws IOException {
+        for (int i = 0; i < count; ++i) {
+            vectors[i] = read(docIds[i]);
+        }
+    }
+
+    /**
+     * Returns the dot product of the sparse vector of a document with a dense vector. Readers of memory-mapped vectors
+     * override it to score the vector where it is mapped, without copying it to the heap.
+     *
+     * @param docId The document identifier whose vector to score
+     * @param denseVector dense vector to score against
+     * @return the dot product, or {@link #NO_VECTOR} if the document has no vector
+     * @throws IOException If an error occurs during the reading operation
+     */
+    default int dotProduct(int docId, byte[] denseVector) throws IOException {
+        SparseVector vector = read(docId);
+        return vector == null ? NO_VECTOR : vector.dotProduct(denseVector);
+    }
+
+    /**
+     * Scores the sparse vectors of a block of documents against the same dense vector. By default the block is read with
+     * {@link #read(int[], int, SparseVector[])} into the given scratch, which is cleared again afterwards.
+     *
+     * @param docIds document IDs in increasing order
+     * @param count number of document IDs to score
+     * @param denseVector dense vector to score against
+     * @param vectors scratch for the vectors of the block, must hold at least count entries
+     * @param scores output array receiving the dot product of each document ID, {@link #NO_VECTOR} if the document has
+     *               no vector
+     * @throws IOException If an error occurs during the reading operation
+     */
+    default void dotProduct(int[] docIds, int count, byte[] denseVector, SparseVector[] vectors, int[] scores) throws IOException {
+        read(docIds, count, vectors);
+        SparseVector.dotProduct(Arrays.asList(vectors).subList(0, count), denseVector, scores);
+        for (int i = 0; i < count; ++i) {
+            if (vectors[i] == null) {
+                scores[i] = NO_VECTOR;
+            }
+        }
+        Arrays.fill(vectors, 0, count, null);
+    }
 }
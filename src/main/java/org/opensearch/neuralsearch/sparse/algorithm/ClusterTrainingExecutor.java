@@ -6,6 +6,8 @@ package org.opensearch.neuralsearch.sparse.algorithm;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Locale;
@@ -21,6 +23,8 @@ import org.opensearch.neuralsearch.sparse.common.SparseConstants;
 @Log4j2
 public class ClusterTrainingExecutor {
     private ThreadPool threadpool = null;
+    // memory budget of the postings and clusters a merge holds while they are clustered
+    private volatile long mergeMemoryLimitBytes = SparseConstants.Seismic.DEFAULT_MERGE_MEMORY_LIMIT_BYTES;
     private static ClusterTrainingExecutor INSTANCE;
 
     /**
@@ -32,6 +36,33 @@ public class ClusterTrainingExecutor {
         this.threadpool = threadPool;
     }
 
+    /**
+     * Checks whether the thread pool is set, which is not the case when the codec runs outside the plugin.
+     *
+     * @return true if tasks can be submitted
+     */
+    public boolean isInitialized() {
+        return threadpool != null;
+    }
+
+    /**
+     * Gets the memory budget of the postings and clusters held by a merge at once.
+     *
+     * @return the limit in bytes
+     */
+    public long getMergeMemoryLimitBytes() {
+        return mergeMemoryLimitBytes;
+    }
+
+    /**
+     * Sets the memory budget of the postings and clusters held by a merge at once, applied to the next merges.
+     *
+     * @param mergeMemoryLimitBytes the limit in bytes
+     */
+    public void setMergeMemoryLimitBytes(long mergeMemoryLimitBytes) {
+        this.mergeMemoryLimitBytes = mergeMemoryLimitBytes;
+    }
+
     /**
      * Returns the singleton instance.
      *
@@ -73,6 +104,17 @@ public class ClusterTrainingExecutor {
         return threadpool.executor(SparseConstants.THREAD_POOL_NAME).submit(callable);
     }
 
+    /**
+     * Schedules a task to run once on the thread pool after a delay.
+     *
+     * @param runnable the task to run
+     * @param delay the delay before the task runs
+     * @return a handle to cancel the task
+     */
+    public Scheduler.ScheduledCancellable schedule(Runnable runnable, TimeValue delay) {
+        return threadpool.schedule(runnable, delay, SparseConstants.THREAD_POOL_NAME);
+    }
+
     /**
      * Updates the thread pool size.
      *
@@ -74,17 +74,54 @@ public class PostingsProcessingUtils {
             int docId = iterator.docID();
             SparseVector vector = reader.read(docId);
             if (vector != null) {
-                IteratorWrapper<SparseVector.Item> vectorIterator = vector.iterator();
-                while (vectorIterator.hasNext()) {
-                    SparseVector.Item item = vectorIterator.next();
-                    if (!summary.containsKey(item.getToken())) {
-                        summary.put(item.getToken(), item.getIntWeight());
-                    } else {
-                        summary.put(item.getToken(), Math.max(summary.get(item.getToken()), item.getIntWeight()));
-                    }
-                }
+                mergeMax(summary, vector);
             }
         }
+        cluster.setSummary(prune(summary, summaryPruneRatio));
+    }
+
+    /**
+     * Extends a cluster summary with documents added to the cluster.
+     * <p>
+     * The summary of the added documents is built and pruned like in {@link #summarize}, then merged into the
+     * existing summary by keeping the max weight of each token. The existing summary is not pruned again, so it does
+     * not shrink when a cluster is extended several times.
+     *
+     * @param summary existing summary of the cluster, may be null
+     * @param vectors vectors of the documents added to the cluster
+     * @param summaryPruneRatio summary weight sum ratio to retain (0-1)
+     * @return the extended summary
+     */
+    public static SparseVector extendSummary(SparseVector summary, List<SparseVector> vectors, float summaryPruneRatio) {
+        Map<Integer, Integer> added = new HashMap<>();
+        for (SparseVector vector : vectors) {
+            mergeMax(added, vector);
+        }
+        Map<Integer, Integer> extended = new HashMap<>();
+        if (summary != null) {
+            mergeMax(extended, summary);
+        }
+        mergeMax(extended, prune(added, summaryPruneRatio));
+        return new SparseVector(
+            extended.entrySet()
+                .stream()
+                .map(entry -> new SparseVector.Item(entry.getKey(), (byte) entry.getValue().intValue()))
+                .collect(Collectors.toList())
+        );
+    }
+
+    private static void mergeMax(Map<Integer, Integer> summary, SparseVector vector) {
+        IteratorWrapper<SparseVector.Item> vectorIterator = vector.iterator();
+        while (vectorIterator.hasNext()) {
+            SparseVector.Item item = vectorIterator.next();
+            summary.merge(item.getToken(), item.getIntWeight(), Math::max);
+        }
+    }
+
+    /**
+     * Keeps the tokens with the largest weights which take summaryPruneRatio of the total weight.
+     */
+    private static SparseVector prune(Map<Integer, Integer> summary, float summaryPruneRatio) {
         // convert summary to a SparseVector
         List<SparseVector.Item> items = summary.entrySet()
             .stream()
@@ -104,6 +141,6 @@ public class PostingsProcessingUtils {
             }
         }
         items = items.subList(0, idx);
-        cluster.setSummary(new SparseVector(items));
+        return new SparseVector(items);
     }
 }
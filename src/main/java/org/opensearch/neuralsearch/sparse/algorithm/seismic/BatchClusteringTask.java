@@ -14,16 +14,17 @@ import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.neuralsearch.sparse.accessor.ClusteredPostingWriter;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusteringAlgorithm;
 import org.opensearch.neuralsearch.sparse.cache.CacheGatedForwardIndexReader;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCache;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCacheItem;
-import org.opensearch.neuralsearch.sparse.codec.MergeHelper;
 import org.opensearch.neuralsearch.sparse.codec.SparseBinaryDocValuesPassThrough;
 import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
-import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.common.MergedDocMap;
 import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+import org.opensearch.neuralsearch.sparse.data.MergedPosting;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
 
 import java.io.IOException;
@@ -39,43 +40,49 @@ import java.util.function.Supplier;
 public class BatchClusteringTask implements Supplier<List<Pair<BytesRef, PostingClusters>>> {
     @Getter
     private final List<BytesRef> terms;
+    private final List<MergedPosting> postings;
     private final CacheKey key;
     private final float summaryPruneRatio;
     private final float clusterRatio;
     private final int nPostings;
     private final MergeStateFacade mergeStateFacade;
     private final FieldInfo fieldInfo;
-    private final MergeHelper mergeHelper;
+    private final MergedDocMap docMap;
 
     /**
      * Creates a batch clustering task.
      *
      * @param terms list of terms to cluster
+     * @param postings merged postings of the terms, in the same order, with the clusters of the base segment of an
+     *                 incremental merge
      * @param key cache key for storing results
      * @param summaryPruneRatio ratio for pruning summary vectors
      * @param clusterRatio ratio for clustering algorithm
      * @param nPostings number of postings to process
      * @param mergeStateFacade merge state containing segment information
      * @param fieldInfo field information for the sparse vector field
+     * @param docMap map from merged doc IDs to the merged segments, shared by all tasks of the merge
      */
     public BatchClusteringTask(
         List<BytesRef> terms,
+        List<MergedPosting> postings,
         CacheKey key,
         float summaryPruneRatio,
         float clusterRatio,
         int nPostings,
         @NonNull MergeStateFacade mergeStateFacade,
         FieldInfo fieldInfo,
-        MergeHelper mergeHelper
+        @NonNull MergedDocMap docMap
     ) {
         this.terms = terms.stream().map(BytesRef::deepCopyOf).toList();
+        this.postings = postings;
         this.key = key;
         this.summaryPruneRatio = summaryPruneRatio;
         this.clusterRatio = clusterRatio;
         this.nPostings = nPostings;
         this.mergeStateFacade = mergeStateFacade;
         this.fieldInfo = fieldInfo;
-        this.mergeHelper = mergeHelper;
+        this.docMap = docMap;
     }
 
     /**
@@ -86,32 +93,30 @@ public class BatchClusteringTask implements Supplier<List<Pair<BytesRef, Posting
     @Override
     public List<Pair<BytesRef, PostingClusters>> get() {
         List<Pair<BytesRef, PostingClusters>> postingClusters = new ArrayList<>();
-        int maxDocs = getTotalDocs();
-        if (maxDocs == 0) {
+        if (docMap.size() == 0) {
             return postingClusters;
         }
+        ClusteringAlgorithmType clusteringAlgorithmType = ClusteringAlgorithmType.fromFieldInfo(fieldInfo);
+        SparseVectorReader mergedReader = (newDocId) -> {
+            int oldId = docMap.oldDocId(newDocId);
+            int segmentIndex = docMap.segmentIndex(newDocId);
+            BinaryDocValues binaryDocValues = mergeStateFacade.getDocValuesProducers()[segmentIndex].getBinary(fieldInfo);
+            SparseVectorReader reader = getCacheGatedForwardIndexReader(binaryDocValues);
+            return reader.read(oldId);
+        };
+        // one algorithm for all terms of the batch, its arrays are pooled across batches
+        ClusteringAlgorithm clusteringAlgorithm = clusteringAlgorithmType.create(summaryPruneRatio, clusterRatio, mergedReader);
         try {
-            for (BytesRef term : this.terms) {
-                int[] newIdToFieldProducerIndex = new int[maxDocs];
-                int[] newIdToOldId = new int[maxDocs];
-                List<DocWeight> docWeights = mergeHelper.getMergedPostingForATerm(
-                    this.mergeStateFacade,
-                    term,
-                    this.fieldInfo,
-                    newIdToFieldProducerIndex,
-                    newIdToOldId
-                );
-                SeismicPostingClusterer seismicPostingClusterer = new SeismicPostingClusterer(
+            for (int i = 0; i < this.terms.size(); ++i) {
+                BytesRef term = this.terms.get(i);
+                SeismicPostingClusterer seismicPostingClusterer = new SeismicPostingClusterer(nPostings, clusteringAlgorithm);
+                IncrementalPostingClusterer incrementalPostingClusterer = new IncrementalPostingClusterer(
                     nPostings,
-                    new RandomClusteringAlgorithm(summaryPruneRatio, clusterRatio, (newDocId) -> {
-                        int oldId = newIdToOldId[newDocId];
-                        int segmentIndex = newIdToFieldProducerIndex[newDocId];
-                        BinaryDocValues binaryDocValues = mergeStateFacade.getDocValuesProducers()[segmentIndex].getBinary(fieldInfo);
-                        SparseVectorReader reader = getCacheGatedForwardIndexReader(binaryDocValues);
-                        return reader.read(oldId);
-                    })
+                    summaryPruneRatio,
+                    mergedReader,
+                    seismicPostingClusterer
                 );
-                List<DocumentCluster> clusters = seismicPostingClusterer.cluster(docWeights);
+                List<DocumentCluster> clusters = incrementalPostingClusterer.cluster(this.postings.get(i));
                 postingClusters.add(Pair.of(term, new PostingClusters(clusters)));
                 ClusteredPostingWriter writer = ClusteredPostingCache.getInstance().getOrCreate(key).getWriter();
                 writer.insert(term, clusters);
@@ -123,14 +128,6 @@ public class BatchClusteringTask implements Supplier<List<Pair<BytesRef, Posting
         return postingClusters;
     }
 
-    private int getTotalDocs() {
-        int maxDocs = 0;
-        for (int i = 0; i < this.mergeStateFacade.getMaxDocs().length; ++i) {
-            maxDocs += this.mergeStateFacade.getMaxDocs()[i];
-        }
-        return maxDocs;
-    }
-
     /**
      * Creates a createSparseVectorReader for vector access.
      *
@@ -139,6 +136,9 @@ public class BatchClusteringTask implements Supplier<List<Pair<BytesRef, Posting
      */
     private SparseVectorReader getCacheGatedForwardIndexReader(BinaryDocValues binaryDocValues) {
         if (binaryDocValues instanceof SparseBinaryDocValuesPassThrough sparseBinaryDocValues) {
+            if (sparseBinaryDocValues.hasMappedForwardIndex()) {
+                return sparseBinaryDocValues;
+            }
             SegmentInfo segmentInfo = sparseBinaryDocValues.getSegmentInfo();
             CacheKey cacheKey = new CacheKey(segmentInfo, fieldInfo);
             ForwardIndexCacheItem index = ForwardIndexCache.getInstance().get(cacheKey);
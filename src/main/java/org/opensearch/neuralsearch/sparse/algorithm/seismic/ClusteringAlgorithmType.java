@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.algorithm.seismic;
+
+import lombok.Getter;
+import org.apache.lucene.index.FieldInfo;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusteringAlgorithm;
+import org.opensearch.neuralsearch.sparse.common.SparseConstants;
+
+import java.util.Locale;
+
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_FIELD;
+
+/**
+ * Clustering algorithms of SEISMIC postings, selected by the clustering_algorithm method parameter.
+ */
+@Getter
+public enum ClusteringAlgorithmType {
+    RANDOM(SparseConstants.CLUSTERING_ALGORITHM_RANDOM),
+    KMEANS(SparseConstants.CLUSTERING_ALGORITHM_KMEANS);
+
+    private final String name;
+
+    ClusteringAlgorithmType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates the clustering algorithm of this type.
+     *
+     * @param summaryPruneRatio ratio for pruning summary vectors
+     * @param clusterRatio ratio of clusters to documents
+     * @param reader reader of the document vectors
+     * @return the clustering algorithm
+     */
+    public ClusteringAlgorithm create(float summaryPruneRatio, float clusterRatio, SparseVectorReader reader) {
+        return switch (this) {
+            case RANDOM -> new RandomClusteringAlgorithm(summaryPruneRatio, clusterRatio, reader);
+            case KMEANS -> new KMeansClusteringAlgorithm(summaryPruneRatio, clusterRatio, reader);
+        };
+    }
+
+    /**
+     * Returns the clustering algorithm type of a field, fields created before the parameter existed use random.
+     *
+     * @param fieldInfo field information for the sparse vector field
+     * @return the clustering algorithm type
+     */
+    public static ClusteringAlgorithmType fromFieldInfo(FieldInfo fieldInfo) {
+        String name = fieldInfo.getAttribute(CLUSTERING_ALGORITHM_FIELD);
+        if (name == null) {
+            return RANDOM;
+        }
+        for (ClusteringAlgorithmType type : values()) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown clustering algorithm [%s]", name));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.algorithm.seismic;
+
+import lombok.NonNull;
+import org.apache.commons.collections4.CollectionUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.PostingsProcessingUtils;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+import org.opensearch.neuralsearch.sparse.data.MergedPosting;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Clusters the merged posting of a term by extending the clusters of the term in the base segment of a merge, which
+ * holds most of the merged docs, instead of clustering all docs again.
+ * <p>
+ * Docs of the base clusters stay in their cluster, other docs are assigned to the cluster whose summary has the highest
+ * dot product with them, and the summaries of the extended clusters are merged with the summary of the added docs.
+ * The term is clustered from scratch when it has no base clusters, or when too many of its docs changed since the base
+ * clusters were built, as the clusters and summaries no longer reflect the posting well.
+ */
+public class IncrementalPostingClusterer {
+    // min fraction of the merged docs held by the base segment for a merge to extend its clusters
+    public static final float MIN_BASE_DOC_RATIO = 0.5f;
+    // max fraction of the posting made of docs added to or removed from the base clusters
+    static final float MAX_CHANGED_DOC_RATIO = 0.3f;
+
+    private final int nPostings;
+    private final float summaryPruneRatio;
+    private final SparseVectorReader reader;
+    private final SeismicPostingClusterer seismicPostingClusterer;
+
+    /**
+     * Creates an incremental clusterer.
+     *
+     * @param nPostings maximum number of postings to consider
+     * @param summaryPruneRatio ratio for pruning summary vectors
+     * @param reader reader of the vectors of the merged docs
+     * @param seismicPostingClusterer clusterer used for terms clustered from scratch
+     */
+    public IncrementalPostingClusterer(
+        int nPostings,
+        float summaryPruneRatio,
+        @NonNull SparseVectorReader reader,
+        @NonNull SeismicPostingClusterer seismicPostingClusterer
+    ) {
+        this.nPostings = nPostings;
+        this.summaryPruneRatio = summaryPruneRatio;
+        this.reader = reader;
+        this.seismicPostingClusterer = seismicPostingClusterer;
+    }
+
+    /**
+     * Clusters the merged posting of a term.
+     *
+     * @param posting merged posting of the term
+     * @return list of document clusters
+     * @throws IOException if reading vectors fails
+     */
+    public List<DocumentCluster> cluster(MergedPosting posting) throws IOException {
+        List<DocumentCluster> baseClusters = posting.getBaseClusters();
+        if (CollectionUtils.isEmpty(baseClusters) || CollectionUtils.isEmpty(posting.getDocWeights())) {
+            return seismicPostingClusterer.cluster(posting.getDocWeights());
+        }
+        int[] baseDocIds = sortedDocIds(baseClusters);
+        List<DocWeight> kept = PostingsProcessingUtils.getTopK(new ArrayList<>(posting.getDocWeights()), nPostings);
+        int keptBaseDocs = 0;
+        List<DocWeight> newDocs = new ArrayList<>();
+        for (DocWeight docWeight : kept) {
+            if (Arrays.binarySearch(baseDocIds, docWeight.getDocID()) >= 0) {
+                ++keptBaseDocs;
+            } else {
+                newDocs.add(docWeight);
+            }
+        }
+        int changedDocs = newDocs.size() + baseDocIds.length - keptBaseDocs;
+        // clusters which are never skipped hold small postings, which are cheap to cluster again
+        boolean hasUnskippableCluster = baseClusters.stream().anyMatch(DocumentCluster::isShouldNotSkip);
+        if (hasUnskippableCluster || changedDocs > MAX_CHANGED_DOC_RATIO * kept.size()) {
+            return seismicPostingClusterer.cluster(posting.getDocWeights());
+        }
+        return extend(baseClusters, kept, newDocs);
+    }
+
+    private List<DocumentCluster> extend(List<DocumentCluster> baseClusters, List<DocWeight> kept, List<DocWeight> newDocs)
+        throws IOException {
+        int numCluster = baseClusters.size();
+        int[] keptDocIds = kept.stream().mapToInt(DocWeight::getDocID).sorted().toArray();
+        List<List<DocWeight>> docAssignments = new ArrayList<>(numCluster);
+        List<SparseVector> summaries = new ArrayList<>(numCluster);
+        for (DocumentCluster cluster : baseClusters) {
+            List<DocWeight> docs = new ArrayList<>(cluster.size());
+            cluster.iterator().forEachRemaining(docWeight -> {
+                // base docs pushed out of the top postings by new docs are dropped
+                if (Arrays.binarySearch(keptDocIds, docWeight.getDocID()) >= 0) {
+                    docs.add(docWeight);
+                }
+            });
+            docAssignments.add(docs);
+            summaries.add(cluster.getSummary());
+        }
+
+        List<List<SparseVector>> addedVectors = new ArrayList<>(numCluster);
+        for (int i = 0; i < numCluster; ++i) {
+            addedVectors.add(new ArrayList<>());
+        }
+        int[] scores = new int[numCluster];
+        // dense scratch reused by all docs, only the tokens of each doc are written and reset
+        byte[] denseDocVector = new byte[0];
+        for (DocWeight docWeight : newDocs) {
+            SparseVector docVector = reader.read(docWeight.getDocID());
+            if (docVector == null) {
+                continue;
+            }
+            denseDocVector = docVector.toDenseVector(denseDocVector);
+            SparseVector.dotProduct(summaries, denseDocVector, scores);
+            docVector.clearDenseVector(denseDocVector);
+            int clusterIdx = 0;
+            for (int i = 1; i < numCluster; ++i) {
+                if (scores[i] > scores[clusterIdx]) {
+                    clusterIdx = i;
+                }
+            }
+            docAssignments.get(clusterIdx).add(docWeight);
+            addedVectors.get(clusterIdx).add(docVector);
+        }
+
+        List<DocumentCluster> clusters = new ArrayList<>(numCluster);
+        for (int i = 0; i < numCluster; ++i) {
+            if (docAssignments.get(i).isEmpty()) {
+                continue;
+            }
+            SparseVector summary = summaries.get(i);
+            if (!addedVectors.get(i).isEmpty()) {
+                summary = PostingsProcessingUtils.extendSummary(summary, addedVectors.get(i), summaryPruneRatio);
+            }
+            clusters.add(new DocumentCluster(summary, docAssignments.get(i), false));
+        }
+        return clusters;
+    }
+
+    private static int[] sortedDocIds(List<DocumentCluster> clusters) {
+        int size = 0;
+        for (DocumentCluster cluster : clusters) {
+            size += cluster.size();
+        }
+        int[] docIds = new int[size];
+        int offset = 0;
+        for (DocumentCluster cluster : clusters) {
+            System.arraycopy(cluster.getDocIds(), 0, docIds, offset, cluster.size());
+            offset += cluster.size();
+        }
+        Arrays.sort(docIds);
+        return docIds;
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.algorithm.seismic;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.common.Randomness;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusteringAlgorithm;
+import org.opensearch.neuralsearch.sparse.algorithm.PostingsProcessingUtils;
+import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.MODULUS_FOR_SHORT;
+
+/**
+ * Mini-batch spherical k-means clustering for SEISMIC, seeded with k-means++.
+ * <p>
+ * Docs and centers are L2 normalized so the dot product is the cosine similarity. Centers are kept sparse by pruning
+ * them to their largest weights, and docs are scored against all centers at once through an inverted index of the
+ * centers, so a doc only touches the centers sharing one of its tokens. The dense and index arrays sized by the token
+ * space are borrowed from a small pool shared by all instances for the duration of a call, and centers are updated in
+ * place.
+ */
+@AllArgsConstructor
+public class KMeansClusteringAlgorithm implements ClusteringAlgorithm {
+    static final int ITERATIONS = 10;
+    static final int BATCH_SIZE = 256;
+    // max number of tokens kept per center
+    static final int MAX_CENTER_TOKENS = 128;
+    // clustering threads never outnumber the processors, see ClusterTrainingExecutor
+    static final int MAX_IDLE_SCRATCH = Runtime.getRuntime().availableProcessors();
+    // instances are created per flushed field and per merge batch, so their arrays are pooled rather than kept per
+    // instance or per thread
+    private static final BlockingQueue<Scratch> IDLE_SCRATCH = new ArrayBlockingQueue<>(MAX_IDLE_SCRATCH);
+
+    private final float summaryPruneRatio;
+    private final float clusterRatio;
+    @NonNull
+    private final SparseVectorReader reader;
+
+    /**
+     * Clusters documents with mini-batch spherical k-means.
+     *
+     * @param docWeights documents to cluster
+     * @return list of document clusters
+     * @throws IOException if reading vectors fails
+     */
+    @Override
+    public List<DocumentCluster> cluster(List<DocWeight> docWeights) throws IOException {
+        if (CollectionUtils.isEmpty(docWeights)) {
+            return Collections.emptyList();
+        }
+        if (clusterRatio == 0) {
+            DocumentCluster cluster = new DocumentCluster(null, docWeights, true);
+            return List.of(cluster);
+        }
+        // docs without a vector cannot be assigned, they are dropped like in random clustering
+        List<DocWeight> docs = new ArrayList<>(docWeights.size());
+        List<Vector> vectors = new ArrayList<>(docWeights.size());
+        for (DocWeight docWeight : docWeights) {
+            SparseVector vector = reader.read(docWeight.getDocID());
+            if (vector == null || vector.getSize() == 0) {
+                continue;
+            }
+            docs.add(docWeight);
+            vectors.add(Vector.normalized(vector));
+        }
+        if (docs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int size = docs.size();
+        int numCluster = Math.min(size, Math.max(1, (int) Math.ceil(docWeights.size() * clusterRatio)));
+        Random random = Randomness.get();
+        // postings of a segment may be clustered concurrently by one instance, each call borrows its own arrays
+        Scratch scratch = borrowScratch();
+        Vector[] centers = seed(vectors, numCluster, random, scratch.dense);
+        train(vectors, centers, random, scratch);
+
+        CenterIndex index = scratch.index;
+        index.build(centers);
+        List<List<DocWeight>> docAssignments = new ArrayList<>(numCluster);
+        for (int i = 0; i < numCluster; ++i) {
+            docAssignments.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; ++i) {
+            docAssignments.get(index.nearest(vectors.get(i))).add(docs.get(i));
+        }
+        // arrays of a failed call may be left dirty, so they are only returned once the docs are assigned
+        releaseScratch(scratch);
+        List<DocumentCluster> clusters = new ArrayList<>();
+        for (List<DocWeight> assignment : docAssignments) {
+            if (assignment.isEmpty()) continue;
+            DocumentCluster cluster = new DocumentCluster(null, assignment, false);
+            PostingsProcessingUtils.summarize(cluster, this.reader, this.summaryPruneRatio);
+            clusters.add(cluster);
+        }
+        return clusters;
+    }
+
+    /**
+     * Takes idle arrays from the pool, or allocates new ones if none is idle.
+     */
+    static Scratch borrowScratch() {
+        Scratch scratch = IDLE_SCRATCH.poll();
+        return scratch != null ? scratch : new Scratch();
+    }
+
+    /**
+     * Returns arrays to the pool, they are left to the garbage collector once {@link #MAX_IDLE_SCRATCH} arrays are idle.
+     *
+     * @param scratch arrays whose dense array is all zero
+     */
+    static void releaseScratch(Scratch scratch) {
+        IDLE_SCRATCH.offer(scratch);
+    }
+
+    /**
+     * Picks the initial centers with k-means++, each center is drawn with a probability proportional to the squared
+     * cosine distance of the doc to its nearest center picked so far. Centers are copies, so training does not
+     * change the docs.
+     *
+     * @param dense all zero array of {@code MODULUS_FOR_SHORT} weights, left all zero
+     */
+    static Vector[] seed(List<Vector> vectors, int numCluster, Random random, float[] dense) {
+        int size = vectors.size();
+        Vector[] centers = new Vector[numCluster];
+        double[] distances = new double[size];
+        Arrays.fill(distances, Double.MAX_VALUE);
+        int next = random.nextInt(size);
+        for (int c = 0; c < numCluster; ++c) {
+            Vector doc = vectors.get(next);
+            centers[c] = Vector.centerOf(doc);
+            doc.scatter(dense);
+            double total = 0;
+            for (int i = 0; i < size; ++i) {
+                double distance = 1 - vectors.get(i).dot(dense);
+                distances[i] = Math.min(distances[i], distance * distance);
+                total += distances[i];
+            }
+            doc.clear(dense);
+            if (c + 1 == numCluster) {
+                break;
+            }
+            next = total > 0 ? sample(distances, total, random) : random.nextInt(size);
+        }
+        return centers;
+    }
+
+    private static int sample(double[] distances, double total, Random random) {
+        double target = random.nextDouble() * total;
+        double sum = 0;
+        for (int i = 0; i < distances.length; ++i) {
+            sum += distances[i];
+            if (sum > target && distances[i] > 0) {
+                return i;
+            }
+        }
+        // rounding can leave the target past the last sum
+        for (int i = distances.length - 1; i >= 0; --i) {
+            if (distances[i] > 0) {
+                return i;
+            }
+        }
+        return random.nextInt(distances.length);
+    }
+
+    /**
+     * Refines the centers with mini-batches, each doc moves its center towards it with a per-center learning rate
+     * decaying as the center gets more docs.
+     */
+    static void train(List<Vector> vectors, Vector[] centers, Random random, Scratch scratch) {
+        int size = vectors.size();
+        int batchSize = Math.min(size, BATCH_SIZE);
+        // the seed counts as the first doc of its center
+        int[] counts = new int[centers.length];
+        Arrays.fill(counts, 1);
+        int[] batch = new int[batchSize];
+        int[] assignments = new int[batchSize];
+        CenterIndex index = scratch.index;
+        for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+            index.build(centers);
+            for (int i = 0; i < batchSize; ++i) {
+                batch[i] = random.nextInt(size);
+                assignments[i] = index.nearest(vectors.get(batch[i]));
+            }
+            for (int i = 0; i < batchSize; ++i) {
+                int c = assignments[i];
+                ++counts[c];
+                centers[c].moveTowards(vectors.get(batch[i]), 1.0f / counts[c], scratch);
+            }
+        }
+    }
+
+    /**
+     * Reusable arrays of one call, the dense and index arrays are sized by the token space and the merge buffers grow
+     * to the largest merge seen.
+     */
+    static final class Scratch {
+        final float[] dense = new float[MODULUS_FOR_SHORT];
+        final CenterIndex index = new CenterIndex();
+        int[] mergedTokens = new int[0];
+        float[] mergedWeights = new float[0];
+        float[] sortedWeights = new float[0];
+    }
+
+    /**
+     * Sparse vector with float weights, the first size tokens in ascending order. A center owns arrays with room for
+     * {@link #MAX_CENTER_TOKENS} tokens, so it is moved in place.
+     */
+    static final class Vector {
+        final int[] tokens;
+        final float[] weights;
+        int size;
+
+        Vector(int[] tokens, float[] weights) {
+            this.tokens = tokens;
+            this.weights = weights;
+            this.size = tokens.length;
+        }
+
+        static Vector normalized(SparseVector vector) {
+            int size = vector.getSize();
+            int[] tokens = new int[size];
+            float[] weights = new float[size];
+            IteratorWrapper<SparseVector.Item> iterator = vector.iterator();
+            for (int i = 0; iterator.hasNext(); ++i) {
+                SparseVector.Item item = iterator.next();
+                tokens[i] = item.getToken() & (MODULUS_FOR_SHORT - 1);
+                weights[i] = item.getIntWeight();
+            }
+            normalize(weights, size);
+            return new Vector(tokens, weights);
+        }
+
+        /**
+         * Returns a copy of the doc to be used as a center, merges are pruned to {@link #MAX_CENTER_TOKENS} tokens so
+         * they always fit in its arrays.
+         */
+        static Vector centerOf(Vector doc) {
+            int capacity = Math.max(doc.size, MAX_CENTER_TOKENS);
+            Vector center = new Vector(new int[capacity], new float[capacity]);
+            System.arraycopy(doc.tokens, 0, center.tokens, 0, doc.size);
+            System.arraycopy(doc.weights, 0, center.weights, 0, doc.size);
+            center.size = doc.size;
+            return center;
+        }
+
+        float dot(float[] dense) {
+            float score = 0;
+            for (int i = 0; i < size; ++i) {
+                score += weights[i] * dense[tokens[i]];
+            }
+            return score;
+        }
+
+        void scatter(float[] dense) {
+            for (int i = 0; i < size; ++i) {
+                dense[tokens[i]] = weights[i];
+            }
+        }
+
+        void clear(float[] dense) {
+            for (int i = 0; i < size; ++i) {
+                dense[tokens[i]] = 0;
+            }
+        }
+
+        /**
+         * Sets this center to (1 - rate) * this + rate * doc, pruned to {@link #MAX_CENTER_TOKENS} tokens and normalized.
+         */
+        void moveTowards(Vector doc, float rate, Scratch scratch) {
+            int[] mergedTokens = scratch.mergedTokens = ArrayUtil.grow(scratch.mergedTokens, size + doc.size);
+            float[] mergedWeights = scratch.mergedWeights = ArrayUtil.grow(scratch.mergedWeights, size + doc.size);
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < doc.size) {
+                if (j == doc.size || (i < size && tokens[i] < doc.tokens[j])) {
+                    mergedTokens[count] = tokens[i];
+                    mergedWeights[count++] = (1 - rate) * weights[i++];
+                } else if (i == size || doc.tokens[j] < tokens[i]) {
+                    mergedTokens[count] = doc.tokens[j];
+                    mergedWeights[count++] = rate * doc.weights[j++];
+                } else {
+                    mergedTokens[count] = tokens[i];
+                    mergedWeights[count++] = (1 - rate) * weights[i++] + rate * doc.weights[j++];
+                }
+            }
+            if (count > MAX_CENTER_TOKENS) {
+                count = pruneToLargest(mergedTokens, mergedWeights, count, scratch);
+            }
+            normalize(mergedWeights, count);
+            System.arraycopy(mergedTokens, 0, tokens, 0, count);
+            System.arraycopy(mergedWeights, 0, weights, 0, count);
+            size = count;
+        }
+
+        /**
+         * Keeps the {@link #MAX_CENTER_TOKENS} largest weights in token order and returns their count.
+         */
+        private static int pruneToLargest(int[] tokens, float[] weights, int count, Scratch scratch) {
+            float[] sorted = scratch.sortedWeights = ArrayUtil.grow(scratch.sortedWeights, count);
+            System.arraycopy(weights, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+            float threshold = sorted[count - MAX_CENTER_TOKENS];
+            // weights equal to the threshold are kept while there is room
+            int ties = MAX_CENTER_TOKENS;
+            for (int i = 0; i < count; ++i) {
+                if (weights[i] > threshold) {
+                    --ties;
+                }
+            }
+            int kept = 0;
+            for (int i = 0; i < count; ++i) {
+                if (weights[i] > threshold || (weights[i] == threshold && ties-- > 0)) {
+                    tokens[kept] = tokens[i];
+                    weights[kept++] = weights[i];
+                }
+            }
+            return kept;
+        }
+
+        private static void normalize(float[] weights, int size) {
+            double norm = 0;
+            for (int i = 0; i < size; ++i) {
+                norm += weights[i] * weights[i];
+            }
+            if (norm == 0) {
+                return;
+            }
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < size; ++i) {
+                weights[i] *= scale;
+            }
+        }
+    }
+
+    /**
+     * Inverted index of the centers, mapping every token some center has to the centers having it and their weights.
+     * It is rebuilt in place, only touching the tokens of the centers.
+     */
+    static final class CenterIndex {
+        // slot of every token in the index, -1 for tokens no center has
+        private final int[] slots = new int[MODULUS_FOR_SHORT];
+        private int[] slotTokens = new int[0];
+        private int numSlots;
+        private int[] starts = new int[1];
+        private int[] positions = new int[0];
+        private int[] centerIds = new int[0];
+        private float[] weights = new float[0];
+        private float[] scores = new float[0];
+        private int numCenters;
+
+        CenterIndex() {
+            Arrays.fill(slots, -1);
+        }
+
+        CenterIndex(Vector[] centers) {
+            this();
+            build(centers);
+        }
+
+        void build(Vector[] centers) {
+            for (int slot = 0; slot < numSlots; ++slot) {
+                slots[slotTokens[slot]] = -1;
+            }
+            numSlots = 0;
+            int total = 0;
+            for (Vector center : centers) {
+                for (int i = 0; i < center.size; ++i) {
+                    int token = center.tokens[i];
+                    if (slots[token] < 0) {
+                        slotTokens = ArrayUtil.grow(slotTokens, numSlots + 1);
+                        slotTokens[numSlots] = token;
+                        slots[token] = numSlots++;
+                    }
+                }
+                total += center.size;
+            }
+            starts = ArrayUtil.grow(starts, numSlots + 1);
+            Arrays.fill(starts, 0, numSlots + 1, 0);
+            for (Vector center : centers) {
+                for (int i = 0; i < center.size; ++i) {
+                    ++starts[slots[center.tokens[i]] + 1];
+                }
+            }
+            for (int slot = 0; slot < numSlots; ++slot) {
+                starts[slot + 1] += starts[slot];
+            }
+            centerIds = ArrayUtil.grow(centerIds, total);
+            weights = ArrayUtil.grow(weights, total);
+            positions = ArrayUtil.grow(positions, numSlots);
+            System.arraycopy(starts, 0, positions, 0, numSlots);
+            for (int c = 0; c < centers.length; ++c) {
+                Vector center = centers[c];
+                for (int i = 0; i < center.size; ++i) {
+                    int position = positions[slots[center.tokens[i]]]++;
+                    centerIds[position] = c;
+                    weights[position] = center.weights[i];
+                }
+            }
+            numCenters = centers.length;
+            scores = ArrayUtil.grow(scores, numCenters);
+        }
+
+        /**
+         * Returns the index of the center with the highest cosine similarity to the doc, the first center wins ties.
+         */
+        int nearest(Vector doc) {
+            Arrays.fill(scores, 0, numCenters, 0);
+            for (int i = 0; i < doc.size; ++i) {
+                int slot = slots[doc.tokens[i]];
+                if (slot < 0) {
+                    continue;
+                }
+                float weight = doc.weights[i];
+                for (int p = starts[slot]; p < starts[slot + 1]; ++p) {
+                    scores[centerIds[p]] += weight * weights[p];
+                }
+            }
+            int best = 0;
+            for (int c = 1; c < numCenters; ++c) {
+                if (scores[c] > scores[best]) {
+                    best = c;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -59,6 +59,9 @@ public class RandomClusteringAlgorithm implements ClusteringAlgorithm {
             sparseVectors.add(center);
         }
 
+        int[] scores = new int[numCluster];
+        // dense scratch reused by all docs, only the tokens of each doc are written and reset
+        byte[] denseDocVector = new byte[0];
         for (DocWeight docWeight : docWeights) {
             int centerIdx = 0;
             float maxScore = Float.MIN_VALUE;
@@ -66,13 +69,12 @@ public class RandomClusteringAlgorithm implements ClusteringAlgorithm {
             if (docVector == null) {
                 continue;
             }
-            byte[] denseDocVector = docVector.toDenseVector();
+            denseDocVector = docVector.toDenseVector(denseDocVector);
+            // a missing center scores 0 and can never be picked over Float.MIN_VALUE
+            SparseVector.dotProduct(sparseVectors, denseDocVector, scores);
+            docVector.clearDenseVector(denseDocVector);
             for (int i = 0; i < numCluster; i++) {
-                float score = Float.MIN_VALUE;
-                SparseVector center = sparseVectors.get(i);
-                if (center != null) {
-                    score = center.dotProduct(denseDocVector);
-                }
+                float score = scores[i];
                 if (score > maxScore) {
                     maxScore = score;
                     centerIdx = i;
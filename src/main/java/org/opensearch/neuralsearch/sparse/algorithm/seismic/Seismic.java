@@ -18,8 +18,19 @@ import java.util.Locale;
 import java.util.Map;
 
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.APPROXIMATE_THRESHOLD_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_KMEANS;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_RANDOM;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_HEAP;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_MMAP;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_INGEST_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_SEARCH_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT_ADAPTIVE;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_8BIT;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_8BIT_ADAPTIVE;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.SUMMARY_PRUNE_RATIO_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTER_RATIO_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.N_POSTINGS_FIELD;
@@ -147,6 +158,56 @@ public class Seismic implements SparseAlgorithm {
             }
             parameters.remove(QUANTIZATION_CEILING_SEARCH_FIELD);
         }
+        if (parameters.containsKey(FORWARD_INDEX_STORAGE_FIELD)) {
+            String storage = String.valueOf(parameters.get(FORWARD_INDEX_STORAGE_FIELD));
+            if (!FORWARD_INDEX_STORAGE_HEAP.equals(storage) && !FORWARD_INDEX_STORAGE_MMAP.equals(storage)) {
+                errorMessages.add(
+                    String.format(
+                        Locale.ROOT,
+                        "Parameter [%s] must be one of [%s, %s]",
+                        FORWARD_INDEX_STORAGE_FIELD,
+                        FORWARD_INDEX_STORAGE_HEAP,
+                        FORWARD_INDEX_STORAGE_MMAP
+                    )
+                );
+            }
+            parameters.remove(FORWARD_INDEX_STORAGE_FIELD);
+        }
+        if (parameters.containsKey(CLUSTERING_ALGORITHM_FIELD)) {
+            String clusteringAlgorithm = String.valueOf(parameters.get(CLUSTERING_ALGORITHM_FIELD));
+            if (!CLUSTERING_ALGORITHM_RANDOM.equals(clusteringAlgorithm) && !CLUSTERING_ALGORITHM_KMEANS.equals(clusteringAlgorithm)) {
+                errorMessages.add(
+                    String.format(
+                        Locale.ROOT,
+                        "Parameter [%s] must be one of [%s, %s]",
+                        CLUSTERING_ALGORITHM_FIELD,
+                        CLUSTERING_ALGORITHM_RANDOM,
+                        CLUSTERING_ALGORITHM_KMEANS
+                    )
+                );
+            }
+            parameters.remove(CLUSTERING_ALGORITHM_FIELD);
+        }
+        if (parameters.containsKey(QUANTIZATION_FIELD)) {
+            String quantization = String.valueOf(parameters.get(QUANTIZATION_FIELD));
+            if (!QUANTIZATION_8BIT.equals(quantization)
+                && !QUANTIZATION_8BIT_ADAPTIVE.equals(quantization)
+                && !QUANTIZATION_4BIT.equals(quantization)
+                && !QUANTIZATION_4BIT_ADAPTIVE.equals(quantization)) {
+                errorMessages.add(
+                    String.format(
+                        Locale.ROOT,
+                        "Parameter [%s] must be one of [%s, %s, %s, %s]",
+                        QUANTIZATION_FIELD,
+                        QUANTIZATION_8BIT,
+                        QUANTIZATION_8BIT_ADAPTIVE,
+                        QUANTIZATION_4BIT,
+                        QUANTIZATION_4BIT_ADAPTIVE
+                    )
+                );
+            }
+            parameters.remove(QUANTIZATION_FIELD);
+        }
         for (String key : parameters.keySet()) {
             errorMessages.add(String.format(Locale.ROOT, "Unknown parameter '%s' found", key));
         }
@@ -7,15 +7,30 @@ package org.opensearch.neuralsearch.sparse.cache;
 import lombok.extern.log4j.Log4j2;
 import lombok.NonNull;
 
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Abstract LRU cache implementation for sparse vector caches.
- * This class provides common functionality for managing eviction of cache entries
- * based on least recently used policy.
+ * Abstract approximate LRU cache implementation for sparse vector caches, based on the CLOCK policy.
+ * <p>
+ * Keys of cached items are queued once when the items are inserted, and the head of the queue is the clock hand.
+ * Cache hits do not touch the queue: the cache items set a reference bit of the item instead, without locking or
+ * allocating. On eviction, an item whose reference bit is set gets a second chance: the bit is cleared and its key
+ * is queued again. Other items are evicted.
+ * <p>
+ * Misses and hits are counted in a frequency sketch, which makes the cache cost-aware. A full cache only makes room for
+ * items accessed at least {@link #ADMISSION_FREQUENCY} times recently, so that a scan over cold items does not flush
+ * the hot ones. An unreferenced item also gets a second chance when its frequency times its reload cost per byte is
+ * high, which keeps small frequently used items, whose reload is dominated by a fixed overhead, over large cold ones.
+ * Hits are counted by hash, as the cache items do not allocate keys for them.
  *
  * @param <Key> The type of key used for cache entries
  */
@@ -23,45 +38,155 @@ import java.util.Map;
 public abstract class AbstractLruCache<Key extends LruCacheKey> {
 
     /**
-     * Map to track access with LRU ordering
-     * We use Map instead of set because only linked hash map supports tracking the access order of items
+     * Keys of the cached items in clock order. A key may be queued twice if its item is erased and inserted again
+     * before the hand reaches it, in which case evicting the stale key frees nothing.
      */
-    protected final Map<Key, Boolean> accessRecencyMap;
+    protected final Queue<Key> clock;
+    private final AtomicInteger clockSize = new AtomicInteger();
+
+    // number of recent misses after which a full cache evicts other items to admit an item
+    static final int ADMISSION_FREQUENCY = 2;
+    // fixed cost of reloading an item, in bytes read and decoded, on top of the size of the item
+    static final long RELOAD_OVERHEAD_BYTES = 256;
+    // unreferenced items whose frequency times reload cost per byte reaches this value get a second chance
+    static final int RETENTION_VALUE = 8;
+    private static final int SKETCH_WIDTH = 1 << 16;
+    private final FrequencySketch sketch = new FrequencySketch(SKETCH_WIDTH);
 
     protected AbstractLruCache() {
-        this.accessRecencyMap = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+        this.clock = new ConcurrentLinkedQueue<>();
     }
 
     /**
-     * Updates access to an item for a specific cache key.
-     * This updates the item's position in the LRU order.
+     * Records the insertion of an item for a specific cache key, which puts it behind the clock hand.
      *
-     * @param key The key being accessed
+     * @param key The key of the inserted item
      */
-    protected void updateAccess(Key key) {
+    protected void recordInsertion(Key key) {
         if (key == null) {
             return;
         }
 
-        accessRecencyMap.put(key, true);
+        clock.offer(key);
+        clockSize.incrementAndGet();
+    }
+
+    /**
+     * Records a cache miss of an item, which counts towards its admission and retention.
+     *
+     * @param key The key of the missed item
+     */
+    public void recordMiss(Key key) {
+        if (key == null) {
+            return;
+        }
+
+        sketch.increment(sketchHash(key));
+    }
+
+    /**
+     * Records a cache hit of an item, which counts towards its retention and ranks it in the hot set.
+     *
+     * @param hash The hash of the key of the item, as returned by {@link #sketchHash(LruCacheKey)}
+     */
+    protected void recordHit(int hash) {
+        sketch.increment(hash);
+    }
+
+    /**
+     * Returns the hash of a key in the frequency sketch. Subclasses override it with a hash which the cache items can
+     * compute from the parts of the key, so that hits are counted without allocating a key.
+     *
+     * @param key The key of the item
+     * @return The hash of the key
+     */
+    protected int sketchHash(Key key) {
+        return key.hashCode();
     }
 
     /**
-     * Retrieves the least recently used key without affecting its position in the access order.
+     * Decides whether a full cache should evict other items to insert an item.
      *
-     * @return The least recently used key, or null if the cache is empty
+     * @param key The key of the item to insert
+     * @return true if the item was missed often enough recently
      */
-    protected Key getLeastRecentlyUsedItem() {
-        // With accessOrder is true in the LinkedHashMap, the first entry is the least recently used
-        Iterator<Map.Entry<Key, Boolean>> iterator = accessRecencyMap.entrySet().iterator();
-        if (iterator.hasNext()) {
-            return iterator.next().getKey();
+    public boolean admit(Key key) {
+        return key != null && sketch.frequency(sketchHash(key)) >= ADMISSION_FREQUENCY;
+    }
+
+    /**
+     * Decides whether an unreferenced item is worth keeping for another sweep, by its frequency times its reload cost
+     * per byte, as in GreedyDual-Size-Frequency. The reload cost is the size of the item plus a fixed overhead.
+     */
+    boolean isWorthRetaining(Key key) {
+        long bytes = entryBytes(key);
+        if (bytes <= 0) {
+            return false;
         }
-        return null;
+        int frequency = sketch.frequency(sketchHash(key));
+        return frequency * (RELOAD_OVERHEAD_BYTES + bytes) >= RETENTION_VALUE * bytes;
     }
 
     /**
-     * Evicts least recently used items from cache until the specified amount of RAM has been freed.
+     * Returns the cached keys of a specific cache key with the highest frequency in the sketch, most frequent first.
+     *
+     * @param cacheKey The cache key of the segment and field
+     * @param limit The maximum number of keys to return
+     * @return The hottest keys of the cache key
+     * @see #hottestKeys(Set, int)
+     */
+    public List<Key> hottestKeys(@NonNull CacheKey cacheKey, int limit) {
+        return hottestKeys(Set.of(cacheKey), limit).getOrDefault(cacheKey, List.of());
+    }
+
+    /**
+     * Returns the cached keys of each of the given cache keys with the highest frequency in the sketch, most frequent
+     * first. An item is counted each time it is hit or missed, so these are the items queries kept coming back for
+     * recently, whether they stayed cached or were reloaded after evictions.
+     * <p>
+     * The clock is shared by all the segments and fields of the node, so it is walked once for all the cache keys.
+     *
+     * @param cacheKeys The cache keys of the segments and fields
+     * @param limit The maximum number of keys to return per cache key
+     * @return The hottest keys of each cache key which has cached keys
+     */
+    public Map<CacheKey, List<Key>> hottestKeys(@NonNull Set<CacheKey> cacheKeys, int limit) {
+        Map<CacheKey, Set<Key>> keysByCacheKey = new HashMap<>();
+        for (Key key : clock) {
+            if (cacheKeys.contains(key.getCacheKey())) {
+                keysByCacheKey.computeIfAbsent(key.getCacheKey(), k -> new LinkedHashSet<>()).add(key);
+            }
+        }
+        Map<CacheKey, List<Key>> hottestByCacheKey = new HashMap<>();
+        for (Map.Entry<CacheKey, Set<Key>> entry : keysByCacheKey.entrySet()) {
+            List<Key> hottest = new ArrayList<>(entry.getValue());
+            hottest.sort(Comparator.comparingInt((Key key) -> sketch.frequency(sketchHash(key))).reversed());
+            hottestByCacheKey.put(entry.getKey(), new ArrayList<>(hottest.subList(0, Math.min(Math.max(0, limit), hottest.size()))));
+        }
+        return hottestByCacheKey;
+    }
+
+    /**
+     * Retrieves the key under the clock hand, which is the next one checked for eviction, without moving the hand.
+     *
+     * @return The key under the clock hand, or null if the cache is empty
+     */
+    protected Key getClockHand() {
+        return clock.peek();
+    }
+
+    /**
+     * Returns the number of keys in the clock.
+     *
+     * @return number of keys
+     */
+    protected int size() {
+        return clockSize.get();
+    }
+
+    /**
+     * Evicts items from cache in clock order until the specified amount of RAM has been freed. Items referenced
+     * since the hand last passed them, or worth retaining by their frequency and cost, are skipped once.
      *
      * @param ramBytesToRelease Number of bytes to evict
      */
@@ -72,20 +197,25 @@ public abstract class AbstractLruCache<Key extends LruCacheKey> {
 
         long ramBytesReleased = 0;
 
-        // Synchronizing the access recency map for thread safety
-        synchronized (accessRecencyMap) {
-            // Continue evicting until we've freed enough memory or the cache is empty
+        // Only one thread moves the hand at a time
+        synchronized (clock) {
+            // Bounds the second chances when search threads keep referencing items during the sweep
+            int secondChances = clockSize.get();
             while (ramBytesReleased < ramBytesToRelease) {
-                // Get the least recently used item
-                Key leastRecentlyUsedKey = getLeastRecentlyUsedItem();
-
-                if (leastRecentlyUsedKey == null) {
+                Key key = clock.poll();
+                if (key == null) {
                     // Cache is empty, nothing more to evict
                     break;
                 }
 
-                // Evict the item and track bytes freed
-                ramBytesReleased += evictItem(leastRecentlyUsedKey);
+                if (secondChances > 0 && (clearReference(key) || isWorthRetaining(key))) {
+                    --secondChances;
+                    clock.offer(key);
+                    continue;
+                }
+
+                clockSize.decrementAndGet();
+                ramBytesReleased += doEviction(key);
             }
         }
 
@@ -99,10 +229,11 @@ public abstract class AbstractLruCache<Key extends LruCacheKey> {
      * @return number of bytes freed, or 0 if the item was not evicted
      */
     protected long evictItem(Key key) {
-        if (accessRecencyMap.remove(key) == null) {
+        if (!clock.remove(key)) {
             return 0;
         }
 
+        clockSize.decrementAndGet();
         return doEviction(key);
     }
 
@@ -112,9 +243,33 @@ public abstract class AbstractLruCache<Key extends LruCacheKey> {
      * @param cacheKey The cache key to remove
      */
     public void onIndexRemoval(@NonNull CacheKey cacheKey) {
-        accessRecencyMap.keySet().removeIf(key -> key.getCacheKey().equals(cacheKey));
+        clock.removeIf(key -> {
+            if (key.getCacheKey().equals(cacheKey)) {
+                clockSize.decrementAndGet();
+                return true;
+            }
+            return false;
+        });
     }
 
+    /**
+     * Clears the reference bit of the item.
+     * Subclasses must implement this method to read the bit set by cache hits.
+     *
+     * @param key The key of the item
+     * @return true if the item was referenced since the bit was last cleared
+     */
+    protected abstract boolean clearReference(Key key);
+
+    /**
+     * Returns the number of bytes used by the item.
+     * Subclasses must implement this method to weigh the item against its reload cost.
+     *
+     * @param key The key of the item
+     * @return number of bytes, or 0 if the item is not cached
+     */
+    protected abstract long entryBytes(Key key);
+
     /**
      * Performs the actual eviction of the item from cache.
      * Subclasses must implement this method to handle specific eviction logic.
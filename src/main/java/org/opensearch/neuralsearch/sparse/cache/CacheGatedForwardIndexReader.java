@@ -59,4 +59,42 @@ public class CacheGatedForwardIndexReader implements SparseVectorReader {
         }
         return vector;
     }
+
+    /**
+     * Reads a block of sparse vectors. Cache misses of the block are read from Lucene storage together, in one forward
+     * pass, and then populate the cache.
+     *
+     * @param docIds document IDs in increasing order
+     * @param count number of document IDs to read
+     * @param vectors output array receiving the vector of each document ID, null if the document has none
+     * @throws IOException if an I/O error occurs while reading
+     */
+    @Override
+    public void read(int[] docIds, int count, SparseVector[] vectors) throws IOException {
+        int[] missIndexes = null;
+        int[] missDocIds = null;
+        int missCount = 0;
+        for (int i = 0; i < count; ++i) {
+            vectors[i] = cacheReader.read(docIds[i]);
+            if (vectors[i] == null) {
+                if (missIndexes == null) {
+                    missIndexes = new int[count];
+                    missDocIds = new int[count];
+                }
+                missIndexes[missCount] = i;
+                missDocIds[missCount++] = docIds[i];
+            }
+        }
+        if (missCount == 0) {
+            return;
+        }
+        SparseVector[] missVectors = new SparseVector[missCount];
+        luceneReader.read(missDocIds, missCount, missVectors);
+        for (int i = 0; i < missCount; ++i) {
+            if (missVectors[i] != null) {
+                vectors[missIndexes[i]] = missVectors[i];
+                cacheWriter.insert(missDocIds[i], missVectors[i]);
+            }
+        }
+    }
 }
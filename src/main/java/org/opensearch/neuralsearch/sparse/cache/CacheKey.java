@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.sparse.cache;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.SegmentInfo;
@@ -13,6 +14,7 @@ import org.apache.lucene.index.SegmentInfo;
  * Key for cache sparse vector forward index and clustered posting
  */
 @EqualsAndHashCode
+@Getter
 public class CacheKey {
 
     private final SegmentInfo segmentInfo;
@@ -26,8 +26,10 @@ import java.util.function.Consumer;
 @Log4j2
 public class ClusteredPostingCacheItem extends AccountableTracker implements ClusteredPosting {
 
+    static final long CACHED_POSTING_CLUSTERS_BYTES = RamUsageEstimator.shallowSizeOfInstance(CachedPostingClusters.class);
+
     private final CacheKey cacheKey;
-    private final Map<BytesRef, PostingClusters> clusteredPostings = new ConcurrentHashMap<>();
+    private final Map<BytesRef, CachedPostingClusters> clusteredPostings = new ConcurrentHashMap<>();
     private final RamBytesRecorder globalTracker;
     @Getter
     private final ClusteredPostingReader reader = new CacheClusteredPostingReader();
@@ -50,16 +52,50 @@ public class ClusteredPostingCacheItem extends AccountableTracker implements Clu
         globalTracker.recordWithoutValidation(ramBytesUsed(), CircuitBreakerManager::addWithoutBreaking);
     }
 
+    /**
+     * Clears the reference bit of a cached term.
+     *
+     * @param term The term
+     * @return true if the posting of the term was read since the bit was last cleared
+     */
+    boolean clearReference(BytesRef term) {
+        CachedPostingClusters cached = clusteredPostings.get(term);
+        if (cached == null || !cached.referenced) {
+            return false;
+        }
+        cached.referenced = false;
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes used by a cached term and its posting clusters.
+     *
+     * @param term The term
+     * @return number of bytes, or 0 if the term is not cached
+     */
+    long entryBytes(BytesRef term) {
+        CachedPostingClusters cached = clusteredPostings.get(term);
+        return cached == null ? 0 : entryBytes(cached.clusters, term);
+    }
+
+    private static long entryBytes(PostingClusters postingClusters, BytesRef term) {
+        // BytesRef.bytes is never null
+        return CACHED_POSTING_CLUSTERS_BYTES + postingClusters.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(term) + term.bytes.length;
+    }
+
     private class CacheClusteredPostingReader implements ClusteredPostingReader {
         @Override
         public PostingClusters read(BytesRef term) {
-            PostingClusters clusters = clusteredPostings.get(term);
-            if (clusters != null) {
-                // Record access to update LRU status
-                LruTermCache.TermKey termKey = new LruTermCache.TermKey(cacheKey, term.clone());
-                LruTermCache.getInstance().updateAccess(termKey);
+            CachedPostingClusters cached = clusteredPostings.get(term);
+            if (cached == null) {
+                return null;
             }
-            return clusters;
+            // Record access to update LRU status, only writing the bit when it changes
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            LruTermCache.getInstance().recordHit(cacheKey, term);
+            return cached.clusters;
         }
 
         @Override
@@ -78,14 +114,18 @@ public class ClusteredPostingCacheItem extends AccountableTracker implements Clu
     private class CacheClusteredPostingWriter implements CacheableClusteredPostingWriter {
 
         private final Consumer<Long> circuitBreakerTriggerHandler;
+        // Whether inserts are cache misses of searches, which are counted and filtered by admission
+        private final boolean admissionFiltered;
 
         // Default handler: perform cache eviction when memory limit is reached
         private CacheClusteredPostingWriter() {
             this.circuitBreakerTriggerHandler = (ramBytesUsed) -> { LruTermCache.getInstance().evict(ramBytesUsed); };
+            this.admissionFiltered = true;
         }
 
         private CacheClusteredPostingWriter(Consumer<Long> circuitBreakerTriggerHandler) {
             this.circuitBreakerTriggerHandler = circuitBreakerTriggerHandler;
+            this.admissionFiltered = false;
         }
 
         @Override
@@ -97,10 +137,17 @@ public class ClusteredPostingCacheItem extends AccountableTracker implements Clu
             // Clone a new BytesRef object to avoid offset change
             BytesRef clonedTerm = term.clone();
             PostingClusters postingClusters = new PostingClusters(clusters);
-            // BytesRef.bytes is never null
-            long ramBytesUsed = postingClusters.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(clonedTerm) + clonedTerm.bytes.length;
+            long ramBytesUsed = entryBytes(postingClusters, clonedTerm);
+            LruTermCache.TermKey termKey = new LruTermCache.TermKey(cacheKey, clonedTerm);
+            if (admissionFiltered) {
+                LruTermCache.getInstance().recordMiss(termKey);
+            }
 
             if (!globalTracker.record(ramBytesUsed)) {
+                // A full cache only makes room for postings missed often enough, so a scan does not flush the hot ones
+                if (admissionFiltered && !LruTermCache.getInstance().admit(termKey)) {
+                    return;
+                }
                 if (circuitBreakerTriggerHandler != null) {
                     circuitBreakerTriggerHandler.accept(ramBytesUsed);
                 }
@@ -112,14 +159,12 @@ public class ClusteredPostingCacheItem extends AccountableTracker implements Clu
             }
 
             // Update the clusters with putIfAbsent for thread safety
-            PostingClusters existingClusters = clusteredPostings.putIfAbsent(clonedTerm, postingClusters);
-            // Record access to update LRU status
-            LruTermCache.TermKey termKey = new LruTermCache.TermKey(cacheKey, clonedTerm);
-            LruTermCache.getInstance().updateAccess(termKey);
+            CachedPostingClusters existingClusters = clusteredPostings.putIfAbsent(clonedTerm, new CachedPostingClusters(postingClusters));
 
-            // Only update memory usage if we actually inserted a new entry
+            // Only update memory usage and LRU status if we actually inserted a new entry
             if (existingClusters == null) {
                 recordUsedBytes(ramBytesUsed);
+                LruTermCache.getInstance().recordInsertion(termKey);
             } else {
                 globalTracker.recordWithoutValidation(-ramBytesUsed, CircuitBreakerManager::addWithoutBreaking);
             }
@@ -130,13 +175,13 @@ public class ClusteredPostingCacheItem extends AccountableTracker implements Clu
             if (term == null) {
                 return 0;
             }
-            PostingClusters postingClusters = clusteredPostings.get(term);
-            if (postingClusters == null) {
+            CachedPostingClusters cached = clusteredPostings.get(term);
+            if (cached == null) {
                 return 0;
             }
             // Clone a new BytesRef object to avoid offset change
             BytesRef clonedTerm = term.clone();
-            long ramBytesReleased = postingClusters.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(clonedTerm) + clonedTerm.bytes.length;
+            long ramBytesReleased = entryBytes(cached.clusters, clonedTerm);
             if (clusteredPostings.remove(clonedTerm) != null) {
                 recordUsedBytes(-ramBytesReleased);
                 globalTracker.recordWithoutValidation(-ramBytesReleased, CircuitBreakerManager::addWithoutBreaking);
@@ -145,4 +190,17 @@ public class ClusteredPostingCacheItem extends AccountableTracker implements Clu
             return 0;
         }
     }
+
+    /**
+     * Posting clusters of a cached term with their CLOCK reference bit, set by reads and cleared by LruTermCache.
+     * Racy updates can only lose a bit, which at worst lets a recently read posting be evicted earlier.
+     */
+    private static final class CachedPostingClusters {
+        private final PostingClusters clusters;
+        private boolean referenced;
+
+        private CachedPostingClusters(PostingClusters clusters) {
+            this.clusters = clusters;
+        }
+    }
 }
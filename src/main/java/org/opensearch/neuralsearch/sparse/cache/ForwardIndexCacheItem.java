@@ -23,6 +23,9 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
 
     private final CacheKey cacheKey;
     private final AtomicReferenceArray<SparseVector> sparseVectors;
+    // CLOCK reference bits of the cached vectors, set by reads and cleared by LruDocumentCache. Racy updates can only
+    // lose a bit, which at worst lets a recently read vector be evicted earlier.
+    private final byte[] referenced;
     private final RamBytesRecorder globalRamBytes;
     @Getter
     private final SparseVectorReader reader = new CacheSparseVectorReader();
@@ -42,15 +45,44 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
         this.cacheKey = cacheKey;
         this.globalRamBytes = globalRamBytes;
         sparseVectors = new AtomicReferenceArray<>(docCount);
-        // Account for the array itself in memory usage
+        referenced = new byte[docCount];
+        // Account for the arrays themselves in memory usage
         recordUsedBytes(
             RamUsageEstimator.shallowSizeOf(sparseVectors) + RamUsageEstimator.alignObjectSize(
                 (long) docCount * RamUsageEstimator.NUM_BYTES_OBJECT_REF
-            )
+            ) + RamUsageEstimator.sizeOf(referenced)
         );
         globalRamBytes.recordWithoutValidation(ramBytesUsed(), CircuitBreakerManager::addWithoutBreaking);
     }
 
+    /**
+     * Clears the reference bit of a cached vector.
+     *
+     * @param docId The document ID of the vector
+     * @return true if the vector was read since the bit was last cleared
+     */
+    boolean clearReference(int docId) {
+        if (docId < 0 || docId >= referenced.length || referenced[docId] == 0) {
+            return false;
+        }
+        referenced[docId] = 0;
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes used by a cached vector.
+     *
+     * @param docId The document ID of the vector
+     * @return number of bytes, or 0 if the vector is not cached
+     */
+    long entryBytes(int docId) {
+        if (docId < 0 || docId >= sparseVectors.length()) {
+            return 0;
+        }
+        SparseVector vector = sparseVectors.get(docId);
+        return vector == null ? 0 : vector.ramBytesUsed();
+    }
+
     private class CacheSparseVectorReader implements SparseVectorReader {
         @Override
         public SparseVector read(int docId) throws IOException {
@@ -58,11 +90,14 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
                 return null;
             }
             SparseVector vector = sparseVectors.get(docId);
-            if (vector != null) {
-                // Record access to update LRU status
-                LruDocumentCache.DocumentKey documentKey = new LruDocumentCache.DocumentKey(cacheKey, docId);
-                LruDocumentCache.getInstance().updateAccess(documentKey);
+            if (vector == null) {
+                return null;
             }
+            // Record access to update LRU status, only writing the bit when it changes
+            if (referenced[docId] == 0) {
+                referenced[docId] = 1;
+            }
+            LruDocumentCache.getInstance().recordHit(cacheKey, docId);
             return vector;
         }
     }
@@ -70,14 +105,18 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
     private class CacheSparseVectorWriter implements CacheableSparseVectorWriter {
 
         private final Consumer<Long> circuitBreakerTriggerHandler;
+        // Whether inserts are cache misses of searches, which are counted and filtered by admission
+        private final boolean admissionFiltered;
 
         // Default handler: perform cache eviction when memory limit is reached
         private CacheSparseVectorWriter() {
             this.circuitBreakerTriggerHandler = (ramBytesUsed) -> { LruDocumentCache.getInstance().evict(ramBytesUsed); };
+            this.admissionFiltered = true;
         }
 
         private CacheSparseVectorWriter(Consumer<Long> circuitBreakerTriggerHandler) {
             this.circuitBreakerTriggerHandler = circuitBreakerTriggerHandler;
+            this.admissionFiltered = false;
         }
 
         @Override
@@ -87,8 +126,16 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
             }
 
             long ramBytesUsed = vector.ramBytesUsed();
+            LruDocumentCache.DocumentKey documentKey = new LruDocumentCache.DocumentKey(cacheKey, docId);
+            if (admissionFiltered) {
+                LruDocumentCache.getInstance().recordMiss(documentKey);
+            }
 
             if (!globalRamBytes.record(ramBytesUsed)) {
+                // A full cache only makes room for vectors missed often enough, so a scan does not flush the hot ones
+                if (admissionFiltered && !LruDocumentCache.getInstance().admit(documentKey)) {
+                    return;
+                }
                 if (circuitBreakerTriggerHandler != null) {
                     circuitBreakerTriggerHandler.accept(ramBytesUsed);
                     // Try again after eviction
@@ -98,13 +145,10 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
                 }
             }
 
-            // Record access to update LRU status
-            LruDocumentCache.DocumentKey documentKey = new LruDocumentCache.DocumentKey(cacheKey, docId);
-            LruDocumentCache.getInstance().updateAccess(documentKey);
-
-            // Only update memory usage if we actually inserted a new document
+            // Only update memory usage and LRU status if we actually inserted a new document
             if (sparseVectors.compareAndSet(docId, null, vector)) {
                 recordUsedBytes(ramBytesUsed);
+                LruDocumentCache.getInstance().recordInsertion(documentKey);
             } else {
                 globalRamBytes.recordWithoutValidation(-ramBytesUsed, CircuitBreakerManager::addWithoutBreaking);
             }
@@ -131,6 +175,7 @@ public class ForwardIndexCacheItem extends AccountableTracker implements SparseV
 
             // Only update memory usage if we actually erased a new document
             if (sparseVectors.compareAndSet(docId, vector, null)) {
+                referenced[docId] = 0;
                 recordUsedBytes(-ramBytesReleased);
                 globalRamBytes.recordWithoutValidation(-ramBytesReleased, CircuitBreakerManager::addWithoutBreaking);
                 return ramBytesReleased;
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Approximate access frequencies of cache keys, kept as a count-min sketch of counters saturating at
+ * {@link #MAX_FREQUENCY}. Once the sketch has counted ten times as many accesses as its width, all counters are
+ * halved so that the frequencies follow recent accesses. Racy updates can only lose increments, which at worst
+ * underestimates a frequency.
+ */
+final class FrequencySketch {
+    static final int MAX_FREQUENCY = 15;
+    private static final int[] SEEDS = { 0x97cb3127, 0xb492b66f, 0x9ae16a3b, 0x85ebca6b };
+
+    private final int width;
+    private final byte[] counters;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * @param width number of counters of each row, must be a power of two
+     */
+    FrequencySketch(int width) {
+        if (width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        this.width = width;
+        this.counters = new byte[SEEDS.length * width];
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Counts an access to the key of the hash.
+     *
+     * @param hash hash code of the key
+     */
+    void increment(int hash) {
+        for (int row = 0; row < SEEDS.length; ++row) {
+            int index = indexOf(hash, row);
+            if (counters[index] < MAX_FREQUENCY) {
+                ++counters[index];
+            }
+        }
+        // Only the thread which reaches the sample size halves the counters
+        if (additions.incrementAndGet() == sampleSize) {
+            for (int i = 0; i < counters.length; ++i) {
+                counters[i] >>= 1;
+            }
+            additions.addAndGet(-sampleSize);
+        }
+    }
+
+    /**
+     * Estimates the number of recent accesses to the key of the hash, which may be overestimated by collisions.
+     *
+     * @param hash hash code of the key
+     * @return estimated frequency, at most {@link #MAX_FREQUENCY}
+     */
+    int frequency(int hash) {
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < SEEDS.length; ++row) {
+            frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+        h ^= h >>> 15;
+        return row * width + (h & (width - 1));
+    }
+}
@@ -7,7 +7,8 @@ package org.opensearch.neuralsearch.sparse.cache;
 import lombok.Value;
 
 /**
- * LRU cache implementation for sparse vector caches.
+ * Approximate LRU cache implementation for sparse vector caches. Reference bits of documents are kept by
+ * {@link ForwardIndexCacheItem}.
  */
 public class LruDocumentCache extends AbstractLruCache<LruDocumentCache.DocumentKey> {
     private static final LruDocumentCache INSTANCE = new LruDocumentCache();
@@ -20,6 +21,43 @@ public class LruDocumentCache extends AbstractLruCache<LruDocumentCache.Document
         return INSTANCE;
     }
 
+    /**
+     * Records a hit of a cached vector without allocating its key.
+     *
+     * @param cacheKey The cache key of the segment and field
+     * @param docId The document ID of the vector
+     */
+    void recordHit(CacheKey cacheKey, int docId) {
+        recordHit(sketchHash(cacheKey, docId));
+    }
+
+    @Override
+    protected int sketchHash(DocumentKey documentKey) {
+        return sketchHash(documentKey.getCacheKey(), documentKey.getDocId());
+    }
+
+    private static int sketchHash(CacheKey cacheKey, int docId) {
+        return 31 * cacheKey.hashCode() + docId;
+    }
+
+    @Override
+    protected boolean clearReference(DocumentKey documentKey) {
+        ForwardIndexCacheItem forwardIndexCacheItem = ForwardIndexCache.getInstance().get(documentKey.getCacheKey());
+        if (forwardIndexCacheItem == null) {
+            return false;
+        }
+        return forwardIndexCacheItem.clearReference(documentKey.getDocId());
+    }
+
+    @Override
+    protected long entryBytes(DocumentKey documentKey) {
+        ForwardIndexCacheItem forwardIndexCacheItem = ForwardIndexCache.getInstance().get(documentKey.getCacheKey());
+        if (forwardIndexCacheItem == null) {
+            return 0;
+        }
+        return forwardIndexCacheItem.entryBytes(documentKey.getDocId());
+    }
+
     @Override
     protected long doEviction(DocumentKey documentKey) {
         CacheKey cacheKey = documentKey.getCacheKey();
@@ -33,7 +71,7 @@ public class LruDocumentCache extends AbstractLruCache<LruDocumentCache.Document
     }
 
     /**
-     * Key class that combines a cache key and a document id for tracking LRU access.
+     * Key class that combines a cache key and a document id for tracking cached documents.
      */
     @Value
     public static class DocumentKey implements LruCacheKey {
@@ -8,7 +8,8 @@ import lombok.Value;
 import org.apache.lucene.util.BytesRef;
 
 /**
- * LRU cache implementation for posting list caches.
+ * Approximate LRU cache implementation for posting list caches. Reference bits of terms are kept by
+ * {@link ClusteredPostingCacheItem}.
  */
 public class LruTermCache extends AbstractLruCache<LruTermCache.TermKey> {
     private static final LruTermCache INSTANCE = new LruTermCache();
@@ -21,6 +22,43 @@ public class LruTermCache extends AbstractLruCache<LruTermCache.TermKey> {
         return INSTANCE;
     }
 
+    /**
+     * Records a hit of a cached posting without allocating its key.
+     *
+     * @param cacheKey The cache key of the segment and field
+     * @param term The term of the posting
+     */
+    void recordHit(CacheKey cacheKey, BytesRef term) {
+        recordHit(sketchHash(cacheKey, term));
+    }
+
+    @Override
+    protected int sketchHash(TermKey termKey) {
+        return sketchHash(termKey.getCacheKey(), termKey.getTerm());
+    }
+
+    private static int sketchHash(CacheKey cacheKey, BytesRef term) {
+        return 31 * cacheKey.hashCode() + term.hashCode();
+    }
+
+    @Override
+    protected boolean clearReference(TermKey termKey) {
+        ClusteredPostingCacheItem clusteredPostingCacheItem = ClusteredPostingCache.getInstance().get(termKey.getCacheKey());
+        if (clusteredPostingCacheItem == null) {
+            return false;
+        }
+        return clusteredPostingCacheItem.clearReference(termKey.getTerm());
+    }
+
+    @Override
+    protected long entryBytes(TermKey termKey) {
+        ClusteredPostingCacheItem clusteredPostingCacheItem = ClusteredPostingCache.getInstance().get(termKey.getCacheKey());
+        if (clusteredPostingCacheItem == null) {
+            return 0;
+        }
+        return clusteredPostingCacheItem.entryBytes(termKey.getTerm());
+    }
+
     @Override
     protected long doEviction(TermKey termKey) {
         CacheKey cacheKey = termKey.getCacheKey();
@@ -34,7 +72,7 @@ public class LruTermCache extends AbstractLruCache<LruTermCache.TermKey> {
     }
 
     /**
-     * Key class that combines a cache key and term for tracking LRU access.
+     * Key class that combines a cache key and term for tracking cached terms.
      */
     @Value
     public static class TermKey implements LruCacheKey {
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.NonNull;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.util.IOSupplier;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idle binary doc values iterators of one field of a segment, shared by all readers of the field.
+ * Doc values iterators only move forward, so random reads borrow the idle iterator positioned closest at or before the
+ * doc they read, and only open a new iterator when all idle ones are past it.
+ */
+public class BinaryDocValuesPool {
+    // bounds the iterators kept per field, one per concurrent reader is enough for ascending reads
+    static final int MAX_IDLE_DOC_VALUES = 16;
+
+    private final IOSupplier<BinaryDocValues> docValuesSupplier;
+    // guarded by this
+    private final List<BinaryDocValues> idleDocValues = new ArrayList<>(MAX_IDLE_DOC_VALUES);
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param docValuesSupplier opens a new doc values iterator of the field
+     */
+    public BinaryDocValuesPool(@NonNull IOSupplier<BinaryDocValues> docValuesSupplier) {
+        this.docValuesSupplier = docValuesSupplier;
+    }
+
+    /**
+     * Borrows an iterator which can advance to the given doc. It must be released once the read is done.
+     *
+     * @param docId the first doc to read
+     * @return an idle iterator positioned at or before docId, or a new one
+     * @throws IOException if a new iterator cannot be opened
+     */
+    public BinaryDocValues borrow(int docId) throws IOException {
+        synchronized (this) {
+            int closest = -1;
+            for (int i = 0; i < idleDocValues.size(); ++i) {
+                int position = idleDocValues.get(i).docID();
+                if (position <= docId && (closest < 0 || position > idleDocValues.get(closest).docID())) {
+                    closest = i;
+                }
+            }
+            if (closest >= 0) {
+                BinaryDocValues docValues = idleDocValues.get(closest);
+                idleDocValues.set(closest, idleDocValues.get(idleDocValues.size() - 1));
+                idleDocValues.remove(idleDocValues.size() - 1);
+                return docValues;
+            }
+        }
+        return docValuesSupplier.get();
+    }
+
+    /**
+     * Returns a borrowed iterator to the pool. Once the pool is full, the iterator furthest ahead is dropped, as it can
+     * serve the fewest reads.
+     *
+     * @param docValues the borrowed iterator
+     */
+    public synchronized void release(BinaryDocValues docValues) {
+        if (idleDocValues.size() < MAX_IDLE_DOC_VALUES) {
+            idleDocValues.add(docValues);
+            return;
+        }
+        int furthest = 0;
+        for (int i = 1; i < idleDocValues.size(); ++i) {
+            if (idleDocValues.get(i).docID() > idleDocValues.get(furthest).docID()) {
+                furthest = i;
+            }
+        }
+        if (idleDocValues.get(furthest).docID() > docValues.docID()) {
+            idleDocValues.set(furthest, docValues);
+        }
+    }
+}
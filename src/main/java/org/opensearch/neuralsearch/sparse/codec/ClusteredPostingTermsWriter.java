@@ -18,6 +18,7 @@ import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.DataOutput;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
@@ -26,8 +27,10 @@ import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.neuralsearch.sparse.accessor.ClusteredPostingWriter;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorForwardIndex;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
+import org.opensearch.neuralsearch.sparse.algorithm.seismic.ClusteringAlgorithmType;
 import org.opensearch.neuralsearch.sparse.algorithm.seismic.ClusteringTask;
-import org.opensearch.neuralsearch.sparse.algorithm.seismic.RandomClusteringAlgorithm;
 import org.opensearch.neuralsearch.sparse.algorithm.seismic.SeismicPostingClusterer;
 import org.opensearch.neuralsearch.sparse.cache.CacheGatedForwardIndexReader;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
@@ -43,9 +46,14 @@ import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTER_RATIO_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.N_POSTINGS_FIELD;
@@ -62,6 +70,10 @@ import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.
 @Log4j2
 @RequiredArgsConstructor
 public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
+    // number of terms clustered by one task of the seismic thread pool on flush
+    static final int FLUSH_BATCH_SIZE = 50;
+    // max number of term batches buffered on flush, which bounds the postings held in memory
+    static final int MAX_PENDING_BATCHES = 8;
     private FixedBitSet docsSeen;
     private IndexOutput postingOut;
     private final List<DocWeight> docWeights = new ArrayList<>();
@@ -74,6 +86,12 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
     private DocValuesProducer docValuesProducer;
     private ByteQuantizer byteQuantizer = new ByteQuantizer(DEFAULT_QUANTIZATION_CEILING_INGEST);
     private final CodecUtilWrapper codecUtilWrapper;
+    private boolean parallelClustering;
+    private List<ClusteringTask> pendingTasks = new ArrayList<>(FLUSH_BATCH_SIZE);
+    private List<BlockTermState> pendingStates = new ArrayList<>(FLUSH_BATCH_SIZE);
+    private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+    // doc block of the cluster being written, whose length is written ahead of it
+    private final ByteBuffersDataOutput docsBuffer = new ByteBuffersDataOutput();
 
     @Override
     public void setField(FieldInfo fieldInfo) {
@@ -113,10 +131,12 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
     }
 
     private void setSeismicPostingClusterer(int maxDoc) {
-        SparseVectorForwardIndex index = ForwardIndexCache.getInstance().getOrCreate(key, maxDoc);
-
         SparseBinaryDocValuesPassThrough luceneReader = null;
         DocValuesFormat fmt = this.state.segmentInfo.getCodec().docValuesFormat();
+        if (fmt instanceof SparseDocValuesFormat sparseDocValuesFormat) {
+            // the doc values are only read back to cluster the postings, the readers of the segment warm it up
+            fmt = sparseDocValuesFormat.withoutAutoWarmUp();
+        }
         SegmentReadState readState = new SegmentReadState(
             this.state.directory,
             this.state.segmentInfo,
@@ -126,7 +146,9 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
         try {
             this.docValuesProducer = fmt.fieldsProducer(readState);
             BinaryDocValues binaryDocValues = this.docValuesProducer.getBinary(fieldInfo);
-            if (binaryDocValues != null) {
+            if (binaryDocValues instanceof SparseBinaryDocValuesPassThrough passThrough) {
+                luceneReader = passThrough;
+            } else if (binaryDocValues != null) {
                 luceneReader = new SparseBinaryDocValuesPassThrough(binaryDocValues, this.state.segmentInfo, fieldInfo);
             }
         } catch (Exception e) {
@@ -142,13 +164,19 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
         }
         float summaryPruneRatio = Float.parseFloat(fieldInfo.attributes().get(SUMMARY_PRUNE_RATIO_FIELD));
 
+        SparseVectorReader reader;
+        if (luceneReader != null && luceneReader.hasMappedForwardIndex()) {
+            // a memory-mapped forward index is read directly without filling the on-heap cache
+            reader = luceneReader;
+        } else {
+            SparseVectorForwardIndex index = ForwardIndexCache.getInstance().getOrCreate(key, maxDoc);
+            reader = new CacheGatedForwardIndexReader(index.getReader(), index.getWriter(), luceneReader);
+        }
+        // random clustering with a zero cluster ratio keeps each posting as one cluster, not worth a thread hop
+        this.parallelClustering = clusterRatio != 0 && ClusterTrainingExecutor.getInstance().isInitialized();
         this.seismicPostingClusterer = new SeismicPostingClusterer(
             nPostings,
-            new RandomClusteringAlgorithm(
-                summaryPruneRatio,
-                clusterRatio,
-                new CacheGatedForwardIndexReader(index.getReader(), index.getWriter(), luceneReader)
-            )
+            ClusteringAlgorithmType.fromFieldInfo(fieldInfo).create(summaryPruneRatio, clusterRatio, reader)
         );
     }
 
@@ -158,37 +186,145 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
         state.blockFilePointer = postingOut.getFilePointer();
         postingOut.writeVLong(clusters.size());
         for (DocumentCluster cluster : clusters) {
-            postingOut.writeVLong(cluster.size());
-            Iterator<DocWeight> iterator = cluster.iterator();
-            while (iterator.hasNext()) {
-                DocWeight docWeight = iterator.next();
-                postingOut.writeVInt(docWeight.getDocID());
-                postingOut.writeByte(docWeight.getWeight());
-            }
-            postingOut.writeByte((byte) (cluster.isShouldNotSkip() ? 1 : 0));
-            if (cluster.getSummary() == null) {
-                postingOut.writeVLong(0);
+            if (version >= SparsePostingsConsumer.VERSION_BLOCK_POSTINGS) {
+                writeBlockCluster(cluster);
             } else {
-                IteratorWrapper<SparseVector.Item> iter = cluster.getSummary().iterator();
-                postingOut.writeVLong(cluster.getSummary().getSize());
-                while (iter.hasNext()) {
-                    SparseVector.Item item = iter.next();
-                    postingOut.writeVInt(item.getToken());
-                    postingOut.writeByte(item.getWeight());
-                }
+                writeCluster(cluster);
+            }
+        }
+    }
+
+    private void writeCluster(DocumentCluster cluster) throws IOException {
+        postingOut.writeVLong(cluster.size());
+        Iterator<DocWeight> iterator = cluster.iterator();
+        while (iterator.hasNext()) {
+            DocWeight docWeight = iterator.next();
+            postingOut.writeVInt(docWeight.getDocID());
+            postingOut.writeByte(docWeight.getWeight());
+        }
+        postingOut.writeByte((byte) (cluster.isShouldNotSkip() ? 1 : 0));
+        if (cluster.getSummary() == null) {
+            postingOut.writeVLong(0);
+        } else {
+            IteratorWrapper<SparseVector.Item> iter = cluster.getSummary().iterator();
+            postingOut.writeVLong(cluster.getSummary().getSize());
+            while (iter.hasNext()) {
+                SparseVector.Item item = iter.next();
+                postingOut.writeVInt(item.getToken());
+                postingOut.writeByte(item.getWeight());
             }
         }
     }
 
+    /**
+     * Writes a cluster with its summary first, then the length of its doc block and the block itself, so that readers
+     * can skip the docs of clusters pruned by their summary. Doc ids and summary tokens are delta-encoded, each
+     * followed by the block of their weights.
+     */
+    private void writeBlockCluster(DocumentCluster cluster) throws IOException {
+        int size = cluster.size();
+        postingOut.writeVLong(size);
+        postingOut.writeByte((byte) (cluster.isShouldNotSkip() ? 1 : 0));
+        int summarySize = cluster.getSummary() == null ? 0 : cluster.getSummary().getSize();
+        postingOut.writeVLong(summarySize);
+        if (summarySize > 0) {
+            int[] tokens = new int[summarySize];
+            byte[] weights = new byte[summarySize];
+            IteratorWrapper<SparseVector.Item> iter = cluster.getSummary().iterator();
+            for (int i = 0; i < summarySize; ++i) {
+                SparseVector.Item item = iter.next();
+                // pack the unsigned short token with its weight, so sorting keeps them together
+                tokens[i] = (Short.toUnsignedInt((short) item.getToken()) << Byte.SIZE) | ByteQuantizationUtil.getUnsignedByte(
+                    item.getWeight()
+                );
+            }
+            // summaries decoded from older segments keep negative tokens first, delta encoding needs unsigned order
+            Arrays.sort(tokens);
+            for (int i = 0; i < summarySize; ++i) {
+                weights[i] = (byte) tokens[i];
+                tokens[i] >>>= Byte.SIZE;
+            }
+            DeltaBlockCodec.write(postingOut, tokens, summarySize);
+            postingOut.writeBytes(weights, 0, summarySize);
+        }
+        if (size > 0) {
+            docsBuffer.reset();
+            DeltaBlockCodec.write(docsBuffer, cluster.getDocIds(), size);
+            docsBuffer.writeBytes(cluster.getWeights(), 0, size);
+            postingOut.writeVLong(docsBuffer.size());
+            docsBuffer.copyTo(postingOut);
+        }
+    }
+
+    /**
+     * Clusters the postings of the term. On flush with the seismic thread pool available, the term is buffered and
+     * clustered with the next terms in a batch on the pool, its clusters are written once the batch completes, so the
+     * state is only complete after {@link #flushPendingTerms()}.
+     */
     @Override
     public void finishTerm(BlockTermState state) throws IOException {
         ClusteredPostingWriter writer = ClusteredPostingCache.getInstance().getOrCreate(key).getWriter();
-        PostingClusters postingClusters = new ClusteringTask(this.currentTerm, docWeights, writer, this.seismicPostingClusterer).get();
-        writePostingClusters(postingClusters, state);
+        ClusteringTask task = new ClusteringTask(this.currentTerm, docWeights, writer, this.seismicPostingClusterer);
+        if (parallelClustering) {
+            pendingTasks.add(task);
+            pendingStates.add(state);
+            if (pendingTasks.size() == FLUSH_BATCH_SIZE) {
+                submitPendingTerms();
+            }
+        } else {
+            writePostingClusters(task.get(), state);
+        }
         this.docWeights.clear();
         this.currentTerm = null;
     }
 
+    /**
+     * Writes the clusters of all terms buffered on flush, in the order their terms were written.
+     *
+     * @throws IOException if clustering or writing fails
+     */
+    public void flushPendingTerms() throws IOException {
+        if (!pendingTasks.isEmpty()) {
+            submitPendingTerms();
+        }
+        while (!pendingBatches.isEmpty()) {
+            writeBatch(pendingBatches.poll());
+        }
+    }
+
+    private void submitPendingTerms() throws IOException {
+        List<ClusteringTask> tasks = pendingTasks;
+        CompletableFuture<List<PostingClusters>> future = CompletableFuture.supplyAsync(() -> {
+            List<PostingClusters> clusters = new ArrayList<>(tasks.size());
+            for (ClusteringTask task : tasks) {
+                clusters.add(task.get());
+            }
+            return clusters;
+        }, ClusterTrainingExecutor.getInstance().getExecutor());
+        pendingBatches.add(new PendingBatch(future, pendingStates));
+        pendingTasks = new ArrayList<>(FLUSH_BATCH_SIZE);
+        pendingStates = new ArrayList<>(FLUSH_BATCH_SIZE);
+        // the oldest batch is written first to keep the postings in term order
+        while (pendingBatches.size() > MAX_PENDING_BATCHES) {
+            writeBatch(pendingBatches.poll());
+        }
+    }
+
+    private void writeBatch(PendingBatch batch) throws IOException {
+        List<PostingClusters> clusters;
+        try {
+            clusters = batch.future().join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to cluster postings on flush", e.getCause());
+        }
+        for (int i = 0; i < clusters.size(); ++i) {
+            writePostingClusters(clusters.get(i), batch.states().get(i));
+        }
+    }
+
+    private record PendingBatch(CompletableFuture<List<PostingClusters>> future, List<BlockTermState> states) {
+    }
+
     @Override
     public void startDoc(int docID, int freq) throws IOException {
         if (docID == -1) {
@@ -230,6 +366,10 @@ public class ClusteredPostingTermsWriter extends PushPostingsWriterBase {
     }
 
     public void closeWithException() {
+        // clustering still running only fills the cache of the aborted segment
+        pendingBatches.clear();
+        pendingTasks.clear();
+        pendingStates.clear();
         IOUtils.closeWhileHandlingException(this.postingOut);
         if (this.docValuesProducer != null) {
             IOUtils.closeWhileHandlingException(this.docValuesProducer);
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.GroupVIntUtil;
+import org.apache.lucene.util.packed.PackedInts;
+
+import java.io.IOException;
+
+/**
+ * Encodes non-decreasing int sequences, like sorted doc ids of a cluster, as deltas.
+ * Full blocks of {@link #BLOCK_SIZE} deltas are bit-packed with the bits required by their largest delta, and the
+ * remaining deltas are written as group varints, in the same way Lucene postings encode doc id blocks and tails.
+ */
+final class DeltaBlockCodec {
+
+    private DeltaBlockCodec() {} // no instance of this utility class
+
+    static final int BLOCK_SIZE = 128;
+
+    // bytes taken by a full block packed with the max bits per value of an int
+    private static final int MAX_BLOCK_BYTES = BLOCK_SIZE * Integer.SIZE / Byte.SIZE;
+
+    /**
+     * Writes the first count values as deltas.
+     *
+     * @param out output to write to
+     * @param values non-decreasing values
+     * @param count number of values to write
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(DataOutput out, int[] values, int count) throws IOException {
+        int[] deltas = new int[BLOCK_SIZE];
+        byte[] blocks = null;
+        int previous = 0;
+        int offset = 0;
+        for (; offset + BLOCK_SIZE <= count; offset += BLOCK_SIZE) {
+            int or = 0;
+            for (int i = 0; i < BLOCK_SIZE; ++i) {
+                deltas[i] = delta(values[offset + i], previous);
+                previous = values[offset + i];
+                or |= deltas[i];
+            }
+            int bitsPerValue = PackedInts.bitsRequired(Integer.toUnsignedLong(or));
+            if (blocks == null) {
+                blocks = new byte[MAX_BLOCK_BYTES];
+            }
+            PackedInts.Encoder encoder = PackedInts.getEncoder(PackedInts.Format.PACKED, PackedInts.VERSION_CURRENT, bitsPerValue);
+            int iterations = BLOCK_SIZE / encoder.byteValueCount();
+            encoder.encode(deltas, 0, blocks, 0, iterations);
+            out.writeByte((byte) bitsPerValue);
+            out.writeBytes(blocks, 0, iterations * encoder.byteBlockCount());
+        }
+        int remaining = count - offset;
+        for (int i = 0; i < remaining; ++i) {
+            deltas[i] = delta(values[offset + i], previous);
+            previous = values[offset + i];
+        }
+        out.writeGroupVInts(deltas, remaining);
+    }
+
+    /**
+     * Reads count values written by {@link #write(DataOutput, int[], int)} into the beginning of the given array.
+     *
+     * @param in input to read from
+     * @param values array receiving the values, must hold at least count entries
+     * @param count number of values to read
+     * @throws IOException if an I/O error occurs
+     */
+    static void read(DataInput in, int[] values, int count) throws IOException {
+        byte[] blocks = null;
+        int offset = 0;
+        for (; offset + BLOCK_SIZE <= count; offset += BLOCK_SIZE) {
+            int bitsPerValue = in.readByte();
+            if (blocks == null) {
+                blocks = new byte[MAX_BLOCK_BYTES];
+            }
+            PackedInts.Decoder decoder = PackedInts.getDecoder(PackedInts.Format.PACKED, PackedInts.VERSION_CURRENT, bitsPerValue);
+            int iterations = BLOCK_SIZE / decoder.byteValueCount();
+            in.readBytes(blocks, 0, iterations * decoder.byteBlockCount());
+            decoder.decode(blocks, 0, values, offset, iterations);
+        }
+        if (offset < count) {
+            int[] tail = new int[count - offset];
+            GroupVIntUtil.readGroupVInts(in, tail, tail.length);
+            System.arraycopy(tail, 0, values, offset, tail.length);
+        }
+        // prefix sum restores the values from the deltas
+        for (int i = 1; i < count; ++i) {
+            values[i] += values[i - 1];
+        }
+    }
+
+    private static int delta(int value, int previous) {
+        if (value < previous) {
+            throw new IllegalArgumentException("values must be non-decreasing for delta encoding");
+        }
+        return value - previous;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.neuralsearch.sparse.codec.ForwardIndexLuceneWriter.CODEC_NAME;
+import static org.opensearch.neuralsearch.sparse.codec.ForwardIndexLuceneWriter.FORWARD_INDEX_EXTENSION;
+import static org.opensearch.neuralsearch.sparse.codec.ForwardIndexLuceneWriter.VERSION_CURRENT;
+import static org.opensearch.neuralsearch.sparse.codec.ForwardIndexLuceneWriter.VERSION_START;
+
+/**
+ * Reads the forward index file written by {@link ForwardIndexLuceneWriter}.
+ * Vectors are decoded straight from the file, which is memory-mapped by the directory, so nothing is kept on heap
+ * besides the field directory and the OS page cache takes the role of the forward index cache.
+ */
+public class ForwardIndexLuceneReader implements Closeable {
+    private final IndexInput forwardIn;
+    private final CodecUtilWrapper codecUtilWrapper;
+    private final Map<Integer, FieldEntry> fieldEntries = new HashMap<>();
+
+    public ForwardIndexLuceneReader(SegmentReadState state, CodecUtilWrapper codecUtilWrapper) throws IOException {
+        this.codecUtilWrapper = codecUtilWrapper;
+        String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, FORWARD_INDEX_EXTENSION);
+        IndexInput input = state.directory.openInput(fileName, state.context);
+        boolean success = false;
+        try {
+            codecUtilWrapper.checkIndexHeader(
+                input,
+                CODEC_NAME,
+                VERSION_START,
+                VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            codecUtilWrapper.retrieveChecksum(input);
+            input.seek(input.length() - codecUtilWrapper.footerLength() - Long.BYTES);
+            input.seek(input.readLong());
+            int fieldCount = input.readVInt();
+            for (int i = 0; i < fieldCount; ++i) {
+                int fieldNumber = input.readVInt();
+                int maxDoc = input.readVInt();
+                long tablePointer = input.readLong();
+                fieldEntries.put(fieldNumber, new FieldEntry(maxDoc, tablePointer));
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                IOUtils.closeWhileHandlingException(input);
+            }
+        }
+        this.forwardIn = input;
+    }
+
+    /**
+     * Checks if a segment has a forward index file, i.e. if any of its sparse fields keeps the forward index in mmap mode.
+     * Must stay in line with the fields written by {@link SparseDocValuesConsumer}.
+     *
+     * @param segmentInfo segment info
+     * @param fieldInfos field infos of the segment
+     * @return true if the forward index file exists for the segment
+     */
+    public static boolean hasForwardIndex(SegmentInfo segmentInfo, FieldInfos fieldInfos) {
+        if (fieldInfos == null) {
+            return false;
+        }
+        for (FieldInfo fieldInfo : fieldInfos) {
+            if (isForwardIndexField(segmentInfo, fieldInfo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the vectors of a field are written to the forward index file.
+     *
+     * @param segmentInfo segment info
+     * @param fieldInfo field info
+     * @return true if the field is a sparse field in mmap mode which runs SEISMIC in this segment
+     */
+    public static boolean isForwardIndexField(SegmentInfo segmentInfo, FieldInfo fieldInfo) {
+        return fieldInfo.getDocValuesType() == DocValuesType.BINARY
+            && SparseVectorField.isMmapForwardIndex(fieldInfo)
+            && PredicateUtils.shouldRunSeisPredicate.test(segmentInfo, fieldInfo);
+    }
+
+    /**
+     * Returns a reader of the vectors of the given field. Each reader works on its own slices of the file. Vectors read
+     * with {@link SparseVectorReader#read(int)} are copied to the heap, as callers may keep them, while
+     * {@link SparseVectorReader#dotProduct(int, byte[])} scores them where they are mapped, so scoring allocates nothing.
+     *
+     * @param fieldInfo field info
+     * @return the reader, or null if the field has no vector in the file
+     * @throws IOException if an I/O error occurs
+     */
+    public SparseVectorReader getReader(FieldInfo fieldInfo) throws IOException {
+        FieldEntry entry = fieldEntries.get(fieldInfo.number);
+        if (entry == null) {
+            return null;
+        }
+        RandomAccessInput offsets = forwardIn.randomAccessSlice(entry.tablePointer, (entry.maxDoc + 1L) * Long.BYTES);
+        RandomAccessInput vectors = forwardIn.randomAccessSlice(0, entry.tablePointer);
+        boolean halfByte = ByteQuantizationUtil.getByteQuantizerIngest(fieldInfo).isHalfByte();
+        return new MappedVectorReader(offsets, vectors, entry.maxDoc, halfByte);
+    }
+
+    /**
+     * Verifies the checksum of the whole file.
+     *
+     * @throws IOException if the file is corrupted
+     */
+    public void checkIntegrity() throws IOException {
+        codecUtilWrapper.checksumEntireFile(forwardIn);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(forwardIn);
+    }
+
+    private record FieldEntry(int maxDoc, long tablePointer) {
+    }
+
+    /**
+     * Reads the vectors of one field from the offsets table and the vectors of the file. Only positional reads are
+     * used, so it is safe to share between threads.
+     */
+    private static final class MappedVectorReader implements SparseVectorReader {
+        private final RandomAccessInput offsets;
+        private final RandomAccessInput vectors;
+        private final int maxDoc;
+        private final boolean halfByte;
+
+        MappedVectorReader(RandomAccessInput offsets, RandomAccessInput vectors, int maxDoc, boolean halfByte) {
+            this.offsets = offsets;
+            this.vectors = vectors;
+            this.maxDoc = maxDoc;
+            this.halfByte = halfByte;
+        }
+
+        @Override
+        public SparseVector read(int docId) throws IOException {
+            long start = start(docId);
+            if (start < 0) {
+                return null;
+            }
+            return SparseVector.readPacked(vectors, start, size(docId, start), halfByte);
+        }
+
+        @Override
+        public int dotProduct(int docId, byte[] denseVector) throws IOException {
+            long start = start(docId);
+            if (start < 0) {
+                return NO_VECTOR;
+            }
+            return SparseVector.dotProductPacked(vectors, start, size(docId, start), halfByte, denseVector);
+        }
+
+        @Override
+        public void dotProduct(int[] docIds, int count, byte[] denseVector, SparseVector[] vectors, int[] scores) throws IOException {
+            // random reads of a mapped file need no forward pass, the scratch vectors stay unused
+            for (int i = 0; i < count; ++i) {
+                scores[i] = dotProduct(docIds[i], denseVector);
+            }
+        }
+
+        // offset of the vector of the doc, negative if the doc has none
+        private long start(int docId) throws IOException {
+            if (docId < 0 || docId >= maxDoc) {
+                return -1;
+            }
+            return offsets.readLong((long) docId * Long.BYTES);
+        }
+
+        private int size(int docId, long start) throws IOException {
+            long end = offsets.readLong((docId + 1L) * Long.BYTES);
+            if (end < 0) {
+                end = ~end;
+            }
+            return SparseVector.packedEntryCount(end - start, halfByte);
+        }
+    }
+}
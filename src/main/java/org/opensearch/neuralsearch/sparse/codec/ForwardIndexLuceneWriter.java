@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorWriter;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes sparse vectors of a segment into a fixed-layout forward index file, so they can be served from a memory-mapped
+ * file instead of the on-heap forward index cache.
+ *
+ * File layout:
+ * <ul>
+ *   <li>index header</li>
+ *   <li>for each field: packed vectors in doc id order, followed by an offset table of maxDoc + 1 longs</li>
+ *   <li>field directory: field count, then field number, maxDoc and offset table pointer of each field</li>
+ *   <li>directory pointer and footer</li>
+ * </ul>
+ * The offset table holds the start offset of every doc, the last entry holds the end offset of the last doc.
+ * A doc without vector has its start offset stored as {@code ~offset}.
+ */
+public class ForwardIndexLuceneWriter implements Closeable {
+    static final String CODEC_NAME = "SparseForwardIndex";
+    static final String FORWARD_INDEX_EXTENSION = "sfi";
+
+    // Initial format
+    static final int VERSION_START = 1;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    private final IndexOutput out;
+    private final CodecUtilWrapper codecUtilWrapper;
+    private final List<FieldEntry> fieldEntries = new ArrayList<>();
+    private FieldWriter currentField;
+
+    public ForwardIndexLuceneWriter(SegmentWriteState state, CodecUtilWrapper codecUtilWrapper) throws IOException {
+        this.codecUtilWrapper = codecUtilWrapper;
+        String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, FORWARD_INDEX_EXTENSION);
+        IndexOutput output = state.directory.createOutput(fileName, state.context);
+        boolean success = false;
+        try {
+            codecUtilWrapper.writeIndexHeader(output, CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+            success = true;
+        } finally {
+            if (!success) {
+                IOUtils.closeWhileHandlingException(output);
+            }
+        }
+        this.out = output;
+    }
+
+    /**
+     * Starts writing vectors of a field. Vectors must be inserted in increasing doc id order and the field must be
+     * finished with {@link #finishField()} before the next one starts.
+     *
+     * @param fieldInfo field to write
+     * @param maxDoc number of docs in the segment
+     * @return writer receiving the vectors of the field
+     */
+    public SparseVectorWriter startField(FieldInfo fieldInfo, int maxDoc) {
+        if (currentField != null) {
+            throw new IllegalStateException(
+                String.format(Locale.ROOT, "field [%s] is started before previous field is finished", fieldInfo.name)
+            );
+        }
+        currentField = new FieldWriter(fieldInfo.number, maxDoc);
+        return currentField;
+    }
+
+    /**
+     * Writes the offset table of the current field.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void finishField() throws IOException {
+        if (currentField == null) {
+            throw new IllegalStateException("no field is started");
+        }
+        long[] offsets = currentField.offsets;
+        int maxDoc = currentField.maxDoc;
+        long tablePointer = out.getFilePointer();
+        // docs after the last written one have no vector
+        Arrays.fill(offsets, currentField.nextDocId, maxDoc, ~tablePointer);
+        offsets[maxDoc] = tablePointer;
+        for (long offset : offsets) {
+            out.writeLong(offset);
+        }
+        fieldEntries.add(new FieldEntry(currentField.fieldNumber, maxDoc, tablePointer));
+        currentField = null;
+    }
+
+    /**
+     * Writes the field directory and the footer, then closes the file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        boolean success = false;
+        try {
+            if (currentField != null) {
+                finishField();
+            }
+            long dirPointer = out.getFilePointer();
+            out.writeVInt(fieldEntries.size());
+            for (FieldEntry entry : fieldEntries) {
+                out.writeVInt(entry.fieldNumber);
+                out.writeVInt(entry.maxDoc);
+                out.writeLong(entry.tablePointer);
+            }
+            out.writeLong(dirPointer);
+            codecUtilWrapper.writeFooter(out);
+            success = true;
+        } finally {
+            if (success) {
+                IOUtils.close(out);
+            } else {
+                IOUtils.closeWhileHandlingException(out);
+            }
+        }
+    }
+
+    private record FieldEntry(int fieldNumber, int maxDoc, long tablePointer) {
+    }
+
+    private class FieldWriter implements SparseVectorWriter {
+        private final int fieldNumber;
+        private final int maxDoc;
+        private final long[] offsets;
+        private int nextDocId = 0;
+
+        FieldWriter(int fieldNumber, int maxDoc) {
+            this.fieldNumber = fieldNumber;
+            this.maxDoc = maxDoc;
+            this.offsets = new long[maxDoc + 1];
+        }
+
+        @Override
+        public void insert(int docId, SparseVector vector) throws IOException {
+            if (docId < nextDocId || docId >= maxDoc) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "doc id [%d] is out of order or out of range [%d, %d)", docId, nextDocId, maxDoc)
+                );
+            }
+            long pointer = out.getFilePointer();
+            Arrays.fill(offsets, nextDocId, docId, ~pointer);
+            if (vector == null) {
+                offsets[docId] = ~pointer;
+            } else {
+                offsets[docId] = pointer;
+                vector.writePacked(out);
+            }
+            nextDocId = docId + 1;
+        }
+    }
+}
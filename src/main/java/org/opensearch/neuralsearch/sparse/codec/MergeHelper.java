@@ -8,28 +8,19 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.codecs.DocValuesProducer;
-import org.apache.lucene.codecs.FieldsProducer;
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.MergeState;
-import org.apache.lucene.index.PostingsEnum;
-import org.apache.lucene.index.Terms;
-import org.apache.lucene.index.TermsEnum;
-import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.Nullable;
+import org.opensearch.neuralsearch.sparse.algorithm.seismic.IncrementalPostingClusterer;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
-import org.opensearch.neuralsearch.sparse.common.ValueEncoder;
-import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.common.MergedDocMap;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
-import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
+import org.opensearch.neuralsearch.sparse.quantization.QuantizationType;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -69,113 +60,96 @@ public class MergeHelper {
     }
 
     /**
-     * Retrieves merged posting list for a specific term across all segments.
+     * Creates an iterator streaming the terms of a field across segments being merged in sorted order.
      *
      * @param mergeStateFacade merge state containing producers and doc maps
-     * @param term the term to retrieve postings for
      * @param fieldInfo field information for the sparse vector field
-     * @param newIdToFieldProducerIndex array to store field producer index for each new doc ID
-     * @param newIdToOldId array to store old doc ID mapping for each new doc ID
-     * @return list of document weights for the term
-     * @throws IOException if postings cannot be accessed
+     * @return iterator positioned before the first term
+     * @throws IOException if terms cannot be accessed
      */
-    public List<DocWeight> getMergedPostingForATerm(
-        MergeStateFacade mergeStateFacade,
-        BytesRef term,
-        FieldInfo fieldInfo,
-        int[] newIdToFieldProducerIndex,
-        int[] newIdToOldId
-    ) throws IOException {
-        List<DocWeight> docWeights = new ArrayList<>();
-        ByteQuantizer byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(fieldInfo);
-        for (int i = 0; i < mergeStateFacade.getFieldsProducers().length; i++) {
-            // we need this SparseBinaryDocValuesPassThrough to get segment info
-            BinaryDocValues binaryDocValues = mergeStateFacade.getDocValuesProducers()[i].getBinary(fieldInfo);
-            if (!(binaryDocValues instanceof SparseBinaryDocValuesPassThrough)) {
-                continue;
-            }
-            FieldsProducer fieldsProducer = mergeStateFacade.getFieldsProducers()[i];
-            Terms terms = fieldsProducer.terms(fieldInfo.getName());
-            if (terms == null) {
-                continue;
-            }
+    public MergedTermsIterator newMergedTermsIterator(MergeStateFacade mergeStateFacade, FieldInfo fieldInfo) throws IOException {
+        return new MergedTermsIterator(mergeStateFacade, fieldInfo);
+    }
 
-            TermsEnum termsEnum = terms.iterator();
-            if (termsEnum == null) {
-                continue;
-            }
+    /**
+     * Creates an iterator streaming the terms of a field across segments being merged in sorted order, which also
+     * collects the clusters of the base segment of an incremental merge.
+     *
+     * @param mergeStateFacade merge state containing producers and doc maps
+     * @param fieldInfo field information for the sparse vector field
+     * @param baseSegment index of the segment whose clusters are kept, -1 if there is none
+     * @return iterator positioned before the first term
+     * @throws IOException if terms cannot be accessed
+     */
+    public MergedTermsIterator newMergedTermsIterator(MergeStateFacade mergeStateFacade, FieldInfo fieldInfo, int baseSegment)
+        throws IOException {
+        return new MergedTermsIterator(mergeStateFacade, fieldInfo, baseSegment);
+    }
 
-            if (!termsEnum.seekExact(term)) {
-                continue;
-            }
-            PostingsEnum postings = termsEnum.postings(null);
-            if (postings == null) {
+    /**
+     * Selects the segment whose clusters are extended by an incremental merge: the largest clustered segment, if it holds
+     * at least {@link IncrementalPostingClusterer#MIN_BASE_DOC_RATIO} of the merged docs and its weights were quantized
+     * with the ingest ceiling of the merged segment.
+     *
+     * @param mergeStateFacade merge state containing producers and max docs
+     * @param fieldInfo field information for the sparse vector field
+     * @return index of the base segment, or -1 if the merge should cluster all terms from scratch
+     * @throws IOException if terms cannot be accessed
+     */
+    public int selectBaseSegment(MergeStateFacade mergeStateFacade, FieldInfo fieldInfo) throws IOException {
+        int[] maxDocs = mergeStateFacade.getMaxDocs();
+        long totalDocs = 0;
+        int baseSegment = -1;
+        for (int i = 0; i < maxDocs.length; i++) {
+            totalDocs += maxDocs[i];
+            if (baseSegment != -1 && maxDocs[i] <= maxDocs[baseSegment]) {
                 continue;
             }
-            boolean isSparsePostings = postings instanceof SparsePostingsEnum;
-            int docId = postings.nextDoc();
-            for (; docId != PostingsEnum.NO_MORE_DOCS; docId = postings.nextDoc()) {
-                if (docId == -1) {
-                    continue;
-                }
-                int newDocId = mergeStateFacade.getDocMaps()[i].get(docId);
-                if (newDocId == -1) {
-                    continue;
-                }
-                if (newDocId >= newIdToFieldProducerIndex.length) {
-                    throw new IndexOutOfBoundsException("newDocId is larger than array size!");
-                }
-                newIdToFieldProducerIndex[newDocId] = i;
-                newIdToOldId[newDocId] = docId;
-                int freq = postings.freq();
-                byte freqByte = 0;
-                if (isSparsePostings) {
-                    // SparsePostingsEnum.freq() already transform byte freq to int
-                    freqByte = (byte) freq;
-                } else {
-                    // decode to float first
-                    freqByte = byteQuantizer.quantize(ValueEncoder.decodeFeatureValue(freq));
-                }
-                docWeights.add(new DocWeight(newDocId, freqByte));
+            // only segments with clustered postings can be extended
+            BinaryDocValues binaryDocValues = mergeStateFacade.getDocValuesProducers()[i].getBinary(fieldInfo);
+            if (binaryDocValues instanceof SparseBinaryDocValuesPassThrough
+                && mergeStateFacade.getFieldsProducers()[i].terms(fieldInfo.getName()) instanceof SparseTerms) {
+                baseSegment = i;
             }
         }
-        return docWeights;
+        if (baseSegment == -1 || maxDocs[baseSegment] < IncrementalPostingClusterer.MIN_BASE_DOC_RATIO * totalDocs) {
+            return -1;
+        }
+        // kept clusters are not quantized again, so they need the ceiling of the merged segment
+        if (QuantizationType.fromFieldInfo(fieldInfo).isAdaptive()
+            && ByteQuantizationUtil.getCeilingValueIngest(
+                mergeStateFacade.getFieldInfos()[baseSegment].fieldInfo(fieldInfo.name)
+            ) != ByteQuantizationUtil.getCeilingValueIngest(fieldInfo)) {
+            return -1;
+        }
+        return baseSegment;
     }
 
     /**
-     * Collects all unique terms from segments being merged.
+     * Counts the unique terms of a field across segments being merged, streaming them without holding them on heap.
      *
      * @param mergeStateFacade merge state containing field producers
      * @param fieldInfo field information for the sparse vector field
-     * @return set of all unique terms across segments
+     * @return number of unique terms across segments
      * @throws IOException if terms cannot be accessed
      */
-    public Set<BytesRef> getAllTerms(MergeStateFacade mergeStateFacade, FieldInfo fieldInfo) throws IOException {
-        Set<BytesRef> allTerms = new HashSet<>();
-        for (int i = 0; i < mergeStateFacade.getFieldsProducers().length; i++) {
-            FieldsProducer fieldsProducer = mergeStateFacade.getFieldsProducers()[i];
-            // we need this SparseBinaryDocValuesPassThrough to get segment info
-            BinaryDocValues binaryDocValues = mergeStateFacade.getDocValuesProducers()[i].getBinary(fieldInfo);
-            if (!(binaryDocValues instanceof SparseBinaryDocValuesPassThrough)) {
-                continue;
-            }
-
-            Terms terms = fieldsProducer.terms(fieldInfo.getName());
-            if (terms instanceof SparseTerms sparseTerms) {
-                allTerms.addAll(sparseTerms.getReader().getTerms());
-            } else {
-                // fieldsProducer could be a delegate one as we need to merge normal segments into seis segment
-                TermsEnum termsEnum = terms.iterator();
-                while (true) {
-                    BytesRef term = termsEnum.next();
-                    if (term == null) {
-                        break;
-                    }
-                    allTerms.add(BytesRef.deepCopyOf(term));
-                }
-            }
+    public long countMergedTerms(MergeStateFacade mergeStateFacade, FieldInfo fieldInfo) throws IOException {
+        MergedTermsIterator mergedTerms = newMergedTermsIterator(mergeStateFacade, fieldInfo);
+        long count = 0;
+        while (mergedTerms.next() != null) {
+            ++count;
         }
-        return allTerms;
+        return count;
+    }
+
+    /**
+     * Builds the map from doc IDs of the merged segment to the segments being merged, shared by all terms of a merge.
+     *
+     * @param mergeStateFacade merge state containing max docs and doc maps
+     * @return {@link MergedDocMap}
+     */
+    public MergedDocMap newMergedDocMap(MergeStateFacade mergeStateFacade) {
+        return MergedDocMap.build(mergeStateFacade);
     }
 
     /**
@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.NonNull;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
+import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+import org.opensearch.neuralsearch.sparse.common.ValueEncoder;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
+import org.opensearch.neuralsearch.sparse.quantization.QuantizationType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams the terms of a sparse field across the segments being merged, in sorted order, with a k-way merge over the
+ * sorted terms of every segment. Postings of the current term are read from the segments positioned on it, so terms
+ * are neither collected up front nor looked up again in every segment.
+ */
+public class MergedTermsIterator {
+    private final MergeStateFacade mergeStateFacade;
+    private final ByteQuantizer byteQuantizer;
+    // ingest ceilings the postings of each segment were quantized with, null unless the field learns them per segment
+    private final float[] sourceCeilings;
+    private final PriorityQueue<SegmentTerms> queue;
+    // segments positioned on the current term, in segment order
+    private final List<SegmentTerms> matches = new ArrayList<>();
+    // segment whose clusters are kept by an incremental merge, -1 if there is none
+    private final int baseSegment;
+    private BytesRef currentTerm;
+    private List<DocumentCluster> baseClusters;
+
+    /**
+     * Creates an iterator positioned before the first term.
+     *
+     * @param mergeStateFacade merge state containing the producers and doc maps of the merged segments
+     * @param fieldInfo field information for the sparse vector field
+     * @throws IOException if terms cannot be accessed
+     */
+    public MergedTermsIterator(@NonNull MergeStateFacade mergeStateFacade, @NonNull FieldInfo fieldInfo) throws IOException {
+        this(mergeStateFacade, fieldInfo, -1);
+    }
+
+    /**
+     * Creates an iterator positioned before the first term, which also collects the clusters of the base segment of an
+     * incremental merge.
+     *
+     * @param mergeStateFacade merge state containing the producers and doc maps of the merged segments
+     * @param fieldInfo field information for the sparse vector field
+     * @param baseSegment index of the segment whose clusters are kept, -1 if there is none
+     * @throws IOException if terms cannot be accessed
+     */
+    public MergedTermsIterator(@NonNull MergeStateFacade mergeStateFacade, @NonNull FieldInfo fieldInfo, int baseSegment)
+        throws IOException {
+        this.mergeStateFacade = mergeStateFacade;
+        this.baseSegment = baseSegment;
+        this.byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(fieldInfo);
+        FieldsProducer[] fieldsProducers = mergeStateFacade.getFieldsProducers();
+        if (QuantizationType.fromFieldInfo(fieldInfo).isAdaptive()) {
+            FieldInfos[] fieldInfos = mergeStateFacade.getFieldInfos();
+            this.sourceCeilings = new float[fieldInfos.length];
+            for (int i = 0; i < fieldInfos.length; i++) {
+                this.sourceCeilings[i] = ByteQuantizationUtil.getCeilingValueIngest(fieldInfos[i].fieldInfo(fieldInfo.name));
+            }
+        } else {
+            this.sourceCeilings = null;
+        }
+        this.queue = new PriorityQueue<>(Math.max(1, fieldsProducers.length)) {
+            @Override
+            protected boolean lessThan(SegmentTerms a, SegmentTerms b) {
+                int cmp = a.term.compareTo(b.term);
+                return cmp < 0 || (cmp == 0 && a.segmentIndex < b.segmentIndex);
+            }
+        };
+        for (int i = 0; i < fieldsProducers.length; i++) {
+            // we need this SparseBinaryDocValuesPassThrough to get segment info
+            BinaryDocValues binaryDocValues = mergeStateFacade.getDocValuesProducers()[i].getBinary(fieldInfo);
+            if (!(binaryDocValues instanceof SparseBinaryDocValuesPassThrough)) {
+                continue;
+            }
+            // fieldsProducer could be a delegate one as we need to merge normal segments into seis segment
+            Terms terms = fieldsProducers[i].terms(fieldInfo.getName());
+            if (terms == null) {
+                continue;
+            }
+            TermsEnum termsEnum = terms.iterator();
+            if (termsEnum == null) {
+                continue;
+            }
+            SegmentTerms segmentTerms = new SegmentTerms(i, termsEnum);
+            if (segmentTerms.next()) {
+                queue.add(segmentTerms);
+            }
+        }
+    }
+
+    /**
+     * Moves to the next term in sorted order.
+     *
+     * @return the next term, only valid until the next call, or null if there are no more terms
+     * @throws IOException if terms cannot be accessed
+     */
+    public BytesRef next() throws IOException {
+        for (SegmentTerms segmentTerms : matches) {
+            if (segmentTerms.next()) {
+                queue.add(segmentTerms);
+            }
+        }
+        matches.clear();
+        baseClusters = null;
+        if (queue.size() == 0) {
+            currentTerm = null;
+            return null;
+        }
+        currentTerm = queue.top().term;
+        do {
+            matches.add(queue.pop());
+        } while (queue.size() > 0 && queue.top().term.equals(currentTerm));
+        return currentTerm;
+    }
+
+    /**
+     * Reads the postings of the current term from all segments having it, with doc IDs of the merged segment.
+     * Deleted docs are dropped. The clusters of the base segment are collected on the way, see {@link #baseClusters()}.
+     *
+     * @return list of document weights for the current term
+     * @throws IOException if postings cannot be accessed
+     */
+    public List<DocWeight> postings() throws IOException {
+        List<DocWeight> docWeights = new ArrayList<>();
+        for (SegmentTerms segmentTerms : matches) {
+            PostingsEnum postings = segmentTerms.termsEnum.postings(null);
+            if (postings == null) {
+                continue;
+            }
+            MergeState.DocMap docMap = mergeStateFacade.getDocMaps()[segmentTerms.segmentIndex];
+            if (segmentTerms.segmentIndex == baseSegment && postings instanceof SparsePostingsEnum sparsePostings) {
+                baseClusters = remapClusters(sparsePostings, docMap, docWeights);
+                continue;
+            }
+            boolean isSparsePostings = postings instanceof SparsePostingsEnum;
+            int docId = postings.nextDoc();
+            for (; docId != PostingsEnum.NO_MORE_DOCS; docId = postings.nextDoc()) {
+                if (docId == -1) {
+                    continue;
+                }
+                int newDocId = docMap.get(docId);
+                if (newDocId == -1) {
+                    continue;
+                }
+                int freq = postings.freq();
+                byte freqByte;
+                if (isSparsePostings) {
+                    // SparsePostingsEnum.freq() already transform byte freq to int
+                    freqByte = (byte) freq;
+                    if (sourceCeilings != null) {
+                        freqByte = byteQuantizer.requantize(freqByte, sourceCeilings[segmentTerms.segmentIndex]);
+                    }
+                } else {
+                    // decode to float first
+                    freqByte = byteQuantizer.quantize(ValueEncoder.decodeFeatureValue(freq));
+                }
+                docWeights.add(new DocWeight(newDocId, freqByte));
+            }
+        }
+        return docWeights;
+    }
+
+    /**
+     * Returns the clusters of the current term in the base segment, with doc IDs of the merged segment and deleted
+     * docs dropped. Only set once {@link #postings()} has been read for the current term.
+     *
+     * @return the clusters, or null if the base segment does not have the term
+     */
+    public List<DocumentCluster> baseClusters() {
+        return baseClusters;
+    }
+
+    private static List<DocumentCluster> remapClusters(SparsePostingsEnum postings, MergeState.DocMap docMap, List<DocWeight> docWeights) {
+        List<DocumentCluster> clusters = new ArrayList<>();
+        IteratorWrapper<DocumentCluster> clusterIterator = postings.clusterIterator();
+        while (clusterIterator.hasNext()) {
+            DocumentCluster cluster = clusterIterator.next();
+            List<DocWeight> docs = new ArrayList<>(cluster.size());
+            Iterator<DocWeight> iterator = cluster.iterator();
+            while (iterator.hasNext()) {
+                DocWeight docWeight = iterator.next();
+                int newDocId = docMap.get(docWeight.getDocID());
+                if (newDocId != -1) {
+                    docs.add(new DocWeight(newDocId, docWeight.getWeight()));
+                }
+            }
+            if (docs.isEmpty()) {
+                continue;
+            }
+            docWeights.addAll(docs);
+            clusters.add(new DocumentCluster(cluster.getSummary(), docs, cluster.isShouldNotSkip()));
+        }
+        return clusters;
+    }
+
+    /**
+     * Terms of one merged segment, positioned on their current term.
+     */
+    private static class SegmentTerms {
+        private final int segmentIndex;
+        private final TermsEnum termsEnum;
+        private BytesRef term;
+
+        SegmentTerms(int segmentIndex, TermsEnum termsEnum) {
+            this.segmentIndex = segmentIndex;
+            this.termsEnum = termsEnum;
+        }
+
+        boolean next() throws IOException {
+            term = termsEnum.next();
+            return term != null;
+        }
+    }
+}
@@ -31,10 +31,51 @@ public class SparseBinaryDocValuesPassThrough extends BinaryDocValues implements
     // The byte quantizer instance
     private final ByteQuantizer byteQuantizer;
 
+    // Reader of the memory-mapped forward index, null if the field keeps its forward index on heap
+    private final SparseVectorReader mappedForwardIndexReader;
+
+    // Idle doc values iterators of the field shared by all pass-throughs of the segment, null if reads must go through
+    // the delegate
+    private final BinaryDocValuesPool docValuesPool;
+
     public SparseBinaryDocValuesPassThrough(BinaryDocValues delegate, SegmentInfo segmentInfo, FieldInfo fieldInfo) {
+        this(delegate, segmentInfo, fieldInfo, null, null);
+    }
+
+    public SparseBinaryDocValuesPassThrough(
+        BinaryDocValues delegate,
+        SegmentInfo segmentInfo,
+        FieldInfo fieldInfo,
+        SparseVectorReader mappedForwardIndexReader
+    ) {
+        this(delegate, segmentInfo, fieldInfo, mappedForwardIndexReader, null);
+    }
+
+    /**
+     * Creates a pass-through whose {@link #read(int)} does not lock the delegate. Each concurrent reader borrows its own
+     * doc values iterator from docValuesPool, which outlives the pass-through, instead of sharing the delegate.
+     */
+    public SparseBinaryDocValuesPassThrough(
+        BinaryDocValues delegate,
+        SegmentInfo segmentInfo,
+        FieldInfo fieldInfo,
+        SparseVectorReader mappedForwardIndexReader,
+        BinaryDocValuesPool docValuesPool
+    ) {
         this.delegate = delegate;
         this.segmentInfo = segmentInfo;
         this.byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(fieldInfo);
+        this.mappedForwardIndexReader = mappedForwardIndexReader;
+        this.docValuesPool = docValuesPool;
+    }
+
+    /**
+     * Whether vectors are read from the memory-mapped forward index. Such reads need no on-heap cache in front of them.
+     *
+     * @return true if the field has a memory-mapped forward index in this segment
+     */
+    public boolean hasMappedForwardIndex() {
+        return this.mappedForwardIndexReader != null;
     }
 
     @Override
@@ -68,11 +109,85 @@ public class SparseBinaryDocValuesPassThrough extends BinaryDocValues implements
     }
 
     @Override
-    public synchronized SparseVector read(int docId) throws IOException {
-        if (!advanceExact(docId)) {
+    public SparseVector read(int docId) throws IOException {
+        if (this.mappedForwardIndexReader != null) {
+            return this.mappedForwardIndexReader.read(docId);
+        }
+        if (this.docValuesPool == null) {
+            return readFromDelegate(docId);
+        }
+        BinaryDocValues docValues = this.docValuesPool.borrow(docId);
+        try {
+            return readVector(docValues, docId);
+        } finally {
+            this.docValuesPool.release(docValues);
+        }
+    }
+
+    /**
+     * Reads a block of vectors with a single doc values iterator, which only moves forward through the block.
+     */
+    @Override
+    public void read(int[] docIds, int count, SparseVector[] vectors) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        if (this.mappedForwardIndexReader != null) {
+            this.mappedForwardIndexReader.read(docIds, count, vectors);
+            return;
+        }
+        if (this.docValuesPool == null) {
+            readFromDelegate(docIds, count, vectors);
+            return;
+        }
+        BinaryDocValues docValues = this.docValuesPool.borrow(docIds[0]);
+        try {
+            for (int i = 0; i < count; ++i) {
+                vectors[i] = readVector(docValues, docIds[i]);
+            }
+        } finally {
+            this.docValuesPool.release(docValues);
+        }
+    }
+
+    /**
+     * Scores a memory-mapped vector where it is mapped, other vectors are read first.
+     */
+    @Override
+    public int dotProduct(int docId, byte[] denseVector) throws IOException {
+        if (this.mappedForwardIndexReader != null) {
+            return this.mappedForwardIndexReader.dotProduct(docId, denseVector);
+        }
+        return SparseVectorReader.super.dotProduct(docId, denseVector);
+    }
+
+    /**
+     * Scores a block of memory-mapped vectors where they are mapped, other vectors are read first.
+     */
+    @Override
+    public void dotProduct(int[] docIds, int count, byte[] denseVector, SparseVector[] vectors, int[] scores) throws IOException {
+        if (this.mappedForwardIndexReader != null) {
+            this.mappedForwardIndexReader.dotProduct(docIds, count, denseVector, vectors, scores);
+            return;
+        }
+        SparseVectorReader.super.dotProduct(docIds, count, denseVector, vectors, scores);
+    }
+
+    private synchronized SparseVector readFromDelegate(int docId) throws IOException {
+        return readVector(this.delegate, docId);
+    }
+
+    private synchronized void readFromDelegate(int[] docIds, int count, SparseVector[] vectors) throws IOException {
+        for (int i = 0; i < count; ++i) {
+            vectors[i] = readVector(this.delegate, docIds[i]);
+        }
+    }
+
+    private SparseVector readVector(BinaryDocValues docValues, int docId) throws IOException {
+        if (!docValues.advanceExact(docId)) {
             return null;
         }
-        BytesRef bytesRef = binaryValue();
+        BytesRef bytesRef = docValues.binaryValue();
         if (bytesRef == null) {
             return null;
         }
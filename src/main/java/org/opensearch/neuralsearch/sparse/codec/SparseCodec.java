@@ -10,12 +10,20 @@ import org.apache.lucene.codecs.FilterCodec;
 import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.backward_codecs.lucene101.Lucene101Codec;
 
+import java.util.function.BooleanSupplier;
+
 /**
  * SparseCodec is used to encode and decode sparse vector related data structures.
+ * <p>
+ * Segments written by the engine keep the codec instance which wrote them, so the codec vended by
+ * {@link SparseCodecService} also opens the readers of newly flushed and merged segments, and can warm them up.
+ * Segments read back from disk get the codec from SPI, which never warms up.
  */
 public class SparseCodec extends FilterCodec {
     private static final String NAME = "Sparse10010Codec";
     public static final Codec DEFAULT_DELEGATE = new Lucene101Codec();
+    // whether the caches of a segment are warmed up once its readers are opened
+    private final BooleanSupplier autoWarmUp;
 
     public SparseCodec() {
         this(DEFAULT_DELEGATE);
@@ -28,16 +36,32 @@ public class SparseCodec extends FilterCodec {
      * @param delegate the delegate codec
      */
     public SparseCodec(Codec delegate) {
+        this(delegate, () -> false);
+    }
+
+    /**
+     * @param delegate the delegate codec
+     * @param autoWarmUp whether the caches of a segment are warmed up once its readers are opened
+     */
+    public SparseCodec(Codec delegate, BooleanSupplier autoWarmUp) {
         super(NAME, delegate);
+        this.autoWarmUp = autoWarmUp;
+    }
+
+    /**
+     * @return whether the caches of a segment are warmed up once its readers are opened
+     */
+    public boolean isAutoWarmUp() {
+        return autoWarmUp.getAsBoolean();
     }
 
     @Override
     public DocValuesFormat docValuesFormat() {
-        return new SparseDocValuesFormat(delegate.docValuesFormat());
+        return new SparseDocValuesFormat(delegate.docValuesFormat(), autoWarmUp);
     }
 
     @Override
     public PostingsFormat postingsFormat() {
-        return new SparsePostingsFormat(this.delegate.postingsFormat());
+        return new SparsePostingsFormat(this.delegate.postingsFormat(), autoWarmUp);
     }
 }
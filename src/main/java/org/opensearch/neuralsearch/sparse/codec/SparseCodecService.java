@@ -6,19 +6,32 @@ package org.opensearch.neuralsearch.sparse.codec;
 
 import org.apache.lucene.codecs.Codec;
 import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.CodecServiceConfig;
+import org.opensearch.neuralsearch.sparse.SparseSettings;
 
 /**
  * It vends SparseCodec to engine to provide sparse vector codec.
  */
 public class SparseCodecService extends CodecService {
+    private final IndexSettings indexSettings;
 
     public SparseCodecService(CodecServiceConfig codecServiceConfig) {
-        super(codecServiceConfig.getMapperService(), codecServiceConfig.getIndexSettings(), codecServiceConfig.getLogger());
+        this(codecServiceConfig, codecServiceConfig.getIndexSettings());
+    }
+
+    private SparseCodecService(CodecServiceConfig codecServiceConfig, IndexSettings indexSettings) {
+        super(codecServiceConfig.getMapperService(), indexSettings, codecServiceConfig.getLogger());
+        this.indexSettings = indexSettings;
     }
 
     @Override
     public Codec codec(String name) {
-        return new SparseCodec(super.codec(name));
+        return new SparseCodec(super.codec(name), this::isAutoWarmUp);
+    }
+
+    // read on every segment opened, as the setting is dynamic
+    private boolean isAutoWarmUp() {
+        return indexSettings != null && Boolean.TRUE.equals(indexSettings.getValue(SparseSettings.AUTO_WARMUP_SETTING));
     }
 }
@@ -16,6 +16,7 @@ import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorWriter;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
@@ -36,16 +37,20 @@ public class SparseDocValuesConsumer extends DocValuesConsumer {
     private final DocValuesConsumer delegate;
     private final SegmentWriteState state;
     private final MergeHelper mergeHelper;
+    // writer of the memory-mapped forward index, null if no sparse field of the segment is in mmap mode
+    private final ForwardIndexLuceneWriter forwardIndexWriter;
 
-    public SparseDocValuesConsumer(
-        @NonNull SegmentWriteState state,
-        @NonNull DocValuesConsumer delegate,
-        @NonNull MergeHelper mergeHelper
-    ) {
+    public SparseDocValuesConsumer(@NonNull SegmentWriteState state, @NonNull DocValuesConsumer delegate, @NonNull MergeHelper mergeHelper)
+        throws IOException {
         super();
         this.delegate = delegate;
         this.state = state;
         this.mergeHelper = mergeHelper;
+        if (ForwardIndexLuceneReader.hasForwardIndex(state.segmentInfo, state.fieldInfos)) {
+            this.forwardIndexWriter = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper());
+        } else {
+            this.forwardIndexWriter = null;
+        }
     }
 
     @Override
@@ -67,27 +72,47 @@ public class SparseDocValuesConsumer extends DocValuesConsumer {
         if (!PredicateUtils.shouldRunSeisPredicate.test(this.state.segmentInfo, field)) {
             return;
         }
+        boolean reuseVectors = isMerge;
+        if (isMerge) {
+            MergeStateFacade mergeStateFacade = ((SparseDocValuesReader) valuesProducer).getMergeStateFacade();
+            ByteQuantizationUtil.mergeCeilingValueIngest(field, mergeStateFacade);
+            // vectors quantized with another ceiling are decoded again
+            reuseVectors = ByteQuantizationUtil.hasUniformCeilingValueIngest(field, mergeStateFacade);
+        } else {
+            ByteQuantizationUtil.learnCeilingValueIngest(field, valuesProducer.getBinary(field));
+        }
         BinaryDocValues binaryDocValues = valuesProducer.getBinary(field);
         CacheKey key = new CacheKey(this.state.segmentInfo, field);
         int docCount = this.state.segmentInfo.maxDoc();
-        SparseVectorWriter writer = ForwardIndexCache.getInstance().getOrCreate(key, docCount).getWriter();
-        int docId = binaryDocValues.nextDoc();
-        while (docId != DocIdSetIterator.NO_MORE_DOCS) {
-            boolean written = false;
-            if (isMerge) {
-                SparseBinaryDocValues sparseBinaryDocValues = (SparseBinaryDocValues) binaryDocValues;
-                SparseVector vector = sparseBinaryDocValues.cachedSparseVector();
-                if (vector != null) {
-                    writer.insert(docId, vector);
-                    written = true;
+        boolean isMapped = forwardIndexWriter != null && ForwardIndexLuceneReader.isForwardIndexField(this.state.segmentInfo, field);
+        SparseVectorWriter writer = isMapped
+            ? forwardIndexWriter.startField(field, docCount)
+            : ForwardIndexCache.getInstance().getOrCreate(key, docCount).getWriter();
+        ByteQuantizer byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(field);
+        SparseVector.DecodeScratch decodeScratch = new SparseVector.DecodeScratch();
+        try {
+            int docId = binaryDocValues.nextDoc();
+            while (docId != DocIdSetIterator.NO_MORE_DOCS) {
+                boolean written = false;
+                if (reuseVectors) {
+                    SparseBinaryDocValues sparseBinaryDocValues = (SparseBinaryDocValues) binaryDocValues;
+                    SparseVector vector = sparseBinaryDocValues.cachedSparseVector();
+                    if (vector != null) {
+                        writer.insert(docId, vector);
+                        written = true;
+                    }
+                }
+                if (!written) {
+                    BytesRef bytesRef = binaryDocValues.binaryValue();
+                    writer.insert(docId, decodeScratch.decode(bytesRef, byteQuantizer));
                 }
+                docId = binaryDocValues.nextDoc();
             }
-            if (!written) {
-                BytesRef bytesRef = binaryDocValues.binaryValue();
-                ByteQuantizer byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(field);
-                writer.insert(docId, new SparseVector(bytesRef, byteQuantizer));
+        } finally {
+            if (isMapped) {
+                // docs not written due to a failure are read as missing
+                forwardIndexWriter.finishField();
             }
-            docId = binaryDocValues.nextDoc();
         }
         if (isMerge) {
             if (valuesProducer instanceof SparseDocValuesReader reader) {
@@ -113,7 +138,7 @@ public class SparseDocValuesConsumer extends DocValuesConsumer {
 
     @Override
     public void close() throws IOException {
-        this.delegate.close();
+        IOUtils.close(this.delegate, this.forwardIndexWriter);
     }
 
     @Override
@@ -11,16 +11,33 @@ import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 
 import java.io.IOException;
+import java.util.function.BooleanSupplier;
 
 /**
  * SparseDocValuesFormat is used to encode and decode sparse vector related data structures.
  */
 public class SparseDocValuesFormat extends DocValuesFormat {
     private final DocValuesFormat delegate;
+    private final BooleanSupplier autoWarmUp;
 
     public SparseDocValuesFormat(DocValuesFormat delegate) {
+        this(delegate, () -> false);
+    }
+
+    public SparseDocValuesFormat(DocValuesFormat delegate, BooleanSupplier autoWarmUp) {
         super(delegate.getName());
         this.delegate = delegate;
+        this.autoWarmUp = autoWarmUp;
+    }
+
+    /**
+     * Returns this format without the warm up, for the readers the codec opens internally while writing a segment.
+     * Those readers are closed as soon as the segment is written, while the segment is published to searchers later.
+     *
+     * @return this format, which never warms up the caches
+     */
+    SparseDocValuesFormat withoutAutoWarmUp() {
+        return new SparseDocValuesFormat(delegate);
     }
 
     @Override
@@ -30,6 +47,10 @@ public class SparseDocValuesFormat extends DocValuesFormat {
 
     @Override
     public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
-        return new SparseDocValuesProducer(state, delegate.fieldsProducer(state));
+        SparseDocValuesProducer producer = new SparseDocValuesProducer(state, delegate.fieldsProducer(state));
+        if (autoWarmUp.getAsBoolean()) {
+            SparseSegmentWarmer.warmUpForwardIndex(producer);
+        }
+        return producer;
     }
 }
@@ -14,8 +14,12 @@ import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DocValues producer for sparse vector fields that wraps a delegate producer
@@ -25,6 +29,13 @@ public class SparseDocValuesProducer extends DocValuesProducer {
     private final DocValuesProducer delegate;
     @Getter
     private final SegmentReadState state;
+    // reader of the memory-mapped forward index, null if no sparse field of the segment is in mmap mode
+    private final ForwardIndexLuceneReader forwardIndexReader;
+    // idle doc values iterators of the fields whose vectors are read from doc values, shared by all their readers
+    private final Map<Integer, BinaryDocValuesPool> docValuesPools = new ConcurrentHashMap<>();
+    // read by the background warm up, which stops once the segment is closed
+    @Getter
+    private volatile boolean closed;
 
     /**
      * Creates a new sparse doc values producer.
@@ -32,10 +43,15 @@ public class SparseDocValuesProducer extends DocValuesProducer {
      * @param state the segment read state
      * @param delegate the underlying doc values producer to delegate to
      */
-    public SparseDocValuesProducer(SegmentReadState state, DocValuesProducer delegate) {
+    public SparseDocValuesProducer(SegmentReadState state, DocValuesProducer delegate) throws IOException {
         super();
         this.state = state;
         this.delegate = delegate;
+        if (ForwardIndexLuceneReader.hasForwardIndex(state.segmentInfo, state.fieldInfos)) {
+            this.forwardIndexReader = new ForwardIndexLuceneReader(state, new CodecUtilWrapper());
+        } else {
+            this.forwardIndexReader = null;
+        }
     }
 
     @Override
@@ -48,7 +64,11 @@ public class SparseDocValuesProducer extends DocValuesProducer {
      */
     @Override
     public BinaryDocValues getBinary(FieldInfo field) throws IOException {
-        return new SparseBinaryDocValuesPassThrough(this.delegate.getBinary(field), state.segmentInfo, field);
+        SparseVectorReader mappedReader = forwardIndexReader == null ? null : forwardIndexReader.getReader(field);
+        BinaryDocValuesPool docValuesPool = mappedReader != null
+            ? null
+            : docValuesPools.computeIfAbsent(field.number, number -> new BinaryDocValuesPool(() -> this.delegate.getBinary(field)));
+        return new SparseBinaryDocValuesPassThrough(this.delegate.getBinary(field), state.segmentInfo, field, mappedReader, docValuesPool);
     }
 
     @Override
@@ -74,10 +94,14 @@ public class SparseDocValuesProducer extends DocValuesProducer {
     @Override
     public void checkIntegrity() throws IOException {
         this.delegate.checkIntegrity();
+        if (this.forwardIndexReader != null) {
+            this.forwardIndexReader.checkIntegrity();
+        }
     }
 
     @Override
     public void close() throws IOException {
-        this.delegate.close();
+        this.closed = true;
+        IOUtils.close(this.delegate, this.forwardIndexReader);
     }
 }
@@ -46,7 +46,12 @@ public class SparsePostingsConsumer extends FieldsConsumer {
 
     // Initial format
     public static final int VERSION_START = 1;
-    public static final int VERSION_CURRENT = VERSION_START;
+    // Sorted terms with a block terms index at the end of the terms file
+    public static final int VERSION_BLOCK_TERMS_INDEX = 2;
+    // Delta-encoded doc ids and summary tokens with packed weights in the posting file, each cluster writes its summary
+    // ahead of a length-prefixed doc block so readers can skip it
+    public static final int VERSION_BLOCK_POSTINGS = 3;
+    public static final int VERSION_CURRENT = VERSION_BLOCK_POSTINGS;
 
     /** Extension of terms file */
     static final String TERMS_EXTENSION = "sit";
@@ -145,6 +150,8 @@ public class SparsePostingsConsumer extends FieldsConsumer {
                 termsList.add(clonedTerm);
                 states.add(state);
             }
+            // term states are complete once the clustered postings are written
+            this.clusteredPostingTermsWriter.flushPendingTerms();
             this.sparseTermsLuceneWriter.writeTermsSize(termsList.size());
             for (int i = 0; i < termsList.size(); ++i) {
                 this.sparseTermsLuceneWriter.writeTerm(termsList.get(i), states.get(i));
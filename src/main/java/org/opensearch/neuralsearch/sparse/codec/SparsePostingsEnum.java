@@ -98,6 +98,6 @@ public class SparsePostingsEnum extends PostingsEnum {
 
     @Override
     public long cost() {
-        return 0;
+        return size();
     }
 }
@@ -11,16 +11,23 @@ import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 
 import java.io.IOException;
+import java.util.function.BooleanSupplier;
 
 /**
  * Format for sparse vector postings.
  */
 public class SparsePostingsFormat extends PostingsFormat {
     private final PostingsFormat delegate;
+    private final BooleanSupplier autoWarmUp;
 
     public SparsePostingsFormat(PostingsFormat delegate) {
+        this(delegate, () -> false);
+    }
+
+    public SparsePostingsFormat(PostingsFormat delegate, BooleanSupplier autoWarmUp) {
         super(delegate.getName());
         this.delegate = delegate;
+        this.autoWarmUp = autoWarmUp;
     }
 
     @Override
@@ -30,10 +37,14 @@ public class SparsePostingsFormat extends PostingsFormat {
 
     @Override
     public FieldsProducer fieldsProducer(SegmentReadState state) throws IOException {
-        return new SparsePostingsProducer(
+        SparsePostingsProducer producer = new SparsePostingsProducer(
             this.delegate.fieldsProducer(state),
             state,
             () -> new SparseTermsLuceneReader(state, new CodecUtilWrapper())
         );
+        if (autoWarmUp.getAsBoolean()) {
+            SparseSegmentWarmer.warmUpPostings(producer);
+        }
+        return producer;
     }
 }
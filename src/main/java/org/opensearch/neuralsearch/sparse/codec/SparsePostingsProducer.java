@@ -10,6 +10,7 @@ import org.apache.lucene.codecs.FieldsProducer;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.Terms;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
@@ -29,6 +30,8 @@ public class SparsePostingsProducer extends FieldsProducer {
     private final SegmentReadState state;
     private final Supplier<SparseTermsLuceneReader> readerSupplier;
     private SparseTermsLuceneReader reader;
+    // read by the background warm up, which stops once the segment is closed
+    private volatile boolean closed;
 
     // use supplier for lazy load
     public SparsePostingsProducer(
@@ -43,8 +46,10 @@ public class SparsePostingsProducer extends FieldsProducer {
         this.reader = null;
     }
 
+    // synchronized with the lazy open of the reader, so a reader opened by the background warm up is never leaked
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
+        this.closed = true;
         if (this.delegate != null) {
             this.delegate.close();
         }
@@ -70,10 +75,18 @@ public class SparsePostingsProducer extends FieldsProducer {
             return delegate.terms(field);
         }
         CacheKey key = new CacheKey(this.state.segmentInfo, fieldInfo);
+        return new SparseTerms(key, getOrCreateReader(), field);
+    }
+
+    // search threads and the background warm up may open the reader concurrently
+    private synchronized SparseTermsLuceneReader getOrCreateReader() {
+        if (closed) {
+            throw new AlreadyClosedException("sparse postings producer of segment " + state.segmentInfo.name + " is closed");
+        }
         if (reader == null) {
             reader = readerSupplier.get();
         }
-        return new SparseTerms(key, reader, field);
+        return reader;
     }
 
     @Override
@@ -4,24 +4,30 @@
  */
 package org.opensearch.neuralsearch.sparse.codec;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.codecs.BlockTermState;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
 import org.opensearch.neuralsearch.sparse.algorithm.seismic.BatchClusteringTask;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+import org.opensearch.neuralsearch.sparse.common.MergedDocMap;
 import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.MergedPosting;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -37,12 +43,20 @@ import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.
  * Merge sparse postings
  */
 @Log4j2
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SparsePostingsReader {
     private final MergeStateFacade mergeStateFacade;
     private final MergeHelper mergeHelper;
-    // this is a magic number for now which is effective
-    private static final int BATCH_SIZE = 50;
+    // max number of terms of a batch, batches of large postings are cut earlier by their size
+    static final int MAX_BATCH_TERMS = 50;
+    // number of batches the merge memory limit is split into, which can be clustered in parallel
+    static final int IN_FLIGHT_BATCHES = 8;
+    private static final long BYTES_PER_DOC_WEIGHT = RamUsageEstimator.shallowSizeOfInstance(DocWeight.class)
+        + RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+    // batches submitted and not written yet, in term order
+    private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+    private long pendingBytes;
+    private int batchCount;
 
     public void merge(SparseTermsLuceneWriter sparseTermsLuceneWriter, ClusteredPostingTermsWriter clusteredPostingTermsWriter)
         throws Exception {
@@ -59,6 +73,8 @@ public class SparsePostingsReader {
             }
         }
 
+        // built on the first field and shared by all fields, as doc IDs do not depend on the field
+        MergedDocMap docMap = null;
         try {
             sparseTermsLuceneWriter.writeFieldCount(sparseFieldInfos.size());
             for (FieldInfo fieldInfo : sparseFieldInfos) {
@@ -75,72 +91,119 @@ public class SparsePostingsReader {
                 }
                 float summaryPruneRatio = Float.parseFloat(fieldInfo.attributes().get(SUMMARY_PRUNE_RATIO_FIELD));
 
-                // get all terms of old segments from CacheClusteredPosting
-                Set<BytesRef> allTerms = mergeHelper.getAllTerms(mergeStateFacade, fieldInfo);
-                sparseTermsLuceneWriter.writeTermsSize(allTerms.size());
+                // postings of segments quantized with another learned ceiling are quantized again with the merged one
+                ByteQuantizationUtil.mergeCeilingValueIngest(fieldInfo, mergeStateFacade);
+
+                // terms are streamed in sorted order as required by the terms index, counted first as the size precedes them
+                long termsSize = mergeHelper.countMergedTerms(mergeStateFacade, fieldInfo);
+                sparseTermsLuceneWriter.writeTermsSize(termsSize);
                 clusteredPostingTermsWriter.setFieldAndMaxDoc(fieldInfo, docCount, true);
+                if (docMap == null) {
+                    docMap = mergeHelper.newMergedDocMap(mergeStateFacade);
+                }
 
-                List<CompletableFuture<List<Pair<BytesRef, PostingClusters>>>> futures = new ArrayList<>(
-                    Math.round((float) allTerms.size() / BATCH_SIZE)
-                );
-                int index = 0;
-                List<BytesRef> termBatch = new ArrayList<>(BATCH_SIZE);
-                for (BytesRef term : allTerms) {
-                    termBatch.add(term);
-                    if (termBatch.size() == BATCH_SIZE || index == allTerms.size() - 1) {
-                        if (clusterRatio == 0) {
-                            futures.add(
-                                CompletableFuture.completedFuture(
-                                    new BatchClusteringTask(
-                                        termBatch,
-                                        key,
-                                        summaryPruneRatio,
-                                        clusterRatio,
-                                        nPostings,
-                                        mergeStateFacade,
-                                        fieldInfo,
-                                        mergeHelper
-                                    ).get()
-                                )
-                            );
-                        } else {
-                            futures.add(
-                                CompletableFuture.supplyAsync(
-                                    new BatchClusteringTask(
-                                        termBatch,
-                                        key,
-                                        summaryPruneRatio,
-                                        clusterRatio,
-                                        nPostings,
-                                        mergeStateFacade,
-                                        fieldInfo,
-                                        mergeHelper
-                                    ),
-                                    ClusterTrainingExecutor.getInstance().getExecutor()
-                                )
-                            );
-                        }
-                        termBatch = new ArrayList<>(BATCH_SIZE);
+                // a merge dominated by one clustered segment extends its clusters instead of clustering all docs again
+                int baseSegment = clusterRatio == 0 ? -1 : mergeHelper.selectBaseSegment(mergeStateFacade, fieldInfo);
+                MergedTermsIterator mergedTerms = mergeHelper.newMergedTermsIterator(mergeStateFacade, fieldInfo, baseSegment);
+                long memoryLimit = ClusterTrainingExecutor.getInstance().getMergeMemoryLimitBytes();
+                // batches are cut by postings size so that the budget keeps several batches clustering in parallel
+                long batchMemoryLimit = Math.max(1, memoryLimit / IN_FLIGHT_BATCHES);
+                List<BytesRef> termBatch = new ArrayList<>(MAX_BATCH_TERMS);
+                List<MergedPosting> postingBatch = new ArrayList<>(MAX_BATCH_TERMS);
+                long batchBytes = 0;
+                for (BytesRef term = mergedTerms.next(); term != null; term = mergedTerms.next()) {
+                    termBatch.add(BytesRef.deepCopyOf(term));
+                    List<DocWeight> docWeights = mergedTerms.postings();
+                    postingBatch.add(new MergedPosting(docWeights, mergedTerms.baseClusters()));
+                    batchBytes += estimateBytes(docWeights.size());
+                    if (termBatch.size() == MAX_BATCH_TERMS || batchBytes >= batchMemoryLimit) {
+                        BatchClusteringTask task = new BatchClusteringTask(
+                            termBatch,
+                            postingBatch,
+                            key,
+                            summaryPruneRatio,
+                            clusterRatio,
+                            nPostings,
+                            mergeStateFacade,
+                            fieldInfo,
+                            docMap
+                        );
+                        submit(task, batchBytes, clusterRatio, memoryLimit, sparseTermsLuceneWriter, clusteredPostingTermsWriter);
+                        termBatch = new ArrayList<>(MAX_BATCH_TERMS);
+                        postingBatch = new ArrayList<>(MAX_BATCH_TERMS);
+                        batchBytes = 0;
                     }
-                    ++index;
                 }
-                for (int j = 0; j < futures.size(); ++j) {
-                    try {
-                        List<Pair<BytesRef, PostingClusters>> clusters = futures.get(j).join();
-                        futures.set(j, null);
-                        for (Pair<BytesRef, PostingClusters> p : clusters) {
-                            BlockTermState state = clusteredPostingTermsWriter.write(p.getLeft(), p.getRight());
-                            sparseTermsLuceneWriter.writeTerm(p.getLeft(), state);
-                        }
-                    } catch (CancellationException | CompletionException ex) {
-                        log.error("Thread of running clustering from {}th term batch during merge has exception", j, ex);
-                    }
+                if (!termBatch.isEmpty()) {
+                    BatchClusteringTask task = new BatchClusteringTask(
+                        termBatch,
+                        postingBatch,
+                        key,
+                        summaryPruneRatio,
+                        clusterRatio,
+                        nPostings,
+                        mergeStateFacade,
+                        fieldInfo,
+                        docMap
+                    );
+                    submit(task, batchBytes, clusterRatio, memoryLimit, sparseTermsLuceneWriter, clusteredPostingTermsWriter);
+                }
+                while (!pendingBatches.isEmpty()) {
+                    writeBatch(pendingBatches.poll(), sparseTermsLuceneWriter, clusteredPostingTermsWriter);
                 }
             }
         } catch (IOException ex) {
+            pendingBatches.clear();
             clusteredPostingTermsWriter.closeWithException();
             sparseTermsLuceneWriter.closeWithException();
             throw ex;
         }
     }
+
+    /**
+     * Submits a batch to the cluster training executor, then writes the batches which are done, in order. When the
+     * batches in flight exceed the memory limit, waits for the oldest ones to be written first.
+     */
+    private void submit(
+        BatchClusteringTask task,
+        long batchBytes,
+        float clusterRatio,
+        long memoryLimit,
+        SparseTermsLuceneWriter sparseTermsLuceneWriter,
+        ClusteredPostingTermsWriter clusteredPostingTermsWriter
+    ) throws IOException {
+        CompletableFuture<List<Pair<BytesRef, PostingClusters>>> future = clusterRatio == 0
+            ? CompletableFuture.completedFuture(task.get())
+            : CompletableFuture.supplyAsync(task, ClusterTrainingExecutor.getInstance().getExecutor());
+        pendingBatches.add(new PendingBatch(future, batchBytes, batchCount++));
+        pendingBytes += batchBytes;
+        while (!pendingBatches.isEmpty() && (pendingBytes > memoryLimit || pendingBatches.peek().future.isDone())) {
+            writeBatch(pendingBatches.poll(), sparseTermsLuceneWriter, clusteredPostingTermsWriter);
+        }
+    }
+
+    private void writeBatch(
+        PendingBatch batch,
+        SparseTermsLuceneWriter sparseTermsLuceneWriter,
+        ClusteredPostingTermsWriter clusteredPostingTermsWriter
+    ) throws IOException {
+        pendingBytes -= batch.bytes;
+        try {
+            List<Pair<BytesRef, PostingClusters>> clusters = batch.future.join();
+            for (Pair<BytesRef, PostingClusters> p : clusters) {
+                BlockTermState state = clusteredPostingTermsWriter.write(p.getLeft(), p.getRight());
+                sparseTermsLuceneWriter.writeTerm(p.getLeft(), state);
+            }
+        } catch (CancellationException | CompletionException ex) {
+            log.error("Thread of running clustering from {}th term batch during merge has exception", batch.index, ex);
+        }
+    }
+
+    // estimated heap held by a doc of a posting being clustered: the doc weight and its reference, then its cluster entry
+    static long estimateBytes(int docCount) {
+        return docCount * (BYTES_PER_DOC_WEIGHT + Integer.BYTES + Byte.BYTES);
+    }
+
+    private record PendingBatch(CompletableFuture<List<Pair<BytesRef, PostingClusters>>> future, long bytes, int index) {
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
+import org.opensearch.neuralsearch.sparse.cache.CacheGatedForwardIndexReader;
+import org.opensearch.neuralsearch.sparse.cache.CacheGatedPostingsReader;
+import org.opensearch.neuralsearch.sparse.cache.CacheKey;
+import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCache;
+import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCacheItem;
+import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
+import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCacheItem;
+import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
+import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Warms up the caches of a segment in the background once its readers are opened, which happens when a refresh or
+ * a merge opens a new segment. The searcher over the segment is published without waiting for the warm up, so queries
+ * arriving while it runs decode what is not loaded yet on the search thread, and later queries find its clustered
+ * postings and forward index loaded.
+ * <p>
+ * The warm up runs on the SEISMIC thread pool, stops when the cache budget is reached, and stops once the segment is
+ * closed. It never removes what it loaded: the cache keys are shared with every reader of the segment, so removal is
+ * left to the segment lifecycle.
+ * <p>
+ * Only the readers opened for search warm up. Readers the codec opens internally while writing a segment, e.g. the doc
+ * values read back on flush to cluster the postings, use {@link SparseDocValuesFormat#withoutAutoWarmUp()}.
+ */
+@Log4j2
+final class SparseSegmentWarmer {
+
+    private SparseSegmentWarmer() {}
+
+    /**
+     * Warms up the clustered postings of the sparse fields of a segment in the background.
+     *
+     * @param producer postings producer of the segment
+     */
+    static void warmUpPostings(SparsePostingsProducer producer) {
+        schedule(producer.getState(), producer::isClosed, fieldInfo -> {
+            CacheKey key = new CacheKey(producer.getState().segmentInfo, fieldInfo);
+            // opens the terms reader of the segment
+            producer.terms(fieldInfo.name);
+            ClusteredPostingCacheItem cacheItem = ClusteredPostingCache.getInstance().getOrCreate(key);
+            CacheGatedPostingsReader postingsReader = new CacheGatedPostingsReader(
+                fieldInfo.name,
+                cacheItem.getReader(),
+                cacheItem.getWriter(SparseSegmentWarmer::stopOnCircuitBreaker),
+                producer.getReader()
+            );
+            for (BytesRef term : postingsReader.getTerms()) {
+                if (producer.isClosed()) {
+                    return;
+                }
+                postingsReader.read(term);
+            }
+        });
+    }
+
+    /**
+     * Warms up the forward index of the sparse fields of a segment in the background. A memory-mapped forward index is
+     * read through, which loads its pages into the OS page cache.
+     *
+     * @param producer doc values producer of the segment
+     */
+    static void warmUpForwardIndex(SparseDocValuesProducer producer) {
+        schedule(producer.getState(), producer::isClosed, fieldInfo -> {
+            CacheKey key = new CacheKey(producer.getState().segmentInfo, fieldInfo);
+            BinaryDocValues binaryDocValues = producer.getBinary(fieldInfo);
+            if (!(binaryDocValues instanceof SparseBinaryDocValuesPassThrough sparseBinaryDocValues)) {
+                return;
+            }
+            SparseVectorReader forwardIndexReader = sparseBinaryDocValues;
+            if (!sparseBinaryDocValues.hasMappedForwardIndex()) {
+                ForwardIndexCacheItem cacheItem = ForwardIndexCache.getInstance()
+                    .getOrCreate(key, producer.getState().segmentInfo.maxDoc());
+                forwardIndexReader = new CacheGatedForwardIndexReader(
+                    cacheItem.getReader(),
+                    cacheItem.getWriter(SparseSegmentWarmer::stopOnCircuitBreaker),
+                    sparseBinaryDocValues
+                );
+            }
+            int docId = binaryDocValues.nextDoc();
+            while (docId != DocIdSetIterator.NO_MORE_DOCS) {
+                if (producer.isClosed()) {
+                    return;
+                }
+                forwardIndexReader.read(docId);
+                docId = binaryDocValues.nextDoc();
+            }
+        });
+    }
+
+    /**
+     * Runs the warm up of each sparse field of the segment which SEISMIC applies to, one after the other.
+     */
+    private static void schedule(SegmentReadState state, BooleanSupplier isClosed, CheckedConsumer<FieldInfo, IOException> warmUpField) {
+        if (!ClusterTrainingExecutor.getInstance().isInitialized()) {
+            return;
+        }
+        Runnable task = () -> {
+            for (FieldInfo fieldInfo : state.fieldInfos) {
+                if (isClosed.getAsBoolean()) {
+                    return;
+                }
+                if (!SparseVectorField.isSparseField(fieldInfo)
+                    || !PredicateUtils.shouldRunSeisPredicate.test(state.segmentInfo, fieldInfo)) {
+                    continue;
+                }
+                try {
+                    warmUpField.accept(fieldInfo);
+                } catch (CircuitBreakingException e) {
+                    log.debug("[Neural Sparse] Stopped warming up segment {} as the cache is full", state.segmentInfo.name);
+                    return;
+                } catch (Exception e) {
+                    // the segment may have been closed, e.g. merged away, while it was read
+                    log.debug("[Neural Sparse] Failed to warm up field {} of segment {}", fieldInfo.name, state.segmentInfo.name, e);
+                }
+            }
+        };
+        try {
+            ClusterTrainingExecutor.getInstance().run(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("[Neural Sparse] Skipped warming up segment {} as the pool rejects tasks", state.segmentInfo.name, e);
+        }
+    }
+
+    private static void stopOnCircuitBreaker(long ramBytesUsed) {
+        throw new CircuitBreakingException("Circuit Breaker reaches limit", CircuitBreaker.Durability.PERMANENT);
+    }
+}
@@ -4,13 +4,17 @@
  */
 package org.opensearch.neuralsearch.sparse.codec;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NonNull;
 import org.apache.lucene.index.BaseTermsEnum;
 import org.apache.lucene.index.ImpactsEnum;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.neuralsearch.sparse.accessor.ClusteredPostingReader;
+import org.opensearch.neuralsearch.sparse.accessor.ClusteredPostingWriter;
 import org.opensearch.neuralsearch.sparse.cache.CacheGatedPostingsReader;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCache;
@@ -27,27 +31,47 @@ import java.util.Set;
 @Getter
 public class SparseTerms extends Terms {
     private final CacheKey cacheKey;
-    private final CacheGatedPostingsReader reader;
+    @Getter(AccessLevel.NONE)
+    private final SparseTermsLuceneReader sparseTermsLuceneReader;
+    @Getter(AccessLevel.NONE)
+    private final String field;
 
-    public SparseTerms(CacheKey cacheKey, SparseTermsLuceneReader sparseTermsLuceneReader, String field) {
+    public SparseTerms(CacheKey cacheKey, @NonNull SparseTermsLuceneReader sparseTermsLuceneReader, @NonNull String field) {
         this.cacheKey = cacheKey;
-        ClusteredPostingCacheItem clusteredPostingCacheItem = ClusteredPostingCache.getInstance().getOrCreate(cacheKey);
-        this.reader = new CacheGatedPostingsReader(
-            field,
-            clusteredPostingCacheItem.getReader(),
-            clusteredPostingCacheItem.getWriter(),
-            sparseTermsLuceneReader
-        );
+        this.sparseTermsLuceneReader = sparseTermsLuceneReader;
+        this.field = field;
     }
 
     @Override
     public TermsEnum iterator() throws IOException {
-        return new SparseTermsEnum();
+        ClusteredPostingCacheItem clusteredPostingCacheItem = ClusteredPostingCache.getInstance().getOrCreate(cacheKey);
+        return new SparseTermsEnum(
+            new CacheGatedPostingsReader(
+                field,
+                clusteredPostingCacheItem.getReader(),
+                clusteredPostingCacheItem.getWriter(),
+                sparseTermsLuceneReader
+            )
+        );
+    }
+
+    /**
+     * Returns a terms enum whose postings are read through the cache without populating it, for queries which
+     * bypass the cache. The cache of the segment is only looked up, so such queries never allocate it.
+     */
+    public TermsEnum uncachedIterator() throws IOException {
+        ClusteredPostingCacheItem clusteredPostingCacheItem = ClusteredPostingCache.getInstance().get(cacheKey);
+        ClusteredPostingReader cacheReader = clusteredPostingCacheItem == null
+            ? ClusteredPostingReader.NOOP_READER
+            : clusteredPostingCacheItem.getReader();
+        return new SparseTermsEnum(
+            new CacheGatedPostingsReader(field, cacheReader, ClusteredPostingWriter.NOOP_WRITER, sparseTermsLuceneReader)
+        );
     }
 
     @Override
     public long size() throws IOException {
-        return this.reader.size();
+        return sparseTermsLuceneReader.getTerms(field).size();
     }
 
     @Override
@@ -89,8 +113,10 @@ public class SparseTerms extends Terms {
         private BytesRef currentTerm;
         // iterator now only used for next()
         private Iterator<BytesRef> termIterator;
+        private final CacheGatedPostingsReader reader;
 
-        SparseTermsEnum() throws IOException {
+        SparseTermsEnum(CacheGatedPostingsReader reader) throws IOException {
+            this.reader = reader;
             Set<BytesRef> terms = reader.getTerms();
             if (terms != null) {
                 termIterator = terms.iterator();
@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Terms dictionary of a sparse field, mapping each term to the file pointer of its clustered posting.
+ */
+abstract class SparseTermsDictionary {
+
+    /**
+     * Looks up the posting file pointer of a term.
+     *
+     * @param term the term to look up
+     * @return the posting file pointer, or -1 if the term does not exist
+     * @throws IOException if an I/O error occurs
+     */
+    abstract long lookup(BytesRef term) throws IOException;
+
+    /**
+     * Returns all terms of the field, iterated in sorted order.
+     *
+     * @return set of terms
+     */
+    abstract Set<BytesRef> terms();
+
+    /**
+     * Dictionary of segments written before {@link SparsePostingsConsumer#VERSION_BLOCK_TERMS_INDEX}, whose terms are
+     * not sorted and have to be loaded on heap. Terms are sorted once on load so they are iterated in order like the
+     * terms of newer segments.
+     */
+    static class InMemory extends SparseTermsDictionary {
+        private final Map<BytesRef, Long> terms;
+        private final BytesRef[] sortedTerms;
+
+        InMemory(Map<BytesRef, Long> terms) {
+            this.terms = terms;
+            this.sortedTerms = terms.keySet().toArray(new BytesRef[0]);
+            Arrays.sort(this.sortedTerms);
+        }
+
+        @Override
+        long lookup(BytesRef term) {
+            Long offset = terms.get(term);
+            return offset == null ? -1 : offset;
+        }
+
+        @Override
+        Set<BytesRef> terms() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<BytesRef> iterator() {
+                    return Arrays.asList(sortedTerms).iterator();
+                }
+
+                @Override
+                public int size() {
+                    return sortedTerms.length;
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return terms.containsKey(o);
+                }
+            };
+        }
+    }
+
+    /**
+     * Dictionary searched on demand in the terms file. Terms are sorted and only the first term and file pointer of
+     * every block of {@link SparseTermsLuceneWriter#TERMS_INDEX_BLOCK_SIZE} terms is kept on heap.
+     */
+    static class BlockIndexed extends SparseTermsDictionary {
+        private final IndexInput termsIn;
+        private final int termCount;
+        private final BytesRef[] blockFirstTerms;
+        private final long[] blockPointers;
+
+        BlockIndexed(IndexInput termsIn, int termCount, BytesRef[] blockFirstTerms, long[] blockPointers) {
+            this.termsIn = termsIn;
+            this.termCount = termCount;
+            this.blockFirstTerms = blockFirstTerms;
+            this.blockPointers = blockPointers;
+        }
+
+        @Override
+        long lookup(BytesRef term) throws IOException {
+            int block = Arrays.binarySearch(blockFirstTerms, term);
+            if (block < 0) {
+                // the term can only be in the block before the insertion point
+                block = -block - 2;
+                if (block < 0) {
+                    return -1;
+                }
+            }
+            IndexInput input = termsIn.clone();
+            input.seek(blockPointers[block]);
+            int count = Math.min(
+                SparseTermsLuceneWriter.TERMS_INDEX_BLOCK_SIZE,
+                termCount - block * SparseTermsLuceneWriter.TERMS_INDEX_BLOCK_SIZE
+            );
+            BytesRefBuilder scratch = new BytesRefBuilder();
+            for (int i = 0; i < count; ++i) {
+                readTerm(input, scratch);
+                long offset = input.readVLong();
+                int cmp = scratch.get().compareTo(term);
+                if (cmp == 0) {
+                    return offset;
+                }
+                if (cmp > 0) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Set<BytesRef> terms() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<BytesRef> iterator() {
+                    return new TermIterator();
+                }
+
+                @Override
+                public int size() {
+                    return termCount;
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    if (!(o instanceof BytesRef term)) {
+                        return false;
+                    }
+                    try {
+                        return lookup(term) >= 0;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        }
+
+        private static void readTerm(IndexInput input, BytesRefBuilder scratch) throws IOException {
+            int length = input.readVInt();
+            scratch.grow(length);
+            input.readBytes(scratch.bytes(), 0, length);
+            scratch.setLength(length);
+        }
+
+        /**
+         * Streams the terms from the terms file, terms of a field are contiguous so blocks are read one after another.
+         */
+        private class TermIterator implements Iterator<BytesRef> {
+            private IndexInput input;
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < termCount;
+            }
+
+            @Override
+            public BytesRef next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    if (input == null) {
+                        input = termsIn.clone();
+                        input.seek(blockPointers[0]);
+                    }
+                    int length = input.readVInt();
+                    BytesRef term = new BytesRef(length);
+                    input.readBytes(term.bytes, 0, length);
+                    term.length = length;
+                    // skip the posting file pointer
+                    input.readVLong();
+                    ++next;
+                    return term;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
@@ -12,7 +12,6 @@ import org.apache.lucene.index.Terms;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.util.io.IOUtils;
-import org.opensearch.neuralsearch.sparse.data.DocWeight;
 import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
 import org.opensearch.neuralsearch.sparse.data.SparseVector;
@@ -31,9 +30,10 @@ import java.util.Set;
  */
 @Log4j2
 public class SparseTermsLuceneReader extends FieldsProducer {
-    private final Map<String, Map<BytesRef, Long>> fieldToTerms = new HashMap<>();
+    private final Map<String, SparseTermsDictionary> fieldToTerms = new HashMap<>();
     private IndexInput termsIn;
     private IndexInput postingIn;
+    private int postingVersion;
     private final CodecUtilWrapper codecUtilWrapper;
 
     public SparseTermsLuceneReader(SegmentReadState state, CodecUtilWrapper codecUtilWrapper) {
@@ -51,7 +51,7 @@ public class SparseTermsLuceneReader extends FieldsProducer {
         boolean success = false;
         try {
             termsIn = state.directory.openInput(termsFileName, state.context);
-            this.codecUtilWrapper.checkIndexHeader(
+            int version = this.codecUtilWrapper.checkIndexHeader(
                 termsIn,
                 SparsePostingsConsumer.CODEC_NAME,
                 SparsePostingsConsumer.VERSION_START,
@@ -60,10 +60,9 @@ public class SparseTermsLuceneReader extends FieldsProducer {
                 state.segmentSuffix
             );
             this.codecUtilWrapper.retrieveChecksum(termsIn);
-            seekDir(termsIn);
 
             postingIn = state.directory.openInput(postingFileName, state.context);
-            this.codecUtilWrapper.checkIndexHeader(
+            postingVersion = this.codecUtilWrapper.checkIndexHeader(
                 postingIn,
                 SparsePostingsConsumer.CODEC_NAME,
                 SparsePostingsConsumer.VERSION_START,
@@ -73,24 +72,10 @@ public class SparseTermsLuceneReader extends FieldsProducer {
             );
             this.codecUtilWrapper.retrieveChecksum(postingIn);
 
-            int numberOfFields = termsIn.readVInt();
-            for (int i = 0; i < numberOfFields; i++) {
-                int fieldId = termsIn.readVInt();
-                int numberOfTerms = (int) termsIn.readVLong();
-                Map<BytesRef, Long> terms = new HashMap<>(numberOfTerms);
-                for (int j = 0; j < numberOfTerms; j++) {
-                    int byteLength = termsIn.readVInt();
-                    BytesRef term = new BytesRef(byteLength);
-                    term.length = byteLength;
-                    try {
-                        termsIn.readBytes(term.bytes, term.offset, byteLength);
-                    } catch (Exception e) {
-                        throw e;
-                    }
-                    long fileOffset = termsIn.readVLong();
-                    terms.put(term, fileOffset);
-                }
-                fieldToTerms.put(state.fieldInfos.fieldInfo(fieldId).getName(), terms);
+            if (version >= SparsePostingsConsumer.VERSION_BLOCK_TERMS_INDEX) {
+                readTermsIndex(state);
+            } else {
+                readAllTerms(state);
             }
             success = true;
         } catch (Exception e) {
@@ -108,6 +93,51 @@ public class SparseTermsLuceneReader extends FieldsProducer {
         input.seek(dirOffset);
     }
 
+    private void readAllTerms(SegmentReadState state) throws IOException {
+        seekDir(termsIn);
+        int numberOfFields = termsIn.readVInt();
+        for (int i = 0; i < numberOfFields; i++) {
+            int fieldId = termsIn.readVInt();
+            int numberOfTerms = (int) termsIn.readVLong();
+            Map<BytesRef, Long> terms = new HashMap<>(numberOfTerms);
+            for (int j = 0; j < numberOfTerms; j++) {
+                int byteLength = termsIn.readVInt();
+                BytesRef term = new BytesRef(byteLength);
+                term.length = byteLength;
+                termsIn.readBytes(term.bytes, term.offset, byteLength);
+                long fileOffset = termsIn.readVLong();
+                terms.put(term, fileOffset);
+            }
+            fieldToTerms.put(state.fieldInfos.fieldInfo(fieldId).getName(), new SparseTermsDictionary.InMemory(terms));
+        }
+    }
+
+    private void readTermsIndex(SegmentReadState state) throws IOException {
+        // the terms index pointer precedes the start pointer in the trailer
+        termsIn.seek(termsIn.length() - this.codecUtilWrapper.footerLength() - 2L * Long.BYTES);
+        termsIn.seek(termsIn.readLong());
+        int numberOfFields = termsIn.readVInt();
+        for (int i = 0; i < numberOfFields; i++) {
+            int fieldId = termsIn.readVInt();
+            int numberOfTerms = termsIn.readVInt();
+            int numberOfBlocks = termsIn.readVInt();
+            BytesRef[] blockFirstTerms = new BytesRef[numberOfBlocks];
+            long[] blockPointers = new long[numberOfBlocks];
+            for (int j = 0; j < numberOfBlocks; j++) {
+                int byteLength = termsIn.readVInt();
+                BytesRef term = new BytesRef(byteLength);
+                term.length = byteLength;
+                termsIn.readBytes(term.bytes, term.offset, byteLength);
+                blockFirstTerms[j] = term;
+                blockPointers[j] = termsIn.readVLong();
+            }
+            fieldToTerms.put(
+                state.fieldInfos.fieldInfo(fieldId).getName(),
+                new SparseTermsDictionary.BlockIndexed(termsIn, numberOfTerms, blockFirstTerms, blockPointers)
+            );
+        }
+    }
+
     @Override
     public Iterator<String> iterator() {
         return fieldToTerms.keySet().iterator();
@@ -118,23 +148,30 @@ public class SparseTermsLuceneReader extends FieldsProducer {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Returns the terms of a field. For segments with a terms index, the returned set streams terms from the terms
+     * file when iterated instead of holding them on heap.
+     *
+     * @param field field name
+     * @return set of terms, empty if the field has no terms
+     */
     public Set<BytesRef> getTerms(String field) {
-        Map<BytesRef, Long> termsMapping = fieldToTerms.get(field);
-        if (termsMapping == null) {
+        SparseTermsDictionary termsDictionary = fieldToTerms.get(field);
+        if (termsDictionary == null) {
             return Set.of();
         }
-        return termsMapping.keySet();
+        return termsDictionary.terms();
     }
 
     public PostingClusters read(String field, BytesRef term) throws IOException {
-        Map<BytesRef, Long> termsMapping = fieldToTerms.get(field);
-        if (termsMapping == null) {
+        SparseTermsDictionary termsDictionary = fieldToTerms.get(field);
+        if (termsDictionary == null) {
             return null;
         }
-        if (!termsMapping.containsKey(term)) {
+        long offset = termsDictionary.lookup(term);
+        if (offset < 0) {
             return null;
         }
-        long offset = termsMapping.get(term);
         List<DocumentCluster> clusters = readClusters(offset);
         if (clusters.isEmpty()) {
             return null;
@@ -158,27 +195,78 @@ public class SparseTermsLuceneReader extends FieldsProducer {
         this.codecUtilWrapper.checksumEntireFile(postingIn);
     }
 
-    private synchronized List<DocumentCluster> readClusters(long offset) throws IOException {
-        postingIn.seek(offset);
-        long clusterSize = postingIn.readVLong();
-        List<DocumentCluster> clusters = new ArrayList<>((int) clusterSize);
+    private List<DocumentCluster> readClusters(long offset) throws IOException {
+        // each read works on its own clone, so concurrent reads do not share the file pointer
+        IndexInput input = postingIn.clone();
+        input.seek(offset);
+        int clusterSize = (int) input.readVLong();
+        List<DocumentCluster> clusters = new ArrayList<>(clusterSize);
         for (int j = 0; j < clusterSize; j++) {
-            long docSize = postingIn.readVLong();
-            List<DocWeight> docs = new ArrayList<>((int) docSize);
-            for (int k = 0; k < docSize; ++k) {
-                docs.add(new DocWeight(postingIn.readVInt(), postingIn.readByte()));
+            if (postingVersion >= SparsePostingsConsumer.VERSION_BLOCK_POSTINGS) {
+                clusters.add(readBlockCluster(input, postingIn));
+            } else {
+                clusters.add(readCluster(input));
             }
-            boolean shouldNotSkip = postingIn.readByte() == 1;
-            // summary
-            long summaryVectorSize = postingIn.readVLong();
-            List<SparseVector.Item> items = new ArrayList<>((int) summaryVectorSize);
+        }
+        return clusters;
+    }
+
+    private static DocumentCluster readCluster(IndexInput input) throws IOException {
+        int docSize = (int) input.readVLong();
+        int[] docIds = new int[docSize];
+        byte[] weights = new byte[docSize];
+        for (int k = 0; k < docSize; ++k) {
+            docIds[k] = input.readVInt();
+            weights[k] = input.readByte();
+        }
+        boolean shouldNotSkip = input.readByte() == 1;
+        // summary
+        int summaryVectorSize = (int) input.readVLong();
+        SparseVector summary = null;
+        if (summaryVectorSize > 0) {
+            int[] tokens = new int[summaryVectorSize];
+            byte[] tokenWeights = new byte[summaryVectorSize];
             for (int k = 0; k < summaryVectorSize; ++k) {
-                items.add(new SparseVector.Item(postingIn.readVInt(), postingIn.readByte()));
+                tokens[k] = input.readVInt();
+                tokenWeights[k] = input.readByte();
             }
-            SparseVector summary = items.isEmpty() ? null : new SparseVector(items);
-            DocumentCluster cluster = new DocumentCluster(summary, docs, shouldNotSkip);
-            clusters.add(cluster);
+            summary = new SparseVector(tokens, tokenWeights);
         }
-        return clusters;
+        return new DocumentCluster(summary, docIds, weights, shouldNotSkip);
+    }
+
+    /**
+     * Reads the summary of a cluster and skips its doc block, which the cluster decodes from its own clone of the
+     * posting input on first access. Clusters pruned by their summary are never decoded.
+     */
+    private static DocumentCluster readBlockCluster(IndexInput input, IndexInput postingIn) throws IOException {
+        int docSize = (int) input.readVLong();
+        boolean shouldNotSkip = input.readByte() == 1;
+        // summary
+        int summaryVectorSize = (int) input.readVLong();
+        SparseVector summary = null;
+        if (summaryVectorSize > 0) {
+            int[] tokens = new int[summaryVectorSize];
+            byte[] tokenWeights = new byte[summaryVectorSize];
+            DeltaBlockCodec.read(input, tokens, summaryVectorSize);
+            input.readBytes(tokenWeights, 0, summaryVectorSize);
+            for (int k = 0; k < summaryVectorSize; ++k) {
+                // tokens are written in unsigned order, restore the short value
+                tokens[k] = (short) tokens[k];
+            }
+            summary = new SparseVector(tokens, tokenWeights);
+        }
+        if (docSize == 0) {
+            return new DocumentCluster(summary, new int[0], new byte[0], shouldNotSkip);
+        }
+        long docsLength = input.readVLong();
+        long docsPointer = input.getFilePointer();
+        input.seek(docsPointer + docsLength);
+        return new DocumentCluster(summary, docSize, shouldNotSkip, (docIds, weights) -> {
+            IndexInput docsInput = postingIn.clone();
+            docsInput.seek(docsPointer);
+            DeltaBlockCodec.read(docsInput, docIds, docSize);
+            docsInput.readBytes(weights, 0, docSize);
+        });
     }
 }
@@ -8,21 +8,34 @@ import lombok.RequiredArgsConstructor;
 import org.apache.lucene.codecs.BlockTermState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
 import org.opensearch.common.util.io.IOUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Writer for sparse terms in Lucene index format.
  * Handles writing field metadata, terms, and block term states to index output.
+ * Since {@link SparsePostingsConsumer#VERSION_BLOCK_TERMS_INDEX}, terms of a field must be written in sorted order and
+ * a terms index holding the first term of every block of {@link #TERMS_INDEX_BLOCK_SIZE} terms is written at the end,
+ * so readers can search terms on demand instead of loading all of them.
  */
 @RequiredArgsConstructor
 public class SparseTermsLuceneWriter {
+    // number of terms covered by one entry of the terms index
+    static final int TERMS_INDEX_BLOCK_SIZE = 32;
+
     private IndexOutput termsOut;
     private final String codecName;
     private final int version;
     private final CodecUtilWrapper codecUtilWrapper;
+    private final List<FieldTermsIndex> fieldTermsIndexes = new ArrayList<>();
+    private FieldTermsIndex currentFieldTermsIndex;
 
     /**
      * Initializes the writer with output stream and writes index header.
@@ -43,6 +56,14 @@ public class SparseTermsLuceneWriter {
      * @throws IOException if an I/O error occurs
      */
     public void close(long startFp) throws IOException {
+        if (hasTermsIndex()) {
+            long indexFp = this.termsOut.getFilePointer();
+            this.termsOut.writeVInt(fieldTermsIndexes.size());
+            for (FieldTermsIndex fieldTermsIndex : fieldTermsIndexes) {
+                fieldTermsIndex.write(this.termsOut);
+            }
+            this.termsOut.writeLong(indexFp);
+        }
         this.termsOut.writeLong(startFp);
         codecUtilWrapper.writeFooter(this.termsOut);
     }
@@ -65,6 +86,10 @@ public class SparseTermsLuceneWriter {
      */
     public void writeFieldNumber(int fieldNumber) throws IOException {
         termsOut.writeVInt(fieldNumber);
+        if (hasTermsIndex()) {
+            currentFieldTermsIndex = new FieldTermsIndex(fieldNumber);
+            fieldTermsIndexes.add(currentFieldTermsIndex);
+        }
     }
 
     /**
@@ -80,11 +105,14 @@ public class SparseTermsLuceneWriter {
     /**
      * Writes a term with its block term state.
      *
-     * @param term the term bytes
+     * @param term the term bytes, greater than the previous term of the field when the terms index is written
      * @param state the block term state
      * @throws IOException if an I/O error occurs
      */
     public void writeTerm(BytesRef term, BlockTermState state) throws IOException {
+        if (currentFieldTermsIndex != null) {
+            currentFieldTermsIndex.add(term, this.termsOut.getFilePointer());
+        }
         this.termsOut.writeVInt(term.length);
         this.termsOut.writeBytes(term.bytes, term.offset, term.length);
         this.termsOut.writeVLong(state.blockFilePointer);
@@ -96,4 +124,51 @@ public class SparseTermsLuceneWriter {
     public void closeWithException() {
         IOUtils.closeWhileHandlingException(this.termsOut);
     }
+
+    private boolean hasTermsIndex() {
+        return version >= SparsePostingsConsumer.VERSION_BLOCK_TERMS_INDEX;
+    }
+
+    /**
+     * Terms index of a field: term count, then first term and file pointer of every block.
+     */
+    private static class FieldTermsIndex {
+        private final int fieldNumber;
+        private final BytesRefBuilder lastTerm = new BytesRefBuilder();
+        private final List<BytesRef> blockFirstTerms = new ArrayList<>();
+        private long[] blockPointers = new long[0];
+        private int termCount = 0;
+
+        FieldTermsIndex(int fieldNumber) {
+            this.fieldNumber = fieldNumber;
+        }
+
+        void add(BytesRef term, long filePointer) {
+            if (termCount > 0 && lastTerm.get().compareTo(term) >= 0) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "terms of field [%d] must be written in sorted order", fieldNumber)
+                );
+            }
+            if (termCount % TERMS_INDEX_BLOCK_SIZE == 0) {
+                int block = blockFirstTerms.size();
+                blockFirstTerms.add(BytesRef.deepCopyOf(term));
+                blockPointers = ArrayUtil.grow(blockPointers, block + 1);
+                blockPointers[block] = filePointer;
+            }
+            lastTerm.copyBytes(term);
+            ++termCount;
+        }
+
+        void write(IndexOutput out) throws IOException {
+            out.writeVInt(fieldNumber);
+            out.writeVInt(termCount);
+            out.writeVInt(blockFirstTerms.size());
+            for (int i = 0; i < blockFirstTerms.size(); ++i) {
+                BytesRef term = blockFirstTerms.get(i);
+                out.writeVInt(term.length);
+                out.writeBytes(term.bytes, term.offset, term.length);
+                out.writeVLong(blockPointers[i]);
+            }
+        }
+    }
 }
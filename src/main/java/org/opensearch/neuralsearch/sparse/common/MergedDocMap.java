@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.common;
+
+import lombok.NonNull;
+import org.apache.lucene.index.MergeState;
+
+/**
+ * Maps the doc IDs of a merged segment back to the segments being merged and their doc IDs there. It is built once per
+ * merge and shared, read only, by all clustering tasks of the merge.
+ */
+public class MergedDocMap {
+    private final int[] newIdToSegmentIndex;
+    private final int[] newIdToOldId;
+
+    private MergedDocMap(int[] newIdToSegmentIndex, int[] newIdToOldId) {
+        this.newIdToSegmentIndex = newIdToSegmentIndex;
+        this.newIdToOldId = newIdToOldId;
+    }
+
+    /**
+     * Builds the map from the doc maps of a merge, deleted docs are not mapped.
+     *
+     * @param mergeStateFacade merge state containing the max docs and doc maps of the merged segments
+     * @return the merged doc map
+     */
+    public static MergedDocMap build(@NonNull MergeStateFacade mergeStateFacade) {
+        int[] maxDocs = mergeStateFacade.getMaxDocs();
+        int totalDocs = 0;
+        for (int maxDoc : maxDocs) {
+            totalDocs += maxDoc;
+        }
+        int[] newIdToSegmentIndex = new int[totalDocs];
+        int[] newIdToOldId = new int[totalDocs];
+        MergeState.DocMap[] docMaps = mergeStateFacade.getDocMaps();
+        for (int i = 0; i < maxDocs.length; ++i) {
+            for (int oldId = 0; oldId < maxDocs[i]; ++oldId) {
+                int newId = docMaps[i].get(oldId);
+                if (newId == -1) {
+                    continue;
+                }
+                newIdToSegmentIndex[newId] = i;
+                newIdToOldId[newId] = oldId;
+            }
+        }
+        return new MergedDocMap(newIdToSegmentIndex, newIdToOldId);
+    }
+
+    /**
+     * Returns the number of doc IDs of the merged segment.
+     */
+    public int size() {
+        return newIdToOldId.length;
+    }
+
+    /**
+     * Returns the index of the merged segment holding a doc.
+     *
+     * @param newDocId doc ID in the merged segment
+     * @return index of the segment in the merge state
+     */
+    public int segmentIndex(int newDocId) {
+        return newIdToSegmentIndex[newDocId];
+    }
+
+    /**
+     * Returns the doc ID of a doc in the segment holding it.
+     *
+     * @param newDocId doc ID in the merged segment
+     * @return doc ID in its original segment
+     */
+    public int oldDocId(int newDocId) {
+        return newIdToOldId[newDocId];
+    }
+}
@@ -15,9 +15,22 @@ public final class SparseConstants {
     public static final String SUMMARY_PRUNE_RATIO_FIELD = "summary_prune_ratio";
     public static final String QUANTIZATION_CEILING_INGEST_FIELD = "quantization_ceiling_ingest";
     public static final String QUANTIZATION_CEILING_SEARCH_FIELD = "quantization_ceiling_search";
+    public static final String QUANTIZATION_FIELD = "quantization";
+    public static final String QUANTIZATION_8BIT = "8bit";
+    public static final String QUANTIZATION_8BIT_ADAPTIVE = "8bit_adaptive";
+    public static final String QUANTIZATION_4BIT = "4bit";
+    public static final String QUANTIZATION_4BIT_ADAPTIVE = "4bit_adaptive";
+    // segment attribute holding the ingest ceiling learned from the weights of the segment
+    public static final String QUANTIZATION_SEGMENT_CEILING_FIELD = "quantization_segment_ceiling";
     public static final String SEISMIC = "seismic";
     public static final String CLUSTER_RATIO_FIELD = "cluster_ratio";
     public static final String APPROXIMATE_THRESHOLD_FIELD = "approximate_threshold";
+    public static final String FORWARD_INDEX_STORAGE_FIELD = "forward_index_storage";
+    public static final String FORWARD_INDEX_STORAGE_HEAP = "heap";
+    public static final String FORWARD_INDEX_STORAGE_MMAP = "mmap";
+    public static final String CLUSTERING_ALGORITHM_FIELD = "clustering_algorithm";
+    public static final String CLUSTERING_ALGORITHM_RANDOM = "random";
+    public static final String CLUSTERING_ALGORITHM_KMEANS = "kmeans";
     public static final String THREAD_POOL_NAME = "seismic_thread_pool";
     public static final int MODULUS_FOR_SHORT = 65536;
 
@@ -33,5 +46,9 @@ public final class SparseConstants {
         public static final int DEFAULT_POSTING_MINIMUM_LENGTH = 160;
         public static final float DEFAULT_QUANTIZATION_CEILING_INGEST = 3.0f;
         public static final float DEFAULT_QUANTIZATION_CEILING_SEARCH = 16.0f;
+        public static final String DEFAULT_FORWARD_INDEX_STORAGE = FORWARD_INDEX_STORAGE_HEAP;
+        public static final String DEFAULT_CLUSTERING_ALGORITHM = CLUSTERING_ALGORITHM_RANDOM;
+        public static final String DEFAULT_QUANTIZATION = QUANTIZATION_8BIT;
+        public static final long DEFAULT_MERGE_MEMORY_LIMIT_BYTES = 64L * 1024 * 1024;
     }
 }
@@ -4,16 +4,21 @@
  */
 package org.opensearch.neuralsearch.sparse.data;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.neuralsearch.sparse.common.ArrayIterator;
 import org.opensearch.neuralsearch.sparse.common.CombinedIterator;
 import org.opensearch.neuralsearch.sparse.common.DocWeightIterator;
 import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,6 +30,9 @@ import java.util.List;
  * Represents a cluster of documents with their associated weights and a summary vector.
  * Used in sparse vector search to group similar documents for efficient retrieval.
  * Implements memory accounting for RAM usage tracking.
+ * <p>
+ * Clusters read from the posting file may decode their documents on first access, so that the documents of clusters
+ * skipped by their summary are never decoded.
  */
 @Getter
 @Setter
@@ -32,10 +40,22 @@ import java.util.List;
 public class DocumentCluster implements Accountable {
     /** Summary sparse vector representing the cluster. */
     private SparseVector summary;
-    /** Document IDs in this cluster, sorted in ascending order. */
-    private final int[] docIds;
-    /** Weights corresponding to each document ID. */
-    private final byte[] weights;
+    /** Document IDs in this cluster, sorted in ascending order, null until decoded for lazily decoded clusters. */
+    @Setter(AccessLevel.NONE)
+    private volatile int[] docIds;
+    /** Weights corresponding to each document ID, published with the document IDs. */
+    @Setter(AccessLevel.NONE)
+    private byte[] weights;
+    /** Number of documents, known before they are decoded. */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final int size;
+    /** Decodes the documents of a lazily decoded cluster, null for clusters built with their documents. */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final DocsDecoder docsDecoder;
     /** Flag indicating if documents in this cluster should always be examined. */
     private boolean shouldNotSkip;
 
@@ -52,23 +72,123 @@ public class DocumentCluster implements Accountable {
         List<DocWeight> docsCopy = new ArrayList<>(docs);
         docsCopy.sort(Comparator.comparingInt(DocWeight::getDocID));
         int size = docsCopy.size();
-        this.docIds = new int[size];
-        this.weights = new byte[size];
+        int[] sortedDocIds = new int[size];
+        byte[] sortedWeights = new byte[size];
         for (int i = 0; i < size; i++) {
             DocWeight docWeight = docsCopy.get(i);
-            this.docIds[i] = docWeight.getDocID();
-            this.weights[i] = docWeight.getWeight();
+            sortedDocIds[i] = docWeight.getDocID();
+            sortedWeights[i] = docWeight.getWeight();
         }
+        this.weights = sortedWeights;
+        this.docIds = sortedDocIds;
+        this.size = size;
+        this.docsDecoder = null;
         this.shouldNotSkip = shouldNotSkip;
     }
 
     /**
-     * Returns the number of documents in this cluster.
+     * Creates a document cluster from documents already sorted by ID, e.g. when decoded from the posting file.
+     * The arrays are kept as is, without copy.
+     *
+     * @param summary the sparse vector summarizing this cluster
+     * @param docIds document IDs sorted in ascending order
+     * @param weights weights corresponding to each document ID
+     * @param shouldNotSkip whether this cluster should always be examined
+     */
+    public DocumentCluster(SparseVector summary, int[] docIds, byte[] weights, boolean shouldNotSkip) {
+        if (docIds.length != weights.length) {
+            throw new IllegalArgumentException("docIds and weights must have the same length");
+        }
+        this.summary = summary;
+        this.weights = weights;
+        this.docIds = docIds;
+        this.size = docIds.length;
+        this.docsDecoder = null;
+        this.shouldNotSkip = shouldNotSkip;
+    }
+
+    /**
+     * Creates a document cluster whose documents are decoded on first access, e.g. when read from the posting file.
+     *
+     * @param summary the sparse vector summarizing this cluster
+     * @param size the number of documents
+     * @param shouldNotSkip whether this cluster should always be examined
+     * @param docsDecoder decodes the documents sorted by ID, at most once
+     */
+    public DocumentCluster(SparseVector summary, int size, boolean shouldNotSkip, @NonNull DocsDecoder docsDecoder) {
+        this.summary = summary;
+        this.size = size;
+        this.docsDecoder = docsDecoder;
+        this.shouldNotSkip = shouldNotSkip;
+    }
+
+    /**
+     * Returns the document IDs of this cluster, decoding them on first access.
+     *
+     * @return document IDs sorted in ascending order
+     */
+    public int[] getDocIds() {
+        int[] ids = docIds;
+        return ids != null ? ids : decodeDocs();
+    }
+
+    /**
+     * Returns the weights of the documents of this cluster, decoding them on first access.
+     *
+     * @return weights corresponding to each document ID
+     */
+    public byte[] getWeights() {
+        // reading the volatile doc ids first makes the weights published with them visible
+        getDocIds();
+        return weights;
+    }
+
+    /**
+     * Returns the number of documents in this cluster, without decoding them.
      *
      * @return the cluster size, or 0 if no documents
      */
     public int size() {
-        return docIds == null ? 0 : docIds.length;
+        return size;
+    }
+
+    /**
+     * Checks whether the documents of this cluster were decoded, which clusters built with their documents always are.
+     *
+     * @return true if the documents are decoded
+     */
+    public boolean isDecoded() {
+        return docIds != null;
+    }
+
+    private synchronized int[] decodeDocs() {
+        if (docIds == null) {
+            int[] decodedDocIds = new int[size];
+            byte[] decodedWeights = new byte[size];
+            try {
+                docsDecoder.decode(decodedDocIds, decodedWeights);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            weights = decodedWeights;
+            docIds = decodedDocIds;
+        }
+        return docIds;
+    }
+
+    /**
+     * Checks whether any document of this cluster is set in the given bits.
+     *
+     * @param bits the documents to look for, like the docs matching a filter
+     * @return true if at least one document of this cluster is set
+     */
+    public boolean containsAny(Bits bits) {
+        for (int docId : getDocIds()) {
+            if (bits.get(docId)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -78,8 +198,8 @@ public class DocumentCluster implements Accountable {
      */
     public Iterator<DocWeight> iterator() {
         return new CombinedIterator<>(
-            new ArrayIterator.IntArrayIterator(docIds),
-            new ArrayIterator.ByteArrayIterator(weights),
+            new ArrayIterator.IntArrayIterator(getDocIds()),
+            new ArrayIterator.ByteArrayIterator(getWeights()),
             DocWeight::new
         );
     }
@@ -127,7 +247,8 @@ public class DocumentCluster implements Accountable {
     }
 
     /**
-     * Calculates the total RAM usage of this document cluster.
+     * Calculates the total RAM usage of this document cluster, counting its documents as decoded so that the usage
+     * does not change when a lazily decoded cluster is accessed.
      *
      * @return the total bytes used in RAM
      */
@@ -135,10 +256,8 @@ public class DocumentCluster implements Accountable {
     public long ramBytesUsed() {
         long sizeInBytes = 0;
         sizeInBytes += RamUsageEstimator.shallowSizeOfInstance(DocumentCluster.class);
-        if (docIds != null) {
-            sizeInBytes += RamUsageEstimator.sizeOf(docIds);
-            sizeInBytes += RamUsageEstimator.sizeOf(weights);
-        }
+        sizeInBytes += RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) Integer.BYTES * size);
+        sizeInBytes += RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) size);
         if (summary != null) {
             sizeInBytes += summary.ramBytesUsed();
         }
@@ -158,4 +277,19 @@ public class DocumentCluster implements Accountable {
         }
         return Collections.unmodifiableList(children);
     }
+
+    /**
+     * Decodes the documents of a lazily decoded cluster.
+     */
+    @FunctionalInterface
+    public interface DocsDecoder {
+        /**
+         * Decodes the documents sorted by ID into arrays holding exactly the documents of the cluster.
+         *
+         * @param docIds array receiving the document IDs
+         * @param weights array receiving the weights
+         * @throws IOException if the documents cannot be read
+         */
+        void decode(int[] docIds, byte[] weights) throws IOException;
+    }
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Posting of a term across the segments being merged, with the clusters of the term in the base segment of an
+ * incremental merge.
+ */
+@AllArgsConstructor
+@Getter
+public final class MergedPosting {
+    /** Documents of the term in all merged segments, with doc IDs of the merged segment. */
+    private final List<DocWeight> docWeights;
+    /** Clusters of the term in the base segment remapped to doc IDs of the merged segment, null if there are none. */
+    private final List<DocumentCluster> baseClusters;
+}
@@ -7,6 +7,8 @@ package org.opensearch.neuralsearch.sparse.data;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
@@ -15,12 +17,14 @@ import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -33,12 +37,84 @@ import static org.opensearch.neuralsearch.sparse.common.SparseConstants.MODULUS_
  */
 @EqualsAndHashCode
 public class SparseVector implements Accountable {
+    // bytes taken by one (token, weight) entry in the packed layout
+    public static final int PACKED_BYTES_PER_ENTRY = Short.BYTES + Byte.BYTES;
+    // bytes taken by one (int token, float weight) entry in the doc values encoding
+    public static final int ENCODED_BYTES_PER_ENTRY = Integer.BYTES + Float.BYTES;
+    // big endian views of the doc values encoding, which is written by DataOutputStream
+    private static final VarHandle BE_INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle BE_FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
     // tokens will be stored in order
     private final short[] tokens;
+    // one weight per byte, or two 4-bit weights per byte with the weight of the even entry in the lower half
     private final byte[] weights;
+    @Getter
+    private final boolean halfByte;
 
+    /**
+     * Decodes a vector from the doc values encoding. Weights of a 4-bit quantizer are packed two per byte.
+     *
+     * @param bytesRef doc values bytes
+     * @param byteQuantizer quantizer of the weights
+     */
     public SparseVector(BytesRef bytesRef, ByteQuantizer byteQuantizer) throws IOException {
-        this(readToMap(bytesRef), byteQuantizer);
+        this(decodeSorted(bytesRef, byteQuantizer, new int[entryCount(bytesRef)]), entryCount(bytesRef), byteQuantizer.isHalfByte());
+    }
+
+    /**
+     * Creates a vector from parallel token and weight arrays, same as {@link #SparseVector(List)} but without boxing
+     * every entry into an {@link Item}.
+     *
+     * @param tokens tokens in any order, they are prepared for short type
+     * @param weights quantized weights of the tokens
+     */
+    public SparseVector(int[] tokens, byte[] weights) {
+        this(packSorted(tokens, weights), tokens.length, false);
+    }
+
+    /**
+     * Builds the vector from entries sorted by {@link #decodeSorted}, keeping the max weight of duplicated tokens.
+     */
+    private SparseVector(int[] sortedEntries, int count, boolean halfByte) {
+        int size = 0;
+        for (int i = 0; i < count; ++i) {
+            if (i + 1 == count || entryToken(sortedEntries[i]) != entryToken(sortedEntries[i + 1])) {
+                ++size;
+            }
+        }
+        this.tokens = new short[size];
+        this.weights = new byte[weightsLength(size, halfByte)];
+        this.halfByte = halfByte;
+        int index = 0;
+        for (int i = 0; i < count; ++i) {
+            // entries are sorted by weight within the same token, so the last one holds the max weight
+            if (i + 1 == count || entryToken(sortedEntries[i]) != entryToken(sortedEntries[i + 1])) {
+                this.tokens[index] = (short) entryToken(sortedEntries[i]);
+                if (halfByte) {
+                    this.weights[index >> 1] |= (byte) ((sortedEntries[i] & 0x0F) << ((index & 1) << 2));
+                } else {
+                    this.weights[index] = (byte) sortedEntries[i];
+                }
+                ++index;
+            }
+        }
+    }
+
+    private SparseVector(short[] tokens, byte[] weights, boolean halfByte) {
+        this.tokens = tokens;
+        this.weights = weights;
+        this.halfByte = halfByte;
+    }
+
+    private static int weightsLength(int size, boolean halfByte) {
+        return halfByte ? (size + 1) >> 1 : size;
+    }
+
+    /**
+     * Returns the weight of an entry, unpacking 4-bit weights.
+     */
+    private byte weightAt(int index) {
+        return halfByte ? (byte) ((this.weights[index >> 1] >>> ((index & 1) << 2)) & 0x0F) : this.weights[index];
     }
 
     public int getSize() {
@@ -54,6 +130,7 @@ public class SparseVector implements Accountable {
         int size = processedItems.size();
         this.tokens = new short[size];
         this.weights = new byte[size];
+        this.halfByte = false;
         for (int i = 0; i < size; ++i) {
             this.tokens[i] = (short) processedItems.get(i).getToken();
             this.weights[i] = processedItems.get(i).getWeight();
@@ -86,21 +163,45 @@ public class SparseVector implements Accountable {
         return token % MODULUS_FOR_SHORT;
     }
 
-    private static Map<Integer, Float> readToMap(BytesRef bytesRef) throws IOException {
-        Map<Integer, Float> map = new HashMap<>();
-        try (
-            ByteArrayInputStream bais = new ByteArrayInputStream(
-                ArrayUtil.copyOfSubArray(bytesRef.bytes, bytesRef.offset, bytesRef.length)
-            );
-            DataInputStream dis = new DataInputStream(bais)
-        ) {
-            while (bais.available() > 0) {
-                int key = dis.readInt();
-                float value = dis.readFloat();
-                map.put(key, value);
-            }
+    private static int entryCount(BytesRef bytesRef) throws IOException {
+        if (bytesRef.length % ENCODED_BYTES_PER_ENTRY != 0) {
+            throw new EOFException("sparse vector bytes are truncated");
+        }
+        return bytesRef.length / ENCODED_BYTES_PER_ENTRY;
+    }
+
+    /**
+     * Decodes the (int token, float weight) pairs of the doc values encoding straight from the bytes into the given
+     * buffer, then sorts it. Each entry packs the token prepared for short type in the upper bits and the quantized
+     * weight in the lowest byte, so sorting the entries sorts by token first, then by unsigned weight.
+     */
+    private static int[] decodeSorted(BytesRef bytesRef, ByteQuantizer byteQuantizer, int[] entries) {
+        int count = bytesRef.length / ENCODED_BYTES_PER_ENTRY;
+        int position = bytesRef.offset;
+        for (int i = 0; i < count; ++i) {
+            int token = prepareTokenForShortType((int) BE_INT.get(bytesRef.bytes, position));
+            float value = (float) BE_FLOAT.get(bytesRef.bytes, position + Integer.BYTES);
+            entries[i] = (token << Byte.SIZE) | ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(value));
+            position += ENCODED_BYTES_PER_ENTRY;
+        }
+        Arrays.sort(entries, 0, count);
+        return entries;
+    }
+
+    private static int[] packSorted(int[] tokens, byte[] weights) {
+        if (tokens.length != weights.length) {
+            throw new IllegalArgumentException("tokens and weights must have the same length");
+        }
+        int[] entries = new int[tokens.length];
+        for (int i = 0; i < tokens.length; ++i) {
+            entries[i] = (prepareTokenForShortType(tokens[i]) << Byte.SIZE) | ByteQuantizationUtil.getUnsignedByte(weights[i]);
         }
-        return map;
+        Arrays.sort(entries);
+        return entries;
+    }
+
+    private static int entryToken(int entry) {
+        return entry >> Byte.SIZE;
     }
 
     public byte[] toDenseVector() {
@@ -111,17 +212,53 @@ public class SparseVector implements Accountable {
         int maxToken = this.tokens[size - 1];
         byte[] denseVector = new byte[maxToken + 1];
         for (int i = 0; i < size; ++i) {
-            denseVector[this.tokens[i]] = this.weights[i];
+            denseVector[this.tokens[i]] = weightAt(i);
+        }
+        return denseVector;
+    }
+
+    /**
+     * Writes the weights of this vector into a reusable dense scratch array, which is zero at all positions.
+     * A new array is returned if the scratch is too small. Call {@link #clearDenseVector(byte[])} once done,
+     * so the scratch is zero again for the next vector without clearing the whole array.
+     *
+     * @param scratch zero-filled array to reuse
+     * @return the scratch, or a larger array if the scratch cannot hold the max token of this vector
+     */
+    public byte[] toDenseVector(byte[] scratch) {
+        int size = getSize();
+        if (size == 0) {
+            return scratch;
+        }
+        int maxToken = this.tokens[size - 1];
+        byte[] denseVector = scratch.length > maxToken ? scratch : new byte[ArrayUtil.oversize(maxToken + 1, Byte.BYTES)];
+        for (int i = 0; i < size; ++i) {
+            denseVector[this.tokens[i]] = weightAt(i);
         }
         return denseVector;
     }
 
+    /**
+     * Resets the positions of this vector in a dense array written by {@link #toDenseVector(byte[])}.
+     *
+     * @param denseVector dense array holding this vector
+     */
+    public void clearDenseVector(byte[] denseVector) {
+        int size = getSize();
+        for (int i = 0; i < size; ++i) {
+            denseVector[this.tokens[i]] = 0;
+        }
+    }
+
     public int dotProduct(final byte[] denseVector) {
         int score = 0;
         int size = getSize();
 
         // Early exit for empty vectors
         if (size == 0 || denseVector == null || denseVector.length == 0) return 0;
+        if (halfByte) {
+            return dotProductHalfByte(denseVector);
+        }
 
         // Loop unrolling for better performance
         final int unrollFactor = 4;
@@ -165,6 +302,157 @@ public class SparseVector implements Accountable {
         return score;
     }
 
+    /**
+     * Dot product kernel of packed 4-bit weights, which reads the weights of two entries from each byte. Tokens are
+     * sorted, so once the second token of a pair is out of the dense vector only the first one can still be in it.
+     */
+    private int dotProductHalfByte(final byte[] denseVector) {
+        int score = 0;
+        int size = getSize();
+        int i = 0;
+        for (; i + 1 < size && this.tokens[i + 1] < denseVector.length; i += 2) {
+            int packed = this.weights[i >> 1];
+            score += (packed & 0x0F) * ByteQuantizationUtil.getUnsignedByte(denseVector[this.tokens[i]]);
+            score += ((packed >>> 4) & 0x0F) * ByteQuantizationUtil.getUnsignedByte(denseVector[this.tokens[i + 1]]);
+        }
+        if (i < size && this.tokens[i] < denseVector.length) {
+            score += (this.weights[i >> 1] & 0x0F) * ByteQuantizationUtil.getUnsignedByte(denseVector[this.tokens[i]]);
+        }
+        return score;
+    }
+
+    /**
+     * Computes the dot product of each sparse vector in the batch against the same dense vector.
+     * A null sparse vector gets a score of 0.
+     *
+     * @param vectors sparse vectors to score
+     * @param denseVector dense vector shared by the whole batch
+     * @param scores output array receiving one score per sparse vector, must hold at least vectors.size() entries
+     */
+    public static void dotProduct(final List<SparseVector> vectors, final byte[] denseVector, final int[] scores) {
+        int size = vectors.size();
+        if (scores.length < size) {
+            throw new IllegalArgumentException("scores array is smaller than the number of vectors");
+        }
+        if (denseVector == null || denseVector.length == 0) {
+            Arrays.fill(scores, 0, size, 0);
+            return;
+        }
+        for (int i = 0; i < size; ++i) {
+            SparseVector vector = vectors.get(i);
+            scores[i] = vector == null ? 0 : vector.dotProduct(denseVector);
+        }
+    }
+
+    /**
+     * Writes the vector in packed layout: all tokens as shorts followed by all weights as bytes, two per byte for
+     * 4-bit weights. The written length is {@link #packedLength(int, boolean)}.
+     *
+     * @param out output to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writePacked(DataOutput out) throws IOException {
+        int size = getSize();
+        for (int i = 0; i < size; ++i) {
+            out.writeShort(this.tokens[i]);
+        }
+        if (size > 0) {
+            out.writeBytes(this.weights, 0, this.weights.length);
+        }
+    }
+
+    /**
+     * Returns the length of a vector in packed layout.
+     *
+     * @param size number of entries of the vector
+     * @param halfByte whether the weights are packed two per byte
+     * @return number of bytes
+     */
+    public static long packedLength(int size, boolean halfByte) {
+        return (long) size * Short.BYTES + weightsLength(size, halfByte);
+    }
+
+    /**
+     * Returns the number of entries of a vector from its length in packed layout.
+     *
+     * @param length number of bytes
+     * @param halfByte whether the weights are packed two per byte
+     * @return number of entries
+     */
+    public static int packedEntryCount(long length, boolean halfByte) {
+        // 2.5 bytes per entry, plus half a byte of padding for an odd number of entries
+        return (int) (halfByte ? 2 * length / 5 : length / PACKED_BYTES_PER_ENTRY);
+    }
+
+    /**
+     * Reads a vector written by {@link #writePacked(DataOutput)}.
+     *
+     * @param input input to read from
+     * @param offset position of the packed vector in the input
+     * @param size number of entries of the vector
+     * @return the sparse vector
+     * @throws IOException if an I/O error occurs
+     */
+    public static SparseVector readPacked(RandomAccessInput input, long offset, int size) throws IOException {
+        return readPacked(input, offset, size, false);
+    }
+
+    /**
+     * Reads a vector written by {@link #writePacked(DataOutput)}.
+     *
+     * @param input input to read from
+     * @param offset position of the packed vector in the input
+     * @param size number of entries of the vector
+     * @param halfByte whether the weights are packed two per byte
+     * @return the sparse vector
+     * @throws IOException if an I/O error occurs
+     */
+    public static SparseVector readPacked(RandomAccessInput input, long offset, int size, boolean halfByte) throws IOException {
+        short[] tokens = new short[size];
+        for (int i = 0; i < size; ++i) {
+            tokens[i] = input.readShort(offset + (long) i * Short.BYTES);
+        }
+        byte[] weights = new byte[weightsLength(size, halfByte)];
+        input.readBytes(offset + (long) size * Short.BYTES, weights, 0, weights.length);
+        return new SparseVector(tokens, weights, halfByte);
+    }
+
+    /**
+     * Computes the dot product of a vector written by {@link #writePacked(DataOutput)} with a dense vector, reading its
+     * entries where they are instead of copying them into a new vector. Same result as {@link #dotProduct(byte[])} of
+     * the vector returned by {@link #readPacked(RandomAccessInput, long, int, boolean)}.
+     *
+     * @param input input to read from
+     * @param offset position of the packed vector in the input
+     * @param size number of entries of the vector
+     * @param halfByte whether the weights are packed two per byte
+     * @param denseVector dense vector to score against
+     * @return the dot product
+     * @throws IOException if an I/O error occurs
+     */
+    public static int dotProductPacked(RandomAccessInput input, long offset, int size, boolean halfByte, final byte[] denseVector)
+        throws IOException {
+        if (size == 0 || denseVector == null || denseVector.length == 0) {
+            return 0;
+        }
+        long weightsOffset = offset + (long) size * Short.BYTES;
+        int score = 0;
+        for (int i = 0; i < size; ++i) {
+            short token = input.readShort(offset + (long) i * Short.BYTES);
+            // tokens are sorted, none of the following ones is in the dense vector either
+            if (token >= denseVector.length) {
+                break;
+            }
+            if (halfByte) {
+                int weight = (input.readByte(weightsOffset + (i >> 1)) >>> ((i & 1) << 2)) & 0x0F;
+                score += weight * ByteQuantizationUtil.getUnsignedByte(denseVector[token]);
+            } else {
+                score += ByteQuantizationUtil.multiplyUnsignedByte(input.readByte(weightsOffset + i), denseVector[token]);
+            }
+        }
+        return score;
+    }
+
     public IteratorWrapper<Item> iterator() {
         return new IteratorWrapper<>(new Iterator<>() {
             private int size = getSize();
@@ -181,7 +469,7 @@ public class SparseVector implements Accountable {
                     return null;
                 }
                 ++current;
-                return new Item(tokens[current], weights[current]);
+                return new Item(tokens[current], weightAt(current));
             }
         });
     }
@@ -193,6 +481,20 @@ public class SparseVector implements Accountable {
         );
     }
 
+    /**
+     * Reusable buffer for decoding many vectors in a row, e.g. while streaming doc values of a segment.
+     * Only the returned vectors are allocated per call. Not thread safe.
+     */
+    public static class DecodeScratch {
+        private int[] entries = new int[0];
+
+        public SparseVector decode(BytesRef bytesRef, ByteQuantizer byteQuantizer) throws IOException {
+            int count = entryCount(bytesRef);
+            entries = ArrayUtil.growNoCopy(entries, count);
+            return new SparseVector(decodeSorted(bytesRef, byteQuantizer, entries), count, byteQuantizer.isHalfByte());
+        }
+    }
+
     @AllArgsConstructor
     @Getter
     @EqualsAndHashCode
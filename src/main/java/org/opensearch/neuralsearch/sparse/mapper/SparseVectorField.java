@@ -10,6 +10,9 @@ import org.apache.lucene.index.IndexableFieldType;
 
 import java.util.Optional;
 
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_MMAP;
+
 /**
  * Lucene field for sparse vector storage.
  */
@@ -32,4 +35,14 @@ public class SparseVectorField extends Field {
         }
         return Optional.ofNullable(field.attributes().get(SPARSE_FIELD)).map(Boolean::parseBoolean).orElse(false);
     }
+
+    /**
+     * Checks if field keeps its forward index in a memory-mapped segment file instead of the on-heap cache.
+     */
+    public static boolean isMmapForwardIndex(FieldInfo field) {
+        if (!isSparseField(field)) {
+            return false;
+        }
+        return FORWARD_INDEX_STORAGE_MMAP.equals(field.attributes().get(FORWARD_INDEX_STORAGE_FIELD));
+    }
 }
@@ -28,14 +28,20 @@ import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.APPROXIMATE_THRESHOLD_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTER_RATIO_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.N_POSTINGS_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_INGEST_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_SEARCH_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.SEISMIC;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.SUMMARY_PRUNE_RATIO_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_APPROXIMATE_THRESHOLD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_CLUSTERING_ALGORITHM;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_CLUSTER_RATIO;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_FORWARD_INDEX_STORAGE;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_N_POSTINGS;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_INGEST;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_SEARCH;
@@ -207,12 +213,20 @@ public class SparseVectorFieldMapper extends ParametrizedFieldMapper {
                 .getFloatParameter(QUANTIZATION_CEILING_INGEST_FIELD, DEFAULT_QUANTIZATION_CEILING_INGEST);
             Float quantizationCeilSearch = sparseMethodContext.getMethodComponentContext()
                 .getFloatParameter(QUANTIZATION_CEILING_SEARCH_FIELD, DEFAULT_QUANTIZATION_CEILING_SEARCH);
+            Object forwardIndexStorage = sparseMethodContext.getMethodComponentContext()
+                .getParameter(FORWARD_INDEX_STORAGE_FIELD, DEFAULT_FORWARD_INDEX_STORAGE);
+            Object clusteringAlgorithm = sparseMethodContext.getMethodComponentContext()
+                .getParameter(CLUSTERING_ALGORITHM_FIELD, DEFAULT_CLUSTERING_ALGORITHM);
+            Object quantization = sparseMethodContext.getMethodComponentContext().getParameter(QUANTIZATION_FIELD, DEFAULT_QUANTIZATION);
             fieldType.putAttribute(N_POSTINGS_FIELD, String.valueOf(nPostings));
             fieldType.putAttribute(SUMMARY_PRUNE_RATIO_FIELD, String.valueOf(summaryPruneRatio));
             fieldType.putAttribute(CLUSTER_RATIO_FIELD, String.valueOf(clusterRatio));
             fieldType.putAttribute(APPROXIMATE_THRESHOLD_FIELD, String.valueOf(algoTriggerThreshold));
             fieldType.putAttribute(QUANTIZATION_CEILING_INGEST_FIELD, String.valueOf(quantizationCeilIngest));
             fieldType.putAttribute(QUANTIZATION_CEILING_SEARCH_FIELD, String.valueOf(quantizationCeilSearch));
+            fieldType.putAttribute(FORWARD_INDEX_STORAGE_FIELD, String.valueOf(forwardIndexStorage));
+            fieldType.putAttribute(CLUSTERING_ALGORITHM_FIELD, String.valueOf(clusteringAlgorithm));
+            fieldType.putAttribute(QUANTIZATION_FIELD, String.valueOf(quantization));
         }
     }
 
@@ -6,11 +6,23 @@ package org.opensearch.neuralsearch.sparse.quantization;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_INGEST_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_SEARCH_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_SEGMENT_CEILING_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_INGEST;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_SEARCH;
 
@@ -23,6 +35,10 @@ public final class ByteQuantizationUtil {
 
     // Use full precision of byte (0-255)
     public static final int MAX_UNSIGNED_BYTE_VALUE = 255;
+    // Largest value of 4-bit quantization (0-15)
+    public static final int MAX_HALF_BYTE_VALUE = 15;
+    // big endian view of the weights in the doc values encoding
+    private static final VarHandle BE_FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
 
     /**
      * Overloaded method to get unsigned frequency directly from a byte
@@ -81,12 +97,17 @@ public final class ByteQuantizationUtil {
     }
 
     /**
-     * Get the quantization ceiling value ingest from fieldInfo, which is parsed from MAX_FLOAT_VALUE_INGEST_FIELD
+     * Get the quantization ceiling value ingest from fieldInfo, which is the ceiling learned for the segment with
+     * adaptive quantization, otherwise parsed from QUANTIZATION_CEILING_INGEST_FIELD
      */
     public static float getCeilingValueIngest(FieldInfo fieldInfo) {
         if (fieldInfo == null) {
             return DEFAULT_QUANTIZATION_CEILING_INGEST;
         }
+        String segmentCeiling = fieldInfo.getAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD);
+        if (!StringUtils.isEmpty(segmentCeiling) && QuantizationType.fromFieldInfo(fieldInfo).isAdaptive()) {
+            return NumberUtils.createFloat(segmentCeiling);
+        }
         String stringValue = fieldInfo.getAttribute(QUANTIZATION_CEILING_INGEST_FIELD);
         return StringUtils.isEmpty(stringValue) ? DEFAULT_QUANTIZATION_CEILING_INGEST : NumberUtils.createFloat(stringValue);
     }
@@ -102,11 +123,96 @@ public final class ByteQuantizationUtil {
         return StringUtils.isEmpty(stringValue) ? DEFAULT_QUANTIZATION_CEILING_SEARCH : NumberUtils.createFloat(stringValue);
     }
 
+    /**
+     * Get the largest quantized value of document weights, which is 255 unless the field uses 4-bit quantization
+     */
+    public static int getMaxValueIngest(FieldInfo fieldInfo) {
+        return QuantizationType.fromFieldInfo(fieldInfo).getMaxValue();
+    }
+
     /**
      * Get a byte quantizer object during ingestion
      */
     public static ByteQuantizer getByteQuantizerIngest(FieldInfo fieldInfo) {
         float quantizationCeilIngest = getCeilingValueIngest(fieldInfo);
-        return new ByteQuantizer(quantizationCeilIngest);
+        return new ByteQuantizer(quantizationCeilIngest, getMaxValueIngest(fieldInfo));
+    }
+
+    /**
+     * Learns the ingest ceiling of a new segment from the weights of its doc values, if the field uses adaptive
+     * quantization. The ceiling is stored as an attribute of the segment's field info, so the forward index and the
+     * postings of the segment are quantized with it, and queries rescale the scores of the segment with it.
+     *
+     * @param fieldInfo field info of the new segment
+     * @param binaryDocValues doc values of the field, positioned before the first doc
+     * @throws IOException if the doc values cannot be read
+     */
+    public static void learnCeilingValueIngest(FieldInfo fieldInfo, BinaryDocValues binaryDocValues) throws IOException {
+        if (!QuantizationType.fromFieldInfo(fieldInfo).isAdaptive() || binaryDocValues == null) {
+            return;
+        }
+        CeilingEstimator estimator = new CeilingEstimator();
+        for (int docId = binaryDocValues.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = binaryDocValues.nextDoc()) {
+            BytesRef bytesRef = binaryDocValues.binaryValue();
+            int end = bytesRef.offset + bytesRef.length - SparseVector.ENCODED_BYTES_PER_ENTRY;
+            for (int position = bytesRef.offset; position <= end; position += SparseVector.ENCODED_BYTES_PER_ENTRY) {
+                estimator.add((float) BE_FLOAT.get(bytesRef.bytes, position + Integer.BYTES));
+            }
+        }
+        float ceiling = estimator.ceiling();
+        if (ceiling > 0) {
+            fieldInfo.putAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD, String.valueOf(ceiling));
+        }
+    }
+
+    /**
+     * Sets the ingest ceiling of a merged segment, if the field uses adaptive quantization: the ceiling of the largest
+     * merged segment, which was learned from the most weights. Postings and forward index vectors are reused from
+     * segments of the same ceiling and quantized again otherwise.
+     *
+     * @param fieldInfo field info of the merged segment
+     * @param mergeStateFacade merge state of the merged segments
+     */
+    public static void mergeCeilingValueIngest(FieldInfo fieldInfo, MergeStateFacade mergeStateFacade) {
+        if (!QuantizationType.fromFieldInfo(fieldInfo).isAdaptive()) {
+            return;
+        }
+        FieldInfos[] fieldInfos = mergeStateFacade.getFieldInfos();
+        int[] maxDocs = mergeStateFacade.getMaxDocs();
+        FieldInfo largest = null;
+        int largestMaxDoc = -1;
+        for (int i = 0; i < fieldInfos.length; ++i) {
+            FieldInfo segmentFieldInfo = fieldInfos[i].fieldInfo(fieldInfo.name);
+            if (segmentFieldInfo != null && maxDocs[i] > largestMaxDoc) {
+                largest = segmentFieldInfo;
+                largestMaxDoc = maxDocs[i];
+            }
+        }
+        if (largest == null || StringUtils.isEmpty(largest.getAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD))) {
+            return;
+        }
+        fieldInfo.putAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD, largest.getAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD));
+    }
+
+    /**
+     * Checks whether the weights of all merged segments were quantized with the ceiling of the merged segment, so their
+     * quantized vectors can be reused as they are.
+     *
+     * @param fieldInfo field info of the merged segment
+     * @param mergeStateFacade merge state of the merged segments
+     * @return true if every merged segment having the field has the same ingest ceiling
+     */
+    public static boolean hasUniformCeilingValueIngest(FieldInfo fieldInfo, MergeStateFacade mergeStateFacade) {
+        if (!QuantizationType.fromFieldInfo(fieldInfo).isAdaptive()) {
+            return true;
+        }
+        float ceiling = getCeilingValueIngest(fieldInfo);
+        for (FieldInfos segmentFieldInfos : mergeStateFacade.getFieldInfos()) {
+            FieldInfo segmentFieldInfo = segmentFieldInfos.fieldInfo(fieldInfo.name);
+            if (segmentFieldInfo != null && getCeilingValueIngest(segmentFieldInfo) != ceiling) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -4,32 +4,76 @@
  */
 package org.opensearch.neuralsearch.sparse.quantization;
 
+import static org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil.MAX_HALF_BYTE_VALUE;
 import static org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil.MAX_UNSIGNED_BYTE_VALUE;
 
 /**
  * Maps a positive float value to an unsigned integer within the range of the specified type.
- * The function scales values from the range [0, ceilValue] to [0, 255].
+ * The function scales values from the range [0, ceilValue] to [0, maxValue], which is [0, 255] by default.
  */
 public final class ByteQuantizer {
 
     private final float ceilValue;
+    private final int maxValue;
 
     public ByteQuantizer(float ceilValue) {
+        this(ceilValue, MAX_UNSIGNED_BYTE_VALUE);
+    }
+
+    /**
+     * @param ceilValue value mapped to maxValue, larger values are clipped
+     * @param maxValue largest quantized value, at most 255
+     */
+    public ByteQuantizer(float ceilValue, int maxValue) {
         if (ceilValue <= 0) {
             throw new IllegalArgumentException("Ceiling value must be positive for byte quantizer");
         }
+        if (maxValue <= 0 || maxValue > MAX_UNSIGNED_BYTE_VALUE) {
+            throw new IllegalArgumentException("Max value must be in (0, 255] for byte quantizer");
+        }
         this.ceilValue = ceilValue;
+        this.maxValue = maxValue;
     }
 
     public byte quantize(float value) {
         // Ensure the value is within the specified range
         value = Math.max(0.0f, Math.min(ceilValue, value));
 
-        // Scale the value to fit in the byte range (0-255)
+        // Scale the value to fit in the byte range (0-maxValue)
         // Note: In Java, byte is signed (-128 to 127), but we'll use the full precision
-        value = (value * MAX_UNSIGNED_BYTE_VALUE) / ceilValue;
+        value = (value * maxValue) / ceilValue;
 
         // Round to nearest integer and cast to byte
         return (byte) Math.round(value);
     }
+
+    /**
+     * Quantizes again a value quantized by a quantizer of the same max value and another ceiling.
+     *
+     * @param value quantized value
+     * @param sourceCeilValue ceiling the value was quantized with
+     * @return the value quantized with the ceiling of this quantizer
+     */
+    public byte requantize(byte value, float sourceCeilValue) {
+        if (sourceCeilValue == ceilValue) {
+            return value;
+        }
+        long requantized = Math.round((double) ByteQuantizationUtil.getUnsignedByte(value) * sourceCeilValue / ceilValue);
+        return (byte) Math.min(maxValue, requantized);
+    }
+
+    public float getCeilValue() {
+        return ceilValue;
+    }
+
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return true if the quantized values fit in 4 bits, so that two of them can be packed in a byte
+     */
+    public boolean isHalfByte() {
+        return maxValue <= MAX_HALF_BYTE_VALUE;
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.quantization;
+
+/**
+ * Learns a quantization ceiling from the distribution of the weights of a segment: a high quantile of the positive
+ * weights, so that a few outliers do not spread the quantization levels over a range most weights never reach.
+ * <p>
+ * Weights are counted in a log-scale histogram of {@link #BUCKETS_PER_OCTAVE} buckets per power of two, so the
+ * ceiling is within about 4% of the exact quantile, without holding the weights.
+ */
+final class CeilingEstimator {
+    // share of the weights below the ceiling, larger weights are clipped
+    static final double CEILING_QUANTILE = 0.999;
+    private static final int BUCKETS_PER_OCTAVE = 16;
+    // weights from 2^-16 to 2^16, smaller and larger ones are counted in the first and last bucket
+    private static final int MIN_EXPONENT = -16;
+    private static final int MAX_EXPONENT = 16;
+
+    private final long[] counts = new long[(MAX_EXPONENT - MIN_EXPONENT) * BUCKETS_PER_OCTAVE];
+    private long total;
+
+    /**
+     * Counts a weight, zero and negative weights are ignored.
+     *
+     * @param weight weight of a token
+     */
+    void add(float weight) {
+        if (!(weight > 0) || Float.isInfinite(weight)) {
+            return;
+        }
+        int bucket = (int) Math.floor((Math.log(weight) / Math.log(2) - MIN_EXPONENT) * BUCKETS_PER_OCTAVE);
+        ++counts[Math.max(0, Math.min(counts.length - 1, bucket))];
+        ++total;
+    }
+
+    /**
+     * @return the upper bound of the bucket of the quantile, or 0 if no weight was counted
+     */
+    float ceiling() {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(CEILING_QUANTILE * total);
+        long seen = 0;
+        int bucket = 0;
+        for (; bucket < counts.length - 1; ++bucket) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        return (float) Math.pow(2, MIN_EXPONENT + (double) (bucket + 1) / BUCKETS_PER_OCTAVE);
+    }
+}
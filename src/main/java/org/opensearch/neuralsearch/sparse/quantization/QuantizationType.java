@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.quantization;
+
+import lombok.Getter;
+import org.apache.lucene.index.FieldInfo;
+import org.opensearch.neuralsearch.sparse.common.SparseConstants;
+
+import java.util.Locale;
+
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
+import static org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil.MAX_HALF_BYTE_VALUE;
+import static org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil.MAX_UNSIGNED_BYTE_VALUE;
+
+/**
+ * Quantization of the document weights of a sparse field, selected by the quantization method parameter.
+ * <p>
+ * 8-bit weights take a byte each, 4-bit weights are packed two per byte in the forward index. Adaptive types quantize
+ * each segment against a ceiling learned from the weights of the segment instead of quantization_ceiling_ingest,
+ * which keeps the few levels of 4-bit weights for the range the weights actually take.
+ */
+@Getter
+public enum QuantizationType {
+    BYTE(SparseConstants.QUANTIZATION_8BIT, MAX_UNSIGNED_BYTE_VALUE, false),
+    BYTE_ADAPTIVE(SparseConstants.QUANTIZATION_8BIT_ADAPTIVE, MAX_UNSIGNED_BYTE_VALUE, true),
+    HALF_BYTE(SparseConstants.QUANTIZATION_4BIT, MAX_HALF_BYTE_VALUE, false),
+    HALF_BYTE_ADAPTIVE(SparseConstants.QUANTIZATION_4BIT_ADAPTIVE, MAX_HALF_BYTE_VALUE, true);
+
+    private final String name;
+    // largest quantized value
+    private final int maxValue;
+    private final boolean adaptive;
+
+    QuantizationType(String name, int maxValue, boolean adaptive) {
+        this.name = name;
+        this.maxValue = maxValue;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Returns the quantization type of a name.
+     *
+     * @param name name of the type
+     * @return the quantization type
+     * @throws IllegalArgumentException if there is no type of this name
+     */
+    public static QuantizationType fromName(String name) {
+        for (QuantizationType type : values()) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown quantization [%s]", name));
+    }
+
+    /**
+     * Returns the quantization type of a field, fields created before the parameter existed use 8-bit.
+     *
+     * @param fieldInfo field information for the sparse vector field
+     * @return the quantization type
+     */
+    public static QuantizationType fromFieldInfo(FieldInfo fieldInfo) {
+        String name = fieldInfo == null ? null : fieldInfo.getAttribute(QUANTIZATION_FIELD);
+        return name == null ? BYTE : fromName(name);
+    }
+}
@@ -5,19 +5,26 @@
 package org.opensearch.neuralsearch.sparse.query;
 
 import lombok.NonNull;
+import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.Bits;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
 import org.opensearch.neuralsearch.sparse.data.SparseVector;
 
 import java.io.IOException;
 
 /**
- * Exact match scorer for sparse vector query
+ * Exact match scorer for sparse vector query. Besides scoring one doc at a time, it provides a {@link BulkScorer} which
+ * reads and scores the candidate docs in blocks of {@link #BLOCK_SIZE}, see {@link #bulkScorer()}.
  */
 public class ExactMatchScorer extends Scorer {
+    // candidate docs read and scored together by the bulk scorer
+    static final int BLOCK_SIZE = 128;
     @NonNull
     private final BitSetIterator candidate;
     private final byte[] queryDenseVector;
@@ -31,9 +38,18 @@ public class ExactMatchScorer extends Scorer {
         SparseVector queryVector,
         @NonNull SparseVectorReader reader,
         @NonNull Similarity.SimScorer simScorer
+    ) {
+        this(candidate, queryVector.toDenseVector(), reader, simScorer);
+    }
+
+    public ExactMatchScorer(
+        @NonNull BitSetIterator candidate,
+        byte[] queryDenseVector,
+        @NonNull SparseVectorReader reader,
+        @NonNull Similarity.SimScorer simScorer
     ) {
         this.candidate = candidate;
-        this.queryDenseVector = queryVector.toDenseVector();
+        this.queryDenseVector = queryDenseVector;
         this.reader = reader;
         this.simScorer = simScorer;
     }
@@ -48,18 +64,85 @@ public class ExactMatchScorer extends Scorer {
         return candidate;
     }
 
+    /**
+     * Scores are only known once the candidate vectors are read, so no bound lower than infinity can be given.
+     */
     @Override
     public float getMaxScore(int upTo) throws IOException {
-        return 0;
+        return Float.POSITIVE_INFINITY;
     }
 
     @Override
     public float score() throws IOException {
-        int docId = docID();
-        SparseVector docVector = reader.read(docId);
-        if (docVector == null) {
+        int score = reader.dotProduct(docID(), queryDenseVector);
+        if (score == SparseVectorReader.NO_VECTOR) {
             return 0;
         }
-        return simScorer.score(docVector.dotProduct(queryDenseVector), 0);
+        return simScorer.score(score, 0);
+    }
+
+    /**
+     * Returns a bulk scorer which gathers the candidate docs of the collected window in blocks, reads the vectors of a
+     * block in one forward pass of the reader, scores the block in one loop and only then feeds the collector. Docs
+     * below the minimum competitive score of the collector are not collected.
+     *
+     * @return the bulk scorer, which shares the candidate iterator with this scorer
+     */
+    public BulkScorer bulkScorer() {
+        return new BulkScorer() {
+            private final int[] docIds = new int[BLOCK_SIZE];
+            private final SparseVector[] vectors = new SparseVector[BLOCK_SIZE];
+            private final int[] scores = new int[BLOCK_SIZE];
+
+            @Override
+            public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+                BlockScorable scorable = new BlockScorable();
+                collector.setScorer(scorable);
+                int docId = candidate.docID();
+                if (docId < min) {
+                    docId = candidate.advance(min);
+                }
+                while (docId < max) {
+                    int count = 0;
+                    while (docId < max && count < BLOCK_SIZE) {
+                        if (acceptDocs == null || acceptDocs.get(docId)) {
+                            docIds[count++] = docId;
+                        }
+                        docId = candidate.nextDoc();
+                    }
+                    reader.dotProduct(docIds, count, queryDenseVector, vectors, scores);
+                    for (int i = 0; i < count; ++i) {
+                        scorable.score = scores[i] == SparseVectorReader.NO_VECTOR ? 0 : simScorer.score(scores[i], 0);
+                        if (scorable.score >= scorable.minCompetitiveScore) {
+                            collector.collect(docIds[i]);
+                        }
+                    }
+                }
+                return docId;
+            }
+
+            @Override
+            public long cost() {
+                return candidate.cost();
+            }
+        };
+    }
+
+    /**
+     * Score of the doc being collected by the bulk scorer, already computed with the rest of its block.
+     */
+    private static class BlockScorable extends Scorable {
+        private float score;
+        private float minCompetitiveScore;
+
+        @Override
+        public float score() {
+            return score;
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) {
+            this.minCompetitiveScore = minScore;
+        }
     }
 }
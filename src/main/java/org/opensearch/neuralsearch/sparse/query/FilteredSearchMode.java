@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.query;
+
+/**
+ * How a segment runs a sparse ANN query with a filter, picked by a cost model on the filter selectivity.
+ */
+public enum FilteredSearchMode {
+    /**
+     * Scores every doc of the filter, used when the filter matches fewer docs than the approximate search would visit.
+     */
+    EXACT,
+    /**
+     * Runs the approximate search over the docs of the filter only, clusters without any of them are skipped.
+     */
+    FILTERED_ANN,
+    /**
+     * Runs the approximate search unfiltered with an enlarged result size and intersects the results with the filter,
+     * used for permissive filters where unfiltered score thresholds prune more clusters at a small cost of recall.
+     */
+    POST_FILTER;
+
+    // filters matching at least this fraction of the segment are applied after the approximate search
+    static final float POST_FILTER_MIN_SELECTIVITY = 0.8f;
+
+    /**
+     * Picks the mode with the lowest estimated cost for a segment.
+     *
+     * @param filterCardinality number of docs matching the filter in the segment
+     * @param maxDoc max doc of the segment
+     * @param k number of results of the query
+     * @param approximateSearchCost estimated number of postings visited by the approximate search
+     * @return the search mode
+     */
+    public static FilteredSearchMode select(int filterCardinality, int maxDoc, int k, long approximateSearchCost) {
+        if (filterCardinality <= k || filterCardinality <= approximateSearchCost) {
+            return EXACT;
+        }
+        if (selectivity(filterCardinality, maxDoc) >= POST_FILTER_MIN_SELECTIVITY) {
+            return POST_FILTER;
+        }
+        return FILTERED_ANN;
+    }
+
+    /**
+     * Returns the number of results to collect before post filtering, so that about k of them are expected to match the
+     * filter.
+     *
+     * @param filterCardinality number of docs matching the filter in the segment
+     * @param maxDoc max doc of the segment
+     * @param k number of results of the query
+     * @return the enlarged result size, at least k
+     */
+    public static int postFilterResultSize(int filterCardinality, int maxDoc, int k) {
+        double size = Math.ceil(k / selectivity(filterCardinality, maxDoc));
+        return (int) Math.max(k, Math.min(size, Math.max(k, maxDoc)));
+    }
+
+    private static double selectivity(int filterCardinality, int maxDoc) {
+        if (maxDoc <= 0) {
+            return 1;
+        }
+        return Math.min(1, Math.max(filterCardinality, 1) / (double) maxDoc);
+    }
+}
@@ -5,7 +5,6 @@
 package org.opensearch.neuralsearch.sparse.query;
 
 import lombok.NonNull;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.search.ConjunctionUtils;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -25,6 +24,7 @@ import java.util.List;
 public class OrderedPostingWithClustersScorer extends SeismicBaseScorer {
 
     private final Similarity.SimScorer simScorer;
+    private final ResultsDocValueIterator resultsIterator;
     private final DocIdSetIterator conjunctionDisi;
 
     /**
@@ -40,10 +40,53 @@ public class OrderedPostingWithClustersScorer extends SeismicBaseScorer {
         Similarity.SimScorer simScorer,
         BitSetIterator filterBitSetIterator
     ) throws IOException {
-        super(leafReader, fieldName, sparseQueryContext, leafReader.maxDoc(), queryVector, reader, acceptedDocs);
+        this(
+            fieldName,
+            sparseQueryContext,
+            queryVector.toDenseVector(),
+            leafReader,
+            acceptedDocs,
+            reader,
+            simScorer,
+            filterBitSetIterator,
+            FilteredSearchMode.POST_FILTER,
+            new SharedScoreThreshold()
+        );
+    }
+
+    /**
+     * Creates scorer with a dense query vector and a pruning threshold shared by all segments of the query. With a
+     * filter, the mode tells whether the filter is applied during the search or to its results, it is ignored otherwise.
+     */
+    public OrderedPostingWithClustersScorer(
+        String fieldName,
+        SparseQueryContext sparseQueryContext,
+        byte[] queryDenseVector,
+        LeafReader leafReader,
+        Bits acceptedDocs,
+        @NonNull SparseVectorReader reader,
+        Similarity.SimScorer simScorer,
+        BitSetIterator filterBitSetIterator,
+        FilteredSearchMode filteredSearchMode,
+        @NonNull SharedScoreThreshold sharedThreshold
+    ) throws IOException {
+        super(
+            leafReader,
+            fieldName,
+            sparseQueryContext,
+            leafReader.maxDoc(),
+            queryDenseVector,
+            reader,
+            acceptedDocs,
+            filterBitSetIterator != null && filteredSearchMode == FilteredSearchMode.FILTERED_ANN ? filterBitSetIterator.getBitSet() : null,
+            sharedThreshold
+        );
         this.simScorer = simScorer;
-        List<Pair<Integer, Integer>> results = searchUpfront(sparseQueryContext.getK());
-        ResultsDocValueIterator resultsIterator = new ResultsDocValueIterator(results);
+        int resultSize = sparseQueryContext.getK();
+        if (filterBitSetIterator != null && filteredSearchMode == FilteredSearchMode.POST_FILTER) {
+            resultSize = FilteredSearchMode.postFilterResultSize((int) filterBitSetIterator.cost(), leafReader.maxDoc(), resultSize);
+        }
+        this.resultsIterator = searchUpfront(resultSize);
         if (filterBitSetIterator != null) {
             conjunctionDisi = ConjunctionUtils.intersectIterators(List.of(resultsIterator, filterBitSetIterator));
         } else {
@@ -62,18 +105,19 @@ public class OrderedPostingWithClustersScorer extends SeismicBaseScorer {
     }
 
     /**
-     * Returns maximum possible score up to given document ID.
+     * Returns maximum possible score up to given document ID, from the scores of the upfront results.
      */
     @Override
     public float getMaxScore(int upTo) throws IOException {
-        return 0;
+        return this.simScorer.score(resultsIterator.maxScore(upTo), 0);
     }
 
     /**
-     * Computes score for current document using similarity scorer.
+     * Computes score for current document using similarity scorer. The results iterator is positioned on the current
+     * document whether or not it is intersected with the filter.
      */
     @Override
     public float score() throws IOException {
-        return this.simScorer.score(conjunctionDisi.cost(), 0);
+        return this.simScorer.score(resultsIterator.score(), 0);
     }
 }
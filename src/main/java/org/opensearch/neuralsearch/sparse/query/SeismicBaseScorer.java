@@ -7,7 +7,6 @@ package org.opensearch.neuralsearch.sparse.query;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Terms;
@@ -16,9 +15,11 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
-import org.apache.lucene.util.LongBitSet;
+import org.apache.lucene.util.LongHeap;
+import org.apache.lucene.util.SparseFixedBitSet;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
 import org.opensearch.neuralsearch.sparse.codec.SparsePostingsEnum;
+import org.opensearch.neuralsearch.sparse.codec.SparseTerms;
 import org.opensearch.neuralsearch.sparse.common.DocWeightIterator;
 import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
 import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
@@ -26,11 +27,9 @@ import org.opensearch.neuralsearch.sparse.data.SparseVector;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
-import java.util.PriorityQueue;
 
 /**
  * Base scorer for seismic sparse vector queries with cluster-based optimization.
@@ -40,11 +39,14 @@ import java.util.PriorityQueue;
 public abstract class SeismicBaseScorer extends Scorer {
     private final static int SEISMIC_HEAP_SIZE = 10;
     protected final HeapWrapper scoreHeap;
-    protected final LongBitSet visitedDocId;
+    protected final SparseFixedBitSet visitedDocId;
     protected final String fieldName;
     protected final SparseQueryContext sparseQueryContext;
     protected final byte[] queryDenseVector;
     protected final Bits acceptedDocs;
+    // docs of the filter when it is applied during the search, null otherwise
+    protected final Bits filter;
+    protected final SharedScoreThreshold sharedThreshold;
     @Getter
     protected SparseVectorReader reader;
     protected List<Scorer> subScorers = new ArrayList<>();
@@ -61,20 +63,53 @@ public abstract class SeismicBaseScorer extends Scorer {
         @NonNull SparseVectorReader reader,
         Bits acceptedDocs
     ) throws IOException {
-        visitedDocId = new LongBitSet(maxDocCount);
+        this(
+            leafReader,
+            fieldName,
+            sparseQueryContext,
+            maxDocCount,
+            queryVector.toDenseVector(),
+            reader,
+            acceptedDocs,
+            null,
+            new SharedScoreThreshold()
+        );
+    }
+
+    /**
+     * Creates base scorer with a dense query vector computed once per query, it is only read so segments can share it.
+     * Clusters are pruned against the higher of the local score heap threshold and the threshold shared by the segments.
+     * When a filter is given, only its docs are scored and clusters without any of them are skipped.
+     */
+    public SeismicBaseScorer(
+        LeafReader leafReader,
+        String fieldName,
+        SparseQueryContext sparseQueryContext,
+        int maxDocCount,
+        byte[] queryDenseVector,
+        @NonNull SparseVectorReader reader,
+        Bits acceptedDocs,
+        Bits filter,
+        @NonNull SharedScoreThreshold sharedThreshold
+    ) throws IOException {
+        // a query only visits the docs of a few clusters, so only the touched blocks of the bit set are allocated
+        visitedDocId = new SparseFixedBitSet(Math.max(1, maxDocCount));
         this.fieldName = fieldName;
         this.sparseQueryContext = sparseQueryContext;
-        this.queryDenseVector = queryVector.toDenseVector();
+        this.queryDenseVector = queryDenseVector;
         this.reader = reader;
         this.acceptedDocs = acceptedDocs;
+        this.filter = filter;
+        this.sharedThreshold = sharedThreshold;
         scoreHeap = new HeapWrapper(SEISMIC_HEAP_SIZE);
         initialize(leafReader);
     }
 
     protected void initialize(LeafReader leafReader) throws IOException {
         Terms terms = Terms.getTerms(leafReader, fieldName);
+        boolean bypassCache = sparseQueryContext.isBypassCache() && terms instanceof SparseTerms;
         for (String token : sparseQueryContext.getTokens()) {
-            TermsEnum termsEnum = terms.iterator();
+            TermsEnum termsEnum = bypassCache ? ((SparseTerms) terms).uncachedIterator() : terms.iterator();
             BytesRef term = new BytesRef(token);
             if (!termsEnum.seekExact(term)) {
                 continue;
@@ -96,7 +131,7 @@ public abstract class SeismicBaseScorer extends Scorer {
     /**
      * Performs upfront search across all sub-scorers and returns top results.
      */
-    protected List<Pair<Integer, Integer>> searchUpfront(int resultSize) throws IOException {
+    protected ResultsDocValueIterator searchUpfront(int resultSize) throws IOException {
         HeapWrapper resultHeap = new HeapWrapper(resultSize);
         for (Scorer scorer : subScorers) {
             DocIdSetIterator iterator = scorer.iterator();
@@ -105,36 +140,47 @@ public abstract class SeismicBaseScorer extends Scorer {
                 if (acceptedDocs != null && !acceptedDocs.get(docId)) {
                     continue;
                 }
-                if (visitedDocId.get(docId)) {
+                if (filter != null && !filter.get(docId)) {
                     continue;
                 }
-                visitedDocId.set(docId);
-                SparseVector doc = reader.read(docId);
-                if (doc == null) {
+                if (visitedDocId.getAndSet(docId)) {
                     continue;
                 }
-                int score = doc.dotProduct(queryDenseVector);
-                scoreHeap.add(Pair.of(docId, score));
-                resultHeap.add(Pair.of(docId, score));
+                int score = reader.dotProduct(docId, queryDenseVector);
+                if (score == SparseVectorReader.NO_VECTOR) {
+                    continue;
+                }
+                scoreHeap.add(docId, score);
+                resultHeap.add(docId, score);
+                // the lower of both heap minimums is this segment's score at rank max(k, SEISMIC_HEAP_SIZE), which the
+                // shard-wide score at rank k can't be below, so it stays a valid lower bound when k exceeds the score heap
+                if (scoreHeap.isFull() && resultHeap.isFull()) {
+                    sharedThreshold.update(Math.min(scoreHeap.peekScore(), resultHeap.peekScore()));
+                }
             }
         }
-        return resultHeap.toOrderedList();
+        return resultHeap.toOrderedResults();
     }
 
-    protected static PriorityQueue<Pair<Integer, Integer>> makeHeap() {
-        return new PriorityQueue<>(Comparator.comparingInt(Pair::getRight));
+    /**
+     * Returns the score a cluster summary has to reach, before the heap factor is applied, not to be skipped.
+     */
+    protected int pruningThreshold() {
+        int local = scoreHeap.isFull() ? scoreHeap.peekScore() : Integer.MIN_VALUE;
+        return Math.max(local, sharedThreshold.get());
     }
 
     /**
-     * Wrapper for priority queue maintaining top-K results with threshold optimization.
+     * Min-heap keeping the top-K (doc id, score) entries, packed into longs so scored documents are not boxed.
+     * The score takes the high 32 bits, so the heap top holds the lowest score.
      */
     protected static class HeapWrapper {
-        private final PriorityQueue<Pair<Integer, Integer>> heap = makeHeap();
-        private float heapThreshold = Integer.MIN_VALUE;
+        private final LongHeap heap;
         private final int k;
 
         HeapWrapper(int k) {
             this.k = k;
+            this.heap = new LongHeap(k);
         }
 
         public boolean isFull() {
@@ -142,34 +188,57 @@ public abstract class SeismicBaseScorer extends Scorer {
         }
 
         /**
-         * Adds pair to heap if score exceeds threshold, maintaining size limit.
+         * Adds the document if its score exceeds the lowest score of a full heap, maintaining size limit.
          */
-        public void add(Pair<Integer, Integer> pair) {
-            if (pair.getRight() > heapThreshold) {
-                heap.add(pair);
-                if (heap.size() > k) {
-                    heap.poll();
-                    assert heap.peek() != null;
-                    heapThreshold = heap.peek().getRight();
-                }
+        public void add(int docId, int score) {
+            if (isFull() && score <= peekScore()) {
+                return;
             }
+            heap.insertWithOverflow(encode(docId, score));
         }
 
         /**
-         * Returns heap contents as ordered list sorted by document ID.
+         * Returns heap contents as results sorted by document ID.
          */
-        public List<Pair<Integer, Integer>> toOrderedList() {
-            List<Pair<Integer, Integer>> list = new ArrayList<>(heap);
-            list.sort((a, b) -> Float.compare(a.getLeft(), b.getLeft()));
-            return list;
+        public ResultsDocValueIterator toOrderedResults() {
+            int size = heap.size();
+            long[] entries = new long[size];
+            for (int i = 0; i < size; ++i) {
+                long entry = heap.get(i + 1);
+                // doc id takes the high bits to sort by it
+                entries[i] = ((long) decodeDocId(entry) << Integer.SIZE) | Integer.toUnsignedLong(decodeScore(entry));
+            }
+            Arrays.sort(entries);
+            int[] docIds = new int[size];
+            int[] scores = new int[size];
+            for (int i = 0; i < size; ++i) {
+                docIds[i] = (int) (entries[i] >>> Integer.SIZE);
+                scores[i] = (int) entries[i];
+            }
+            return new ResultsDocValueIterator(docIds, scores);
         }
 
         public int size() {
             return heap.size();
         }
 
-        public Pair<Integer, Integer> peek() {
-            return heap.peek();
+        /**
+         * Returns the lowest score in the heap, the heap must not be empty.
+         */
+        public int peekScore() {
+            return decodeScore(heap.top());
+        }
+
+        private static long encode(int docId, int score) {
+            return ((long) score << Integer.SIZE) | Integer.toUnsignedLong(docId);
+        }
+
+        private static int decodeScore(long entry) {
+            return (int) (entry >> Integer.SIZE);
+        }
+
+        private static int decodeDocId(long entry) {
+            return (int) entry;
         }
     }
 
@@ -178,10 +247,12 @@ public abstract class SeismicBaseScorer extends Scorer {
      */
     class SingleScorer extends Scorer {
         private final IteratorWrapper<DocumentCluster> clusterIter;
+        private final long cost;
         private DocWeightIterator docs = null;
 
         public SingleScorer(SparsePostingsEnum postingsEnum) throws IOException {
             clusterIter = postingsEnum.clusterIterator();
+            cost = postingsEnum.cost();
         }
 
         @Override
@@ -197,7 +268,7 @@ public abstract class SeismicBaseScorer extends Scorer {
             return new DocIdSetIterator() {
 
                 /**
-                 * Finds next cluster that qualifies based on score threshold and heap factor.
+                 * Finds next cluster that qualifies based on the filter, score threshold and heap factor.
                  */
                 private DocumentCluster nextQualifiedCluster() {
                     if (clusterIter == null) {
@@ -205,12 +276,16 @@ public abstract class SeismicBaseScorer extends Scorer {
                     }
                     DocumentCluster cluster = clusterIter.next();
                     while (cluster != null) {
+                        // none of the docs could be scored, checking the doc ids is cheaper than scoring the summary
+                        if (filter != null && !cluster.containsAny(filter)) {
+                            cluster = clusterIter.next();
+                            continue;
+                        }
                         if (cluster.isShouldNotSkip()) {
                             return cluster;
                         }
                         int score = cluster.getSummary().dotProduct(queryDenseVector);
-                        if (scoreHeap.isFull()
-                            && score < Objects.requireNonNull(scoreHeap.peek()).getRight() / sparseQueryContext.getHeapFactor()) {
+                        if (score < pruningThreshold() / sparseQueryContext.getHeapFactor()) {
                             cluster = clusterIter.next();
                         } else {
                             return cluster;
@@ -247,14 +322,18 @@ public abstract class SeismicBaseScorer extends Scorer {
                     return docs.nextDoc();
                 }
 
+                /**
+                 * Docs come in cluster order rather than doc id order, so this moves to the next doc of the posting
+                 * whose id is not smaller than the target.
+                 */
                 @Override
                 public int advance(int target) throws IOException {
-                    return 0;
+                    return slowAdvance(target);
                 }
 
                 @Override
                 public long cost() {
-                    return 0;
+                    return cost;
                 }
             };
         }
@@ -271,20 +350,34 @@ public abstract class SeismicBaseScorer extends Scorer {
     }
 
     /**
-     * Iterator over pre-computed search results with score retrieval via cost().
+     * Iterator over pre-computed search results, sorted by doc id, with the score of the current doc.
      */
     public static class ResultsDocValueIterator extends DocIdSetIterator {
-        private final IteratorWrapper<Pair<Integer, Integer>> resultsIterator;
+        private final int[] docIds;
+        private final int[] scores;
+        private int index;
         private int docId;
 
         /**
-         * Creates iterator from list of document ID and score pairs.
+         * Creates iterator from document IDs in ascending order and their scores.
          */
-        public ResultsDocValueIterator(List<Pair<Integer, Integer>> results) {
-            resultsIterator = new IteratorWrapper<>(results.iterator());
+        public ResultsDocValueIterator(int[] docIds, int[] scores) {
+            if (docIds.length != scores.length) {
+                throw new IllegalArgumentException("docIds and scores must have the same length");
+            }
+            this.docIds = docIds;
+            this.scores = scores;
+            index = -1;
             docId = -1;
         }
 
+        /**
+         * Returns the number of results.
+         */
+        public int size() {
+            return docIds.length;
+        }
+
         @Override
         public int docID() {
             return docId;
@@ -292,12 +385,7 @@ public abstract class SeismicBaseScorer extends Scorer {
 
         @Override
         public int nextDoc() throws IOException {
-            if (resultsIterator.next() == null) {
-                docId = NO_MORE_DOCS;
-                return NO_MORE_DOCS;
-            }
-            docId = resultsIterator.getCurrent().getLeft();
-            return docId;
+            return moveTo(index + 1);
         }
 
         @Override
@@ -305,27 +393,53 @@ public abstract class SeismicBaseScorer extends Scorer {
             if (target <= docId) {
                 return docId;
             }
-            while (resultsIterator.hasNext()) {
-                Pair<Integer, Integer> pair = resultsIterator.next();
-                if (pair.getKey() >= target) {
-                    docId = pair.getKey();
-                    return docId;
-                }
+            int from = index + 1;
+            if (from >= docIds.length) {
+                return moveTo(docIds.length);
             }
-            docId = NO_MORE_DOCS;
-            return NO_MORE_DOCS;
+            int found = Arrays.binarySearch(docIds, from, docIds.length, target);
+            // doc ids are unique, the insertion point is the first doc after the target
+            return moveTo(found >= 0 ? found : -found - 1);
         }
 
         /**
-         * Returns pre-stored score for current document via cost method.
+         * Returns the number of results, which is the number of docs this iterator can match.
          */
         @Override
         public long cost() {
-            if (resultsIterator.getCurrent() == null || docId == NO_MORE_DOCS) {
+            return docIds.length;
+        }
+
+        /**
+         * Returns pre-stored score of the current document, or 0 if the iterator is not positioned on a document.
+         */
+        public int score() {
+            if (index < 0 || docId == NO_MORE_DOCS) {
                 return 0;
-            } else {
-                return resultsIterator.getCurrent().getValue();
             }
+            return scores[index];
+        }
+
+        /**
+         * Returns the max pre-stored score of the documents from the current one up to the given doc id, inclusive.
+         */
+        public int maxScore(int upTo) {
+            int max = 0;
+            for (int i = Math.max(index, 0); i < docIds.length && docIds[i] <= upTo; ++i) {
+                max = Math.max(max, scores[i]);
+            }
+            return max;
+        }
+
+        private int moveTo(int position) {
+            if (position >= docIds.length) {
+                index = docIds.length;
+                docId = NO_MORE_DOCS;
+                return NO_MORE_DOCS;
+            }
+            index = position;
+            docId = docIds[index];
+            return docId;
         }
     }
 }
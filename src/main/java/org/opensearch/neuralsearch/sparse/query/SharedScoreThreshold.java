@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe pruning threshold shared by the SEISMIC scorers of all segments of one query on a shard, similar to
+ * Lucene's MaxScoreAccumulator. Once a segment has scored at least max(k, score heap size) docs it publishes its score at
+ * that rank, which the shard-wide k-th best score can't be below since scores do not depend on the segment, so segments
+ * searched later, or concurrently, can skip clusters against the best threshold seen so far instead of starting from an
+ * empty heap.
+ */
+public class SharedScoreThreshold {
+    private final AtomicInteger threshold = new AtomicInteger(Integer.MIN_VALUE);
+
+    /**
+     * Raises the threshold to the given score if it is higher than the current one.
+     */
+    public void update(int score) {
+        // plain read first, so scorers publishing a lower score do not contend on the CAS
+        if (score > threshold.get()) {
+            threshold.accumulateAndGet(score, Math::max);
+        }
+    }
+
+    /**
+     * Returns the current threshold, or {@link Integer#MIN_VALUE} if no segment has published one yet.
+     */
+    public int get() {
+        return threshold.get();
+    }
+}
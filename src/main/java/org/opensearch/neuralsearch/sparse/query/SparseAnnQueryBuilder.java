@@ -40,6 +40,7 @@ import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +49,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSeismicBypassCache;
+import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSeismicQueryMassRatio;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_SEARCH;
 
 /**
@@ -66,6 +69,8 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
     @VisibleForTesting
     public static final ParseField TOP_N_FIELD = new ParseField("top_n");
     @VisibleForTesting
+    public static final ParseField QUERY_MASS_RATIO_FIELD = new ParseField("query_mass_ratio");
+    @VisibleForTesting
     public static final ParseField TOP_K_FIELD = new ParseField("k");
     @VisibleForTesting
     public static final ParseField HEAP_FACTOR_FIELD = new ParseField("heap_factor");
@@ -73,11 +78,15 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
     public static final ParseField METHOD_PARAMETERS_FIELD = new ParseField("method_parameters");
     @VisibleForTesting
     public static final ParseField FILTER_FIELD = new ParseField("filter");
+    @VisibleForTesting
+    public static final ParseField BYPASS_CACHE_FIELD = new ParseField("bypass_cache");
     private String fieldName;
     private Integer queryCut;
+    private Float queryMassRatio;
     private Integer k;
     private Float heapFactor;
     private QueryBuilder filter;
+    private Boolean bypassCache;
     private Query fallbackQuery;
     @Setter(lombok.AccessLevel.NONE)
     private Map<String, Float> queryTokens;
@@ -94,12 +103,41 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
         QueryBuilder filter,
         Query fallbackQuery,
         Map<String, Float> queryTokens
+    ) {
+        this(fieldName, queryCut, null, k, heapFactor, filter, fallbackQuery, queryTokens);
+    }
+
+    public SparseAnnQueryBuilder(
+        String fieldName,
+        Integer queryCut,
+        Float queryMassRatio,
+        Integer k,
+        Float heapFactor,
+        QueryBuilder filter,
+        Query fallbackQuery,
+        Map<String, Float> queryTokens
+    ) {
+        this(fieldName, queryCut, queryMassRatio, k, heapFactor, filter, null, fallbackQuery, queryTokens);
+    }
+
+    public SparseAnnQueryBuilder(
+        String fieldName,
+        Integer queryCut,
+        Float queryMassRatio,
+        Integer k,
+        Float heapFactor,
+        QueryBuilder filter,
+        Boolean bypassCache,
+        Query fallbackQuery,
+        Map<String, Float> queryTokens
     ) {
         this.fieldName = fieldName;
         this.queryCut = queryCut;
+        this.queryMassRatio = queryMassRatio;
         this.k = k;
         this.heapFactor = heapFactor;
         this.filter = filter;
+        this.bypassCache = bypassCache;
         this.fallbackQuery = fallbackQuery;
         this.queryTokens = preprocessQueryTokens(queryTokens);
     }
@@ -116,6 +154,12 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
         this.k = in.readOptionalInt();
         this.heapFactor = in.readOptionalFloat();
         this.filter = in.readOptionalNamedWriteable(QueryBuilder.class);
+        if (isVersionOnOrAfterMinReqVersionForSeismicQueryMassRatio(in.getVersion())) {
+            this.queryMassRatio = in.readOptionalFloat();
+        }
+        if (isVersionOnOrAfterMinReqVersionForSeismicBypassCache(in.getVersion())) {
+            this.bypassCache = in.readOptionalBoolean();
+        }
     }
 
     public SparseAnnQueryBuilder queryTokens(Map<String, Float> queryTokens) {
@@ -146,6 +190,14 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
                             String.format(Locale.ROOT, "[%s] %s must be a positive integer", NAME, TOP_N_FIELD.getPreferredName())
                         );
                     }
+                } else if (QUERY_MASS_RATIO_FIELD.match(methodFieldName, parser.getDeprecationHandler())) {
+                    builder.queryMassRatio = parser.floatValue();
+                    if (builder.queryMassRatio <= 0 || builder.queryMassRatio > 1) {
+                        throw new ParsingException(
+                            parser.getTokenLocation(),
+                            String.format(Locale.ROOT, "[%s] %s must be in range (0, 1]", NAME, QUERY_MASS_RATIO_FIELD.getPreferredName())
+                        );
+                    }
                 } else if (TOP_K_FIELD.match(methodFieldName, parser.getDeprecationHandler())) {
                     builder.k = parser.intValue();
                     if (builder.k <= 0) {
@@ -162,6 +214,8 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
                             String.format(Locale.ROOT, "[%s] %s must be a positive float", NAME, HEAP_FACTOR_FIELD.getPreferredName())
                         );
                     }
+                } else if (BYPASS_CACHE_FIELD.match(methodFieldName, parser.getDeprecationHandler())) {
+                    builder.bypassCache = parser.booleanValue();
                 } else {
                     throw new ParsingException(
                         parser.getTokenLocation(),
@@ -194,6 +248,12 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
         out.writeOptionalInt(this.k);
         out.writeOptionalFloat(this.heapFactor);
         out.writeOptionalNamedWriteable(this.filter);
+        if (isVersionOnOrAfterMinReqVersionForSeismicQueryMassRatio(out.getVersion())) {
+            out.writeOptionalFloat(this.queryMassRatio);
+        }
+        if (isVersionOnOrAfterMinReqVersionForSeismicBypassCache(out.getVersion())) {
+            out.writeOptionalBoolean(this.bypassCache);
+        }
     }
 
     @Override
@@ -201,6 +261,9 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
         if (Objects.nonNull(queryCut)) {
             xContentBuilder.field(TOP_N_FIELD.getPreferredName(), queryCut);
         }
+        if (Objects.nonNull(queryMassRatio)) {
+            xContentBuilder.field(QUERY_MASS_RATIO_FIELD.getPreferredName(), queryMassRatio);
+        }
         if (Objects.nonNull(k)) {
             xContentBuilder.field(TOP_K_FIELD.getPreferredName(), k);
         }
@@ -210,35 +273,68 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
         if (Objects.nonNull(filter)) {
             xContentBuilder.field(FILTER_FIELD.getPreferredName(), filter);
         }
+        if (Objects.nonNull(bypassCache)) {
+            xContentBuilder.field(BYPASS_CACHE_FIELD.getPreferredName(), bypassCache);
+        }
     }
 
     @Override
     protected QueryBuilder doRewrite(QueryRewriteContext queryRewriteContext) {
         return new SparseAnnQueryBuilder().fieldName(fieldName)
             .queryCut(queryCut)
+            .queryMassRatio(queryMassRatio)
             .k(k)
             .filter(filter)
+            .bypassCache(bypassCache)
             .fallbackQuery(fallbackQuery)
             .heapFactor(heapFactor);
     }
 
-    private SparseQueryContext constructSparseQueryContext() {
+    @VisibleForTesting
+    SparseQueryContext constructSparseQueryContext() {
         int n = queryCut == null ? DEFAULT_QUERY_CUT : queryCut;
         n = Math.min(n, queryTokens.size());
-        List<String> topTokens = queryTokens.entrySet()
+        // tokens are kept in descending weight order, so postings of heavy tokens are scored first and raise the heap
+        // threshold early
+        List<Map.Entry<String, Float>> topEntries = queryTokens.entrySet()
             .stream()
             .sorted(Map.Entry.<String, Float>comparingByValue().reversed()) // Sort by values in descending order
             .limit(n) // Take only top N elements
-            .map(Map.Entry::getKey)
             .toList();
 
         return SparseQueryContext.builder()
-            .tokens(topTokens)
+            .tokens(applyQueryMassRatio(topEntries))
             .heapFactor(heapFactor == null ? DEFAULT_HEAP_FACTOR : heapFactor)
             .k((k == null || k == 0) ? DEFAULT_TOP_K : k)
+            .bypassCache(Boolean.TRUE.equals(bypassCache))
             .build();
     }
 
+    /**
+     * Keeps the heaviest tokens until they hold the query mass ratio of the total weight of the given tokens.
+     * The low weight tail of long expansion queries adds little to the scores but many postings to visit.
+     */
+    private List<String> applyQueryMassRatio(List<Map.Entry<String, Float>> sortedEntries) {
+        if (queryMassRatio == null || queryMassRatio >= 1.0f) {
+            return sortedEntries.stream().map(Map.Entry::getKey).toList();
+        }
+        double totalMass = 0;
+        for (Map.Entry<String, Float> entry : sortedEntries) {
+            totalMass += entry.getValue();
+        }
+        double targetMass = totalMass * queryMassRatio;
+        double mass = 0;
+        List<String> tokens = new ArrayList<>();
+        for (Map.Entry<String, Float> entry : sortedEntries) {
+            if (!tokens.isEmpty() && mass >= targetMass) {
+                break;
+            }
+            tokens.add(entry.getKey());
+            mass += entry.getValue();
+        }
+        return tokens;
+    }
+
     @Override
     public Query doToQuery(QueryShardContext context) throws IOException {
         final MappedFieldType fieldType = context.fieldMapper(fieldName);
@@ -289,15 +385,22 @@ public class SparseAnnQueryBuilder extends AbstractQueryBuilder<SparseAnnQueryBu
             return false;
         }
         EqualsBuilder equalsBuilder = new EqualsBuilder().append(queryCut, obj.queryCut)
+            .append(queryMassRatio, obj.queryMassRatio)
             .append(heapFactor, obj.heapFactor)
             .append(k, obj.k)
-            .append(filter, obj.filter);
+            .append(filter, obj.filter)
+            .append(bypassCache, obj.bypassCache);
         return equalsBuilder.isEquals();
     }
 
     @Override
     protected int doHashCode() {
-        HashCodeBuilder builder = new HashCodeBuilder().append(queryCut).append(heapFactor).append(k).append(filter);
+        HashCodeBuilder builder = new HashCodeBuilder().append(queryCut)
+            .append(queryMassRatio)
+            .append(heapFactor)
+            .append(k)
+            .append(filter)
+            .append(bypassCache);
         return builder.toHashCode();
     }
 
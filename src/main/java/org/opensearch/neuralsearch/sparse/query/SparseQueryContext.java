@@ -18,4 +18,6 @@ public class SparseQueryContext {
     private final List<String> tokens;
     private final float heapFactor;
     private final int k;
+    // reads through the caches without inserting, so that analytical scans do not evict the hot entries
+    private final boolean bypassCache;
 }
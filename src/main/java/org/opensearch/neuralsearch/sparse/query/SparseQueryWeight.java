@@ -27,16 +27,21 @@ import org.apache.lucene.util.Bits;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorForwardIndex;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorWriter;
 import org.opensearch.neuralsearch.sparse.cache.CacheGatedForwardIndexReader;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
 import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
-import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCacheItem;
 import org.opensearch.neuralsearch.sparse.codec.SparseBinaryDocValuesPassThrough;
 import org.opensearch.neuralsearch.sparse.common.PredicateUtils;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
+import org.opensearch.neuralsearch.sparse.quantization.QuantizationType;
 
 import java.io.IOException;
 
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.N_POSTINGS_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_N_POSTINGS;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_POSTING_MINIMUM_LENGTH;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_POSTING_PRUNE_RATIO;
 import static org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil.MAX_UNSIGNED_BYTE_VALUE;
 
 /**
@@ -47,6 +52,10 @@ public class SparseQueryWeight extends Weight {
     private final float boost;
     private final Weight fallbackQueryWeight;
     private final ForwardIndexCache forwardIndexCache;
+    // computed once per query and only read by the scorers of all segments
+    private final byte[] queryDenseVector;
+    // shared by the scorers of all segments, which may be searched concurrently, to prune clusters across segments
+    private final SharedScoreThreshold sharedThreshold = new SharedScoreThreshold();
 
     public SparseQueryWeight(
         SparseVectorQuery query,
@@ -58,6 +67,7 @@ public class SparseQueryWeight extends Weight {
         super(query);
         this.boost = boost;
         this.forwardIndexCache = forwardIndexCache;
+        this.queryDenseVector = query.getQueryVector().toDenseVector();
         this.fallbackQueryWeight = query.getFallbackQuery().createWeight(searcher, scoreMode, boost);
     }
 
@@ -76,6 +86,7 @@ public class SparseQueryWeight extends Weight {
             return fallbackQueryWeight.scorerSupplier(context);
         }
         final Scorer scorer = selectScorer(query, context, info);
+        final long cost = scorer.iterator().cost();
         return new ScorerSupplier() {
             @Override
             public Scorer get(long leadCost) throws IOException {
@@ -84,31 +95,41 @@ public class SparseQueryWeight extends Weight {
 
             @Override
             public BulkScorer bulkScorer() throws IOException {
+                if (scorer instanceof ExactMatchScorer exactMatchScorer) {
+                    return exactMatchScorer.bulkScorer();
+                }
                 return new BulkScorer() {
-                    // We ignore the max value as our algorithm can't limit the docId to range of (min, max)
-                    // so, to ensure it's only called once, we return the maxDoc
+                    /**
+                     * Collects the docs within [min, max). Results are computed upfront for the whole segment,
+                     * so the iterator only has to be moved into the window.
+                     */
                     @Override
                     public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
                         collector.setScorer(scorer);
                         DocIdSetIterator iter = scorer.iterator();
-                        int docId = iter.nextDoc();
-                        while (docId != DocIdSetIterator.NO_MORE_DOCS) {
-                            collector.collect(docId);
+                        int docId = iter.docID();
+                        if (docId < min) {
+                            docId = iter.advance(min);
+                        }
+                        while (docId < max) {
+                            if (acceptDocs == null || acceptDocs.get(docId)) {
+                                collector.collect(docId);
+                            }
                             docId = iter.nextDoc();
                         }
-                        return DocIdSetIterator.NO_MORE_DOCS;
+                        return docId;
                     }
 
                     @Override
                     public long cost() {
-                        return 0;
+                        return cost;
                     }
                 };
             }
 
             @Override
             public long cost() {
-                return 0;
+                return cost;
             }
         };
     }
@@ -119,41 +140,92 @@ public class SparseQueryWeight extends Weight {
         FieldInfo fieldInfo = context.reader().getFieldInfos().fieldInfo(query.getFieldName());
         float rescaledBoost = boost * ByteQuantizationUtil.getCeilingValueIngest(fieldInfo) * ByteQuantizationUtil.getCeilingValueSearch(
             fieldInfo
-        ) / MAX_UNSIGNED_BYTE_VALUE / MAX_UNSIGNED_BYTE_VALUE;
+        ) / ByteQuantizationUtil.getMaxValueIngest(fieldInfo) / MAX_UNSIGNED_BYTE_VALUE;
 
         if (segmentInfo != null) {
             CacheKey key = new CacheKey(segmentInfo, query.getFieldName());
-            ForwardIndexCacheItem cacheItem = forwardIndexCache.getOrCreate(key, segmentInfo.maxDoc());
-            cacheGatedForwardIndexReader = getCacheGatedForwardIndexReader(cacheItem, context.reader(), query.getFieldName());
+            cacheGatedForwardIndexReader = getCacheGatedForwardIndexReader(
+                key,
+                segmentInfo.maxDoc(),
+                context.reader(),
+                query.getFieldName(),
+                query.getQueryContext().isBypassCache()
+            );
         }
         Similarity.SimScorer simScorer = ByteQuantizationUtil.getSimScorer(rescaledBoost);
         BitSetIterator filterBitIterator = null;
+        FilteredSearchMode filteredSearchMode = null;
+        // raw scores of segments quantized with their own learned ceiling are not comparable with each other
+        SharedScoreThreshold threshold = QuantizationType.fromFieldInfo(fieldInfo).isAdaptive()
+            ? new SharedScoreThreshold()
+            : sharedThreshold;
         if (query.getFilterResults() != null) {
             BitSet filter = query.getFilterResults().get(context.id());
             if (filter != null) {
                 int ord = filter.cardinality();
                 filterBitIterator = new BitSetIterator(filter, ord);
-                if (ord <= query.getQueryContext().getK()) {
-                    return new ExactMatchScorer(filterBitIterator, query.getQueryVector(), cacheGatedForwardIndexReader, simScorer);
+                int maxDoc = context.reader().maxDoc();
+                filteredSearchMode = FilteredSearchMode.select(
+                    ord,
+                    maxDoc,
+                    query.getQueryContext().getK(),
+                    estimateApproximateSearchCost(fieldInfo, maxDoc, query.getQueryContext().getTokens().size())
+                );
+                if (filteredSearchMode == FilteredSearchMode.EXACT) {
+                    return new ExactMatchScorer(filterBitIterator, queryDenseVector, cacheGatedForwardIndexReader, simScorer);
+                }
+                if (filteredSearchMode == FilteredSearchMode.POST_FILTER) {
+                    // scores of unfiltered docs are not lower bounds of the filtered results of other segments
+                    threshold = new SharedScoreThreshold();
                 }
             }
         }
         return new OrderedPostingWithClustersScorer(
             query.getFieldName(),
             query.getQueryContext(),
-            query.getQueryVector(),
+            queryDenseVector,
             context.reader(),
             context.reader().getLiveDocs(),
             cacheGatedForwardIndexReader,
             simScorer,
-            filterBitIterator
+            filterBitIterator,
+            filteredSearchMode,
+            threshold
         );
     }
 
-    private SparseVectorReader getCacheGatedForwardIndexReader(SparseVectorForwardIndex index, LeafReader leafReader, String fieldName)
-        throws IOException {
+    /**
+     * Estimates the number of postings the approximate search visits in a segment, as every query token visits at most
+     * the number of postings kept per token by the segment.
+     */
+    private static long estimateApproximateSearchCost(FieldInfo fieldInfo, int maxDoc, int tokenCount) {
+        int nPostings = Integer.parseInt(fieldInfo.attributes().get(N_POSTINGS_FIELD));
+        if (nPostings == DEFAULT_N_POSTINGS) {
+            nPostings = Math.max((int) (DEFAULT_POSTING_PRUNE_RATIO * maxDoc), DEFAULT_POSTING_MINIMUM_LENGTH);
+        }
+        return (long) Math.min(nPostings, maxDoc) * tokenCount;
+    }
+
+    private SparseVectorReader getCacheGatedForwardIndexReader(
+        CacheKey key,
+        int maxDoc,
+        LeafReader leafReader,
+        String fieldName,
+        boolean bypassCache
+    ) throws IOException {
         BinaryDocValues docValues = leafReader.getBinaryDocValues(fieldName);
         if (docValues instanceof SparseBinaryDocValuesPassThrough sparseBinaryDocValuesPassThrough) {
+            // a memory-mapped forward index relies on the OS page cache instead of the on-heap cache
+            if (sparseBinaryDocValuesPassThrough.hasMappedForwardIndex()) {
+                return sparseBinaryDocValuesPassThrough;
+            }
+            if (bypassCache) {
+                // only reads the vectors already cached, so a bypassing query never allocates the cache of the segment
+                SparseVectorForwardIndex index = forwardIndexCache.get(key);
+                SparseVectorReader cacheReader = index == null ? SparseVectorReader.NOOP_READER : index.getReader();
+                return new CacheGatedForwardIndexReader(cacheReader, SparseVectorWriter.NOOP_WRITER, sparseBinaryDocValuesPassThrough);
+            }
+            SparseVectorForwardIndex index = forwardIndexCache.getOrCreate(key, maxDoc);
             return new CacheGatedForwardIndexReader(index.getReader(), index.getWriter(), sparseBinaryDocValuesPassThrough);
         }
         return SparseVectorReader.NOOP_READER;
@@ -4,21 +4,56 @@
  */
 package org.opensearch.neuralsearch.transport;
 
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
 import org.opensearch.action.support.broadcast.BroadcastRequest;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
+import org.opensearch.tasks.Task;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Neural-sparse Warmup Request. This request contains a list of indices for which warmup should be performed.
+ * It also carries the id of its own task to the nodes, so the warm up of every shard runs under a child of it.
  */
 public class NeuralSparseWarmupRequest extends BroadcastRequest<NeuralSparseWarmupRequest> {
+    @Getter
+    @Setter
+    @NonNull
+    private TaskId warmupTaskId = TaskId.EMPTY_TASK_ID;
 
     public NeuralSparseWarmupRequest(StreamInput in) throws IOException {
         super(in);
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(in.getVersion())) {
+            warmupTaskId = TaskId.readFromStream(in);
+        }
     }
 
     public NeuralSparseWarmupRequest(String... indices) {
         super(indices);
     }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(out.getVersion())) {
+            warmupTaskId.writeTo(out);
+        }
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new NeuralSparseWarmupTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+
+    @Override
+    public String getDescription() {
+        return "warm up " + Arrays.toString(indices());
+    }
 }
@@ -5,9 +5,13 @@
 package org.opensearch.neuralsearch.transport;
 
 import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import lombok.Getter;
 import org.opensearch.action.support.broadcast.BroadcastResponse;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
 
 import java.io.IOException;
 import java.util.List;
@@ -15,9 +19,17 @@ import java.util.List;
 /**
  * {@link NeuralSparseWarmupResponse} represents Response returned by {@link NeuralSparseWarmupRequest}.
  * Returns total number of shards on which warm up was performed on, as well as
- * the number of shards that succeeded and the number of shards that failed.
+ * the number of shards that succeeded and the number of shards that failed, along with the number of docs and terms
+ * loaded into the caches and their size.
  */
+@Getter
 public class NeuralSparseWarmupResponse extends BroadcastResponse implements ToXContentObject {
+    private static final String LOADED_ITEMS_FIELD = "loaded_items";
+    private static final String LOADED_BYTES_FIELD = "loaded_bytes";
+
+    private final long loadedItems;
+    private final long loadedBytes;
+
     /**
      * Constructor
      *
@@ -26,6 +38,13 @@ public class NeuralSparseWarmupResponse extends BroadcastResponse implements ToX
      */
     public NeuralSparseWarmupResponse(StreamInput in) throws IOException {
         super(in);
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(in.getVersion())) {
+            this.loadedItems = in.readVLong();
+            this.loadedBytes = in.readVLong();
+        } else {
+            this.loadedItems = 0;
+            this.loadedBytes = 0;
+        }
     }
 
     /**
@@ -41,7 +60,45 @@ public class NeuralSparseWarmupResponse extends BroadcastResponse implements ToX
         int successfulShards,
         int failedShards,
         List<DefaultShardOperationFailedException> shardFailures
+    ) {
+        this(totalShards, successfulShards, failedShards, shardFailures, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param totalShards total number of shards on which warm up was performed
+     * @param successfulShards number of shards that succeeded
+     * @param failedShards number of shards that failed
+     * @param shardFailures list of shard failure exceptions
+     * @param loadedItems number of docs and terms loaded by the successful shards
+     * @param loadedBytes size of the docs and terms loaded by the successful shards
+     */
+    public NeuralSparseWarmupResponse(
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<DefaultShardOperationFailedException> shardFailures,
+        long loadedItems,
+        long loadedBytes
     ) {
         super(totalShards, successfulShards, failedShards, shardFailures);
+        this.loadedItems = loadedItems;
+        this.loadedBytes = loadedBytes;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (MinClusterVersionUtil.isVersionOnOrAfterMinReqVersionForSparseWarmupProgress(out.getVersion())) {
+            out.writeVLong(loadedItems);
+            out.writeVLong(loadedBytes);
+        }
+    }
+
+    @Override
+    protected void addCustomXContentFields(XContentBuilder builder, Params params) throws IOException {
+        builder.field(LOADED_ITEMS_FIELD, loadedItems);
+        builder.field(LOADED_BYTES_FIELD, loadedBytes);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.transport;
+
+import lombok.Getter;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.neuralsearch.sparse.SparseWarmupProgress;
+import org.opensearch.tasks.CancellableTask;
+
+import java.util.Map;
+
+/**
+ * Task of the warm up of a shard. The task API shows its progress as the task status, and cancelling the task stops
+ * the warm up.
+ */
+public class NeuralSparseWarmupShardTask extends CancellableTask {
+    @Getter
+    private final SparseWarmupProgress progress;
+
+    public NeuralSparseWarmupShardTask(
+        long id,
+        String type,
+        String action,
+        String description,
+        TaskId parentTaskId,
+        Map<String, String> headers,
+        SparseWarmupProgress progress
+    ) {
+        super(id, type, action, description, parentTaskId, headers);
+        this.progress = progress;
+    }
+
+    @Override
+    public SparseWarmupProgress getStatus() {
+        return progress;
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return false;
+    }
+
+    @Override
+    protected void onCancelled() {
+        progress.cancel();
+    }
+}
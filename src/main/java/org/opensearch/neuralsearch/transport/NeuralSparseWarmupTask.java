@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.transport;
+
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+
+import java.util.Map;
+
+/**
+ * Task of a warm up request. The warm up of every shard runs under a {@link NeuralSparseWarmupShardTask} child of this
+ * task, so cancelling it cancels the warm up of all shards, and the progress of the shards is listed by querying the
+ * task API with this task as parent_task_id.
+ */
+public class NeuralSparseWarmupTask extends CancellableTask {
+
+    public NeuralSparseWarmupTask(
+        long id,
+        String type,
+        String action,
+        String description,
+        TaskId parentTaskId,
+        Map<String, String> headers
+    ) {
+        super(id, type, action, description, parentTaskId, headers);
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+}
@@ -16,13 +16,20 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardsIterator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.neuralsearch.sparse.SparseWarmupProgress;
 import org.opensearch.neuralsearch.sparse.common.SparseConstants;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Transport Action for warming up neural-sparse indices. TransportBroadcastByNodeAction will distribute the request to
@@ -32,8 +39,10 @@ import java.util.List;
 public class NeuralSparseWarmupTransportAction extends TransportBroadcastByNodeAction<
     NeuralSparseWarmupRequest,
     NeuralSparseWarmupResponse,
-    TransportBroadcastByNodeAction.EmptyResult> {
+    SparseWarmupProgress> {
+    private static final String SHARD_TASK_ACTION_SUFFIX = "[shard]";
 
+    private final ClusterService clusterService;
     private final IndicesService indicesService;
 
     /**
@@ -62,16 +71,31 @@ public class NeuralSparseWarmupTransportAction extends TransportBroadcastByNodeA
             NeuralSparseWarmupRequest::new,
             SparseConstants.THREAD_POOL_NAME
         );
+        this.clusterService = clusterService;
         this.indicesService = indicesService;
     }
 
+    /**
+     * Records the task of the request in it before it is broadcast, so the shard tasks on every node are its children
+     * and are cancelled with it.
+     *
+     * @param task Task of the request
+     * @param request NeuralSparseWarmupRequest
+     * @param listener Listener of the response
+     */
+    @Override
+    protected void doExecute(Task task, NeuralSparseWarmupRequest request, ActionListener<NeuralSparseWarmupResponse> listener) {
+        request.setWarmupTaskId(new TaskId(clusterService.localNode().getId(), task.getId()));
+        super.doExecute(task, request, listener);
+    }
+
     /**
      * @param in Input stream to read the serialized result from
-     * @return Empty result object read from the input stream
+     * @return Warm up progress of the shard read from the input stream
      */
     @Override
-    protected EmptyResult readShardResult(StreamInput in) throws IOException {
-        return EmptyResult.readEmptyResultFrom(in);
+    protected SparseWarmupProgress readShardResult(StreamInput in) throws IOException {
+        return new SparseWarmupProgress(in);
     }
 
     /**
@@ -79,7 +103,7 @@ public class NeuralSparseWarmupTransportAction extends TransportBroadcastByNodeA
      * @param totalShards Total number of shards on which Warmup was performed
      * @param successfulShards Number of shards that succeeded
      * @param failedShards Number of shards that failed
-     * @param emptyResults List of EmptyResult
+     * @param shardProgresses Warm up progress of the successful shards
      * @param shardFailures List of shard failure exceptions
      * @param clusterState ClusterState
      * @return {@link NeuralSparseWarmupResponse} Response containing results of the warmup operation
@@ -90,11 +114,17 @@ public class NeuralSparseWarmupTransportAction extends TransportBroadcastByNodeA
         int totalShards,
         int successfulShards,
         int failedShards,
-        List<EmptyResult> emptyResults,
+        List<SparseWarmupProgress> shardProgresses,
         List<DefaultShardOperationFailedException> shardFailures,
         ClusterState clusterState
     ) {
-        return new NeuralSparseWarmupResponse(totalShards, successfulShards, failedShards, shardFailures);
+        long loadedItems = 0;
+        long loadedBytes = 0;
+        for (SparseWarmupProgress progress : shardProgresses) {
+            loadedItems += progress.getLoadedItems();
+            loadedBytes += progress.getLoadedBytes();
+        }
+        return new NeuralSparseWarmupResponse(totalShards, successfulShards, failedShards, shardFailures, loadedItems, loadedBytes);
     }
 
     /**
@@ -110,18 +140,30 @@ public class NeuralSparseWarmupTransportAction extends TransportBroadcastByNodeA
     /**
      * Operation performed at a shard level on all the shards of given index where the index is warmed up.
      * Any exception thrown here will be caught by the framework and result in shard failure.
+     * The warm up runs under a task of its own, a child of the task of the request, which reports its progress and is
+     * cancelled with the task of the request. The node level task the framework runs this under is not visible here
+     * and does not pass cancellation on, so it is not used as parent.
      *
      * @param request Request containing parameters for the warmup operation
      * @param shardRouting Routing information for the current shard
-     * @return Empty result object indicating operation completion
+     * @return Warm up progress of the shard once completed
      */
     @Override
-    protected EmptyResult shardOperation(NeuralSparseWarmupRequest request, ShardRouting shardRouting) throws IOException {
+    protected SparseWarmupProgress shardOperation(NeuralSparseWarmupRequest request, ShardRouting shardRouting) throws IOException {
         NeuralSparseIndexShard neuralSparseIndexShard = new NeuralSparseIndexShard(
             indicesService.indexServiceSafe(shardRouting.shardId().getIndex()).getShard(shardRouting.shardId().id())
         );
-        neuralSparseIndexShard.warmUp();
-        return EmptyResult.INSTANCE;
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        ShardTaskRequest shardTaskRequest = new ShardTaskRequest(shardRouting.shardId(), progress);
+        shardTaskRequest.setParentTask(request.getWarmupTaskId());
+        // a shard task whose parent is already cancelled is cancelled on registration and throws
+        Task task = taskManager.register("transport", actionName + SHARD_TASK_ACTION_SUFFIX, shardTaskRequest);
+        try {
+            neuralSparseIndexShard.warmUp(progress);
+        } finally {
+            taskManager.unregister(task);
+        }
+        return progress;
     }
 
     /**
@@ -155,4 +197,38 @@ public class NeuralSparseWarmupTransportAction extends TransportBroadcastByNodeA
     protected ClusterBlockException checkRequestBlock(ClusterState state, NeuralSparseWarmupRequest request, String[] concreteIndices) {
         return state.blocks().indicesBlockedException(ClusterBlockLevel.METADATA_READ, concreteIndices);
     }
+
+    /**
+     * Creates the task of the warm up of a shard, as shard operations do not run under a task of their own
+     */
+    private static class ShardTaskRequest implements TaskAwareRequest {
+        private final ShardId shardId;
+        private final SparseWarmupProgress progress;
+        private TaskId parentTaskId = TaskId.EMPTY_TASK_ID;
+
+        ShardTaskRequest(ShardId shardId, SparseWarmupProgress progress) {
+            this.shardId = shardId;
+            this.progress = progress;
+        }
+
+        @Override
+        public void setParentTask(TaskId taskId) {
+            this.parentTaskId = taskId;
+        }
+
+        @Override
+        public TaskId getParentTask() {
+            return parentTaskId;
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new NeuralSparseWarmupShardTask(id, type, action, getDescription(), parentTaskId, headers, progress);
+        }
+
+        @Override
+        public String getDescription() {
+            return "warm up " + shardId;
+        }
+    }
 }
@@ -27,6 +27,7 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.index.mapper.MappingTransformer;
@@ -59,6 +60,7 @@ import org.opensearch.neuralsearch.sparse.common.SparseConstants;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorFieldMapper;
 import org.opensearch.neuralsearch.sparse.SparseIndexEventListener;
 import org.opensearch.neuralsearch.sparse.SparseSettings;
+import org.opensearch.neuralsearch.sparse.SparseWarmupProgress;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.IndexSettings;
@@ -72,6 +74,7 @@ import org.opensearch.search.pipeline.SearchPhaseResultsProcessor;
 import org.opensearch.search.pipeline.SearchPipelineService;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
@@ -124,7 +127,8 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
                 NeuralSearchSettings.NEURAL_STATS_ENABLED,
                 NeuralSearchSettings.NEURAL_CIRCUIT_BREAKER_LIMIT,
                 NeuralSearchSettings.NEURAL_CIRCUIT_BREAKER_OVERHEAD,
-                NeuralSearchSettings.SPARSE_ALGO_PARAM_INDEX_THREAD_QTY_SETTING
+                NeuralSearchSettings.SPARSE_ALGO_PARAM_INDEX_THREAD_QTY_SETTING,
+                NeuralSearchSettings.SPARSE_MERGE_MEMORY_LIMIT
             )
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -199,7 +203,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
 
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
-        assertEquals(8, settings.size());
+        assertEquals(11, settings.size());
     }
 
     public void testRequestProcessors() {
@@ -225,6 +229,14 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         assertEquals(2, searchExts.size());
     }
 
+    public void testGetNamedWriteables_registersWarmupProgress() {
+        List<NamedWriteableRegistry.Entry> namedWriteables = plugin.getNamedWriteables();
+
+        assertEquals(1, namedWriteables.size());
+        assertEquals(Task.Status.class, namedWriteables.get(0).categoryClass);
+        assertEquals(SparseWarmupProgress.NAME, namedWriteables.get(0).name);
+    }
+
     public void testExecutionBuilders() {
         Settings settings = Settings.builder().build();
         Environment environment = mock(Environment.class);
@@ -6,17 +6,23 @@ package org.opensearch.neuralsearch.rest;
 
 import lombok.SneakyThrows;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.neuralsearch.plugin.NeuralSearch;
 import org.opensearch.neuralsearch.transport.NeuralSparseWarmupAction;
 import org.opensearch.neuralsearch.transport.NeuralSparseWarmupRequest;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.tasks.Task;
 import org.opensearch.transport.client.node.NodeClient;
 
 import java.util.List;
@@ -27,6 +33,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -175,4 +182,41 @@ public class RestNeuralSparseWarmupHandlerTests extends RestNeuralSparseTestCase
         // Verify the action was called
         verify(nodeClient).execute(eq(NeuralSparseWarmupAction.INSTANCE), any(NeuralSparseWarmupRequest.class), any());
     }
+
+    @SneakyThrows
+    public void testPrepareRequestWithoutWaitForCompletion_thenReturnsTaskId() {
+        // Setup
+        String indexName = "test-index";
+        when(restRequest.param("index")).thenReturn(indexName);
+        when(restRequest.param("wait_for_completion")).thenReturn("false");
+
+        Index[] indices = { new Index(indexName, "uuid1") };
+        when(indexNameExpressionResolver.concreteIndices(any(), any(), eq(new String[] { indexName }))).thenReturn(indices);
+
+        setupValidSparseIndices();
+
+        Task task = mock(Task.class);
+        when(task.getId()).thenReturn(42L);
+        when(
+            nodeClient.executeLocally(
+                eq(NeuralSparseWarmupAction.INSTANCE),
+                any(NeuralSparseWarmupRequest.class),
+                any(ActionListener.class)
+            )
+        ).thenReturn(task);
+        when(nodeClient.getLocalNodeId()).thenReturn("node");
+        RestChannel channel = mock(RestChannel.class);
+        when(channel.newBuilder()).thenReturn(JsonXContent.contentBuilder());
+
+        // Execute
+        Object consumer = handler.prepareRequest(restRequest, nodeClient);
+        ((CheckedConsumer<RestChannel, Exception>) consumer).accept(channel);
+
+        // Verify the warm up runs in the background and the task id is returned
+        verify(nodeClient, never()).execute(any(), any(NeuralSparseWarmupRequest.class), any());
+        ArgumentCaptor<RestResponse> responseCaptor = ArgumentCaptor.forClass(RestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.OK, responseCaptor.getValue().status());
+        assertEquals("{\"task\":\"node:42\"}", responseCaptor.getValue().content().utf8ToString());
+    }
 }
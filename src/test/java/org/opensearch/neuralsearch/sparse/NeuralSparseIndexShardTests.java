@@ -7,14 +7,17 @@ package org.opensearch.neuralsearch.sparse;
 import org.junit.Before;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.shard.IllegalIndexShardStateException;
 import org.opensearch.index.shard.IndexShard;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +68,37 @@ public class NeuralSparseIndexShardTests extends AbstractSparseTestBase {
         verify(searcher).close();
     }
 
+    public void testWarmUpWithProgress_thenCountsLoadedItems() throws IOException {
+        when(indexShard.acquireSearcher("warm-up-searcher-source")).thenReturn(searcher);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+
+        neuralSparseIndexShard = new NeuralSparseIndexShard(indexShard);
+
+        // Execute
+        neuralSparseIndexShard.warmUp(progress);
+
+        // Verify
+        assertTrue(progress.getTotalItems() > 0);
+        assertEquals(progress.getTotalItems(), progress.getLoadedItems());
+        assertEquals(100.0, progress.getPercent(), 0.0);
+        verify(searcher).close();
+    }
+
+    public void testWarmUpWithCancelledProgress_thenThrowsTaskCancelledException() throws IOException {
+        when(indexShard.acquireSearcher("warm-up-searcher-source")).thenReturn(searcher);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.cancel();
+
+        neuralSparseIndexShard = new NeuralSparseIndexShard(indexShard);
+
+        // Execute & Verify
+        expectThrows(TaskCancelledException.class, () -> neuralSparseIndexShard.warmUp(progress));
+        assertEquals(0, progress.getLoadedItems());
+        verify(searcher).close();
+    }
+
     public void testClearCacheWithSparseFields() throws IOException {
         // Setup with proper sparse field
         when(indexShard.acquireSearcher("clear-cache-searcher-source")).thenReturn(searcher);
@@ -153,4 +187,57 @@ public class NeuralSparseIndexShardTests extends AbstractSparseTestBase {
         expectThrows(EngineException.class, () -> neuralSparseIndexShard.clearCache());
         verify(indexShard).acquireSearcher("clear-cache-searcher-source");
     }
+
+    public void testCollectHotSet_afterWarmUp_thenPreloadsSameDocs() throws IOException {
+        when(indexShard.acquireSearcher("warm-up-searcher-source")).thenReturn(searcher);
+        when(indexShard.acquireSearcher("hot-set-searcher-source")).thenReturn(searcher);
+        when(indexShard.acquireSearcher("clear-cache-searcher-source")).thenReturn(searcher);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+        neuralSparseIndexShard = new NeuralSparseIndexShard(indexShard);
+        neuralSparseIndexShard.warmUp();
+
+        SparseHotSet hotSet = neuralSparseIndexShard.collectHotSet(100);
+        assertEquals(1, hotSet.getEntries().size());
+        assertEquals(15, hotSet.getEntries().get(0).getDocIds().length);
+        assertEquals(5, neuralSparseIndexShard.collectHotSet(5).getEntries().get(0).getDocIds().length);
+
+        neuralSparseIndexShard.clearCache();
+        assertTrue(neuralSparseIndexShard.collectHotSet(100).getEntries().isEmpty());
+
+        // Execute
+        neuralSparseIndexShard.warmUp(hotSet);
+
+        // Verify
+        SparseHotSet preloaded = neuralSparseIndexShard.collectHotSet(100);
+        assertEquals(1, preloaded.getEntries().size());
+        assertArrayEquals(hotSet.getEntries().get(0).getDocIds(), preloaded.getEntries().get(0).getDocIds());
+        neuralSparseIndexShard.clearCache();
+    }
+
+    public void testWarmUpWithHotSet_whenSegmentNotInHotSet_thenSkipsSegment() throws IOException {
+        when(indexShard.acquireSearcher("warm-up-searcher-source")).thenReturn(searcher);
+        when(indexShard.acquireSearcher("hot-set-searcher-source")).thenReturn(searcher);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+        SparseHotSet hotSet = new SparseHotSet(
+            List.of(new SparseHotSet.Entry("_other", new byte[16], "sparse_field", List.of(), new int[] { 0, 1 }))
+        );
+        neuralSparseIndexShard = new NeuralSparseIndexShard(indexShard);
+
+        // Execute
+        neuralSparseIndexShard.warmUp(hotSet);
+
+        // Verify
+        assertTrue(neuralSparseIndexShard.collectHotSet(100).getEntries().isEmpty());
+        verify(searcher, times(2)).close();
+    }
+
+    public void testCollectHotSetThrowsIllegalIndexShardStateException() {
+        when(indexShard.acquireSearcher("hot-set-searcher-source")).thenThrow(
+            new IllegalIndexShardStateException(new ShardId("test", "uuid", 0), null, "test exception")
+        );
+
+        neuralSparseIndexShard = new NeuralSparseIndexShard(indexShard);
+
+        expectThrows(IllegalIndexShardStateException.class, () -> neuralSparseIndexShard.collectHotSet(100));
+    }
 }
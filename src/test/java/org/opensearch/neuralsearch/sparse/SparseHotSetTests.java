@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.util.BytesRef;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class SparseHotSetTests extends AbstractSparseTestBase {
+
+    private static final byte[] SEGMENT_ID = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+
+    @SneakyThrows
+    public void testWriteAndRead_thenRoundTrips() {
+        Path path = createTempDir();
+        SparseHotSet.Entry entry = new SparseHotSet.Entry(
+            "_0",
+            SEGMENT_ID,
+            "sparse_field",
+            List.of(new BytesRef("1000"), new BytesRef("2000")),
+            new int[] { 0, 1, 2, 5, 7, 8, 100 }
+        );
+        SparseHotSet.Entry emptyDocsEntry = new SparseHotSet.Entry(
+            "_1",
+            SEGMENT_ID,
+            "sparse_field",
+            List.of(new BytesRef("3")),
+            new int[0]
+        );
+
+        new SparseHotSet(List.of(entry, emptyDocsEntry)).write(path);
+        SparseHotSet hotSet = SparseHotSet.read(path);
+
+        assertEquals(List.of(entry, emptyDocsEntry), hotSet.getEntries());
+        assertFalse(Files.exists(path.resolve(SparseHotSet.FILE_NAME + ".tmp")));
+    }
+
+    @SneakyThrows
+    public void testWrite_thenReplacesPreviousHotSet() {
+        Path path = createTempDir();
+        new SparseHotSet(List.of(new SparseHotSet.Entry("_0", SEGMENT_ID, "sparse_field", List.of(), new int[] { 1 }))).write(path);
+
+        new SparseHotSet(List.of()).write(path);
+
+        assertTrue(SparseHotSet.read(path).getEntries().isEmpty());
+    }
+
+    @SneakyThrows
+    public void testRead_withoutFile_thenReturnsEmptyHotSet() {
+        assertTrue(SparseHotSet.read(createTempDir()).getEntries().isEmpty());
+    }
+
+    @SneakyThrows
+    public void testRead_withCorruptedFile_thenThrowsCorruptIndexException() {
+        Path path = createTempDir();
+        new SparseHotSet(List.of(new SparseHotSet.Entry("_0", SEGMENT_ID, "sparse_field", List.of(), new int[] { 1, 2, 3 }))).write(path);
+        Path file = path.resolve(SparseHotSet.FILE_NAME);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(file, bytes);
+
+        expectThrows(CorruptIndexException.class, () -> SparseHotSet.read(path));
+    }
+
+    public void testFind_matchesSegmentNameIdAndField() {
+        SegmentInfo segmentInfo = TestsPrepareUtils.prepareSegmentInfo();
+        SparseHotSet.Entry entry = new SparseHotSet.Entry(segmentInfo.name, segmentInfo.getId(), "sparse_field", List.of(), new int[0]);
+        SparseHotSet.Entry otherIdEntry = new SparseHotSet.Entry(segmentInfo.name, new byte[16], "other_field", List.of(), new int[0]);
+        SparseHotSet hotSet = new SparseHotSet(List.of(otherIdEntry, entry));
+
+        assertSame(entry, hotSet.find(segmentInfo, "sparse_field"));
+        assertNull(hotSet.find(segmentInfo, "other_field"));
+    }
+}
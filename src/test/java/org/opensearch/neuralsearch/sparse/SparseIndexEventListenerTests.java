@@ -7,21 +7,43 @@ package org.opensearch.neuralsearch.sparse;
 import lombok.SneakyThrows;
 import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SegmentInfo;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.common.concurrent.GatedCloseable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.engine.Engine;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardPath;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
+import org.opensearch.neuralsearch.sparse.common.SparseConstants;
 import org.opensearch.neuralsearch.sparse.mapper.SparseVectorFieldType;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -111,4 +133,104 @@ public class SparseIndexEventListenerTests extends AbstractSparseTestBase {
 
         assertTrue(exception.getMessage().contains("Test exception"));
     }
+
+    public void testAfterIndexShardStarted_withHotSetSnapshots_thenPreloadsAndSchedulesSnapshot() throws IOException {
+        Path dataPath = createTempDir();
+        SegmentInfo segmentInfo = TestsPrepareUtils.prepareSegmentInfo();
+        new SparseHotSet(List.of(new SparseHotSet.Entry(segmentInfo.name, segmentInfo.getId(), "sparse_field", List.of(), new int[] { 0 })))
+            .write(dataPath);
+        prepareShard(dataPath, TimeValue.timeValueMinutes(5));
+        ThreadPool threadPool = prepareThreadPool();
+
+        listener.afterIndexShardStarted(indexShard);
+
+        // the preload reads the hot set and warms up the shard
+        verify(indexShard).acquireSearcher("warm-up-searcher-source");
+        verify(threadPool).schedule(any(Runnable.class), eq(TimeValue.timeValueMinutes(5)), eq(SparseConstants.THREAD_POOL_NAME));
+    }
+
+    public void testAfterIndexShardStarted_withoutHotSetSnapshots_thenPollsSetting() throws IOException {
+        prepareShard(createTempDir(), TimeValue.MINUS_ONE);
+        ThreadPool threadPool = prepareThreadPool();
+
+        listener.afterIndexShardStarted(indexShard);
+
+        verify(indexShard, never()).acquireSearcher(anyString());
+        verify(threadPool).schedule(
+            any(Runnable.class),
+            eq(SparseIndexEventListener.HOT_SET_SETTING_POLL_INTERVAL),
+            eq(SparseConstants.THREAD_POOL_NAME)
+        );
+    }
+
+    public void testScheduledSnapshot_thenPersistsHotSetAndReschedules() throws IOException {
+        Path dataPath = createTempDir();
+        prepareShard(dataPath, TimeValue.timeValueMinutes(5));
+        ThreadPool threadPool = prepareThreadPool();
+        listener.afterIndexShardStarted(indexShard);
+        ArgumentCaptor<Runnable> snapshot = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(snapshot.capture(), any(TimeValue.class), anyString());
+
+        snapshot.getValue().run();
+
+        assertTrue(Files.exists(dataPath.resolve(SparseHotSet.FILE_NAME)));
+        verify(indexShard).acquireSearcher("hot-set-searcher-source");
+        verify(threadPool, times(2)).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
+    public void testBeforeIndexShardClosed_thenCancelsSnapshotWithoutPersistingHotSet() throws IOException {
+        Path dataPath = createTempDir();
+        prepareShard(dataPath, TimeValue.timeValueMinutes(5));
+        ThreadPool threadPool = prepareThreadPool();
+        Scheduler.ScheduledCancellable scheduled = mock(Scheduler.ScheduledCancellable.class);
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenReturn(scheduled);
+        listener.afterIndexShardStarted(indexShard);
+
+        listener.beforeIndexShardClosed(indexShard.shardId(), indexShard, Settings.EMPTY);
+
+        verify(scheduled).cancel();
+        // the applier thread closing the shard neither walks the caches nor writes the hot set
+        verify(indexShard, never()).acquireSearcher("hot-set-searcher-source");
+        assertFalse(Files.exists(dataPath.resolve(SparseHotSet.FILE_NAME)));
+    }
+
+    public void testBeforeIndexShardClosed_withoutStartedShard_thenDoesNothing() {
+        listener.beforeIndexShardClosed(new ShardId("test", "uuid", 0), indexShard, Settings.EMPTY);
+
+        verify(indexShard, never()).acquireSearcher(anyString());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ClusterTrainingExecutor.getInstance().initialize(null);
+        super.tearDown();
+    }
+
+    private void prepareShard(Path dataPath, TimeValue interval) throws IOException {
+        IndexSettings indexSettings = mock(IndexSettings.class);
+        when(indexSettings.getValue(SparseSettings.HOT_SET_SNAPSHOT_INTERVAL_SETTING)).thenReturn(interval);
+        ShardPath shardPath = mock(ShardPath.class);
+        when(shardPath.getDataPath()).thenReturn(dataPath);
+        Engine.Searcher searcher = mock(Engine.Searcher.class);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+        when(indexShard.shardId()).thenReturn(new ShardId("test", "uuid", 0));
+        when(indexShard.indexSettings()).thenReturn(indexSettings);
+        when(indexShard.shardPath()).thenReturn(shardPath);
+        when(indexShard.acquireSearcher(anyString())).thenReturn(searcher);
+    }
+
+    private ThreadPool prepareThreadPool() {
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(executor);
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenReturn(
+            mock(Scheduler.ScheduledCancellable.class)
+        );
+        ClusterTrainingExecutor.getInstance().initialize(threadPool);
+        return threadPool;
+    }
 }
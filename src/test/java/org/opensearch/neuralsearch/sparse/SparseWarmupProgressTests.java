@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class SparseWarmupProgressTests extends AbstractSparseTestBase {
+
+    public void testRecordLoaded() {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.addTotalItems(4);
+
+        progress.recordLoaded(10);
+        progress.recordLoaded(30);
+
+        assertEquals(4, progress.getTotalItems());
+        assertEquals(2, progress.getLoadedItems());
+        assertEquals(40, progress.getLoadedBytes());
+        assertEquals(50.0, progress.getPercent(), 0.0);
+    }
+
+    public void testGetPercent_withNothingToLoad() {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+
+        assertEquals(100.0, progress.getPercent(), 0.0);
+    }
+
+    public void testGetEtaMillis() {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.addTotalItems(2);
+
+        assertEquals(-1, progress.getEtaMillis());
+
+        progress.recordLoaded(10);
+        assertTrue(progress.getEtaMillis() >= 0);
+
+        progress.recordLoaded(10);
+        assertEquals(0, progress.getEtaMillis());
+    }
+
+    public void testCancel() {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+
+        assertFalse(progress.isCancelled());
+        progress.cancel();
+        assertTrue(progress.isCancelled());
+    }
+
+    public void testStreamConstructor() throws IOException {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.addTotalItems(5);
+        progress.recordLoaded(64);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        progress.writeTo(out);
+        SparseWarmupProgress deserialized = new SparseWarmupProgress(out.bytes().streamInput());
+
+        assertEquals(SparseWarmupProgress.NAME, deserialized.getWriteableName());
+        assertEquals(5, deserialized.getTotalItems());
+        assertEquals(1, deserialized.getLoadedItems());
+        assertEquals(64, deserialized.getLoadedBytes());
+        assertTrue(deserialized.getElapsedMillis() >= 0);
+    }
+
+    public void testStreamConstructor_withOlderVersion_thenEmpty() throws IOException {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.addTotalItems(5);
+        progress.recordLoaded(64);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_3_0);
+        progress.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_3_0);
+        SparseWarmupProgress deserialized = new SparseWarmupProgress(in);
+
+        assertEquals(0, out.size());
+        assertEquals(0, deserialized.getTotalItems());
+        assertEquals(0, deserialized.getLoadedItems());
+    }
+
+    public void testToXContent() throws IOException {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.addTotalItems(4);
+        progress.recordLoaded(16);
+
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        progress.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Map<String, Object> map = XContentHelper.convertToMap(BytesReference.bytes(builder), false, MediaTypeRegistry.JSON).v2();
+
+        assertEquals(4, map.get("total_items"));
+        assertEquals(1, map.get("loaded_items"));
+        assertEquals(16, map.get("loaded_bytes"));
+        assertEquals(25.0, map.get("percent"));
+        assertNotNull(map.get("elapsed_in_millis"));
+        assertNotNull(map.get("eta_in_millis"));
+    }
+}
@@ -6,7 +6,9 @@ package org.opensearch.neuralsearch.sparse.algorithm;
 
 import org.mockito.ArgumentCaptor;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.neuralsearch.sparse.common.SparseConstants;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.util.concurrent.Future;
@@ -82,6 +84,15 @@ public class ClusterTrainingExecutorTests extends AbstractSparseTestBase {
         verify(executorService, times(1)).submit(intCallable);
     }
 
+    public void testSchedule_schedulesOnThreadPool() {
+        ClusterTrainingExecutor.getInstance().initialize(threadPool);
+        Runnable runnable = mock(Runnable.class);
+        Scheduler.ScheduledCancellable cancellable = mock(Scheduler.ScheduledCancellable.class);
+        when(threadPool.schedule(runnable, TimeValue.timeValueMinutes(1), SparseConstants.THREAD_POOL_NAME)).thenReturn(cancellable);
+
+        assertSame(cancellable, ClusterTrainingExecutor.getInstance().schedule(runnable, TimeValue.timeValueMinutes(1)));
+    }
+
     public void testThreadPoolName_hasCorrectValue() {
         assertEquals("seismic_thread_pool", SparseConstants.THREAD_POOL_NAME);
     }
@@ -153,4 +164,14 @@ public class ClusterTrainingExecutorTests extends AbstractSparseTestBase {
             capturedSettings.getAsInt(expectedKey, -1)
         );
     }
+
+    public void testSetMergeMemoryLimitBytes_thenReturnNewLimit() {
+        ClusterTrainingExecutor executor = ClusterTrainingExecutor.getInstance();
+        try {
+            executor.setMergeMemoryLimitBytes(1024L);
+            assertEquals(1024L, executor.getMergeMemoryLimitBytes());
+        } finally {
+            executor.setMergeMemoryLimitBytes(SparseConstants.Seismic.DEFAULT_MERGE_MEMORY_LIMIT_BYTES);
+        }
+    }
 }
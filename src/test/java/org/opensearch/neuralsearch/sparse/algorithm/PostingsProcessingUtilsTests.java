@@ -178,4 +178,20 @@ public class PostingsProcessingUtilsTests extends AbstractSparseTestBase {
             return !vector.iterator().hasNext(); // Check that the vector is empty
         }));
     }
+
+    public void testExtendSummary_thenKeepExistingSummaryAndPrunedAddedTokens() {
+        SparseVector summary = createVector(1, 50, 2, 10);
+        // added docs max vector is {1: 60, 3: 40, 4: 5}, pruning at 0.8 keeps tokens 1 and 3
+        List<SparseVector> vectors = List.of(createVector(1, 60, 4, 5), createVector(3, 40));
+
+        SparseVector extended = PostingsProcessingUtils.extendSummary(summary, vectors, 0.8f);
+
+        assertEquals(createVector(1, 60, 2, 10, 3, 40), extended);
+    }
+
+    public void testExtendSummary_nullSummary_thenPrunedAddedTokens() {
+        SparseVector extended = PostingsProcessingUtils.extendSummary(null, List.of(createVector(1, 50, 2, 30, 3, 10)), 0.5f);
+
+        assertEquals(createVector(1, 50), extended);
+    }
 }
@@ -16,9 +16,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.cache.CacheKey;
-import org.opensearch.neuralsearch.sparse.codec.MergeHelper;
 import org.opensearch.neuralsearch.sparse.codec.SparseBinaryDocValuesPassThrough;
 import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+import org.opensearch.neuralsearch.sparse.common.MergedDocMap;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.MergedPosting;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
 
 import java.io.IOException;
@@ -27,17 +29,22 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class BatchClusteringTaskTests extends AbstractSparseTestBase {
     private List<BytesRef> terms;
+    private List<MergedPosting> postings;
     private CacheKey key;
     @Mock
     private MergeStateFacade mergeStateFacade;
     @Mock
-    private MergeHelper mergeHelper;
+    private MergedDocMap docMap;
     @Mock
     private FieldInfo fieldInfo;
     @Mock
@@ -56,10 +63,9 @@ public class BatchClusteringTaskTests extends AbstractSparseTestBase {
         terms = Arrays.asList(new BytesRef("term1"), new BytesRef("term2"));
         when(fieldInfo.getName()).thenReturn("test_field");
         key = prepareUniqueCacheKey(segmentInfo);
-        when(mergeStateFacade.getMaxDocs()).thenReturn(new int[] { 5, 6 });
-        when(mergeHelper.getMergedPostingForATerm(any(), any(), any(), any(), any())).thenReturn(
-            preparePostings(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10, 10)
-        );
+        List<DocWeight> posting = preparePostings(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10, 10);
+        postings = Arrays.asList(new MergedPosting(posting, null), new MergedPosting(posting, null));
+        when(docMap.size()).thenReturn(11);
         when(mergeStateFacade.getDocValuesProducers()).thenReturn(new DocValuesProducer[] { docValuesProducer });
         when(docValuesProducer.getBinary(any())).thenReturn(binaryDocValuesPassThrough);
         when(binaryDocValuesPassThrough.read(anyInt())).thenReturn(createVector(1, 2, 3, 4, 5, 6))
@@ -73,7 +79,7 @@ public class BatchClusteringTaskTests extends AbstractSparseTestBase {
         List<BytesRef> originalTerms = Arrays.asList(new BytesRef("term1"), new BytesRef("term2"));
 
         // Execute - create task with null mergeState to test constructor
-        BatchClusteringTask task = new BatchClusteringTask(originalTerms, key, 0.5f, 0.3f, 10, mergeStateFacade, null, mergeHelper);
+        BatchClusteringTask task = new BatchClusteringTask(originalTerms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, null, docMap);
 
         // Verify task is created
         assertNotNull("Task should be created successfully", task);
@@ -92,13 +98,20 @@ public class BatchClusteringTaskTests extends AbstractSparseTestBase {
     }
 
     public void testGetWithNullMergeStateThenThrowException() {
-        assertThrows(NullPointerException.class, () -> new BatchClusteringTask(terms, key, 0.5f, 0.3f, 10, null, null, null));
+        assertThrows(NullPointerException.class, () -> new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, null, null, docMap));
+    }
+
+    public void testGetWithNullDocMapThenThrowException() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, null, null)
+        );
     }
 
     @SneakyThrows
     public void testGetWithNonNullMergeState() {
         // Create BatchClusteringTask
-        BatchClusteringTask task = new BatchClusteringTask(terms, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, mergeHelper);
+        BatchClusteringTask task = new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, docMap);
 
         // Execute and examine the result
         List<Pair<BytesRef, PostingClusters>> result = task.get();
@@ -123,9 +136,9 @@ public class BatchClusteringTaskTests extends AbstractSparseTestBase {
 
     @SneakyThrows
     public void testGetWithNonNullMergeStateZeroMaxDocs() {
-        when(mergeStateFacade.getMaxDocs()).thenReturn(new int[]{0});
+        when(docMap.size()).thenReturn(0);
         // Create BatchClusteringTask
-        BatchClusteringTask task = new BatchClusteringTask(terms, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, mergeHelper);
+        BatchClusteringTask task = new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, docMap);
 
         // Execute and examine the result
         List<Pair<BytesRef, PostingClusters>> result = task.get();
@@ -137,19 +150,31 @@ public class BatchClusteringTaskTests extends AbstractSparseTestBase {
     }
 
     public void testThrowIOException() throws IOException {
-        doThrow(new IOException()).when(mergeHelper).getMergedPostingForATerm(any(), any(), any(), any(), any());
+        doThrow(new IOException()).when(binaryDocValuesPassThrough).read(anyInt());
         // Create BatchClusteringTask
-        BatchClusteringTask task = new BatchClusteringTask(terms, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, mergeHelper);
+        BatchClusteringTask task = new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, docMap);
 
         // Execute and examine the result
         assertThrows(RuntimeException.class, () -> task.get());
     }
 
+    @SneakyThrows
+    public void testGetReadsVectorsThroughDocMap() {
+        when(docMap.segmentIndex(anyInt())).thenReturn(0);
+        when(docMap.oldDocId(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) + 100);
+        BatchClusteringTask task = new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, docMap);
+
+        task.get();
+
+        verify(binaryDocValuesPassThrough, atLeastOnce()).read(intThat(docId -> docId > 100));
+        verify(binaryDocValuesPassThrough, never()).read(intThat(docId -> docId <= 100));
+    }
+
     public void testNotSeismicBinaryDocValues() throws IOException {
         BinaryDocValues docValues = mock(BinaryDocValues.class);
         when(docValuesProducer.getBinary(any())).thenReturn(docValues);
         // Create BatchClusteringTask
-        BatchClusteringTask task = new BatchClusteringTask(terms, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, mergeHelper);
+        BatchClusteringTask task = new BatchClusteringTask(terms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, fieldInfo, docMap);
 
         // Execute and examine the result
         List<Pair<BytesRef, PostingClusters>> result = task.get();
@@ -163,7 +188,7 @@ public class BatchClusteringTaskTests extends AbstractSparseTestBase {
         // Test that the terms are properly deep copied and used in get() method
         List<BytesRef> originalTerms = Arrays.asList(new BytesRef("original1"), new BytesRef("original2"));
 
-        BatchClusteringTask task = new BatchClusteringTask(originalTerms, key, 0.5f, 0.3f, 10, mergeStateFacade, null, mergeHelper);
+        BatchClusteringTask task = new BatchClusteringTask(originalTerms, postings, key, 0.5f, 0.3f, 10, mergeStateFacade, null, docMap);
 
         // Modify original terms
         originalTerms.get(0).bytes[0] = (byte) 'M';
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.algorithm.seismic;
+
+import org.apache.lucene.index.FieldInfo;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_KMEANS;
+
+public class ClusteringAlgorithmTypeTests extends AbstractSparseTestBase {
+
+    public void testFromFieldInfo_withoutAttribute_returnsRandom() {
+        FieldInfo fieldInfo = mock(FieldInfo.class);
+
+        assertEquals(ClusteringAlgorithmType.RANDOM, ClusteringAlgorithmType.fromFieldInfo(fieldInfo));
+    }
+
+    public void testFromFieldInfo_withKMeans_returnsKMeans() {
+        FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.getAttribute(CLUSTERING_ALGORITHM_FIELD)).thenReturn(CLUSTERING_ALGORITHM_KMEANS);
+
+        assertEquals(ClusteringAlgorithmType.KMEANS, ClusteringAlgorithmType.fromFieldInfo(fieldInfo));
+    }
+
+    public void testFromFieldInfo_withUnknownName_throwsException() {
+        FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.getAttribute(CLUSTERING_ALGORITHM_FIELD)).thenReturn("unknown");
+
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> ClusteringAlgorithmType.fromFieldInfo(fieldInfo)
+        );
+        assertEquals("Unknown clustering algorithm [unknown]", exception.getMessage());
+    }
+
+    public void testCreate_thenReturnsAlgorithmOfType() {
+        SparseVectorReader reader = mock(SparseVectorReader.class);
+
+        assertTrue(ClusteringAlgorithmType.RANDOM.create(0.4f, 0.1f, reader) instanceof RandomClusteringAlgorithm);
+        assertTrue(ClusteringAlgorithmType.KMEANS.create(0.4f, 0.1f, reader) instanceof KMeansClusteringAlgorithm);
+    }
+}
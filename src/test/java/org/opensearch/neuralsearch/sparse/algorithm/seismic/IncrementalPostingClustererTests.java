@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.algorithm.seismic;
+
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+import org.opensearch.neuralsearch.sparse.data.MergedPosting;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IncrementalPostingClustererTests extends AbstractSparseTestBase {
+
+    @Mock
+    private SparseVectorReader reader;
+    @Mock
+    private SeismicPostingClusterer seismicPostingClusterer;
+
+    private IncrementalPostingClusterer clusterer;
+    private List<DocumentCluster> baseClusters;
+    private List<DocWeight> baseDocs;
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        MockitoAnnotations.openMocks(this);
+        clusterer = new IncrementalPostingClusterer(100, 1.0f, reader, seismicPostingClusterer);
+        // cluster 0 on token 1 with docs 0 to 4, cluster 1 on token 2 with docs 5 to 9
+        baseClusters = List.of(
+            new DocumentCluster(createVector(1, 10), preparePostings(0, 10, 1, 10, 2, 10, 3, 10, 4, 10), false),
+            new DocumentCluster(createVector(2, 10), preparePostings(5, 10, 6, 10, 7, 10, 8, 10, 9, 10), false)
+        );
+        baseDocs = new ArrayList<>();
+        baseClusters.forEach(cluster -> cluster.iterator().forEachRemaining(baseDocs::add));
+    }
+
+    public void testCluster_noBaseClusters_thenClusterFromScratch() throws IOException {
+        List<DocWeight> docs = preparePostings(1, 10, 2, 20);
+        List<DocumentCluster> expected = List.of(new DocumentCluster(null, docs, true));
+        when(seismicPostingClusterer.cluster(docs)).thenReturn(expected);
+
+        assertSame(expected, clusterer.cluster(new MergedPosting(docs, null)));
+        assertSame(expected, clusterer.cluster(new MergedPosting(docs, List.of())));
+    }
+
+    public void testCluster_fewNewDocs_thenAssignToNearestBaseCluster() throws IOException {
+        List<DocWeight> docs = new ArrayList<>(baseDocs);
+        docs.addAll(preparePostings(10, 20, 11, 30));
+        when(reader.read(10)).thenReturn(createVector(2, 5, 3, 7));
+        when(reader.read(11)).thenReturn(createVector(1, 5));
+
+        List<DocumentCluster> clusters = clusterer.cluster(new MergedPosting(docs, baseClusters));
+
+        assertEquals(2, clusters.size());
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 11 }, clusters.get(0).getDocIds());
+        assertArrayEquals(new int[] { 5, 6, 7, 8, 9, 10 }, clusters.get(1).getDocIds());
+        // the summary of cluster 0 is unchanged by a doc without new tokens, cluster 1 gains token 3
+        assertEquals(createVector(1, 10), clusters.get(0).getSummary());
+        assertEquals(createVector(2, 10, 3, 7), clusters.get(1).getSummary());
+        assertFalse(clusters.get(0).isShouldNotSkip());
+        verify(seismicPostingClusterer, never()).cluster(anyList());
+    }
+
+    public void testCluster_newDocWithoutVector_thenDropped() throws IOException {
+        List<DocWeight> docs = new ArrayList<>(baseDocs);
+        docs.addAll(preparePostings(10, 20));
+        when(reader.read(anyInt())).thenReturn(null);
+
+        List<DocumentCluster> clusters = clusterer.cluster(new MergedPosting(docs, baseClusters));
+
+        assertEquals(10, clusters.stream().mapToInt(DocumentCluster::size).sum());
+    }
+
+    public void testCluster_tooManyChangedDocs_thenClusterFromScratch() throws IOException {
+        List<DocWeight> docs = new ArrayList<>(baseDocs);
+        docs.addAll(preparePostings(10, 20, 11, 20, 12, 20, 13, 20, 14, 20));
+        List<DocumentCluster> expected = List.of(new DocumentCluster(null, docs, false));
+        when(seismicPostingClusterer.cluster(docs)).thenReturn(expected);
+
+        assertSame(expected, clusterer.cluster(new MergedPosting(docs, baseClusters)));
+    }
+
+    public void testCluster_baseDocsPushedOutOfTopPostings_thenDroppedAndCountedAsChanged() throws IOException {
+        clusterer = new IncrementalPostingClusterer(10, 1.0f, reader, seismicPostingClusterer);
+        baseClusters = List.of(
+            new DocumentCluster(createVector(1, 10), preparePostings(0, 10, 1, 10, 2, 10, 3, 10, 4, 10), false),
+            new DocumentCluster(createVector(2, 10), preparePostings(5, 10, 6, 10, 7, 10, 8, 10, 9, 1), false)
+        );
+        List<DocWeight> docs = preparePostings(0, 10, 1, 10, 2, 10, 3, 10, 4, 10, 5, 10, 6, 10, 7, 10, 8, 10, 9, 1, 10, 20);
+        when(reader.read(10)).thenReturn(createVector(1, 5));
+
+        List<DocumentCluster> clusters = clusterer.cluster(new MergedPosting(docs, baseClusters));
+
+        // the new doc replaces doc 9, 2 changed docs out of 10 are below the threshold
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 10 }, clusters.get(0).getDocIds());
+        assertArrayEquals(new int[] { 5, 6, 7, 8 }, clusters.get(1).getDocIds());
+    }
+
+    public void testCluster_unskippableBaseCluster_thenClusterFromScratch() throws IOException {
+        List<DocumentCluster> unskippable = List.of(new DocumentCluster(null, baseDocs, true));
+        List<DocWeight> docs = new ArrayList<>(baseDocs);
+        when(seismicPostingClusterer.cluster(docs)).thenReturn(unskippable);
+
+        assertSame(unskippable, clusterer.cluster(new MergedPosting(docs, unskippable)));
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.algorithm.seismic;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.MODULUS_FOR_SHORT;
+
+public class KMeansClusteringAlgorithmTests extends AbstractSparseTestBase {
+
+    @Mock
+    private SparseVectorReader reader;
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        MockitoAnnotations.openMocks(this);
+    }
+
+    public void testCluster_withEmptyPostings_returnsEmptyList() throws IOException {
+        KMeansClusteringAlgorithm clustering = new KMeansClusteringAlgorithm(1.0f, 0.1f, reader);
+
+        assertTrue(clustering.cluster(Collections.emptyList()).isEmpty());
+        assertTrue(clustering.cluster(null).isEmpty());
+    }
+
+    public void testCluster_withClusterRatio0_returnsSingleCluster() throws IOException {
+        List<DocWeight> docWeights = preparePostings(0, 10, 1, 20, 2, 30);
+        KMeansClusteringAlgorithm clustering = new KMeansClusteringAlgorithm(1.0f, 0, reader);
+
+        List<DocumentCluster> clusters = clustering.cluster(docWeights);
+
+        assertEquals(1, clusters.size());
+        assertEquals(3, clusters.get(0).size());
+        assertTrue(clusters.get(0).isShouldNotSkip());
+        verify(reader, never()).read(anyInt());
+    }
+
+    public void testCluster_withSeparatedGroups_thenEachGroupIsOneCluster() throws IOException {
+        List<DocWeight> docWeights = new ArrayList<>();
+        for (int docId = 0; docId < 20; ++docId) {
+            docWeights.add(new DocWeight(docId, (byte) 1));
+            int weight = 10 + docId;
+            if (docId < 10) {
+                when(reader.read(docId)).thenReturn(createVector(1, weight, 2, weight + 5));
+            } else {
+                when(reader.read(docId)).thenReturn(createVector(100, weight, 101, weight + 5));
+            }
+        }
+        KMeansClusteringAlgorithm clustering = new KMeansClusteringAlgorithm(1.0f, 0.1f, reader);
+
+        List<DocumentCluster> clusters = clustering.cluster(docWeights);
+
+        assertEquals(2, clusters.size());
+        for (DocumentCluster cluster : clusters) {
+            assertEquals(10, cluster.size());
+            assertFalse(cluster.isShouldNotSkip());
+            assertNotNull(cluster.getSummary());
+            Set<Boolean> groups = new HashSet<>();
+            cluster.iterator().forEachRemaining(docWeight -> groups.add(docWeight.getDocID() < 10));
+            assertEquals(1, groups.size());
+        }
+    }
+
+    public void testCluster_withSeveralInstances_thenReusesPooledScratch() throws IOException {
+        List<DocWeight> docWeights = preparePostings(0, 10, 1, 20, 2, 30, 3, 40);
+        for (int docId = 0; docId < 4; ++docId) {
+            when(reader.read(docId)).thenReturn(createVector(docId + 1, 10, 200, 20));
+        }
+        KMeansClusteringAlgorithm.Scratch scratch = KMeansClusteringAlgorithm.borrowScratch();
+        KMeansClusteringAlgorithm.releaseScratch(scratch);
+
+        new KMeansClusteringAlgorithm(1.0f, 0.5f, reader).cluster(docWeights);
+        new KMeansClusteringAlgorithm(1.0f, 0.5f, reader).cluster(docWeights);
+
+        List<KMeansClusteringAlgorithm.Scratch> pooled = new ArrayList<>();
+        for (int i = 0; i < KMeansClusteringAlgorithm.MAX_IDLE_SCRATCH; ++i) {
+            pooled.add(KMeansClusteringAlgorithm.borrowScratch());
+        }
+        assertTrue(pooled.stream().anyMatch(reused -> reused == scratch));
+        for (KMeansClusteringAlgorithm.Scratch reused : pooled) {
+            for (float weight : reused.dense) {
+                assertEquals(0, weight, 0);
+            }
+        }
+        pooled.forEach(KMeansClusteringAlgorithm::releaseScratch);
+    }
+
+    public void testReleaseScratch_whenPoolIsFull_thenDropsScratch() {
+        List<KMeansClusteringAlgorithm.Scratch> borrowed = new ArrayList<>();
+        for (int i = 0; i <= KMeansClusteringAlgorithm.MAX_IDLE_SCRATCH; ++i) {
+            borrowed.add(KMeansClusteringAlgorithm.borrowScratch());
+        }
+        borrowed.forEach(KMeansClusteringAlgorithm::releaseScratch);
+
+        Set<KMeansClusteringAlgorithm.Scratch> pooled = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i <= KMeansClusteringAlgorithm.MAX_IDLE_SCRATCH; ++i) {
+            pooled.add(KMeansClusteringAlgorithm.borrowScratch());
+        }
+
+        assertFalse(pooled.contains(borrowed.get(KMeansClusteringAlgorithm.MAX_IDLE_SCRATCH)));
+        assertTrue(pooled.containsAll(borrowed.subList(0, KMeansClusteringAlgorithm.MAX_IDLE_SCRATCH)));
+        borrowed.forEach(KMeansClusteringAlgorithm::releaseScratch);
+    }
+
+    public void testCluster_withMissingVectors_thenDocsAreDropped() throws IOException {
+        List<DocWeight> docWeights = preparePostings(0, 10, 1, 20, 2, 30, 3, 40);
+        when(reader.read(0)).thenReturn(createVector(1, 10, 2, 20));
+        when(reader.read(2)).thenReturn(createVector(1, 30, 2, 10));
+        KMeansClusteringAlgorithm clustering = new KMeansClusteringAlgorithm(1.0f, 0.5f, reader);
+
+        List<DocumentCluster> clusters = clustering.cluster(docWeights);
+
+        int docCount = 0;
+        for (DocumentCluster cluster : clusters) {
+            docCount += cluster.size();
+        }
+        assertEquals(2, docCount);
+    }
+
+    public void testMoveTowards_thenMergesAndNormalizes() {
+        KMeansClusteringAlgorithm.Vector seed = new KMeansClusteringAlgorithm.Vector(new int[] { 1, 3 }, new float[] { 1, 0 });
+        KMeansClusteringAlgorithm.Vector center = KMeansClusteringAlgorithm.Vector.centerOf(seed);
+        KMeansClusteringAlgorithm.Vector doc = new KMeansClusteringAlgorithm.Vector(new int[] { 2, 3 }, new float[] { 0, 1 });
+        int[] centerTokens = center.tokens;
+
+        center.moveTowards(doc, 0.5f, new KMeansClusteringAlgorithm.Scratch());
+
+        assertSame(centerTokens, center.tokens);
+        assertArrayEquals(new int[] { 1, 2, 3 }, ArrayUtil.copyOfSubArray(center.tokens, 0, center.size));
+        float expected = (float) Math.sqrt(0.5);
+        assertArrayEquals(
+            new float[] { expected, 0, expected },
+            ArrayUtil.copyOfSubArray(center.weights, 0, center.size),
+            DELTA_FOR_ASSERTION
+        );
+        // the seed doc is not changed
+        assertArrayEquals(new int[] { 1, 3 }, seed.tokens);
+    }
+
+    public void testMoveTowards_withManyTokens_thenKeepsLargestWeights() {
+        int count = KMeansClusteringAlgorithm.MAX_CENTER_TOKENS + 10;
+        int[] tokens = new int[count];
+        float[] weights = new float[count];
+        for (int i = 0; i < count; ++i) {
+            tokens[i] = i;
+            weights[i] = i + 1;
+        }
+        KMeansClusteringAlgorithm.Vector center = KMeansClusteringAlgorithm.Vector.centerOf(
+            new KMeansClusteringAlgorithm.Vector(tokens, weights)
+        );
+        KMeansClusteringAlgorithm.Vector doc = new KMeansClusteringAlgorithm.Vector(new int[0], new float[0]);
+
+        center.moveTowards(doc, 0.5f, new KMeansClusteringAlgorithm.Scratch());
+
+        assertEquals(KMeansClusteringAlgorithm.MAX_CENTER_TOKENS, center.size);
+        assertEquals(10, center.tokens[0]);
+        assertEquals(count - 1, center.tokens[center.size - 1]);
+    }
+
+    public void testCenterIndex_nearest_thenReturnsMostSimilarCenter() {
+        KMeansClusteringAlgorithm.Vector[] centers = new KMeansClusteringAlgorithm.Vector[] {
+            new KMeansClusteringAlgorithm.Vector(new int[] { 1, 2 }, new float[] { 0.6f, 0.8f }),
+            new KMeansClusteringAlgorithm.Vector(new int[] { 2, 5 }, new float[] { 0.8f, 0.6f }),
+            new KMeansClusteringAlgorithm.Vector(new int[] { 7 }, new float[] { 1 }) };
+        KMeansClusteringAlgorithm.CenterIndex index = new KMeansClusteringAlgorithm.CenterIndex(centers);
+
+        assertEquals(1, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 5 }, new float[] { 1 })));
+        assertEquals(0, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 1, 2 }, new float[] { 0.8f, 0.6f })));
+        assertEquals(2, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 7, 9 }, new float[] { 0.6f, 0.8f })));
+        // no shared token, the first center wins
+        assertEquals(0, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 9 }, new float[] { 1 })));
+    }
+
+    public void testCenterIndex_build_whenRebuilt_thenForgetsTokensOfPreviousCenters() {
+        KMeansClusteringAlgorithm.CenterIndex index = new KMeansClusteringAlgorithm.CenterIndex(
+            new KMeansClusteringAlgorithm.Vector[] {
+                new KMeansClusteringAlgorithm.Vector(new int[] { 1 }, new float[] { 1 }),
+                new KMeansClusteringAlgorithm.Vector(new int[] { 7 }, new float[] { 1 }) }
+        );
+
+        index.build(
+            new KMeansClusteringAlgorithm.Vector[] {
+                new KMeansClusteringAlgorithm.Vector(new int[] { 3 }, new float[] { 1 }),
+                new KMeansClusteringAlgorithm.Vector(new int[] { 5 }, new float[] { 1 }),
+                new KMeansClusteringAlgorithm.Vector(new int[] { 1 }, new float[] { 1 }) }
+        );
+
+        assertEquals(2, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 1 }, new float[] { 1 })));
+        assertEquals(1, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 5, 7 }, new float[] { 0.6f, 0.8f })));
+        assertEquals(0, index.nearest(new KMeansClusteringAlgorithm.Vector(new int[] { 7 }, new float[] { 1 })));
+    }
+
+    public void testSeed_thenPicksDistinctCenters() {
+        List<KMeansClusteringAlgorithm.Vector> vectors = List.of(
+            new KMeansClusteringAlgorithm.Vector(new int[] { 1 }, new float[] { 1 }),
+            new KMeansClusteringAlgorithm.Vector(new int[] { 1 }, new float[] { 1 }),
+            new KMeansClusteringAlgorithm.Vector(new int[] { 2 }, new float[] { 1 })
+        );
+        float[] dense = new float[MODULUS_FOR_SHORT];
+
+        KMeansClusteringAlgorithm.Vector[] centers = KMeansClusteringAlgorithm.seed(vectors, 2, new Random(random().nextLong()), dense);
+
+        assertEquals(2, centers.length);
+        assertNotEquals(centers[0].tokens[0], centers[1].tokens[0]);
+        // the dense scratch is left all zero for the next call
+        for (float weight : dense) {
+            assertEquals(0, weight, 0);
+        }
+    }
+}
@@ -16,6 +16,17 @@ import static org.opensearch.neuralsearch.sparse.common.SparseConstants.SUMMARY_
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.N_POSTINGS_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTER_RATIO_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.APPROXIMATE_THRESHOLD_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_KMEANS;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.CLUSTERING_ALGORITHM_RANDOM;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT_ADAPTIVE;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_8BIT;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_8BIT_ADAPTIVE;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_HEAP;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_MMAP;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.NAME_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.PARAMETERS_FIELD;
 
@@ -369,4 +380,114 @@ public class SeismicTests extends AbstractSparseTestBase {
         assertTrue(result.validationErrors().contains(expectedError4));
         assertTrue(result.validationErrors().contains("Unknown parameter 'unknown_param' found"));
     }
+
+    public void testValidateMethod_validForwardIndexStorage() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(FORWARD_INDEX_STORAGE_FIELD, FORWARD_INDEX_STORAGE_MMAP);
+
+        Map<String, Object> methodMap = new HashMap<>();
+        methodMap.put(NAME_FIELD, "testMethod");
+        methodMap.put(PARAMETERS_FIELD, parameters);
+        SparseMethodContext context = SparseMethodContext.parse(methodMap);
+
+        ValidationException result = Seismic.INSTANCE.validateMethod(context);
+
+        assertNull(result);
+    }
+
+    public void testValidateMethod_invalidForwardIndexStorage() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(FORWARD_INDEX_STORAGE_FIELD, "disk");
+
+        Map<String, Object> methodMap = new HashMap<>();
+        methodMap.put(NAME_FIELD, "testMethod");
+        methodMap.put(PARAMETERS_FIELD, parameters);
+        SparseMethodContext context = SparseMethodContext.parse(methodMap);
+
+        ValidationException result = Seismic.INSTANCE.validateMethod(context);
+
+        assertNotNull(result);
+        String expectedError = String.format(
+            Locale.ROOT,
+            "Parameter [%s] must be one of [%s, %s]",
+            FORWARD_INDEX_STORAGE_FIELD,
+            FORWARD_INDEX_STORAGE_HEAP,
+            FORWARD_INDEX_STORAGE_MMAP
+        );
+        assertTrue(result.validationErrors().contains(expectedError));
+    }
+
+    public void testValidateMethod_validClusteringAlgorithm() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(CLUSTERING_ALGORITHM_FIELD, CLUSTERING_ALGORITHM_KMEANS);
+
+        Map<String, Object> methodMap = new HashMap<>();
+        methodMap.put(NAME_FIELD, "testMethod");
+        methodMap.put(PARAMETERS_FIELD, parameters);
+        SparseMethodContext context = SparseMethodContext.parse(methodMap);
+
+        ValidationException result = Seismic.INSTANCE.validateMethod(context);
+
+        assertNull(result);
+    }
+
+    public void testValidateMethod_invalidClusteringAlgorithm() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(CLUSTERING_ALGORITHM_FIELD, "hierarchical");
+
+        Map<String, Object> methodMap = new HashMap<>();
+        methodMap.put(NAME_FIELD, "testMethod");
+        methodMap.put(PARAMETERS_FIELD, parameters);
+        SparseMethodContext context = SparseMethodContext.parse(methodMap);
+
+        ValidationException result = Seismic.INSTANCE.validateMethod(context);
+
+        assertNotNull(result);
+        String expectedError = String.format(
+            Locale.ROOT,
+            "Parameter [%s] must be one of [%s, %s]",
+            CLUSTERING_ALGORITHM_FIELD,
+            CLUSTERING_ALGORITHM_RANDOM,
+            CLUSTERING_ALGORITHM_KMEANS
+        );
+        assertTrue(result.validationErrors().contains(expectedError));
+    }
+
+    public void testValidateMethod_validQuantization() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(QUANTIZATION_FIELD, QUANTIZATION_4BIT_ADAPTIVE);
+
+        Map<String, Object> methodMap = new HashMap<>();
+        methodMap.put(NAME_FIELD, "testMethod");
+        methodMap.put(PARAMETERS_FIELD, parameters);
+        SparseMethodContext context = SparseMethodContext.parse(methodMap);
+
+        ValidationException result = Seismic.INSTANCE.validateMethod(context);
+
+        assertNull(result);
+    }
+
+    public void testValidateMethod_invalidQuantization() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(QUANTIZATION_FIELD, "2bit");
+
+        Map<String, Object> methodMap = new HashMap<>();
+        methodMap.put(NAME_FIELD, "testMethod");
+        methodMap.put(PARAMETERS_FIELD, parameters);
+        SparseMethodContext context = SparseMethodContext.parse(methodMap);
+
+        ValidationException result = Seismic.INSTANCE.validateMethod(context);
+
+        assertNotNull(result);
+        String expectedError = String.format(
+            Locale.ROOT,
+            "Parameter [%s] must be one of [%s, %s, %s, %s]",
+            QUANTIZATION_FIELD,
+            QUANTIZATION_8BIT,
+            QUANTIZATION_8BIT_ADAPTIVE,
+            QUANTIZATION_4BIT,
+            QUANTIZATION_4BIT_ADAPTIVE
+        );
+        assertTrue(result.validationErrors().contains(expectedError));
+    }
 }
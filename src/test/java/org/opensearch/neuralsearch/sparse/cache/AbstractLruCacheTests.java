@@ -7,6 +7,11 @@ package org.opensearch.neuralsearch.sparse.cache;
 import org.apache.lucene.index.SegmentInfo;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -17,77 +22,41 @@ import static org.mockito.Mockito.times;
 public class AbstractLruCacheTests extends AbstractSparseTestBase {
 
     /**
-     * Test that updateAccess correctly updates the access order in the LRU cache
+     * Test that recordInsertion puts keys behind the clock hand in insertion order
      */
-    public void test_updateAccess_returnsLeastRecentlyUsedItem() {
+    public void test_recordInsertion_returnsClockHandInInsertionOrder() {
         TestLruCache testCache = new TestLruCache();
         TestLruCacheKey key1 = new TestLruCacheKey("key1");
         TestLruCacheKey key2 = new TestLruCacheKey("key2");
 
-        // Add keys to the cache
-        testCache.updateAccess(key1);
-        testCache.updateAccess(key2);
-
-        // Verify key1 is the least recently used
-        assertEquals(key1, testCache.getLeastRecentlyUsedItem());
+        testCache.recordInsertion(key1);
+        testCache.recordInsertion(key2);
 
-        // Access key1 again to make it most recently used
-        testCache.updateAccess(key1);
-
-        // Now key2 should be the least recently used
-        assertEquals(key2, testCache.getLeastRecentlyUsedItem());
+        assertEquals(key1, testCache.getClockHand());
+        assertEquals(2, testCache.size());
     }
 
     /**
-     * Test that updateAccess handles null keys gracefully
+     * Test that recordInsertion handles null keys gracefully
      */
-    public void test_updateAccess_withNullKey() {
+    public void test_recordInsertion_withNullKey() {
         TestLruCache testCache = new TestLruCache();
         TestLruCacheKey key = new TestLruCacheKey("key");
 
-        // Add a key to the cache
-        testCache.updateAccess(key);
-
-        // Try to update with null key
-        testCache.updateAccess(null);
-
-        // Verify the cache still has the original key
-        assertEquals(1, testCache.accessRecencyMap.size());
-        assertEquals(key, testCache.getLeastRecentlyUsedItem());
-    }
-
-    /**
-     * Test that getLeastRecentlyUsedItem returns null when the cache is empty
-     */
-    public void test_getLeastRecentlyUsedItem_returnsNullWithEmptyCache() {
-        TestLruCache testCache = new TestLruCache();
+        testCache.recordInsertion(key);
+        testCache.recordInsertion(null);
 
-        assertNull(testCache.getLeastRecentlyUsedItem());
+        assertEquals(1, testCache.size());
+        assertEquals(key, testCache.getClockHand());
     }
 
     /**
-     * Test that getLeastRecentlyUsedItem returns the correct item
+     * Test that getClockHand returns null when the cache is empty
      */
-    public void test_getLeastRecentlyUsedItem() {
+    public void test_getClockHand_returnsNullWithEmptyCache() {
         TestLruCache testCache = new TestLruCache();
-        TestLruCacheKey key1 = new TestLruCacheKey("key1");
-        TestLruCacheKey key2 = new TestLruCacheKey("key2");
-        TestLruCacheKey key3 = new TestLruCacheKey("key3");
-
-        // Add keys in order
-        testCache.updateAccess(key1);
-        testCache.updateAccess(key2);
-        testCache.updateAccess(key3);
 
-        // Verify key1 is the least recently used
-        assertEquals(key1, testCache.getLeastRecentlyUsedItem());
-
-        // Access key1 and key2 to make key3 the least recently used
-        testCache.updateAccess(key1);
-        testCache.updateAccess(key2);
-
-        // Now key3 should be the least recently used
-        assertEquals(key3, testCache.getLeastRecentlyUsedItem());
+        assertNull(testCache.getClockHand());
     }
 
     /**
@@ -98,19 +67,15 @@ public class AbstractLruCacheTests extends AbstractSparseTestBase {
         TestLruCacheKey key1 = new TestLruCacheKey("key1");
         TestLruCacheKey key2 = new TestLruCacheKey("key2");
 
-        // Add some items to the cache
-        testCache.updateAccess(key1);
-        testCache.updateAccess(key2);
+        testCache.recordInsertion(key1);
+        testCache.recordInsertion(key2);
 
-        // Try to evict with zero bytes
         testCache.evict(0);
-        assertEquals(2, testCache.accessRecencyMap.size());
+        assertEquals(2, testCache.size());
 
-        // Try to evict with negative bytes
         testCache.evict(-10);
-        assertEquals(2, testCache.accessRecencyMap.size());
+        assertEquals(2, testCache.size());
 
-        // Verify doEviction was never called
         verify(testCache, never()).doEviction(any());
     }
 
@@ -122,25 +87,139 @@ public class AbstractLruCacheTests extends AbstractSparseTestBase {
         TestLruCacheKey key1 = new TestLruCacheKey("key1");
         TestLruCacheKey key2 = new TestLruCacheKey("key2");
         TestLruCacheKey key3 = new TestLruCacheKey("key3");
+        testCache.bytesFreedPerEviction = 50;
+
+        testCache.recordInsertion(key1);
+        testCache.recordInsertion(key2);
+        testCache.recordInsertion(key3);
+
+        // Evict 80 bytes, which evicts the first 2 items
+        testCache.evict(80);
+
+        assertEquals(1, testCache.size());
+        assertEquals(key3, testCache.getClockHand());
+        verify(testCache, times(1)).doEviction(key1);
+        verify(testCache, times(1)).doEviction(key2);
+        verify(testCache, never()).doEviction(key3);
+    }
 
-        // Set up the test cache to return specific byte values for eviction
+    /**
+     * Test that referenced items get a second chance and are evicted after unreferenced ones
+     */
+    public void test_evict_referencedItem_thenSecondChance() {
+        TestLruCache testCache = spy(new TestLruCache());
+        TestLruCacheKey key1 = new TestLruCacheKey("key1");
+        TestLruCacheKey key2 = new TestLruCacheKey("key2");
         testCache.bytesFreedPerEviction = 50;
 
-        // Add items to the cache
-        testCache.updateAccess(key1);
-        testCache.updateAccess(key2);
-        testCache.updateAccess(key3);
+        testCache.recordInsertion(key1);
+        testCache.recordInsertion(key2);
+        testCache.referencedKeys.add(key1);
 
-        // Evict 120 bytes (should evict 3 items)
-        testCache.evict(120);
+        testCache.evict(50);
 
-        // Verify the cache is now empty
-        assertTrue(testCache.accessRecencyMap.isEmpty());
+        verify(testCache, never()).doEviction(key1);
+        verify(testCache, times(1)).doEviction(key2);
+        // The reference bit is cleared, so the item is evicted on the next sweep
+        assertTrue(testCache.referencedKeys.isEmpty());
+        assertEquals(key1, testCache.getClockHand());
+
+        testCache.evict(50);
 
-        // Verify doEviction was called 3 times
         verify(testCache, times(1)).doEviction(key1);
-        verify(testCache, times(1)).doEviction(key2);
-        verify(testCache, times(1)).doEviction(key3);
+        assertEquals(0, testCache.size());
+    }
+
+    /**
+     * Test that evict ends when all items keep being referenced
+     */
+    public void test_evict_allItemsReferenced_thenEvictAfterOneSweep() {
+        TestLruCache testCache = spy(new TestLruCache());
+        TestLruCacheKey key1 = new TestLruCacheKey("key1");
+        TestLruCacheKey key2 = new TestLruCacheKey("key2");
+        testCache.bytesFreedPerEviction = 50;
+        testCache.alwaysReferenced = true;
+
+        testCache.recordInsertion(key1);
+        testCache.recordInsertion(key2);
+
+        testCache.evict(50);
+
+        verify(testCache, times(1)).doEviction(key1);
+        assertEquals(1, testCache.size());
+    }
+
+    /**
+     * Test that an item is admitted once it was missed often enough
+     */
+    public void test_admit_afterRepeatedMisses() {
+        TestLruCache testCache = new TestLruCache();
+        TestLruCacheKey key = new TestLruCacheKey("key");
+
+        assertFalse(testCache.admit(key));
+        testCache.recordMiss(key);
+        assertFalse(testCache.admit(key));
+        testCache.recordMiss(key);
+        assertTrue(testCache.admit(key));
+    }
+
+    /**
+     * Test that admit and recordMiss handle null keys gracefully
+     */
+    public void test_admit_withNullKey() {
+        TestLruCache testCache = new TestLruCache();
+
+        testCache.recordMiss(null);
+
+        assertFalse(testCache.admit(null));
+    }
+
+    /**
+     * Test that unreferenced small items missed often get a second chance, while large cold items are evicted
+     */
+    public void test_evict_frequentSmallItem_thenRetained() {
+        TestLruCache testCache = spy(new TestLruCache());
+        TestLruCacheKey hotKey = new TestLruCacheKey("hot");
+        TestLruCacheKey coldKey = new TestLruCacheKey("cold");
+        testCache.bytesFreedPerEviction = 100;
+        testCache.recordInsertion(hotKey);
+        testCache.recordInsertion(coldKey);
+        for (int i = 0; i < 3; ++i) {
+            testCache.recordMiss(hotKey);
+        }
+        testCache.recordMiss(coldKey);
+
+        assertTrue(testCache.isWorthRetaining(hotKey));
+        assertFalse(testCache.isWorthRetaining(coldKey));
+
+        testCache.evict(100);
+
+        verify(testCache, never()).doEviction(hotKey);
+        verify(testCache, times(1)).doEviction(coldKey);
+        assertEquals(hotKey, testCache.getClockHand());
+    }
+
+    /**
+     * Test that large items need a higher frequency than small ones to be retained
+     */
+    public void test_isWorthRetaining_weighsSizeAgainstFrequency() {
+        TestLruCache testCache = new TestLruCache();
+        TestLruCacheKey key = new TestLruCacheKey("key");
+        for (int i = 0; i < 3; ++i) {
+            testCache.recordMiss(key);
+        }
+
+        testCache.bytesFreedPerEviction = 0;
+        assertFalse(testCache.isWorthRetaining(key));
+        testCache.bytesFreedPerEviction = 100;
+        assertTrue(testCache.isWorthRetaining(key));
+        testCache.bytesFreedPerEviction = 100_000;
+        assertFalse(testCache.isWorthRetaining(key));
+
+        for (int i = 3; i < AbstractLruCache.RETENTION_VALUE; ++i) {
+            testCache.recordMiss(key);
+        }
+        assertTrue(testCache.isWorthRetaining(key));
     }
 
     /**
@@ -149,43 +228,34 @@ public class AbstractLruCacheTests extends AbstractSparseTestBase {
     public void test_evict_stopsWhenCacheEmpty() {
         TestLruCache testCache = spy(new TestLruCache());
         TestLruCacheKey key = new TestLruCacheKey("key");
-
-        // Set up the test cache to return specific byte values for eviction
         testCache.bytesFreedPerEviction = 0;
 
-        // Add one item to the cache
-        testCache.updateAccess(key);
+        testCache.recordInsertion(key);
 
         // Try to evict 100 bytes (more than available)
         testCache.evict(100);
 
-        // Verify the cache is now empty
-        assertTrue(testCache.accessRecencyMap.isEmpty());
-
-        // Verify doEviction was called only once
+        assertEquals(0, testCache.size());
+        assertNull(testCache.getClockHand());
         verify(testCache, times(1)).doEviction(key);
     }
 
     /**
-     * Test that evictItem correctly removes an item from the access map
+     * Test that evictItem correctly removes an item from the clock
      */
     public void test_evictItem() {
         TestLruCache testCache = new TestLruCache();
         TestLruCacheKey key1 = new TestLruCacheKey("key1");
         TestLruCacheKey key2 = new TestLruCacheKey("key2");
 
-        // Add items to the cache
-        testCache.updateAccess(key1);
-        testCache.updateAccess(key2);
+        testCache.recordInsertion(key1);
+        testCache.recordInsertion(key2);
 
-        // Evict key1
         long bytesFreed = testCache.evictItem(key1);
 
-        // Verify key1 was removed from the access map
-        assertFalse(testCache.accessRecencyMap.containsKey(key1));
-        assertTrue(testCache.accessRecencyMap.containsKey(key2));
-
-        // Verify the correct number of bytes was returned
+        assertFalse(testCache.clock.contains(key1));
+        assertTrue(testCache.clock.contains(key2));
+        assertEquals(1, testCache.size());
         assertEquals(testCache.bytesFreedPerEviction, bytesFreed);
     }
 
@@ -197,33 +267,108 @@ public class AbstractLruCacheTests extends AbstractSparseTestBase {
         TestLruCacheKey key = new TestLruCacheKey("key");
         TestLruCacheKey nonExistentKey = new TestLruCacheKey("nonexistent");
 
-        // Add an item to the cache
-        testCache.updateAccess(key);
+        testCache.recordInsertion(key);
 
-        // Try to evict a non-existent key
         long bytesFreed = testCache.evictItem(nonExistentKey);
 
-        // Verify no bytes were freed
         assertEquals(0, bytesFreed);
-
-        // Verify doEviction was not called
+        assertEquals(1, testCache.size());
         verify(testCache, never()).doEviction(nonExistentKey);
     }
 
     /**
-     * Test that onIndexRemoval calls the doRemoveIndex method with the correct key
+     * Test that onIndexRemoval removes the keys of the index
      */
     public void test_onIndexRemoval() {
         TestLruCache testCache = new TestLruCache();
         TestLruCacheKey key = new TestLruCacheKey("key");
+        TestLruCacheKey otherKey = new TestLruCacheKey("other");
         CacheKey cacheKey = key.getCacheKey();
-        assertEquals(cacheKey, key.getCacheKey());
 
-        testCache.updateAccess(key);
+        testCache.recordInsertion(key);
+        testCache.recordInsertion(otherKey);
 
         testCache.onIndexRemoval(cacheKey);
 
-        assertFalse(testCache.accessRecencyMap.containsKey(key));
+        assertFalse(testCache.clock.contains(key));
+        assertEquals(otherKey, testCache.getClockHand());
+        assertEquals(1, testCache.size());
+    }
+
+    /**
+     * Test that hottestKeys returns the keys of the cache key by descending frequency, without duplicates
+     */
+    public void test_hottestKeys_returnsMostFrequentKeysOfCacheKey() {
+        TestLruCache testCache = new TestLruCache();
+        CacheKey cacheKey = prepareUniqueCacheKey(mock(SegmentInfo.class));
+        TestLruCacheKey coldKey = new TestLruCacheKey("cold", cacheKey);
+        TestLruCacheKey warmKey = new TestLruCacheKey("warm", cacheKey);
+        TestLruCacheKey hotKey = new TestLruCacheKey("hot", cacheKey);
+        TestLruCacheKey otherKey = new TestLruCacheKey("other");
+
+        testCache.recordInsertion(coldKey);
+        testCache.recordInsertion(warmKey);
+        testCache.recordInsertion(hotKey);
+        testCache.recordInsertion(hotKey);
+        testCache.recordInsertion(otherKey);
+        testCache.recordMiss(warmKey);
+        for (int i = 0; i < 3; ++i) {
+            testCache.recordMiss(hotKey);
+            testCache.recordMiss(otherKey);
+        }
+
+        assertEquals(List.of(hotKey, warmKey, coldKey), testCache.hottestKeys(cacheKey, 10));
+        assertEquals(List.of(hotKey, warmKey), testCache.hottestKeys(cacheKey, 2));
+        assertTrue(testCache.hottestKeys(cacheKey, 0).isEmpty());
+    }
+
+    /**
+     * Test that hottestKeys ranks a key hit repeatedly above a key missed repeatedly less often
+     */
+    public void test_hottestKeys_withHits_thenRanksHitKeyAboveMissedKey() {
+        TestLruCache testCache = new TestLruCache();
+        CacheKey cacheKey = prepareUniqueCacheKey(mock(SegmentInfo.class));
+        TestLruCacheKey hitKey = new TestLruCacheKey("hit", cacheKey);
+        TestLruCacheKey missedKey = new TestLruCacheKey("missed", cacheKey);
+
+        testCache.recordMiss(hitKey);
+        testCache.recordInsertion(hitKey);
+        testCache.recordInsertion(missedKey);
+        for (int i = 0; i < 3; ++i) {
+            testCache.recordMiss(missedKey);
+        }
+        for (int i = 0; i < 5; ++i) {
+            testCache.recordHit(testCache.sketchHash(hitKey));
+        }
+
+        assertEquals(List.of(hitKey, missedKey), testCache.hottestKeys(cacheKey, 10));
+        assertTrue(testCache.admit(hitKey));
+    }
+
+    /**
+     * Test that hottestKeys of several cache keys groups the keys of each cache key in a single pass
+     */
+    public void test_hottestKeys_withCacheKeys_returnsMostFrequentKeysOfEachCacheKey() {
+        TestLruCache testCache = new TestLruCache();
+        CacheKey cacheKey1 = prepareUniqueCacheKey(mock(SegmentInfo.class));
+        CacheKey cacheKey2 = prepareUniqueCacheKey(mock(SegmentInfo.class));
+        CacheKey emptyCacheKey = prepareUniqueCacheKey(mock(SegmentInfo.class));
+        TestLruCacheKey coldKey1 = new TestLruCacheKey("cold1", cacheKey1);
+        TestLruCacheKey hotKey1 = new TestLruCacheKey("hot1", cacheKey1);
+        TestLruCacheKey key2 = new TestLruCacheKey("key2", cacheKey2);
+        TestLruCacheKey otherKey = new TestLruCacheKey("other");
+
+        testCache.recordInsertion(coldKey1);
+        testCache.recordInsertion(key2);
+        testCache.recordInsertion(hotKey1);
+        testCache.recordInsertion(otherKey);
+        testCache.recordMiss(hotKey1);
+
+        Map<CacheKey, List<TestLruCacheKey>> hottest = testCache.hottestKeys(Set.of(cacheKey1, cacheKey2, emptyCacheKey), 10);
+
+        assertEquals(Map.of(cacheKey1, List.of(hotKey1, coldKey1), cacheKey2, List.of(key2)), hottest);
+        assertEquals(Map.of(cacheKey1, List.of(hotKey1)), testCache.hottestKeys(Set.of(cacheKey1), 1));
+        assertTrue(testCache.hottestKeys(Set.of(), 10).isEmpty());
     }
 
     /**
@@ -241,10 +386,22 @@ public class AbstractLruCacheTests extends AbstractSparseTestBase {
     private static class TestLruCache extends AbstractLruCache<TestLruCacheKey> {
 
         long bytesFreedPerEviction = 0;
+        boolean alwaysReferenced = false;
+        final Set<TestLruCacheKey> referencedKeys = new HashSet<>();
+
+        @Override
+        protected boolean clearReference(TestLruCacheKey testLruCacheKey) {
+            return referencedKeys.remove(testLruCacheKey) || alwaysReferenced;
+        }
+
+        @Override
+        protected long entryBytes(TestLruCacheKey testLruCacheKey) {
+            return bytesFreedPerEviction;
+        }
 
         @Override
         protected long doEviction(TestLruCacheKey testLrucachekey) {
-            return 0;
+            return bytesFreedPerEviction;
         }
     }
 
@@ -260,6 +417,11 @@ public class AbstractLruCacheTests extends AbstractSparseTestBase {
             this.name = name;
         }
 
+        public TestLruCacheKey(String name, CacheKey cacheKey) {
+            this.name = name;
+            this.cacheKey = cacheKey;
+        }
+
         @Override
         public CacheKey getCacheKey() {
             if (cacheKey == null) {
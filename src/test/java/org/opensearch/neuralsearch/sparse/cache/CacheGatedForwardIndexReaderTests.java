@@ -5,6 +5,9 @@
 package org.opensearch.neuralsearch.sparse.cache;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
@@ -111,4 +114,40 @@ public class CacheGatedForwardIndexReaderTests extends AbstractSparseTestBase {
         // Verify that the vector was inserted into the cache
         verify(cacheWriter).insert(testDocId, testSparseVector);
     }
+
+    /**
+     * Test case for the block read. Cached vectors are taken from the cache, and only the misses are read from Lucene
+     * storage, in one block, and inserted into the cache.
+     *
+     * @throws IOException if an I/O error occurs during the test
+     */
+    public void test_readBlock_readsMissesFromLuceneInOneBlock() throws IOException {
+        SparseVector cachedVector = createVector(3, 4);
+        SparseVectorReader cache = docId -> docId == 2 ? cachedVector : null;
+        List<int[]> luceneBlocks = new ArrayList<>();
+        SparseVectorReader lucene = new SparseVectorReader() {
+            @Override
+            public SparseVector read(int docId) {
+                return docId == 5 ? testSparseVector : null;
+            }
+
+            @Override
+            public void read(int[] docIds, int count, SparseVector[] vectors) throws IOException {
+                luceneBlocks.add(Arrays.copyOf(docIds, count));
+                SparseVectorReader.super.read(docIds, count, vectors);
+            }
+        };
+        CacheGatedForwardIndexReader reader = new CacheGatedForwardIndexReader(cache, cacheWriter, lucene);
+        SparseVector[] vectors = new SparseVector[4];
+
+        reader.read(new int[] { 1, 2, 5, 9 }, 3, vectors);
+
+        assertNull(vectors[0]);
+        assertSame(cachedVector, vectors[1]);
+        assertSame(testSparseVector, vectors[2]);
+        assertEquals(1, luceneBlocks.size());
+        assertArrayEquals(new int[] { 1, 5 }, luceneBlocks.get(0));
+        verify(cacheWriter).insert(5, testSparseVector);
+        verify(cacheWriter, never()).insert(1, null);
+    }
 }
@@ -153,8 +153,8 @@ public class ClusteredPostingCacheItemTests extends AbstractSparseTestBase {
         long ramWithClusters = cacheItem.ramBytesUsed();
 
         PostingClusters postingClusters = new PostingClusters(testClusters);
-        long expectedRamBytesIncreased = postingClusters.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(testTerm)
-            + (testTerm.bytes != null ? testTerm.bytes.length : 0);
+        long expectedRamBytesIncreased = ClusteredPostingCacheItem.CACHED_POSTING_CLUSTERS_BYTES + postingClusters.ramBytesUsed()
+            + RamUsageEstimator.shallowSizeOf(testTerm) + (testTerm.bytes != null ? testTerm.bytes.length : 0);
 
         assertEquals("RAM usage should increase as expected after insertion", ramWithClusters - initialRam, expectedRamBytesIncreased);
     }
@@ -345,6 +345,32 @@ public class ClusteredPostingCacheItemTests extends AbstractSparseTestBase {
         verify(globalRecorder, times(2)).record(anyLong());
     }
 
+    @SneakyThrows
+    public void test_defaultWriterInsert_whenFull_thenAdmittedOnSecondMiss() {
+        ClusteredPostingWriter writer = cacheItem.getWriter();
+        ClusteredPostingReader reader = cacheItem.getReader();
+        when(globalRecorder.record(anyLong())).thenReturn(false);
+
+        writer.insert(testTerm, testClusters);
+
+        assertNull("Term should not be admitted on its first miss", reader.read(testTerm));
+        verify(globalRecorder, times(1)).record(anyLong());
+
+        when(globalRecorder.record(anyLong())).thenReturn(false, true);
+        writer.insert(testTerm, testClusters);
+
+        assertNotNull("Term should be admitted on its second miss", reader.read(testTerm));
+    }
+
+    @SneakyThrows
+    public void test_entryBytes() {
+        long initialRam = cacheItem.ramBytesUsed();
+        cacheItem.getWriter().insert(testTerm, testClusters);
+
+        assertEquals(cacheItem.ramBytesUsed() - initialRam, cacheItem.entryBytes(testTerm));
+        assertEquals(0, cacheItem.entryBytes(new BytesRef("missing_term")));
+    }
+
     /**
      * Tests that circuitBreakerHandler is not called when circuit breaker doesn't trip.
      * This verifies the conditional calling of the handler.
@@ -410,9 +436,8 @@ public class ClusteredPostingCacheItemTests extends AbstractSparseTestBase {
 
         // Calculate expected bytes to be freed
         PostingClusters postingClusters = new PostingClusters(testClusters);
-        long expectedBytesFreed = postingClusters.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(testTerm) + (testTerm.bytes != null
-            ? testTerm.bytes.length
-            : 0);
+        long expectedBytesFreed = ClusteredPostingCacheItem.CACHED_POSTING_CLUSTERS_BYTES + postingClusters.ramBytesUsed()
+            + RamUsageEstimator.shallowSizeOf(testTerm) + (testTerm.bytes != null ? testTerm.bytes.length : 0);
 
         // Erase the term
         long actualBytesFreed = writer.erase(testTerm);
@@ -130,11 +130,47 @@ public class ForwardIndexCacheItemTests extends AbstractSparseTestBase {
         SparseVectorWriter writer = cacheItem.getWriter();
 
         SparseVector vector = createVector(1, 2, 3, 4);
+        // The first miss is not admitted, the second one evicts and retries
+        writer.insert(0, vector);
         writer.insert(0, vector);
 
         SparseVector readVector = reader.read(0);
         assertNull("Read vector should be null", readVector);
-        verify(mockGlobalRamBytesRecorder, times(2)).record(anyLong());
+        verify(mockGlobalRamBytesRecorder, times(3)).record(anyLong());
+    }
+
+    @SneakyThrows
+    public void test_writerInsert_whenFullAndFirstMiss_thenNotAdmitted() {
+        when(mockGlobalRamBytesRecorder.record(anyLong())).thenReturn(false);
+        SparseVectorWriter writer = cacheItem.getWriter();
+
+        writer.insert(0, createVector(1, 2, 3, 4));
+
+        verify(mockGlobalRamBytesRecorder, times(1)).record(anyLong());
+    }
+
+    @SneakyThrows
+    public void test_writerInsert_whenFullAndMissedAgain_thenAdmitted() {
+        SparseVectorWriter writer = cacheItem.getWriter();
+        SparseVector vector = createVector(1, 2, 3, 4);
+        when(mockGlobalRamBytesRecorder.record(anyLong())).thenReturn(false);
+        writer.insert(0, vector);
+
+        when(mockGlobalRamBytesRecorder.record(anyLong())).thenReturn(false, true);
+        writer.insert(0, vector);
+
+        assertSame(vector, cacheItem.getReader().read(0));
+    }
+
+    @SneakyThrows
+    public void test_entryBytes() {
+        SparseVector vector = createVector(1, 2, 3, 4);
+        cacheItem.getWriter().insert(0, vector);
+
+        assertEquals(vector.ramBytesUsed(), cacheItem.entryBytes(0));
+        assertEquals(0, cacheItem.entryBytes(1));
+        assertEquals(0, cacheItem.entryBytes(-1));
+        assertEquals(0, cacheItem.entryBytes(testDocCount));
     }
 
     @SneakyThrows
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.cache;
+
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+public class FrequencySketchTests extends AbstractSparseTestBase {
+
+    public void test_constructor_withInvalidWidth() {
+        expectThrows(IllegalArgumentException.class, () -> new FrequencySketch(0));
+        expectThrows(IllegalArgumentException.class, () -> new FrequencySketch(100));
+    }
+
+    public void test_increment_countsAccesses() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        sketch.increment(42);
+        sketch.increment(42);
+        sketch.increment(7);
+
+        assertEquals(2, sketch.frequency(42));
+        assertEquals(1, sketch.frequency(7));
+        assertEquals(0, sketch.frequency(13));
+    }
+
+    public void test_increment_saturatesAtMaxFrequency() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY + 5; ++i) {
+            sketch.increment(42);
+        }
+
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency(42));
+    }
+
+    public void test_increment_halvesCountersAfterSampleSize() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 8; ++i) {
+            sketch.increment(42);
+        }
+        assertEquals(8, sketch.frequency(42));
+
+        // The sample size is ten times the width, the other keys only land on a few counters
+        for (int i = 8; i < 160; ++i) {
+            sketch.increment(i % 2);
+        }
+
+        assertEquals(4, sketch.frequency(42));
+    }
+}
@@ -11,6 +11,8 @@ import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
 import org.opensearch.neuralsearch.sparse.data.SparseVector;
 
+import java.util.List;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -74,6 +76,54 @@ public class LruDocumentCacheTests extends AbstractSparseTestBase {
         assertEquals(0, bytesFreed);
     }
 
+    /**
+     * Test that clearReference reports documents read since the last call
+     */
+    @SneakyThrows
+    public void test_clearReference_afterRead_thenReferencedOnce() {
+        LruDocumentCache.DocumentKey documentKey = new LruDocumentCache.DocumentKey(cacheKey1, 1);
+        ForwardIndexCacheItem cacheItem = ForwardIndexCache.getInstance().get(cacheKey1);
+        cacheItem.getWriter().insert(1, createVector(1, 10, 2, 20));
+        assertFalse(testCache.clearReference(documentKey));
+
+        cacheItem.getReader().read(1);
+
+        assertTrue(testCache.clearReference(documentKey));
+        assertFalse(testCache.clearReference(documentKey));
+    }
+
+    /**
+     * Test that reads of cached vectors count as hits, which rank a vector read repeatedly above a vector reloaded
+     * repeatedly
+     */
+    @SneakyThrows
+    public void test_hottestKeys_afterReads_thenRanksReadDocumentAboveMissedDocument() {
+        LruDocumentCache lruDocumentCache = LruDocumentCache.getInstance();
+        ForwardIndexCacheItem cacheItem = ForwardIndexCache.getInstance().get(cacheKey1);
+        LruDocumentCache.DocumentKey readKey = new LruDocumentCache.DocumentKey(cacheKey1, 1);
+        LruDocumentCache.DocumentKey missedKey = new LruDocumentCache.DocumentKey(cacheKey1, 2);
+        cacheItem.getWriter().insert(1, createVector(1, 10));
+        cacheItem.getWriter().insert(2, createVector(2, 20));
+        for (int i = 0; i < 3; ++i) {
+            lruDocumentCache.recordMiss(missedKey);
+        }
+
+        for (int i = 0; i < 5; ++i) {
+            cacheItem.getReader().read(1);
+        }
+
+        assertEquals(List.of(readKey, missedKey), lruDocumentCache.hottestKeys(cacheKey1, 10));
+    }
+
+    /**
+     * Test that clearReference returns false when the key is not within the forward index cache
+     */
+    public void test_clearReference_withNonExistentKey() {
+        LruDocumentCache.DocumentKey documentKey = new LruDocumentCache.DocumentKey(cacheKey2, 1);
+
+        assertFalse(testCache.clearReference(documentKey));
+    }
+
     /**
      * Test that evict correctly evicts documents until enough memory is freed
      */
@@ -85,9 +135,9 @@ public class LruDocumentCacheTests extends AbstractSparseTestBase {
         LruDocumentCache.DocumentKey documentKey2 = new LruDocumentCache.DocumentKey(cacheKey1, 2);
         LruDocumentCache.DocumentKey documentKey3 = new LruDocumentCache.DocumentKey(cacheKey2, 2);
 
-        testCacheSpy.updateAccess(documentKey1);
-        testCacheSpy.updateAccess(documentKey2);
-        testCacheSpy.updateAccess(documentKey3);
+        testCacheSpy.recordInsertion(documentKey1);
+        testCacheSpy.recordInsertion(documentKey2);
+        testCacheSpy.recordInsertion(documentKey3);
 
         when(testCacheSpy.doEviction(documentKey1)).thenReturn(10L);
         when(testCacheSpy.doEviction(documentKey2)).thenReturn(20L);
@@ -96,7 +146,7 @@ public class LruDocumentCacheTests extends AbstractSparseTestBase {
         testCacheSpy.evict(30L);
 
         // The third document with documentKey3 should still be in the cache
-        LruDocumentCache.DocumentKey remainingDoc = testCache.getLeastRecentlyUsedItem();
+        LruDocumentCache.DocumentKey remainingDoc = testCache.getClockHand();
         assertNotNull(remainingDoc);
         assertEquals(cacheKey2, remainingDoc.getCacheKey());
         assertEquals(2, remainingDoc.getDocId());
@@ -111,15 +161,15 @@ public class LruDocumentCacheTests extends AbstractSparseTestBase {
         LruDocumentCache.DocumentKey documentKey2 = new LruDocumentCache.DocumentKey(cacheKey1, 2);
         LruDocumentCache.DocumentKey documentKey3 = new LruDocumentCache.DocumentKey(cacheKey2, 1);
 
-        testCache.updateAccess(documentKey1);
-        testCache.updateAccess(documentKey2);
-        testCache.updateAccess(documentKey3);
+        testCache.recordInsertion(documentKey1);
+        testCache.recordInsertion(documentKey2);
+        testCache.recordInsertion(documentKey3);
 
         // Remove all documents for mockCacheKey1
         testCache.onIndexRemoval(cacheKey1);
 
         // Verify only documents for mockCacheKey2 remain
-        LruDocumentCache.DocumentKey remainingDoc = testCache.getLeastRecentlyUsedItem();
+        LruDocumentCache.DocumentKey remainingDoc = testCache.getClockHand();
         assertNotNull(remainingDoc);
         assertEquals(cacheKey2, remainingDoc.getCacheKey());
         assertEquals(1, remainingDoc.getDocId());
@@ -74,6 +74,25 @@ public class LruTermCacheTests extends AbstractSparseTestBase {
         assertEquals(0, bytesFreed);
     }
 
+    @SneakyThrows
+    public void test_clearReference_afterRead_thenReferencedOnce() {
+        LruTermCache.TermKey termKey = new LruTermCache.TermKey(cacheKey1, term1);
+        ClusteredPostingCacheItem cacheItem = ClusteredPostingCache.getInstance().get(cacheKey1);
+        cacheItem.getWriter().insert(term1, prepareClusterList());
+        assertFalse(testCache.clearReference(termKey));
+
+        cacheItem.getReader().read(term1);
+
+        assertTrue(testCache.clearReference(termKey));
+        assertFalse(testCache.clearReference(termKey));
+    }
+
+    public void test_clearReference_withNonExistentKey() {
+        LruTermCache.TermKey termKey = new LruTermCache.TermKey(cacheKey2, term1);
+
+        assertFalse(testCache.clearReference(termKey));
+    }
+
     @SneakyThrows
     public void test_evict_untilEnoughMemoryFreed() {
         TestLruTermCache testCacheSpy = spy(testCache);
@@ -81,9 +100,9 @@ public class LruTermCacheTests extends AbstractSparseTestBase {
         LruTermCache.TermKey termKey2 = new LruTermCache.TermKey(cacheKey1, term2);
         LruTermCache.TermKey termKey3 = new LruTermCache.TermKey(cacheKey2, term3);
 
-        testCacheSpy.updateAccess(termKey1);
-        testCacheSpy.updateAccess(termKey2);
-        testCacheSpy.updateAccess(termKey3);
+        testCacheSpy.recordInsertion(termKey1);
+        testCacheSpy.recordInsertion(termKey2);
+        testCacheSpy.recordInsertion(termKey3);
 
         when(testCacheSpy.doEviction(termKey1)).thenReturn(10L);
         when(testCacheSpy.doEviction(termKey2)).thenReturn(20L);
@@ -92,7 +111,7 @@ public class LruTermCacheTests extends AbstractSparseTestBase {
         testCacheSpy.evict(30L);
 
         // The third term with termKey3 should still be in the cache
-        LruTermCache.TermKey remainingTerm = testCacheSpy.getLeastRecentlyUsedItem();
+        LruTermCache.TermKey remainingTerm = testCacheSpy.getClockHand();
         assertNotNull(remainingTerm);
         assertEquals(cacheKey2, remainingTerm.getCacheKey());
         assertEquals(term3, remainingTerm.getTerm());
@@ -107,15 +126,15 @@ public class LruTermCacheTests extends AbstractSparseTestBase {
         LruTermCache.TermKey termKey2 = new LruTermCache.TermKey(cacheKey1, term2);
         LruTermCache.TermKey termKey3 = new LruTermCache.TermKey(cacheKey2, term3);
 
-        testCache.updateAccess(termKey1);
-        testCache.updateAccess(termKey2);
-        testCache.updateAccess(termKey3);
+        testCache.recordInsertion(termKey1);
+        testCache.recordInsertion(termKey2);
+        testCache.recordInsertion(termKey3);
 
         // Remove all terms for cacheKey1
         testCache.onIndexRemoval(cacheKey1);
 
         // Verify only terms for cacheKey2 remain
-        LruTermCache.TermKey remainingTerm = testCache.getLeastRecentlyUsedItem();
+        LruTermCache.TermKey remainingTerm = testCache.getClockHand();
         assertNotNull(remainingTerm);
         assertEquals(cacheKey2, remainingTerm.getCacheKey());
         assertEquals(term3, remainingTerm.getTerm());
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BinaryDocValuesPoolTests extends AbstractSparseTestBase {
+
+    public void testBorrow_whenEmpty_thenOpensNewDocValues() throws IOException {
+        BinaryDocValues docValues = docValuesAt(-1);
+        AtomicInteger supplierCalls = new AtomicInteger();
+        BinaryDocValuesPool pool = new BinaryDocValuesPool(() -> {
+            supplierCalls.incrementAndGet();
+            return docValues;
+        });
+
+        assertSame(docValues, pool.borrow(5));
+        assertEquals(1, supplierCalls.get());
+    }
+
+    public void testBorrow_thenReturnsClosestDocValuesAtOrBeforeDoc() throws IOException {
+        AtomicInteger supplierCalls = new AtomicInteger();
+        BinaryDocValuesPool pool = new BinaryDocValuesPool(() -> {
+            supplierCalls.incrementAndGet();
+            return docValuesAt(-1);
+        });
+        BinaryDocValues at2 = docValuesAt(2);
+        BinaryDocValues at7 = docValuesAt(7);
+        BinaryDocValues at20 = docValuesAt(20);
+        pool.release(at20);
+        pool.release(at2);
+        pool.release(at7);
+
+        assertSame(at7, pool.borrow(10));
+        assertSame(at2, pool.borrow(10));
+        assertSame(at20, pool.borrow(20));
+        assertEquals(0, supplierCalls.get());
+    }
+
+    public void testBorrow_whenAllDocValuesArePastDoc_thenOpensNewDocValues() throws IOException {
+        BinaryDocValues fresh = docValuesAt(-1);
+        BinaryDocValuesPool pool = new BinaryDocValuesPool(() -> fresh);
+        BinaryDocValues at9 = docValuesAt(9);
+        pool.release(at9);
+
+        assertSame(fresh, pool.borrow(3));
+        assertSame(at9, pool.borrow(9));
+    }
+
+    public void testRelease_whenFull_thenDropsDocValuesFurthestAhead() throws IOException {
+        BinaryDocValuesPool pool = new BinaryDocValuesPool(() -> docValuesAt(-1));
+        for (int i = 0; i < BinaryDocValuesPool.MAX_IDLE_DOC_VALUES; ++i) {
+            pool.release(docValuesAt(100 + i));
+        }
+        BinaryDocValues at0 = docValuesAt(0);
+        BinaryDocValues at500 = docValuesAt(500);
+
+        pool.release(at0);
+        pool.release(at500);
+
+        assertSame(at0, pool.borrow(50));
+        // the iterator at 500 was dropped, and the one furthest ahead was replaced by the one at 0
+        assertEquals(100 + BinaryDocValuesPool.MAX_IDLE_DOC_VALUES - 2, pool.borrow(1000).docID());
+    }
+
+    private static BinaryDocValues docValuesAt(int docId) {
+        BinaryDocValues docValues = mock(BinaryDocValues.class);
+        when(docValues.docID()).thenReturn(docId);
+        return docValues;
+    }
+}
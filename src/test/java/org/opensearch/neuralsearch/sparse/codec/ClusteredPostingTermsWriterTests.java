@@ -25,8 +25,10 @@ import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
 import org.opensearch.neuralsearch.sparse.data.DocWeight;
 import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
@@ -34,10 +36,14 @@ import org.opensearch.neuralsearch.sparse.data.PostingClusters;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
@@ -87,6 +93,15 @@ public class ClusteredPostingTermsWriterTests extends AbstractSparseTestBase {
     @Mock
     private CodecUtilWrapper mockCodecUtilWrapper;
 
+    @Mock
+    private ThreadPool mockThreadPool;
+
+    @Mock
+    private ExecutorService mockExecutor;
+
+    // tasks submitted to the executor while set, they run inline otherwise
+    private List<Runnable> deferredTasks;
+
     @Before
     @SneakyThrows
     public void setUp() {
@@ -103,6 +118,20 @@ public class ClusteredPostingTermsWriterTests extends AbstractSparseTestBase {
         when(mockDocValuesProducer.getBinary(any(FieldInfo.class))).thenReturn(mockBinaryDocValues);
         when(mockDirectory.createOutput(any(String.class), any())).thenReturn(mockIndexOutput);
         when(mockFieldInfo.getIndexOptions()).thenReturn(mockIndexOptions);
+
+        deferredTasks = null;
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            if (deferredTasks != null) {
+                deferredTasks.add(runnable);
+            } else {
+                runnable.run();
+            }
+            return null;
+        }).when(mockExecutor).execute(any(Runnable.class));
+        when(mockThreadPool.executor(anyString())).thenReturn(mockExecutor);
+        ClusterTrainingExecutor.getInstance().initialize(mockThreadPool);
+
         clusteredPostingTermsWriter = new ClusteredPostingTermsWriter(CODEC_NAME, VERSION, mockCodecUtilWrapper);
         clusteredPostingTermsWriter.init(mockIndexOutput, mockWriteState);
     }
@@ -204,11 +233,78 @@ public class ClusteredPostingTermsWriterTests extends AbstractSparseTestBase {
 
         BlockTermState state = clusteredPostingTermsWriter.newTermState();
         clusteredPostingTermsWriter.finishTerm(state);
+        clusteredPostingTermsWriter.flushPendingTerms();
 
         // Verify the output was written
         verify(mockIndexOutput, atLeastOnce()).writeVLong(anyLong());
     }
 
+    @SneakyThrows
+    public void test_finishTerm_withoutThreadPool_writesPostingClustersDirectly() {
+        ClusterTrainingExecutor.getInstance().initialize(null);
+        try {
+            clusteredPostingTermsWriter.setFieldAndMaxDoc(mockFieldInfo, 100, false);
+            clusteredPostingTermsWriter.write(new BytesRef("test_term"), new PostingClusters(new ArrayList<>()));
+            reset(mockIndexOutput);
+
+            clusteredPostingTermsWriter.finishTerm(clusteredPostingTermsWriter.newTermState());
+
+            verify(mockIndexOutput, times(1)).writeVLong(0L);
+            verify(mockExecutor, never()).execute(any(Runnable.class));
+        } finally {
+            ClusterTrainingExecutor.getInstance().initialize(mockThreadPool);
+        }
+    }
+
+    @SneakyThrows
+    public void test_finishTerm_onFlush_thenClustersTermBatchesOnThreadPool() {
+        deferredTasks = new ArrayList<>();
+        clusteredPostingTermsWriter.setFieldAndMaxDoc(mockFieldInfo, 100, false);
+        List<BlockTermState> states = new ArrayList<>();
+        for (int i = 0; i <= ClusteredPostingTermsWriter.FLUSH_BATCH_SIZE; ++i) {
+            clusteredPostingTermsWriter.write(new BytesRef("term" + i), new PostingClusters(new ArrayList<>()));
+            BlockTermState state = clusteredPostingTermsWriter.newTermState();
+            clusteredPostingTermsWriter.finishTerm(state);
+            states.add(state);
+        }
+        reset(mockIndexOutput);
+        when(mockIndexOutput.getFilePointer()).thenReturn(42L);
+
+        // one full batch is submitted, the last term waits for the next batch
+        assertEquals(1, deferredTasks.size());
+        verify(mockIndexOutput, never()).writeVLong(anyLong());
+
+        deferredTasks.forEach(Runnable::run);
+        deferredTasks = null;
+        clusteredPostingTermsWriter.flushPendingTerms();
+
+        verify(mockExecutor, times(2)).execute(any(Runnable.class));
+        verify(mockIndexOutput, times(ClusteredPostingTermsWriter.FLUSH_BATCH_SIZE + 1)).writeVLong(0L);
+        for (BlockTermState state : states) {
+            assertEquals(42L, state.blockFilePointer);
+        }
+    }
+
+    @SneakyThrows
+    public void test_finishTerm_onFlush_withTooManyPendingBatches_thenWritesOldestBatch() {
+        clusteredPostingTermsWriter.setFieldAndMaxDoc(mockFieldInfo, 100, false);
+        int batches = ClusteredPostingTermsWriter.MAX_PENDING_BATCHES;
+        for (int i = 0; i < batches * ClusteredPostingTermsWriter.FLUSH_BATCH_SIZE; ++i) {
+            clusteredPostingTermsWriter.write(new BytesRef("term" + i), new PostingClusters(new ArrayList<>()));
+            clearInvocations(mockIndexOutput);
+            clusteredPostingTermsWriter.finishTerm(clusteredPostingTermsWriter.newTermState());
+            verify(mockIndexOutput, never()).writeVLong(anyLong());
+        }
+
+        for (int i = 0; i < ClusteredPostingTermsWriter.FLUSH_BATCH_SIZE; ++i) {
+            clusteredPostingTermsWriter.write(new BytesRef("term" + i), new PostingClusters(new ArrayList<>()));
+            clearInvocations(mockIndexOutput);
+            clusteredPostingTermsWriter.finishTerm(clusteredPostingTermsWriter.newTermState());
+        }
+
+        verify(mockIndexOutput, times(ClusteredPostingTermsWriter.FLUSH_BATCH_SIZE)).writeVLong(0L);
+    }
+
     @SneakyThrows
     public void test_startDoc_withValidDocId() {
         clusteredPostingTermsWriter.startDoc(1, 10);
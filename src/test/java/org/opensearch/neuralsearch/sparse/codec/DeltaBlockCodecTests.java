@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+import java.util.Arrays;
+
+import static org.opensearch.neuralsearch.sparse.codec.DeltaBlockCodec.BLOCK_SIZE;
+
+public class DeltaBlockCodecTests extends AbstractSparseTestBase {
+
+    @SneakyThrows
+    public void testWriteAndRead_withEmptyValues() {
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        DeltaBlockCodec.write(out, new int[0], 0);
+
+        int[] values = new int[0];
+        DeltaBlockCodec.read(out.toDataInput(), values, 0);
+        assertEquals(0, values.length);
+    }
+
+    public void testWriteAndRead_withTailOnly() {
+        assertRoundTrip(sequence(BLOCK_SIZE - 1, 7));
+    }
+
+    public void testWriteAndRead_withFullBlock() {
+        assertRoundTrip(sequence(BLOCK_SIZE, 3));
+    }
+
+    public void testWriteAndRead_withBlocksAndTail() {
+        int[] values = sequence(BLOCK_SIZE * 2 + 44, 1000);
+        // large gap forces more bits in the second block
+        for (int i = BLOCK_SIZE + 10; i < values.length; ++i) {
+            values[i] += Integer.MAX_VALUE / 2;
+        }
+        assertRoundTrip(values);
+    }
+
+    public void testWriteAndRead_withEqualValues() {
+        int[] values = new int[BLOCK_SIZE + 5];
+        Arrays.fill(values, 42);
+        assertRoundTrip(values);
+    }
+
+    @SneakyThrows
+    public void testWriteAndRead_withCountSmallerThanArray() {
+        int[] values = sequence(BLOCK_SIZE + 20, 5);
+        int count = BLOCK_SIZE + 3;
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        DeltaBlockCodec.write(out, values, count);
+
+        int[] decoded = new int[values.length];
+        ByteBuffersDataInput in = out.toDataInput();
+        DeltaBlockCodec.read(in, decoded, count);
+        assertArrayEquals(Arrays.copyOf(values, count), Arrays.copyOf(decoded, count));
+        assertEquals(0, in.length() - in.position());
+    }
+
+    public void testWrite_withDecreasingValues_thenThrowsException() {
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> DeltaBlockCodec.write(out, new int[] { 1, 5, 3 }, 3)
+        );
+        assertEquals("values must be non-decreasing for delta encoding", exception.getMessage());
+    }
+
+    @SneakyThrows
+    private void assertRoundTrip(int[] values) {
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        DeltaBlockCodec.write(out, values, values.length);
+
+        int[] decoded = new int[values.length];
+        ByteBuffersDataInput in = out.toDataInput();
+        DeltaBlockCodec.read(in, decoded, values.length);
+        assertArrayEquals(values, decoded);
+        assertEquals(0, in.length() - in.position());
+    }
+
+    private static int[] sequence(int count, int maxGap) {
+        int[] values = new int[count];
+        int value = 0;
+        for (int i = 0; i < count; ++i) {
+            value += i % maxGap;
+            values[i] = value;
+        }
+        return values;
+    }
+}
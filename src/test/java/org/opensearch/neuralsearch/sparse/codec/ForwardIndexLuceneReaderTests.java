@@ -0,0 +1,244 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.DocValuesSkipIndexType;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.BytesRef;
+import org.junit.Before;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorWriter;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.APPROXIMATE_THRESHOLD_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_HEAP;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_MMAP;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
+import static org.opensearch.neuralsearch.sparse.mapper.SparseVectorField.SPARSE_FIELD;
+
+public class ForwardIndexLuceneReaderTests extends AbstractSparseTestBase {
+
+    private SegmentWriteState writeState;
+    private FieldInfo fieldInfo;
+    private SparseVector vector1;
+    private SparseVector vector3;
+
+    @Before
+    @Override
+    @SneakyThrows
+    public void setUp() {
+        super.setUp();
+        writeState = TestsPrepareUtils.prepareSegmentWriteState();
+        fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        vector1 = createVector(1, 10, 5, 200);
+        vector3 = createVector(2, 30, 7, 40, 9, 255);
+
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(writeState, new CodecUtilWrapper())) {
+            SparseVectorWriter fieldWriter = writer.startField(fieldInfo, 5);
+            fieldWriter.insert(1, vector1);
+            fieldWriter.insert(2, null);
+            fieldWriter.insert(3, vector3);
+            writer.finishField();
+        }
+    }
+
+    @SneakyThrows
+    public void testGetReader_thenReadWrittenVectors() {
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(prepareReadState(), new CodecUtilWrapper())) {
+            SparseVectorReader vectorReader = reader.getReader(fieldInfo);
+
+            assertNull(vectorReader.read(0));
+            assertEquals(vector1, vectorReader.read(1));
+            assertNull(vectorReader.read(2));
+            assertEquals(vector3, vectorReader.read(3));
+            assertNull(vectorReader.read(4));
+        }
+    }
+
+    @SneakyThrows
+    public void testGetReader_whenDocIdOutOfRange_thenReturnNull() {
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(prepareReadState(), new CodecUtilWrapper())) {
+            SparseVectorReader vectorReader = reader.getReader(fieldInfo);
+
+            assertNull(vectorReader.read(-1));
+            assertNull(vectorReader.read(5));
+        }
+    }
+
+    @SneakyThrows
+    public void testGetReader_dotProduct_thenMatchesReadVectors() {
+        byte[] denseVector = new byte[] { 0, 3, 5, 0, 0, 0, 0, 11 };
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(prepareReadState(), new CodecUtilWrapper())) {
+            SparseVectorReader vectorReader = reader.getReader(fieldInfo);
+
+            assertEquals(vector1.dotProduct(denseVector), vectorReader.dotProduct(1, denseVector));
+            assertEquals(vector3.dotProduct(denseVector), vectorReader.dotProduct(3, denseVector));
+            assertEquals(SparseVectorReader.NO_VECTOR, vectorReader.dotProduct(2, denseVector));
+            assertEquals(SparseVectorReader.NO_VECTOR, vectorReader.dotProduct(-1, denseVector));
+            assertEquals(SparseVectorReader.NO_VECTOR, vectorReader.dotProduct(5, denseVector));
+
+            int[] docIds = new int[] { 3, 2, 1 };
+            int[] scores = new int[docIds.length];
+            vectorReader.dotProduct(docIds, docIds.length, denseVector, new SparseVector[docIds.length], scores);
+            assertArrayEquals(
+                new int[] { vector3.dotProduct(denseVector), SparseVectorReader.NO_VECTOR, vector1.dotProduct(denseVector) },
+                scores
+            );
+        }
+    }
+
+    @SneakyThrows
+    public void testGetReader_whenFieldNotWritten_thenReturnNull() {
+        FieldInfo otherField = new FieldInfo(
+            "other_field",
+            1,
+            false,
+            false,
+            false,
+            IndexOptions.DOCS,
+            DocValuesType.BINARY,
+            DocValuesSkipIndexType.NONE,
+            -1,
+            new HashMap<>(),
+            0,
+            0,
+            0,
+            0,
+            VectorEncoding.FLOAT32,
+            VectorSimilarityFunction.EUCLIDEAN,
+            false,
+            false
+        );
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(prepareReadState(), new CodecUtilWrapper())) {
+            assertNull(reader.getReader(otherField));
+        }
+    }
+
+    @SneakyThrows
+    public void testGetReader_withEmptyVector_thenReturnEmptyVector() {
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            writer.startField(fieldInfo, 1).insert(0, createVector());
+            writer.finishField();
+        }
+        SegmentReadState readState = new SegmentReadState(state.directory, state.segmentInfo, state.fieldInfos, IOContext.DEFAULT);
+
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(readState, new CodecUtilWrapper())) {
+            SparseVector vector = reader.getReader(fieldInfo).read(0);
+            assertNotNull(vector);
+            assertEquals(0, vector.getSize());
+        }
+    }
+
+    @SneakyThrows
+    public void testGetReader_withHalfByteQuantization_thenReadsPackedWeights() {
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT);
+        ByteQuantizer byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(fieldInfo);
+        SparseVector oddVector = new SparseVector(TestsPrepareUtils.prepareValidSparseVectorBytes(), byteQuantizer);
+        SparseVector.DecodeScratch scratch = new SparseVector.DecodeScratch();
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            SparseVectorWriter fieldWriter = writer.startField(fieldInfo, 2);
+            fieldWriter.insert(0, oddVector);
+            fieldWriter.insert(1, scratch.decode(serialize(1, 0.5f, 4, 1.0f, 9, 2.0f, 12, 3.0f), byteQuantizer));
+            writer.finishField();
+        }
+        SegmentReadState readState = new SegmentReadState(state.directory, state.segmentInfo, state.fieldInfos, IOContext.DEFAULT);
+
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(readState, new CodecUtilWrapper())) {
+            SparseVectorReader vectorReader = reader.getReader(fieldInfo);
+            assertEquals(oddVector, vectorReader.read(0));
+            SparseVector evenVector = vectorReader.read(1);
+            assertTrue(evenVector.isHalfByte());
+            assertEquals(4, evenVector.getSize());
+            assertEquals(15, evenVector.toDenseVector()[12]);
+        }
+    }
+
+    @SneakyThrows
+    public void testCheckIntegrity_thenSuccess() {
+        try (ForwardIndexLuceneReader reader = new ForwardIndexLuceneReader(prepareReadState(), new CodecUtilWrapper())) {
+            reader.checkIntegrity();
+        }
+    }
+
+    public void testIsForwardIndexField_withMmapSparseField_thenReturnTrue() {
+        SegmentInfo segmentInfo = TestsPrepareUtils.prepareSegmentInfo(10);
+
+        assertTrue(ForwardIndexLuceneReader.isForwardIndexField(segmentInfo, prepareFieldInfo(FORWARD_INDEX_STORAGE_MMAP, "5")));
+    }
+
+    public void testIsForwardIndexField_withHeapSparseField_thenReturnFalse() {
+        SegmentInfo segmentInfo = TestsPrepareUtils.prepareSegmentInfo(10);
+
+        assertFalse(ForwardIndexLuceneReader.isForwardIndexField(segmentInfo, prepareFieldInfo(FORWARD_INDEX_STORAGE_HEAP, "5")));
+    }
+
+    public void testIsForwardIndexField_whenBelowThreshold_thenReturnFalse() {
+        SegmentInfo segmentInfo = TestsPrepareUtils.prepareSegmentInfo(10);
+
+        assertFalse(ForwardIndexLuceneReader.isForwardIndexField(segmentInfo, prepareFieldInfo(FORWARD_INDEX_STORAGE_MMAP, "20")));
+    }
+
+    public void testHasForwardIndex() {
+        SegmentInfo segmentInfo = TestsPrepareUtils.prepareSegmentInfo(10);
+        FieldInfo mmapField = prepareFieldInfo(FORWARD_INDEX_STORAGE_MMAP, "5");
+        FieldInfos fieldInfos = mock(FieldInfos.class);
+        when(fieldInfos.iterator()).thenReturn(List.of(mmapField).iterator());
+
+        assertTrue(ForwardIndexLuceneReader.hasForwardIndex(segmentInfo, fieldInfos));
+        assertFalse(ForwardIndexLuceneReader.hasForwardIndex(segmentInfo, null));
+    }
+
+    private SegmentReadState prepareReadState() {
+        return new SegmentReadState(writeState.directory, writeState.segmentInfo, writeState.fieldInfos, IOContext.DEFAULT);
+    }
+
+    private FieldInfo prepareFieldInfo(String storage, String threshold) {
+        FieldInfo mockFieldInfo = mock(FieldInfo.class);
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(SPARSE_FIELD, "true");
+        attributes.put(FORWARD_INDEX_STORAGE_FIELD, storage);
+        attributes.put(APPROXIMATE_THRESHOLD_FIELD, threshold);
+        when(mockFieldInfo.attributes()).thenReturn(attributes);
+        when(mockFieldInfo.getDocValuesType()).thenReturn(DocValuesType.BINARY);
+        return mockFieldInfo;
+    }
+
+    @SneakyThrows
+    private static BytesRef serialize(Object... tokensAndWeights) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(baos);
+        for (int i = 0; i < tokensAndWeights.length; i += 2) {
+            dos.writeInt((Integer) tokensAndWeights[i]);
+            dos.writeFloat((Float) tokensAndWeights[i + 1]);
+        }
+        return new BytesRef(baos.toByteArray());
+    }
+}
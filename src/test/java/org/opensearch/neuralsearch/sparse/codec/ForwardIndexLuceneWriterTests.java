@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentWriteState;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorWriter;
+
+import java.util.Arrays;
+
+public class ForwardIndexLuceneWriterTests extends AbstractSparseTestBase {
+
+    @SneakyThrows
+    public void testClose_thenFileIsCreated() {
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            SparseVectorWriter fieldWriter = writer.startField(fieldInfo, 3);
+            fieldWriter.insert(1, createVector(1, 10, 2, 20));
+            writer.finishField();
+        }
+
+        String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            ForwardIndexLuceneWriter.FORWARD_INDEX_EXTENSION
+        );
+        assertTrue(Arrays.asList(state.directory.listAll()).contains(fileName));
+    }
+
+    @SneakyThrows
+    public void testInsert_whenDocIdOutOfOrder_thenThrowException() {
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            SparseVectorWriter fieldWriter = writer.startField(TestsPrepareUtils.prepareKeyFieldInfo(), 3);
+            fieldWriter.insert(1, createVector(1, 10));
+
+            IllegalArgumentException exception = expectThrows(
+                IllegalArgumentException.class,
+                () -> fieldWriter.insert(0, createVector(1, 10))
+            );
+            assertTrue(exception.getMessage().contains("out of order"));
+        }
+    }
+
+    @SneakyThrows
+    public void testInsert_whenDocIdOutOfRange_thenThrowException() {
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            SparseVectorWriter fieldWriter = writer.startField(TestsPrepareUtils.prepareKeyFieldInfo(), 3);
+
+            expectThrows(IllegalArgumentException.class, () -> fieldWriter.insert(3, createVector(1, 10)));
+        }
+    }
+
+    @SneakyThrows
+    public void testStartField_whenPreviousFieldNotFinished_thenThrowException() {
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            writer.startField(fieldInfo, 3);
+
+            expectThrows(IllegalStateException.class, () -> writer.startField(fieldInfo, 3));
+        }
+    }
+
+    @SneakyThrows
+    public void testFinishField_whenNoFieldStarted_thenThrowException() {
+        SegmentWriteState state = TestsPrepareUtils.prepareSegmentWriteState();
+        try (ForwardIndexLuceneWriter writer = new ForwardIndexLuceneWriter(state, new CodecUtilWrapper())) {
+            expectThrows(IllegalStateException.class, writer::finishField);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
+import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MergedTermsIteratorTests extends AbstractSparseTestBase {
+    @Mock
+    private MergeStateFacade mergeStateFacade;
+    @Mock
+    private DocValuesProducer docValuesProducer;
+    @Mock
+    private SparseBinaryDocValuesPassThrough binaryDocValuePassThrough;
+    @Mock
+    private FieldsProducer mockFieldsProducer;
+    @Mock
+    private Terms mockTerms;
+    @Mock
+    private TermsEnum mockTermsEnum;
+    @Mock
+    private SparsePostingsEnum mockSparsePostingsEnum;
+    @Mock
+    private PostingsEnum mockPostingsEnum;
+    @Mock
+    private MergeState.DocMap mockDocMap;
+    @Mock
+    private FieldInfo mockFieldInfo;
+    private static final BytesRef term = new BytesRef("term");
+
+    @SneakyThrows
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        MockitoAnnotations.openMocks(this);
+
+        when(mergeStateFacade.getFieldsProducers()).thenReturn(new FieldsProducer[] { mockFieldsProducer });
+        when(mergeStateFacade.getDocValuesProducers()).thenReturn(new DocValuesProducer[] { docValuesProducer });
+        when(docValuesProducer.getBinary(any())).thenReturn(binaryDocValuePassThrough);
+
+        when(mockFieldsProducer.terms(anyString())).thenReturn(mockTerms);
+        when(mockTerms.iterator()).thenReturn(mockTermsEnum);
+        when(mockTermsEnum.next()).thenReturn(term).thenReturn(null);
+        when(mockTermsEnum.postings(isNull())).thenReturn(mockSparsePostingsEnum);
+        when(mockSparsePostingsEnum.nextDoc()).thenReturn(1).thenReturn(2).thenReturn(PostingsEnum.NO_MORE_DOCS);
+        when(mockSparsePostingsEnum.freq()).thenReturn(1).thenReturn(2);
+        when(mergeStateFacade.getDocMaps()).thenReturn(new MergeState.DocMap[] { mockDocMap });
+        when(mockDocMap.get(eq(1))).thenReturn(1);
+        when(mockDocMap.get(eq(2))).thenReturn(2);
+        when(mockFieldInfo.getName()).thenReturn("field_name");
+    }
+
+    @SneakyThrows
+    public void test_next_unexpectedBinaryDocValueType_thenNoTerms() {
+        BinaryDocValues binaryDocValues = mock(BinaryDocValues.class);
+        when(docValuesProducer.getBinary(any())).thenReturn(binaryDocValues);
+
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+
+        assertNull(mergedTerms.next());
+        verify(mockFieldsProducer, never()).terms(anyString());
+    }
+
+    @SneakyThrows
+    public void test_next_nullTerms_thenNoTerms() {
+        when(mockFieldsProducer.terms(anyString())).thenReturn(null);
+        assertNull(new MergedTermsIterator(mergeStateFacade, mockFieldInfo).next());
+    }
+
+    @SneakyThrows
+    public void test_next_nullTermsEnum_thenNoTerms() {
+        when(mockTerms.iterator()).thenReturn(null);
+        assertNull(new MergedTermsIterator(mergeStateFacade, mockFieldInfo).next());
+    }
+
+    @SneakyThrows
+    public void test_next_emptyTermsEnum_thenNoTerms() {
+        when(mockTermsEnum.next()).thenReturn(null);
+        assertNull(new MergedTermsIterator(mergeStateFacade, mockFieldInfo).next());
+    }
+
+    @SneakyThrows
+    public void test_next_multipleSegments_thenMergeTermsInSortedOrder() {
+        FieldsProducer otherFieldsProducer = mock(FieldsProducer.class);
+        Terms otherTerms = mock(Terms.class);
+        TermsEnum otherTermsEnum = mock(TermsEnum.class);
+        when(mergeStateFacade.getFieldsProducers()).thenReturn(new FieldsProducer[] { mockFieldsProducer, otherFieldsProducer });
+        when(mergeStateFacade.getDocValuesProducers()).thenReturn(new DocValuesProducer[] { docValuesProducer, docValuesProducer });
+        when(otherFieldsProducer.terms(anyString())).thenReturn(otherTerms);
+        when(otherTerms.iterator()).thenReturn(otherTermsEnum);
+        when(mockTermsEnum.next()).thenReturn(new BytesRef("a")).thenReturn(new BytesRef("c")).thenReturn(null);
+        when(otherTermsEnum.next()).thenReturn(new BytesRef("b"))
+            .thenReturn(new BytesRef("c"))
+            .thenReturn(new BytesRef("d"))
+            .thenReturn(null);
+
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        List<String> terms = new ArrayList<>();
+        for (BytesRef next = mergedTerms.next(); next != null; next = mergedTerms.next()) {
+            terms.add(next.utf8ToString());
+        }
+
+        assertEquals(List.of("a", "b", "c", "d"), terms);
+        assertNull(mergedTerms.next());
+    }
+
+    @SneakyThrows
+    public void test_postings_termInMultipleSegments_thenMergePostingsInSegmentOrder() {
+        FieldsProducer otherFieldsProducer = mock(FieldsProducer.class);
+        Terms otherTerms = mock(Terms.class);
+        TermsEnum otherTermsEnum = mock(TermsEnum.class);
+        SparsePostingsEnum otherPostings = mock(SparsePostingsEnum.class);
+        MergeState.DocMap otherDocMap = mock(MergeState.DocMap.class);
+        when(mergeStateFacade.getFieldsProducers()).thenReturn(new FieldsProducer[] { mockFieldsProducer, otherFieldsProducer });
+        when(mergeStateFacade.getDocValuesProducers()).thenReturn(new DocValuesProducer[] { docValuesProducer, docValuesProducer });
+        when(mergeStateFacade.getDocMaps()).thenReturn(new MergeState.DocMap[] { mockDocMap, otherDocMap });
+        when(otherFieldsProducer.terms(anyString())).thenReturn(otherTerms);
+        when(otherTerms.iterator()).thenReturn(otherTermsEnum);
+        when(otherTermsEnum.next()).thenReturn(term).thenReturn(null);
+        when(otherTermsEnum.postings(isNull())).thenReturn(otherPostings);
+        when(otherPostings.nextDoc()).thenReturn(0).thenReturn(PostingsEnum.NO_MORE_DOCS);
+        when(otherPostings.freq()).thenReturn(3);
+        when(otherDocMap.get(eq(0))).thenReturn(3);
+
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        assertEquals(term, mergedTerms.next());
+        List<DocWeight> result = mergedTerms.postings();
+
+        assertEquals(3, result.size());
+        assertEquals(1, result.get(0).getDocID());
+        assertEquals(2, result.get(1).getDocID());
+        assertEquals(3, result.get(2).getDocID());
+        assertEquals(3, result.get(2).getIntWeight());
+        assertNull(mergedTerms.next());
+    }
+
+    @SneakyThrows
+    public void test_postings_postingIsNull_thenEmpty() {
+        when(mockTermsEnum.postings(isNull())).thenReturn(null);
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        mergedTerms.next();
+        assertTrue(mergedTerms.postings().isEmpty());
+        verify(mockTermsEnum).postings(isNull());
+    }
+
+    @SneakyThrows
+    public void test_postings_beforeFirstTerm_thenEmpty() {
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        assertTrue(mergedTerms.postings().isEmpty());
+    }
+
+    @SneakyThrows
+    public void test_postings_postingNextDocNoMoreDocs_thenEmpty() {
+        when(mockSparsePostingsEnum.nextDoc()).thenReturn(PostingsEnum.NO_MORE_DOCS);
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        mergedTerms.next();
+        assertTrue(mergedTerms.postings().isEmpty());
+    }
+
+    @SneakyThrows
+    public void test_postings_postingNextDocIsMinus1_thenSkipped() {
+        when(mockSparsePostingsEnum.nextDoc()).thenReturn(-1).thenReturn(PostingsEnum.NO_MORE_DOCS);
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        mergedTerms.next();
+        assertTrue(mergedTerms.postings().isEmpty());
+    }
+
+    @SneakyThrows
+    public void test_postings_deletedDoc_thenSkipped() {
+        when(mockSparsePostingsEnum.nextDoc()).thenReturn(1).thenReturn(PostingsEnum.NO_MORE_DOCS);
+        when(mockDocMap.get(eq(1))).thenReturn(-1);
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        mergedTerms.next();
+        assertTrue(mergedTerms.postings().isEmpty());
+    }
+
+    @SneakyThrows
+    public void test_postings_happyCase_expectedType() {
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        mergedTerms.next();
+        List<DocWeight> result = mergedTerms.postings();
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(0).getDocID());
+        assertEquals(1, result.get(0).getIntWeight());
+        assertEquals(2, result.get(1).getDocID());
+        assertEquals(2, result.get(1).getIntWeight());
+    }
+
+    @SneakyThrows
+    public void test_postings_baseSegment_thenRemapClusters() {
+        DocumentCluster cluster = new DocumentCluster(createVector(1, 10), preparePostings(1, 5, 2, 6, 3, 7), false);
+        when(mockSparsePostingsEnum.clusterIterator()).thenReturn(new IteratorWrapper<>(List.of(cluster).iterator()));
+        when(mockDocMap.get(eq(1))).thenReturn(4);
+        when(mockDocMap.get(eq(2))).thenReturn(-1);
+        when(mockDocMap.get(eq(3))).thenReturn(0);
+
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo, 0);
+        mergedTerms.next();
+        List<DocWeight> result = mergedTerms.postings();
+        List<DocumentCluster> baseClusters = mergedTerms.baseClusters();
+
+        assertEquals(2, result.size());
+        assertEquals(1, baseClusters.size());
+        assertArrayEquals(new int[] { 0, 4 }, baseClusters.get(0).getDocIds());
+        assertEquals(cluster.getSummary(), baseClusters.get(0).getSummary());
+        verify(mockSparsePostingsEnum, never()).nextDoc();
+        assertNull(mergedTerms.next());
+        assertNull(mergedTerms.baseClusters());
+    }
+
+    @SneakyThrows
+    public void test_postings_notBaseSegment_thenNoBaseClusters() {
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo, 1);
+        mergedTerms.next();
+        assertEquals(2, mergedTerms.postings().size());
+        assertNull(mergedTerms.baseClusters());
+        verify(mockSparsePostingsEnum, never()).clusterIterator();
+    }
+
+    @SneakyThrows
+    public void test_postings_happyCase_unexpectedType() {
+        when(mockPostingsEnum.nextDoc()).thenReturn(1).thenReturn(2).thenReturn(PostingsEnum.NO_MORE_DOCS);
+        when(mockPostingsEnum.freq()).thenReturn(32512).thenReturn(32768);
+        when(mockTermsEnum.postings(isNull())).thenReturn(mockPostingsEnum);
+        MergedTermsIterator mergedTerms = new MergedTermsIterator(mergeStateFacade, mockFieldInfo);
+        mergedTerms.next();
+        List<DocWeight> result = mergedTerms.postings();
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(0).getDocID());
+        assertEquals(85, result.get(0).getIntWeight());
+        assertEquals(2, result.get(1).getDocID());
+        assertEquals(170, result.get(1).getIntWeight());
+    }
+}
@@ -9,12 +9,20 @@ import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.util.BytesRef;
 import org.junit.Before;
+import org.mockito.InOrder;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
 import org.opensearch.neuralsearch.sparse.data.SparseVector;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -153,4 +161,225 @@ public class SparseBinaryDocValuesPassThroughTests extends AbstractSparseTestBas
         verify(mockDelegate, times(1)).advanceExact(docId);
         verify(mockDelegate, times(1)).binaryValue();
     }
+
+    public void testHasMappedForwardIndex() {
+        SparseVectorReader mappedReader = mock(SparseVectorReader.class);
+        SparseBinaryDocValuesPassThrough mappedPassThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            mappedReader
+        );
+
+        assertTrue(mappedPassThrough.hasMappedForwardIndex());
+        assertFalse(sparseBinaryDocValuesPassThrough.hasMappedForwardIndex());
+    }
+
+    public void testRead_WithMappedForwardIndex() throws IOException {
+        SparseVector expected = createVector(1, 10, 2, 20);
+        SparseVectorReader mappedReader = mock(SparseVectorReader.class);
+        when(mappedReader.read(1)).thenReturn(expected);
+        SparseBinaryDocValuesPassThrough mappedPassThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            mappedReader
+        );
+
+        SparseVector result = mappedPassThrough.read(1);
+
+        assertSame(expected, result);
+        verify(mockDelegate, never()).advanceExact(1);
+    }
+
+    public void testRead_WithDocValuesSupplier_ReusesIdleDocValues() throws IOException {
+        BytesRef bytesRef = TestsPrepareUtils.prepareValidSparseVectorBytes();
+        BinaryDocValues docValues = mock(BinaryDocValues.class);
+        when(docValues.docID()).thenReturn(-1);
+        when(docValues.advanceExact(anyInt())).thenReturn(true);
+        when(docValues.binaryValue()).thenReturn(bytesRef);
+        AtomicInteger supplierCalls = new AtomicInteger();
+        SparseBinaryDocValuesPassThrough passThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            null,
+            new BinaryDocValuesPool(() -> {
+                supplierCalls.incrementAndGet();
+                return docValues;
+            })
+        );
+
+        assertNotNull(passThrough.read(1));
+        assertNotNull(passThrough.read(2));
+
+        assertEquals(1, supplierCalls.get());
+        verify(mockDelegate, never()).advanceExact(anyInt());
+    }
+
+    public void testRead_WithDocValuesSupplier_WhenDocIdGoesBackward_CreatesNewDocValues() throws IOException {
+        BytesRef bytesRef = TestsPrepareUtils.prepareValidSparseVectorBytes();
+        BinaryDocValues advancedDocValues = mock(BinaryDocValues.class);
+        when(advancedDocValues.docID()).thenReturn(10);
+        when(advancedDocValues.advanceExact(10)).thenReturn(true);
+        when(advancedDocValues.binaryValue()).thenReturn(bytesRef);
+        BinaryDocValues freshDocValues = mock(BinaryDocValues.class);
+        when(freshDocValues.docID()).thenReturn(-1);
+        when(freshDocValues.advanceExact(5)).thenReturn(true);
+        when(freshDocValues.binaryValue()).thenReturn(bytesRef);
+        Deque<BinaryDocValues> supplied = new ArrayDeque<>(List.of(advancedDocValues, freshDocValues));
+        SparseBinaryDocValuesPassThrough passThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            null,
+            new BinaryDocValuesPool(supplied::poll)
+        );
+
+        assertNotNull(passThrough.read(10));
+        assertNotNull(passThrough.read(5));
+
+        assertTrue(supplied.isEmpty());
+        verify(advancedDocValues, never()).advanceExact(5);
+        verify(freshDocValues, times(1)).advanceExact(5);
+    }
+
+    public void testReadBlock_WithDocValuesSupplier_ReadsBlockWithOneDocValues() throws IOException {
+        BytesRef bytesRef = TestsPrepareUtils.prepareValidSparseVectorBytes();
+        BinaryDocValues docValues = mock(BinaryDocValues.class);
+        when(docValues.docID()).thenReturn(-1);
+        when(docValues.advanceExact(anyInt())).thenReturn(true);
+        when(docValues.advanceExact(4)).thenReturn(false);
+        when(docValues.binaryValue()).thenReturn(bytesRef);
+        AtomicInteger supplierCalls = new AtomicInteger();
+        SparseBinaryDocValuesPassThrough passThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            null,
+            new BinaryDocValuesPool(() -> {
+                supplierCalls.incrementAndGet();
+                return docValues;
+            })
+        );
+        SparseVector[] vectors = new SparseVector[3];
+
+        passThrough.read(new int[] { 1, 4, 7 }, 3, vectors);
+
+        assertNotNull(vectors[0]);
+        assertNull(vectors[1]);
+        assertNotNull(vectors[2]);
+        assertEquals(1, supplierCalls.get());
+        InOrder inOrder = inOrder(docValues);
+        inOrder.verify(docValues).advanceExact(1);
+        inOrder.verify(docValues).advanceExact(4);
+        inOrder.verify(docValues).advanceExact(7);
+    }
+
+    public void testReadBlock_WithMappedForwardIndex_ReadsFromMappedForwardIndex() throws IOException {
+        SparseVector expected = createVector(1, 10);
+        SparseBinaryDocValuesPassThrough mappedPassThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            docId -> expected
+        );
+        SparseVector[] vectors = new SparseVector[2];
+
+        mappedPassThrough.read(new int[] { 3, 8 }, 2, vectors);
+
+        assertSame(expected, vectors[0]);
+        assertSame(expected, vectors[1]);
+        verify(mockDelegate, never()).advanceExact(anyInt());
+    }
+
+    public void testDotProduct_WithMappedForwardIndex_DelegatesToMappedForwardIndex() throws IOException {
+        byte[] denseVector = new byte[] { 1, 2, 3 };
+        SparseVectorReader mappedReader = mock(SparseVectorReader.class);
+        when(mappedReader.dotProduct(5, denseVector)).thenReturn(42);
+        SparseBinaryDocValuesPassThrough mappedPassThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            mappedReader
+        );
+
+        assertEquals(42, mappedPassThrough.dotProduct(5, denseVector));
+        verify(mappedReader, never()).read(anyInt());
+        verify(mockDelegate, never()).advanceExact(anyInt());
+    }
+
+    public void testDotProduct_WithoutMappedForwardIndex_WhenNoValue_ReturnsNoVector() throws IOException {
+        when(mockDelegate.advanceExact(1)).thenReturn(false);
+
+        assertEquals(SparseVectorReader.NO_VECTOR, sparseBinaryDocValuesPassThrough.dotProduct(1, new byte[] { 1 }));
+    }
+
+    public void testRead_WithDocValuesSupplier_ConcurrentReads() throws Exception {
+        BytesRef bytesRef = TestsPrepareUtils.prepareValidSparseVectorBytes();
+        SparseBinaryDocValuesPassThrough passThrough = new SparseBinaryDocValuesPassThrough(
+            mockDelegate,
+            mockSegmentInfo,
+            mockFieldInfo,
+            null,
+            new BinaryDocValuesPool(() -> new BinaryDocValues() {
+                private int doc = -1;
+
+                @Override
+                public BytesRef binaryValue() {
+                    return bytesRef;
+                }
+
+                @Override
+                public boolean advanceExact(int target) {
+                    doc = target;
+                    return true;
+                }
+
+                @Override
+                public int docID() {
+                    return doc;
+                }
+
+                @Override
+                public int nextDoc() {
+                    return ++doc;
+                }
+
+                @Override
+                public int advance(int target) {
+                    doc = target;
+                    return doc;
+                }
+
+                @Override
+                public long cost() {
+                    return 0;
+                }
+            })
+        );
+        int threadCount = 4;
+        AtomicInteger nullReads = new AtomicInteger();
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; ++t) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int docId = 0; docId < 100; ++docId) {
+                        if (passThrough.read(docId) == null) {
+                            nullReads.incrementAndGet();
+                        }
+                    }
+                } catch (IOException e) {
+                    nullReads.incrementAndGet();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, nullReads.get());
+        verify(mockDelegate, never()).advanceExact(anyInt());
+    }
 }
@@ -14,6 +14,7 @@ import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.codec.CodecServiceConfig;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.SparseSettings;
 
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,4 +63,14 @@ public class SparseCodecServiceTests extends AbstractSparseTestBase {
         assertNotNull(result);
         assertTrue(result instanceof SparseCodec);
     }
+
+    public void testCodec_readsAutoWarmUpSetting() {
+        SparseCodecService service = new SparseCodecService(mockCodecServiceConfig);
+        SparseCodec codec = (SparseCodec) service.codec(CodecService.DEFAULT_CODEC);
+
+        when(mockIndexSettings.getValue(SparseSettings.AUTO_WARMUP_SETTING)).thenReturn(true);
+        assertTrue(codec.isAutoWarmUp());
+        when(mockIndexSettings.getValue(SparseSettings.AUTO_WARMUP_SETTING)).thenReturn(false);
+        assertFalse(codec.isAutoWarmUp());
+    }
 }
@@ -72,4 +72,10 @@ public class SparseCodecTests extends AbstractSparseTestBase {
 
         verify(mockDelegate, times(1)).postingsFormat();
     }
+
+    public void testIsAutoWarmUp() {
+        assertFalse(new SparseCodec().isAutoWarmUp());
+        assertFalse(sparseCodec.isAutoWarmUp());
+        assertTrue(new SparseCodec(mockDelegate, () -> true).isAutoWarmUp());
+    }
 }
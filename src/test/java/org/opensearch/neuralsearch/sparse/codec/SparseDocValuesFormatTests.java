@@ -4,16 +4,23 @@
  */
 package org.opensearch.neuralsearch.sparse.codec;
 
+import lombok.SneakyThrows;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,4 +95,25 @@ public class SparseDocValuesFormatTests extends AbstractSparseTestBase {
         IOException exception = expectThrows(IOException.class, () -> { sparseDocValuesFormat.fieldsProducer(mockReadState); });
         assertEquals("Test exception", exception.getMessage());
     }
+
+    @SneakyThrows
+    public void testFieldsProducer_withAutoWarmUp_thenSchedulesWarmUp() {
+        ExecutorService mockExecutor = mock(ExecutorService.class);
+        ThreadPool mockThreadPool = mock(ThreadPool.class);
+        when(mockThreadPool.executor(anyString())).thenReturn(mockExecutor);
+        ClusterTrainingExecutor.getInstance().initialize(mockThreadPool);
+        try {
+            DocValuesProducer mockDelegateProducer = mock(DocValuesProducer.class);
+            when(mockDelegate.fieldsProducer(mockReadState)).thenReturn(mockDelegateProducer);
+
+            new SparseDocValuesFormat(mockDelegate, () -> false).fieldsProducer(mockReadState);
+            verify(mockExecutor, never()).execute(any(Runnable.class));
+
+            DocValuesProducer result = new SparseDocValuesFormat(mockDelegate, () -> true).fieldsProducer(mockReadState);
+            assertTrue(result instanceof SparseDocValuesProducer);
+            verify(mockExecutor).execute(any(Runnable.class));
+        } finally {
+            ClusterTrainingExecutor.getInstance().initialize(null);
+        }
+    }
 }
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.sparse.codec;
 
+import lombok.SneakyThrows;
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValuesSkipper;
@@ -17,12 +18,15 @@ import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +38,7 @@ public class SparseDocValuesProducerTests extends AbstractSparseTestBase {
     private FieldInfo fieldInfo;
     private SegmentInfo segmentInfo;
 
+    @SneakyThrows
     @Override
     public void setUp() {
         super.setUp();
@@ -43,6 +48,7 @@ public class SparseDocValuesProducerTests extends AbstractSparseTestBase {
         Directory mockDir = mock(Directory.class);
         segmentInfo = TestsPrepareUtils.prepareSegmentInfo();
         FieldInfos mockFieldInfos = mock(FieldInfos.class);
+        when(mockFieldInfos.iterator()).thenReturn(Collections.emptyIterator());
         IOContext ioContext = IOContext.DEFAULT;
 
         // Create a real SegmentReadState with mocked components
@@ -85,6 +91,20 @@ public class SparseDocValuesProducerTests extends AbstractSparseTestBase {
         verify(mockDelegate).getBinary(fieldInfo);
     }
 
+    public void testGetBinary_whenReadingDescendingDocsPerCall_thenReusesDocValuesAcrossCalls() throws IOException {
+        when(mockDelegate.getBinary(fieldInfo)).thenAnswer(invocation -> forwardOnlyDocValues());
+
+        for (int call = 0; call < 2; ++call) {
+            SparseBinaryDocValuesPassThrough passThrough = (SparseBinaryDocValuesPassThrough) producer.getBinary(fieldInfo);
+            for (int docId = 3; docId > 0; --docId) {
+                passThrough.read(docId);
+            }
+        }
+
+        // one delegate per call, plus one iterator per doc of the first descending pass only
+        verify(mockDelegate, times(5)).getBinary(fieldInfo);
+    }
+
     public void testGetSorted() throws IOException {
         // Setup
         SortedDocValues mockSorted = mock(SortedDocValues.class);
@@ -160,4 +180,45 @@ public class SparseDocValuesProducerTests extends AbstractSparseTestBase {
         // Verify
         assertEquals(segmentReadState, result);
     }
+
+    private static BinaryDocValues forwardOnlyDocValues() {
+        return new BinaryDocValues() {
+            private int doc = -1;
+
+            @Override
+            public BytesRef binaryValue() {
+                return null;
+            }
+
+            @Override
+            public boolean advanceExact(int target) {
+                if (target < doc) {
+                    throw new IllegalStateException("doc values iterators only move forward");
+                }
+                doc = target;
+                return true;
+            }
+
+            @Override
+            public int docID() {
+                return doc;
+            }
+
+            @Override
+            public int nextDoc() {
+                return ++doc;
+            }
+
+            @Override
+            public int advance(int target) {
+                doc = target;
+                return doc;
+            }
+
+            @Override
+            public long cost() {
+                return 0;
+            }
+        };
+    }
 }
@@ -189,6 +189,6 @@ public class SparsePostingsEnumTests extends AbstractSparseTestBase {
     }
 
     public void testCost() {
-        assertEquals(0, sparsePostingsEnum.cost());
+        assertEquals(sparsePostingsEnum.size(), sparsePostingsEnum.cost());
     }
 }
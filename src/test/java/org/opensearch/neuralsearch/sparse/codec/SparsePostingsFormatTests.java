@@ -12,10 +12,16 @@ import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -97,4 +103,25 @@ public class SparsePostingsFormatTests extends AbstractSparseTestBase {
         IOException exception = expectThrows(IOException.class, () -> { this.sparsePostingsFormat.fieldsProducer(mockReadState); });
         assertEquals("Test exception", exception.getMessage());
     }
+
+    @SneakyThrows
+    public void testFieldsProducer_withAutoWarmUp_thenSchedulesWarmUp() {
+        ExecutorService mockExecutor = mock(ExecutorService.class);
+        ThreadPool mockThreadPool = mock(ThreadPool.class);
+        when(mockThreadPool.executor(anyString())).thenReturn(mockExecutor);
+        ClusterTrainingExecutor.getInstance().initialize(mockThreadPool);
+        try {
+            FieldsProducer mockDelegateProducer = mock(FieldsProducer.class);
+            when(mockDelegate.fieldsProducer(mockReadState)).thenReturn(mockDelegateProducer);
+
+            new SparsePostingsFormat(mockDelegate, () -> false).fieldsProducer(mockReadState);
+            verify(mockExecutor, never()).execute(any(Runnable.class));
+
+            FieldsProducer result = new SparsePostingsFormat(mockDelegate, () -> true).fieldsProducer(mockReadState);
+            assertTrue(result instanceof SparsePostingsProducer);
+            verify(mockExecutor).execute(any(Runnable.class));
+        } finally {
+            ClusterTrainingExecutor.getInstance().initialize(null);
+        }
+    }
 }
@@ -11,6 +11,7 @@ import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.Terms;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.junit.After;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -118,6 +120,18 @@ public class SparsePostingsProducerTests extends AbstractSparseTestBase {
         verify(mockDelegate, times(1)).close();
     }
 
+    @SneakyThrows
+    public void testTerms_afterClose_thenThrowsAndDoesNotOpenReader() {
+        Supplier<SparseTermsLuceneReader> countingSupplier = mock(Supplier.class);
+        SparsePostingsProducer closedProducer = new SparsePostingsProducer(mockDelegate, segmentReadState, countingSupplier);
+        closedProducer.close();
+
+        expectThrows(AlreadyClosedException.class, () -> closedProducer.terms(sparseFieldInfo.getName()));
+
+        verify(countingSupplier, never()).get();
+        assertNull(closedProducer.getReader());
+    }
+
     @SneakyThrows
     public void testCheckIntegrity() {
         producer.checkIntegrity();
@@ -16,24 +16,30 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
 import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+import org.opensearch.neuralsearch.sparse.common.MergedDocMap;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_MERGE_MEMORY_LIMIT_BYTES;
 
 public class SparsePostingsReaderTests extends AbstractSparseTestBase {
 
@@ -59,9 +65,13 @@ public class SparsePostingsReaderTests extends AbstractSparseTestBase {
     private FieldInfos mockFieldInfos;
     @Mock
     private SegmentInfo mockSegmentInfo;
+    @Mock
+    private MergedTermsIterator mockMergedTerms;
+    @Mock
+    private MergedDocMap mockDocMap;
 
     private SparsePostingsReader reader;
-    private static final Set<BytesRef> TERMS = Set.of(new BytesRef("term"));
+    private static final BytesRef TERM = new BytesRef("term");
 
     @Before
     @Override
@@ -79,6 +89,7 @@ public class SparsePostingsReaderTests extends AbstractSparseTestBase {
 
         when(mockThreadPool.executor(anyString())).thenReturn(mockExecutor);
         ClusterTrainingExecutor.getInstance().initialize(mockThreadPool);
+        ClusterTrainingExecutor.getInstance().setMergeMemoryLimitBytes(DEFAULT_MERGE_MEMORY_LIMIT_BYTES);
 
         // configure merge state
         Map<String, String> attributes = prepareAttributes(true, 10, 0.1f, 200, 0.4f);
@@ -91,7 +102,12 @@ public class SparsePostingsReaderTests extends AbstractSparseTestBase {
         when(mockMergeState.getMaxDocs()).thenReturn(new int[] { 5, 5 });
         when(mockMergeState.getSegmentInfo()).thenReturn(mockSegmentInfo);
         when(mockSegmentInfo.maxDoc()).thenReturn(10);
-        when(mergeHelper.getAllTerms(any(), any())).thenReturn(TERMS);
+        when(mergeHelper.countMergedTerms(any(), any())).thenReturn(1L);
+        when(mergeHelper.newMergedTermsIterator(any(), any(), anyInt())).thenReturn(mockMergedTerms);
+        when(mergeHelper.selectBaseSegment(any(), any())).thenReturn(-1);
+        when(mergeHelper.newMergedDocMap(any())).thenReturn(mockDocMap);
+        when(mockMergedTerms.next()).thenReturn(TERM).thenReturn(null);
+        when(mockMergedTerms.postings()).thenReturn(List.of());
         reader = new SparsePostingsReader(mockMergeState, mergeHelper);
     }
 
@@ -167,6 +183,85 @@ public class SparsePostingsReaderTests extends AbstractSparseTestBase {
         verify(mockSparseTermsWriter, times(1)).writeFieldNumber(anyInt());
         verify(mockSparseTermsWriter, times(1)).writeTermsSize(1L);
         verify(mockExecutor, never()).execute(any(Runnable.class));
+        verify(mergeHelper, never()).selectBaseSegment(any(), any());
+        verify(mergeHelper, times(1)).newMergedTermsIterator(any(), any(), eq(-1));
+    }
+
+    @SneakyThrows
+    public void testMerge_withBaseSegment_thenIterateWithBaseClusters() {
+        when(mergeHelper.selectBaseSegment(any(), any())).thenReturn(1);
+        reader.merge(mockSparseTermsWriter, mockClusteredWriter);
+
+        verify(mergeHelper, times(1)).newMergedTermsIterator(any(), any(), eq(1));
+        verify(mockMergedTerms, times(1)).baseClusters();
+        verify(mockExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @SneakyThrows
+    public void testMerge_termsMoreThanBatchSize_thenStreamTermsInBatches() {
+        int termCount = 120;
+        when(mergeHelper.countMergedTerms(any(), any())).thenReturn((long) termCount);
+        Iterator<BytesRef> terms = IntStream.range(0, termCount)
+            .mapToObj(i -> new BytesRef(String.format(Locale.ROOT, "term%03d", i)))
+            .iterator();
+        when(mockMergedTerms.next()).thenAnswer(invocation -> terms.hasNext() ? terms.next() : null);
+        when(mockDocMap.size()).thenReturn(10);
+
+        reader.merge(mockSparseTermsWriter, mockClusteredWriter);
+
+        verify(mockSparseTermsWriter, times(1)).writeTermsSize(termCount);
+        verify(mockMergedTerms, times(termCount)).postings();
+        // batches of 50, 50 and 20 terms
+        verify(mockExecutor, times(3)).execute(any(Runnable.class));
+        verify(mergeHelper, times(1)).newMergedDocMap(any());
+        verify(mockSparseTermsWriter, times(termCount)).writeTerm(any(), any());
     }
 
+    @SneakyThrows
+    public void testMerge_largePostings_thenCutBatchesBySize() {
+        int termCount = 20;
+        when(mergeHelper.countMergedTerms(any(), any())).thenReturn((long) termCount);
+        Iterator<BytesRef> terms = IntStream.range(0, termCount)
+            .mapToObj(i -> new BytesRef(String.format(Locale.ROOT, "term%03d", i)))
+            .iterator();
+        when(mockMergedTerms.next()).thenAnswer(invocation -> terms.hasNext() ? terms.next() : null);
+        when(mockMergedTerms.postings()).thenReturn(preparePostings(1, 10, 2, 20, 3, 30, 4, 40, 5, 50));
+        // each batch can hold the postings of 2 terms
+        long memoryLimit = SparsePostingsReader.estimateBytes(10) * SparsePostingsReader.IN_FLIGHT_BATCHES;
+        ClusterTrainingExecutor.getInstance().setMergeMemoryLimitBytes(memoryLimit);
+        when(mockDocMap.size()).thenReturn(10);
+
+        reader.merge(mockSparseTermsWriter, mockClusteredWriter);
+
+        verify(mockExecutor, times(termCount / 2)).execute(any(Runnable.class));
+        verify(mockSparseTermsWriter, times(termCount)).writeTerm(any(), any());
+    }
+
+    @SneakyThrows
+    public void testMerge_batchDone_thenWrittenBeforeReadingNextBatches() {
+        int termCount = 120;
+        when(mergeHelper.countMergedTerms(any(), any())).thenReturn((long) termCount);
+        Iterator<BytesRef> terms = IntStream.range(0, termCount)
+            .mapToObj(i -> new BytesRef(String.format(Locale.ROOT, "term%03d", i)))
+            .iterator();
+        List<String> events = new ArrayList<>();
+        when(mockMergedTerms.next()).thenAnswer(invocation -> terms.hasNext() ? terms.next() : null);
+        when(mockMergedTerms.postings()).thenAnswer(invocation -> {
+            events.add("read");
+            return List.of();
+        });
+        doAnswer(invocation -> {
+            events.add(((BytesRef) invocation.getArgument(0)).utf8ToString());
+            return null;
+        }).when(mockSparseTermsWriter).writeTerm(any(), any());
+        when(mockDocMap.size()).thenReturn(10);
+
+        reader.merge(mockSparseTermsWriter, mockClusteredWriter);
+
+        // the first batch of 50 terms is written before the postings of the next batch are read
+        assertEquals(50, events.indexOf("term000"));
+        assertEquals("read", events.get(100));
+        assertEquals(termCount * 2, events.size());
+        assertEquals("term119", events.get(events.size() - 1));
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.BytesRef;
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.algorithm.ClusterTrainingExecutor;
+import org.opensearch.neuralsearch.sparse.cache.CacheKey;
+import org.opensearch.neuralsearch.sparse.cache.ClusteredPostingCache;
+import org.opensearch.neuralsearch.sparse.cache.ForwardIndexCache;
+import org.opensearch.neuralsearch.sparse.data.PostingClusters;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
+import org.opensearch.neuralsearch.sparse.mapper.SparseVectorField;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.APPROXIMATE_THRESHOLD_FIELD;
+import static org.opensearch.neuralsearch.sparse.mapper.SparseVectorField.SPARSE_FIELD;
+
+public class SparseSegmentWarmerTests extends AbstractSparseTestBase {
+
+    private static final BytesRef TERM = new BytesRef("term");
+
+    private ExecutorService mockExecutor;
+    private SegmentInfo segmentInfo;
+    private FieldInfo sparseFieldInfo;
+    private SegmentReadState segmentReadState;
+    private SparseTermsLuceneReader mockTermsReader;
+    private CacheKey cacheKey;
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        mockExecutor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(mockExecutor).execute(any(Runnable.class));
+        ThreadPool mockThreadPool = mock(ThreadPool.class);
+        when(mockThreadPool.executor(anyString())).thenReturn(mockExecutor);
+        ClusterTrainingExecutor.getInstance().initialize(mockThreadPool);
+
+        segmentInfo = TestsPrepareUtils.prepareSegmentInfo();
+        sparseFieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        sparseFieldInfo.putAttribute(SPARSE_FIELD, "true");
+        sparseFieldInfo.putAttribute(APPROXIMATE_THRESHOLD_FIELD, "1");
+        FieldInfos fieldInfos = mock(FieldInfos.class);
+        when(fieldInfos.iterator()).thenAnswer(invocation -> List.of(sparseFieldInfo).iterator());
+        when(fieldInfos.fieldInfo(sparseFieldInfo.name)).thenReturn(sparseFieldInfo);
+        segmentReadState = new SegmentReadState(mock(Directory.class), segmentInfo, fieldInfos, IOContext.DEFAULT);
+        mockTermsReader = mock(SparseTermsLuceneReader.class);
+        cacheKey = new CacheKey(segmentInfo, sparseFieldInfo);
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        ClusteredPostingCache.getInstance().onIndexRemoval(cacheKey);
+        ForwardIndexCache.getInstance().onIndexRemoval(cacheKey);
+        ClusterTrainingExecutor.getInstance().initialize(null);
+        super.tearDown();
+    }
+
+    @SneakyThrows
+    public void testWarmUpPostings_thenLoadsClustersIntoCache() {
+        PostingClusters clusters = preparePostingClusters();
+        when(mockTermsReader.getTerms(sparseFieldInfo.name)).thenReturn(Set.of(TERM));
+        when(mockTermsReader.read(sparseFieldInfo.name, TERM)).thenReturn(clusters);
+        SparsePostingsProducer producer = new SparsePostingsProducer(mock(FieldsProducer.class), segmentReadState, () -> mockTermsReader);
+
+        SparseSegmentWarmer.warmUpPostings(producer);
+
+        verify(mockTermsReader).read(sparseFieldInfo.name, TERM);
+        assertNotNull(ClusteredPostingCache.getInstance().getOrCreate(cacheKey).getReader().read(TERM));
+    }
+
+    @SneakyThrows
+    public void testWarmUpPostings_whenProducerClosed_thenSkipsSegment() {
+        SparsePostingsProducer producer = new SparsePostingsProducer(mock(FieldsProducer.class), segmentReadState, () -> mockTermsReader);
+        producer.close();
+
+        SparseSegmentWarmer.warmUpPostings(producer);
+
+        verify(mockTermsReader, never()).getTerms(anyString());
+        verify(mockTermsReader, never()).read(anyString(), any());
+    }
+
+    @SneakyThrows
+    public void testWarmUpPostings_whenFieldBelowThreshold_thenSkipsField() {
+        sparseFieldInfo.putAttribute(APPROXIMATE_THRESHOLD_FIELD, "100");
+        SparsePostingsProducer producer = new SparsePostingsProducer(mock(FieldsProducer.class), segmentReadState, () -> mockTermsReader);
+
+        SparseSegmentWarmer.warmUpPostings(producer);
+
+        verify(mockTermsReader, never()).getTerms(anyString());
+    }
+
+    @SneakyThrows
+    public void testWarmUpPostings_whenExecutorNotInitialized_thenSkipsSegment() {
+        ClusterTrainingExecutor.getInstance().initialize(null);
+        SparsePostingsProducer producer = new SparsePostingsProducer(mock(FieldsProducer.class), segmentReadState, () -> mockTermsReader);
+
+        SparseSegmentWarmer.warmUpPostings(producer);
+
+        verify(mockTermsReader, never()).getTerms(anyString());
+    }
+
+    @SneakyThrows
+    public void testWarmUpPostings_whenPoolRejects_thenSkipsSegment() {
+        doThrow(new RejectedExecutionException()).when(mockExecutor).execute(any(Runnable.class));
+        SparsePostingsProducer producer = new SparsePostingsProducer(mock(FieldsProducer.class), segmentReadState, () -> mockTermsReader);
+
+        SparseSegmentWarmer.warmUpPostings(producer);
+
+        verify(mockTermsReader, never()).getTerms(anyString());
+    }
+
+    @SneakyThrows
+    public void testWarmUpPostings_whenReadFails_thenDoesNotThrow() {
+        when(mockTermsReader.getTerms(sparseFieldInfo.name)).thenReturn(Set.of(TERM));
+        when(mockTermsReader.read(sparseFieldInfo.name, TERM)).thenThrow(new IllegalStateException("closed"));
+        SparsePostingsProducer producer = new SparsePostingsProducer(mock(FieldsProducer.class), segmentReadState, () -> mockTermsReader);
+
+        SparseSegmentWarmer.warmUpPostings(producer);
+
+        assertNull(ClusteredPostingCache.getInstance().getOrCreate(cacheKey).getReader().read(TERM));
+    }
+
+    @SneakyThrows
+    public void testWarmUpForwardIndex_thenLoadsVectorsIntoCache() {
+        SparseVector vector = createVector(1, 2, 3, 4);
+        SparseBinaryDocValuesPassThrough binaryDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(binaryDocValues.nextDoc()).thenReturn(0, DocIdSetIterator.NO_MORE_DOCS);
+        when(binaryDocValues.read(0)).thenReturn(vector);
+        SparseDocValuesProducer producer = mock(SparseDocValuesProducer.class);
+        when(producer.getState()).thenReturn(segmentReadState);
+        when(producer.getBinary(sparseFieldInfo)).thenReturn(binaryDocValues);
+
+        SparseSegmentWarmer.warmUpForwardIndex(producer);
+
+        verify(binaryDocValues).read(0);
+        assertEquals(vector, ForwardIndexCache.getInstance().get(cacheKey).getReader().read(0));
+    }
+
+    @SneakyThrows
+    public void testWarmUpForwardIndex_withMappedForwardIndex_thenReadsThrough() {
+        SparseBinaryDocValuesPassThrough binaryDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(binaryDocValues.hasMappedForwardIndex()).thenReturn(true);
+        when(binaryDocValues.nextDoc()).thenReturn(0, 1, DocIdSetIterator.NO_MORE_DOCS);
+        SparseDocValuesProducer producer = mock(SparseDocValuesProducer.class);
+        when(producer.getState()).thenReturn(segmentReadState);
+        when(producer.getBinary(sparseFieldInfo)).thenReturn(binaryDocValues);
+
+        SparseSegmentWarmer.warmUpForwardIndex(producer);
+
+        verify(binaryDocValues).read(0);
+        verify(binaryDocValues).read(1);
+        assertNull(ForwardIndexCache.getInstance().get(cacheKey));
+    }
+
+    @SneakyThrows
+    public void testWarmUpForwardIndex_whenProducerClosedDuringWarmUp_thenStopsAndKeepsLoadedVectors() {
+        SparseBinaryDocValuesPassThrough binaryDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(binaryDocValues.nextDoc()).thenReturn(0, 1, DocIdSetIterator.NO_MORE_DOCS);
+        when(binaryDocValues.read(0)).thenReturn(createVector(1, 2));
+        SparseDocValuesProducer producer = mock(SparseDocValuesProducer.class);
+        when(producer.getState()).thenReturn(segmentReadState);
+        when(producer.getBinary(sparseFieldInfo)).thenReturn(binaryDocValues);
+        when(producer.isClosed()).thenReturn(false, false, true);
+
+        SparseSegmentWarmer.warmUpForwardIndex(producer);
+
+        verify(binaryDocValues).read(0);
+        verify(binaryDocValues, never()).read(1);
+        // the cache key is shared with the other readers of the segment, so the warm up leaves removal to them
+        assertNotNull(ForwardIndexCache.getInstance().get(cacheKey).getReader().read(0));
+    }
+
+    @SneakyThrows
+    public void testAutoWarmUp_whenSegmentFlushed_thenWarmsUpReaderAndKeepsCachesOfSegment() {
+        List<Runnable> scheduled = new ArrayList<>();
+        doAnswer(invocation -> scheduled.add(invocation.getArgument(0))).when(mockExecutor).execute(any(Runnable.class));
+        FieldType fieldType = new FieldType();
+        fieldType.setIndexOptions(IndexOptions.NONE);
+        fieldType.setDocValuesType(DocValuesType.BINARY);
+        // a zero cluster ratio clusters the postings on the flushing thread, so the pool only runs warm ups
+        prepareAttributes(true, 1, 0, 10, 0.4f).forEach(fieldType::putAttribute);
+        fieldType.freeze();
+        IndexWriterConfig config = new IndexWriterConfig().setCodec(new SparseCodec(SparseCodec.DEFAULT_DELEGATE, () -> true));
+
+        try (Directory directory = new ByteBuffersDirectory(); IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < 5; i++) {
+                Document doc = new Document();
+                doc.add(new FeatureField("sparse", "1", 0.5f));
+                doc.add(new SparseVectorField("sparse", TestsPrepareUtils.prepareValidSparseVectorBytes().bytes, fieldType));
+                writer.addDocument(doc);
+            }
+            writer.flush();
+
+            // the doc values read back to cluster the postings on flush do not warm up
+            assertTrue(scheduled.isEmpty());
+
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                SegmentReader segmentReader = (SegmentReader) reader.leaves().get(0).reader();
+                CacheKey key = new CacheKey(segmentReader.getSegmentInfo().info, "sparse");
+                try {
+                    assertEquals(2, scheduled.size());
+                    scheduled.forEach(Runnable::run);
+
+                    assertNotNull(ClusteredPostingCache.getInstance().get(key).getReader().read(new BytesRef("1")));
+                    assertNotNull(ForwardIndexCache.getInstance().get(key).getReader().read(0));
+                } finally {
+                    ClusteredPostingCache.getInstance().onIndexRemoval(key);
+                    ForwardIndexCache.getInstance().onIndexRemoval(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.codec;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.opensearch.neuralsearch.sparse.codec.SparseTermsLuceneWriter.TERMS_INDEX_BLOCK_SIZE;
+
+public class SparseTermsDictionaryTests extends AbstractSparseTestBase {
+
+    private static final int TERM_COUNT = TERMS_INDEX_BLOCK_SIZE * 2 + 5;
+
+    @SneakyThrows
+    public void testInMemory_lookupAndTerms() {
+        BytesRef term = new BytesRef("term");
+        SparseTermsDictionary dictionary = new SparseTermsDictionary.InMemory(Map.of(term, 10L));
+
+        assertEquals(10L, dictionary.lookup(term));
+        assertEquals(-1L, dictionary.lookup(new BytesRef("missing")));
+        assertEquals(Set.of(term), dictionary.terms());
+    }
+
+    public void testInMemory_terms_thenIterateInSortedOrder() {
+        Map<BytesRef, Long> termsMap = new HashMap<>();
+        for (int i = TERM_COUNT - 1; i >= 0; --i) {
+            termsMap.put(term(i), (long) i);
+        }
+        Set<BytesRef> terms = new SparseTermsDictionary.InMemory(termsMap).terms();
+
+        assertEquals(TERM_COUNT, terms.size());
+        assertTrue(terms.contains(term(1)));
+        assertFalse(terms.contains(new BytesRef("missing")));
+        Iterator<BytesRef> iterator = terms.iterator();
+        for (int i = 0; i < TERM_COUNT; ++i) {
+            assertEquals(term(i), iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @SneakyThrows
+    public void testBlockIndexed_lookup_thenReturnFilePointerOfEveryTerm() {
+        try (Directory directory = new ByteBuffersDirectory(); IndexInput input = writeTerms(directory)) {
+            SparseTermsDictionary dictionary = buildDictionary(directory, input);
+
+            for (int i = 0; i < TERM_COUNT; ++i) {
+                assertEquals(i * 100L, dictionary.lookup(term(i)));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testBlockIndexed_lookupMissingTerm_thenReturnMinusOne() {
+        try (Directory directory = new ByteBuffersDirectory(); IndexInput input = writeTerms(directory)) {
+            SparseTermsDictionary dictionary = buildDictionary(directory, input);
+
+            // before the first term, between two terms and after the last term
+            assertEquals(-1L, dictionary.lookup(new BytesRef("a")));
+            assertEquals(-1L, dictionary.lookup(new BytesRef("term_00010_x")));
+            assertEquals(-1L, dictionary.lookup(new BytesRef("zzz")));
+        }
+    }
+
+    @SneakyThrows
+    public void testBlockIndexed_terms_thenStreamSortedTerms() {
+        try (Directory directory = new ByteBuffersDirectory(); IndexInput input = writeTerms(directory)) {
+            Set<BytesRef> terms = buildDictionary(directory, input).terms();
+
+            assertEquals(TERM_COUNT, terms.size());
+            assertTrue(terms.contains(term(TERMS_INDEX_BLOCK_SIZE)));
+            assertFalse(terms.contains(new BytesRef("missing")));
+            assertFalse(terms.contains("not a term"));
+            Iterator<BytesRef> iterator = terms.iterator();
+            for (int i = 0; i < TERM_COUNT; ++i) {
+                assertTrue(iterator.hasNext());
+                assertEquals(term(i), iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+            expectThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @SneakyThrows
+    public void testBlockIndexed_withNoTerms() {
+        SparseTermsDictionary dictionary = new SparseTermsDictionary.BlockIndexed(null, 0, new BytesRef[0], new long[0]);
+
+        assertEquals(-1L, dictionary.lookup(new BytesRef("term")));
+        assertTrue(dictionary.terms().isEmpty());
+        assertFalse(dictionary.terms().iterator().hasNext());
+    }
+
+    private static BytesRef term(int i) {
+        return new BytesRef(String.format(Locale.ROOT, "term_%05d", i));
+    }
+
+    @SneakyThrows
+    private static IndexInput writeTerms(Directory directory) {
+        try (IndexOutput output = directory.createOutput("terms", IOContext.DEFAULT)) {
+            // leading bytes so block pointers do not start at 0
+            output.writeInt(42);
+            for (int i = 0; i < TERM_COUNT; ++i) {
+                BytesRef term = term(i);
+                output.writeVInt(term.length);
+                output.writeBytes(term.bytes, term.offset, term.length);
+                output.writeVLong(i * 100L);
+            }
+        }
+        return directory.openInput("terms", IOContext.DEFAULT);
+    }
+
+    @SneakyThrows
+    private static SparseTermsDictionary buildDictionary(Directory directory, IndexInput input) {
+        List<BytesRef> blockFirstTerms = new ArrayList<>();
+        List<Long> blockPointers = new ArrayList<>();
+        IndexInput scan = input.clone();
+        scan.seek(Integer.BYTES);
+        for (int i = 0; i < TERM_COUNT; ++i) {
+            long pointer = scan.getFilePointer();
+            int length = scan.readVInt();
+            byte[] bytes = new byte[length];
+            scan.readBytes(bytes, 0, length);
+            scan.readVLong();
+            if (i % TERMS_INDEX_BLOCK_SIZE == 0) {
+                blockFirstTerms.add(new BytesRef(bytes));
+                blockPointers.add(pointer);
+            }
+        }
+        return new SparseTermsDictionary.BlockIndexed(
+            input,
+            TERM_COUNT,
+            blockFirstTerms.toArray(new BytesRef[0]),
+            blockPointers.stream().mapToLong(Long::longValue).toArray()
+        );
+    }
+}
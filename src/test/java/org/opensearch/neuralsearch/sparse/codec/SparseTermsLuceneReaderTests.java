@@ -5,25 +5,39 @@
 package org.opensearch.neuralsearch.sparse.codec;
 
 import lombok.SneakyThrows;
+import org.apache.lucene.codecs.BlockTermState;
 import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.junit.Before;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
+import org.opensearch.neuralsearch.sparse.data.DocWeight;
+import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
 import org.opensearch.neuralsearch.sparse.data.PostingClusters;
+import org.opensearch.neuralsearch.sparse.data.SparseVector;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -71,6 +85,7 @@ public class SparseTermsLuceneReaderTests extends AbstractSparseTestBase {
         when(mockFieldInfos.fieldInfo(0)).thenReturn(mockFieldInfo);
         when(mockFieldInfo.getName()).thenReturn(TEST_FIELD);
         when(mockDirectory.openInput(anyString(), any(IOContext.class))).thenReturn(mockTermsInput).thenReturn(mockPostingInput);
+        when(mockPostingInput.clone()).thenReturn(mockPostingInput);
 
         when(mockCodecUtilWrapper.footerLength()).thenReturn(CodecUtil.footerLength());
         segmentReadState = new SegmentReadState(mockDirectory, mockSegmentInfo, mockFieldInfos, IOContext.DEFAULT, "test_suffix");
@@ -134,6 +149,145 @@ public class SparseTermsLuceneReaderTests extends AbstractSparseTestBase {
         assertNotNull(clusters);
     }
 
+    @SneakyThrows
+    public void testRead_withExistingFieldAndTerm_decodesClusterFromClonedInput() {
+        setupMockPostingInput();
+        SparseTermsLuceneReader reader = new SparseTermsLuceneReader(segmentReadState, mockCodecUtilWrapper);
+        PostingClusters clusters = reader.read(TEST_FIELD, new BytesRef(TERM_NAME));
+
+        assertEquals(1, clusters.getClusters().size());
+        DocumentCluster cluster = clusters.getClusters().get(0);
+        assertArrayEquals(new int[] { 1 }, cluster.getDocIds());
+        assertArrayEquals(new byte[] { 1 }, cluster.getWeights());
+        assertTrue(cluster.isShouldNotSkip());
+        assertEquals(createVector(1, 1), cluster.getSummary());
+        verify(mockPostingInput).clone();
+        verify(mockPostingInput).seek(50L);
+    }
+
+    @SneakyThrows
+    public void testRead_withTermsIndex_thenReadWrittenPostings() {
+        SegmentWriteState writeState = TestsPrepareUtils.prepareSegmentWriteState();
+        int termCount = SparseTermsLuceneWriter.TERMS_INDEX_BLOCK_SIZE + 3;
+        writeTermsAndPostings(
+            writeState,
+            termCount,
+            i -> new PostingClusters(
+                List.of(
+                    new DocumentCluster(createVector(1, 10), List.of(new DocWeight(i, (byte) 1), new DocWeight(i + 1, (byte) 2)), false)
+                )
+            )
+        );
+        SegmentReadState readState = new SegmentReadState(
+            writeState.directory,
+            writeState.segmentInfo,
+            writeState.fieldInfos,
+            IOContext.DEFAULT
+        );
+
+        try (SparseTermsLuceneReader reader = new SparseTermsLuceneReader(readState, new CodecUtilWrapper())) {
+            for (int i = 0; i < termCount; ++i) {
+                PostingClusters clusters = reader.read(TEST_FIELD, indexedTerm(i));
+                assertNotNull(clusters);
+                assertArrayEquals(new int[] { i, i + 1 }, clusters.getClusters().get(0).getDocIds());
+            }
+            assertNull(reader.read(TEST_FIELD, new BytesRef("missing")));
+
+            Set<BytesRef> terms = reader.getTerms(TEST_FIELD);
+            assertEquals(termCount, terms.size());
+            Iterator<BytesRef> iterator = terms.iterator();
+            for (int i = 0; i < termCount; ++i) {
+                assertEquals(indexedTerm(i), iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+            reader.checkIntegrity();
+        }
+    }
+
+    @SneakyThrows
+    public void testRead_withBlockPostings_thenReadLargeClusters() {
+        SegmentWriteState writeState = TestsPrepareUtils.prepareSegmentWriteState();
+        int docCount = DeltaBlockCodec.BLOCK_SIZE * 2 + 17;
+        List<DocWeight> docs = new ArrayList<>();
+        for (int i = 0; i < docCount; ++i) {
+            docs.add(new DocWeight(i * 31, (byte) (i + 1)));
+        }
+        // tokens above Short.MAX_VALUE are stored as negative shorts
+        SparseVector summary = createVector(5, 1, 40000, 200, 65535, 3);
+        writeTermsAndPostings(
+            writeState,
+            1,
+            i -> new PostingClusters(List.of(new DocumentCluster(summary, docs, true), new DocumentCluster(null, List.of(), false)))
+        );
+        SegmentReadState readState = new SegmentReadState(
+            writeState.directory,
+            writeState.segmentInfo,
+            writeState.fieldInfos,
+            IOContext.DEFAULT
+        );
+
+        try (SparseTermsLuceneReader reader = new SparseTermsLuceneReader(readState, new CodecUtilWrapper())) {
+            PostingClusters clusters = reader.read(TEST_FIELD, indexedTerm(0));
+            assertEquals(2, clusters.getClusters().size());
+            DocumentCluster cluster = clusters.getClusters().get(0);
+            assertTrue(cluster.isShouldNotSkip());
+            assertEquals(docCount, cluster.size());
+            for (int i = 0; i < docCount; ++i) {
+                assertEquals(i * 31, cluster.getDocIds()[i]);
+                assertEquals((byte) (i + 1), cluster.getWeights()[i]);
+            }
+            Map<Integer, Byte> summaryItems = new HashMap<>();
+            IteratorWrapper<SparseVector.Item> iterator = cluster.getSummary().iterator();
+            while (iterator.hasNext()) {
+                SparseVector.Item item = iterator.next();
+                summaryItems.put(Short.toUnsignedInt((short) item.getToken()), item.getWeight());
+            }
+            assertEquals(Map.of(5, (byte) 1, 40000, (byte) 200, 65535, (byte) 3), summaryItems);
+
+            DocumentCluster emptyCluster = clusters.getClusters().get(1);
+            assertEquals(0, emptyCluster.size());
+            assertNull(emptyCluster.getSummary());
+        }
+    }
+
+    @SneakyThrows
+    public void testRead_withBlockPostings_thenDecodesDocsOfClusterOnFirstAccess() {
+        SegmentWriteState writeState = TestsPrepareUtils.prepareSegmentWriteState();
+        writeTermsAndPostings(
+            writeState,
+            1,
+            i -> new PostingClusters(
+                List.of(
+                    new DocumentCluster(createVector(1, 10), List.of(new DocWeight(3, (byte) 1), new DocWeight(7, (byte) 2)), false),
+                    new DocumentCluster(createVector(2, 20), List.of(new DocWeight(5, (byte) 3)), false)
+                )
+            )
+        );
+        SegmentReadState readState = new SegmentReadState(
+            writeState.directory,
+            writeState.segmentInfo,
+            writeState.fieldInfos,
+            IOContext.DEFAULT
+        );
+
+        try (SparseTermsLuceneReader reader = new SparseTermsLuceneReader(readState, new CodecUtilWrapper())) {
+            List<DocumentCluster> clusters = reader.read(TEST_FIELD, indexedTerm(0)).getClusters();
+            DocumentCluster first = clusters.get(0);
+            DocumentCluster second = clusters.get(1);
+            assertFalse(first.isDecoded());
+            assertFalse(second.isDecoded());
+            assertEquals(2, first.size());
+            assertEquals(createVector(2, 20), second.getSummary());
+
+            assertArrayEquals(new int[] { 5 }, second.getDocIds());
+            assertArrayEquals(new byte[] { 3 }, second.getWeights());
+            assertTrue(second.isDecoded());
+            assertFalse(first.isDecoded());
+            assertArrayEquals(new int[] { 3, 7 }, first.getDocIds());
+            assertArrayEquals(new byte[] { 1, 2 }, first.getWeights());
+        }
+    }
+
     @SneakyThrows
     public void testRead_withNonExistingField() {
         SparseTermsLuceneReader reader = new SparseTermsLuceneReader(segmentReadState, mockCodecUtilWrapper);
@@ -227,4 +381,51 @@ public class SparseTermsLuceneReaderTests extends AbstractSparseTestBase {
     private void setupMockPostingInputForEmptyClusters() {
         when(mockPostingInput.readVLong()).thenReturn(0L);
     }
+
+    private static BytesRef indexedTerm(int i) {
+        return new BytesRef(String.format(Locale.ROOT, "%04d", i));
+    }
+
+    @SneakyThrows
+    private void writeTermsAndPostings(SegmentWriteState writeState, int termCount, IntFunction<PostingClusters> postingSupplier) {
+        String termsFileName = IndexFileNames.segmentFileName(
+            writeState.segmentInfo.name,
+            writeState.segmentSuffix,
+            SparsePostingsConsumer.TERMS_EXTENSION
+        );
+        String postingFileName = IndexFileNames.segmentFileName(
+            writeState.segmentInfo.name,
+            writeState.segmentSuffix,
+            SparsePostingsConsumer.POSTING_EXTENSION
+        );
+        try (
+            IndexOutput termsOut = writeState.directory.createOutput(termsFileName, IOContext.DEFAULT);
+            IndexOutput postingOut = writeState.directory.createOutput(postingFileName, IOContext.DEFAULT)
+        ) {
+            SparseTermsLuceneWriter termsWriter = new SparseTermsLuceneWriter(
+                SparsePostingsConsumer.CODEC_NAME,
+                SparsePostingsConsumer.VERSION_CURRENT,
+                new CodecUtilWrapper()
+            );
+            ClusteredPostingTermsWriter postingWriter = new ClusteredPostingTermsWriter(
+                SparsePostingsConsumer.CODEC_NAME,
+                SparsePostingsConsumer.VERSION_CURRENT,
+                new CodecUtilWrapper()
+            );
+            termsWriter.init(termsOut, writeState);
+            postingWriter.init(postingOut, writeState);
+            long termsStartFp = termsOut.getFilePointer();
+            long postingStartFp = postingOut.getFilePointer();
+
+            termsWriter.writeFieldCount(1);
+            termsWriter.writeFieldNumber(0);
+            termsWriter.writeTermsSize(termCount);
+            for (int i = 0; i < termCount; ++i) {
+                BlockTermState state = postingWriter.write(indexedTerm(i), postingSupplier.apply(i));
+                termsWriter.writeTerm(indexedTerm(i), state);
+            }
+            termsWriter.close(termsStartFp);
+            postingWriter.close(postingStartFp);
+        }
+    }
 }
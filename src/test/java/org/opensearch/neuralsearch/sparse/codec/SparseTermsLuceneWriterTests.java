@@ -11,6 +11,7 @@ import org.apache.lucene.store.DataOutput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.junit.Before;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
@@ -24,9 +25,11 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class SparseTermsLuceneWriterTests extends AbstractSparseTestBase {
 
@@ -188,4 +191,61 @@ public class SparseTermsLuceneWriterTests extends AbstractSparseTestBase {
         writer.closeWithException();
         verify(mockIndexOutput).close();
     }
+
+    @SneakyThrows
+    public void testWriteTerm_withTermsIndex_whenTermsNotSorted_thenThrowException() {
+        SparseTermsLuceneWriter indexedWriter = new SparseTermsLuceneWriter(
+            CODEC_NAME,
+            SparsePostingsConsumer.VERSION_BLOCK_TERMS_INDEX,
+            mockCodecUtilWrapper
+        );
+        indexedWriter.init(mockIndexOutput, mockSegmentWriteState);
+        indexedWriter.writeFieldNumber(FIELD_NUMBER);
+        indexedWriter.writeTerm(new BytesRef("b"), mockBlockTermState);
+
+        expectThrows(IllegalArgumentException.class, () -> indexedWriter.writeTerm(new BytesRef("a"), mockBlockTermState));
+        expectThrows(IllegalArgumentException.class, () -> indexedWriter.writeTerm(new BytesRef("b"), mockBlockTermState));
+    }
+
+    @SneakyThrows
+    public void testWriteTerm_withTermsIndex_whenNewField_thenOrderIsReset() {
+        SparseTermsLuceneWriter indexedWriter = new SparseTermsLuceneWriter(
+            CODEC_NAME,
+            SparsePostingsConsumer.VERSION_BLOCK_TERMS_INDEX,
+            mockCodecUtilWrapper
+        );
+        indexedWriter.init(mockIndexOutput, mockSegmentWriteState);
+        indexedWriter.writeFieldNumber(FIELD_NUMBER);
+        indexedWriter.writeTerm(new BytesRef("b"), mockBlockTermState);
+        indexedWriter.writeFieldNumber(FIELD_NUMBER + 1);
+        indexedWriter.writeTerm(new BytesRef("a"), mockBlockTermState);
+
+        verify(mockIndexOutput, times(2)).writeVLong(mockBlockTermState.blockFilePointer);
+    }
+
+    @SneakyThrows
+    public void testClose_withTermsIndex_thenWriteTermsIndexBeforeStartFp() {
+        SparseTermsLuceneWriter indexedWriter = new SparseTermsLuceneWriter(
+            CODEC_NAME,
+            SparsePostingsConsumer.VERSION_BLOCK_TERMS_INDEX,
+            mockCodecUtilWrapper
+        );
+        indexedWriter.init(mockIndexOutput, mockSegmentWriteState);
+        // file pointer of the term, then of the terms index
+        when(mockIndexOutput.getFilePointer()).thenReturn(7L, 300L);
+        indexedWriter.writeFieldNumber(FIELD_NUMBER);
+        indexedWriter.writeTerm(new BytesRef("abc"), mockBlockTermState);
+
+        indexedWriter.close(START_FP);
+
+        InOrder inOrder = inOrder(mockIndexOutput, mockCodecUtilWrapper);
+        // field count, field number, then the first term and file pointer of the only block
+        inOrder.verify(mockIndexOutput).writeVInt(1);
+        inOrder.verify(mockIndexOutput).writeVInt(FIELD_NUMBER);
+        inOrder.verify(mockIndexOutput).writeVInt(3);
+        inOrder.verify(mockIndexOutput).writeVLong(7L);
+        inOrder.verify(mockIndexOutput).writeLong(300L);
+        inOrder.verify(mockIndexOutput).writeLong(START_FP);
+        inOrder.verify(mockCodecUtilWrapper).writeFooter(mockIndexOutput);
+    }
 }
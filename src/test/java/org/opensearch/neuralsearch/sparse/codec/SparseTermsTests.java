@@ -234,6 +234,38 @@ public class SparseTermsTests extends AbstractSparseTestBase {
         verify(mockReader, times(1)).read(TEST_FIELD, term);
     }
 
+    public void testUncachedIterator_readsWithoutCaching() throws IOException {
+        BytesRef term = new BytesRef("term");
+        PostingClusters mockClusters = preparePostingClusters();
+        when(mockReader.read(TEST_FIELD, term)).thenReturn(mockClusters);
+
+        TermsEnum termsEnum = sparseTerms.uncachedIterator();
+        termsEnum.next();
+        assertNotNull(termsEnum.postings(null, 0));
+
+        assertNull(ClusteredPostingCache.getInstance().getOrCreate(cacheKey).getReader().read(term));
+        // The next read goes to Lucene again, while a cached read populates the cache
+        termsEnum = sparseTerms.iterator();
+        termsEnum.next();
+        assertNotNull(termsEnum.postings(null, 0));
+        verify(mockReader, times(2)).read(TEST_FIELD, term);
+        assertNotNull(ClusteredPostingCache.getInstance().getOrCreate(cacheKey).getReader().read(term));
+    }
+
+    public void testUncachedIterator_withoutCachedSegment_thenDoesNotCreateCache() throws IOException {
+        BytesRef term = new BytesRef("term");
+        PostingClusters mockClusters = preparePostingClusters();
+        when(mockReader.read(TEST_FIELD, term)).thenReturn(mockClusters);
+        ClusteredPostingCache.getInstance().onIndexRemoval(cacheKey);
+        SparseTerms sparseTerms = new SparseTerms(cacheKey, mockReader, TEST_FIELD);
+
+        TermsEnum termsEnum = sparseTerms.uncachedIterator();
+        termsEnum.next();
+
+        assertNotNull(termsEnum.postings(null, 0));
+        assertNull(ClusteredPostingCache.getInstance().get(cacheKey));
+    }
+
     public void testSparseTermsEnum_impacts() throws IOException {
         TermsEnum termsEnum = sparseTerms.iterator();
 
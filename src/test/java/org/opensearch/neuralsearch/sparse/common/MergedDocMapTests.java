@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.common;
+
+import org.apache.lucene.index.MergeState;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MergedDocMapTests extends AbstractSparseTestBase {
+
+    public void testBuild_thenMapNewDocIdsToSegments() {
+        MergeStateFacade mergeStateFacade = mock(MergeStateFacade.class);
+        when(mergeStateFacade.getMaxDocs()).thenReturn(new int[] { 2, 3 });
+        // the second doc of the first segment is deleted and the segments are interleaved by index sorting
+        MergeState.DocMap first = docId -> docId == 0 ? 1 : -1;
+        MergeState.DocMap second = docId -> docId == 0 ? 0 : docId + 1;
+        when(mergeStateFacade.getDocMaps()).thenReturn(new MergeState.DocMap[] { first, second });
+
+        MergedDocMap docMap = MergedDocMap.build(mergeStateFacade);
+
+        assertEquals(5, docMap.size());
+        assertEquals(1, docMap.segmentIndex(0));
+        assertEquals(0, docMap.oldDocId(0));
+        assertEquals(0, docMap.segmentIndex(1));
+        assertEquals(0, docMap.oldDocId(1));
+        assertEquals(1, docMap.segmentIndex(2));
+        assertEquals(1, docMap.oldDocId(2));
+        assertEquals(1, docMap.segmentIndex(3));
+        assertEquals(2, docMap.oldDocId(3));
+    }
+
+    public void testBuild_noDocs_thenEmpty() {
+        MergeStateFacade mergeStateFacade = mock(MergeStateFacade.class);
+        when(mergeStateFacade.getMaxDocs()).thenReturn(new int[0]);
+        when(mergeStateFacade.getDocMaps()).thenReturn(new MergeState.DocMap[0]);
+
+        assertEquals(0, MergedDocMap.build(mergeStateFacade).size());
+    }
+
+    public void testBuild_nullMergeState_thenThrowException() {
+        expectThrows(NullPointerException.class, () -> MergedDocMap.build(null));
+    }
+}
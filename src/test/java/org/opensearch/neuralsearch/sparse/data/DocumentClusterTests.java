@@ -4,16 +4,20 @@
  */
 package org.opensearch.neuralsearch.sparse.data;
 
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.common.DocWeightIterator;
 import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizer;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DocumentClusterTests extends AbstractSparseTestBase {
 
@@ -57,6 +61,51 @@ public class DocumentClusterTests extends AbstractSparseTestBase {
         assertEquals(15, iterator.next().getDocID());
     }
 
+    public void testConstructor_withSortedArrays_createsCluster() {
+        int[] docIds = new int[] { 5, 10 };
+        byte[] weights = new byte[] { 1, 2 };
+
+        DocumentCluster cluster = new DocumentCluster(null, docIds, weights, true);
+
+        assertSame(docIds, cluster.getDocIds());
+        assertSame(weights, cluster.getWeights());
+        assertEquals(new DocumentCluster(null, Arrays.asList(new DocWeight(10, (byte) 2), new DocWeight(5, (byte) 1)), true), cluster);
+    }
+
+    public void testConstructor_withMismatchedArrays_throwsException() {
+        expectThrows(IllegalArgumentException.class, () -> new DocumentCluster(null, new int[] { 1, 2 }, new byte[] { 1 }, false));
+    }
+
+    public void testConstructor_withDocsDecoder_decodesDocsOnceOnFirstAccess() {
+        AtomicInteger decodes = new AtomicInteger();
+        DocumentCluster cluster = new DocumentCluster(null, 2, false, (docIds, weights) -> {
+            decodes.incrementAndGet();
+            docIds[0] = 5;
+            docIds[1] = 10;
+            weights[0] = 1;
+            weights[1] = 2;
+        });
+        long ramBytesUsed = cluster.ramBytesUsed();
+
+        assertEquals(2, cluster.size());
+        assertFalse(cluster.isDecoded());
+        assertEquals(0, decodes.get());
+
+        assertArrayEquals(new byte[] { 1, 2 }, cluster.getWeights());
+        assertArrayEquals(new int[] { 5, 10 }, cluster.getDocIds());
+        assertTrue(cluster.isDecoded());
+        assertEquals(1, decodes.get());
+        assertEquals(ramBytesUsed, cluster.ramBytesUsed());
+        assertEquals(new DocumentCluster(null, new int[] { 5, 10 }, new byte[] { 1, 2 }, false), cluster);
+    }
+
+    public void testGetDocIds_whenDocsDecoderThrows_thenThrowsUncheckedIOException() {
+        DocumentCluster cluster = new DocumentCluster(null, 1, false, (docIds, weights) -> { throw new IOException("read failed"); });
+
+        expectThrows(UncheckedIOException.class, cluster::getDocIds);
+        assertFalse(cluster.isDecoded());
+    }
+
     public void testSize_withEmptyDocs_returnsZero() {
         List<DocWeight> docs = new ArrayList<>();
 
@@ -65,6 +114,23 @@ public class DocumentClusterTests extends AbstractSparseTestBase {
         assertEquals(0, cluster.size());
     }
 
+    public void testContainsAny_withMatchingDoc_returnsTrue() {
+        DocumentCluster cluster = new DocumentCluster(null, new int[] { 2, 7, 9 }, new byte[] { 1, 2, 3 }, false);
+        FixedBitSet bits = new FixedBitSet(10);
+        bits.set(7);
+
+        assertTrue(cluster.containsAny(bits));
+    }
+
+    public void testContainsAny_withoutMatchingDoc_returnsFalse() {
+        DocumentCluster cluster = new DocumentCluster(null, new int[] { 2, 7, 9 }, new byte[] { 1, 2, 3 }, false);
+        FixedBitSet bits = new FixedBitSet(10);
+        bits.set(3);
+
+        assertFalse(cluster.containsAny(bits));
+        assertFalse(new DocumentCluster(null, new ArrayList<>(), false).containsAny(bits));
+    }
+
     public void testIterator_withMultipleDocs_iteratesInOrder() {
         List<DocWeight> docs = Arrays.asList(new DocWeight(20, (byte) 4), new DocWeight(10, (byte) 2), new DocWeight(30, (byte) 6));
 
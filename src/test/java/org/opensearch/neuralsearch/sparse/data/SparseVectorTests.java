@@ -4,6 +4,8 @@
  */
 package org.opensearch.neuralsearch.sparse.data;
 
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.util.BytesRef;
 import org.junit.Assert;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
@@ -112,6 +114,60 @@ public class SparseVectorTests extends AbstractSparseTestBase {
         Assert.assertEquals(3, item3.getToken());
     }
 
+    public void testConstructorWithBytesRefMatchesMapConstructor() throws IOException {
+        Map<Integer, Float> map = new HashMap<>();
+        map.put(40000, 2.5f);
+        map.put(7, 0.05f);
+        map.put(65543, 1.0f); // % 65536 = 7, larger weight is kept
+        map.put(3, 5.0f); // above ceiling
+        map.put(12, 0.0f);
+        ByteQuantizer byteQuantizer = new ByteQuantizer(3.0f);
+
+        SparseVector vector = new SparseVector(serializeMap(map), byteQuantizer);
+
+        Assert.assertEquals(new SparseVector(map, byteQuantizer), vector);
+        Assert.assertEquals(4, vector.getSize());
+    }
+
+    public void testConstructorWithBytesRefWithOffset() throws IOException {
+        BytesRef encoded = serializeMap(Map.of(2, 0.3f, 1, 0.2f));
+        byte[] padded = new byte[encoded.length + 3];
+        System.arraycopy(encoded.bytes, encoded.offset, padded, 2, encoded.length);
+
+        SparseVector vector = new SparseVector(new BytesRef(padded, 2, encoded.length), new ByteQuantizer(3.0f));
+
+        Assert.assertEquals(new SparseVector(encoded, new ByteQuantizer(3.0f)), vector);
+        Assert.assertEquals(2, vector.getSize());
+    }
+
+    public void testConstructorWithEmptyBytesRef() throws IOException {
+        SparseVector vector = new SparseVector(new BytesRef(), new ByteQuantizer(3.0f));
+
+        Assert.assertEquals(0, vector.getSize());
+    }
+
+    public void testConstructorWithTruncatedBytesRef() throws IOException {
+        BytesRef encoded = serializeMap(Map.of(1, 0.2f));
+        BytesRef truncated = new BytesRef(encoded.bytes, encoded.offset, encoded.length - 1);
+
+        expectThrows(IOException.class, () -> new SparseVector(truncated, new ByteQuantizer(3.0f)));
+    }
+
+    public void testDecodeScratch() throws IOException {
+        SparseVector.DecodeScratch scratch = new SparseVector.DecodeScratch();
+        ByteQuantizer byteQuantizer = new ByteQuantizer(3.0f);
+        BytesRef large = serializeMap(Map.of(1, 0.1f, 2, 0.2f, 3, 0.3f, 4, 0.4f));
+        BytesRef small = serializeMap(Map.of(5, 0.5f));
+
+        SparseVector largeVector = scratch.decode(large, byteQuantizer);
+        SparseVector smallVector = scratch.decode(small, byteQuantizer);
+
+        // vectors do not share the scratch buffer
+        Assert.assertEquals(new SparseVector(large, byteQuantizer), largeVector);
+        Assert.assertEquals(new SparseVector(small, byteQuantizer), smallVector);
+        Assert.assertEquals(1, smallVector.getSize());
+    }
+
     public void testConstructorWithTokenIdLargerThanShort() {
         // Create items
         List<SparseVector.Item> items = new ArrayList<>();
@@ -146,6 +202,24 @@ public class SparseVectorTests extends AbstractSparseTestBase {
         Assert.assertFalse(iterator.hasNext());
     }
 
+    public void testConstructorWithArraysMatchesItemsConstructor() {
+        int[] tokens = new int[] { 65539, 1, 131074, 2, 65537, 40000 };
+        byte[] weights = new byte[] { 40, 10, 20, 30, 20, (byte) 200 };
+        List<SparseVector.Item> items = new ArrayList<>();
+        for (int i = 0; i < tokens.length; ++i) {
+            items.add(new SparseVector.Item(tokens[i], weights[i]));
+        }
+
+        SparseVector vector = new SparseVector(tokens, weights);
+
+        Assert.assertEquals(new SparseVector(items), vector);
+        Assert.assertEquals(4, vector.getSize());
+    }
+
+    public void testConstructorWithMismatchedArrays() {
+        expectThrows(IllegalArgumentException.class, () -> new SparseVector(new int[] { 1, 2 }, new byte[] { 1 }));
+    }
+
     public void testToDenseVector() {
         // Create items
         List<SparseVector.Item> items = new ArrayList<>();
@@ -166,6 +240,31 @@ public class SparseVectorTests extends AbstractSparseTestBase {
         Assert.assertEquals(10, denseVector[3] & 0xFF);
     }
 
+    public void testToDenseVector_withScratch_thenReusedAndCleared() {
+        SparseVector small = createVector(1, 20, 3, 10);
+        SparseVector large = createVector(2, 5, 100, 7);
+        SparseVector query = createVector(1, 2, 2, 3, 3, 4, 100, 5);
+
+        byte[] scratch = small.toDenseVector(new byte[0]);
+        assertTrue(scratch.length >= 4);
+        assertEquals(query.dotProduct(small.toDenseVector()), query.dotProduct(scratch));
+        small.clearDenseVector(scratch);
+
+        // a larger scratch is returned when the max token does not fit
+        byte[] grown = large.toDenseVector(scratch);
+        assertNotSame(scratch, grown);
+        assertTrue(grown.length > 100);
+        assertEquals(query.dotProduct(large.toDenseVector()), query.dotProduct(grown));
+        large.clearDenseVector(grown);
+        assertArrayEquals(new byte[grown.length], grown);
+
+        // a large enough scratch is reused
+        assertSame(grown, small.toDenseVector(grown));
+        assertEquals(query.dotProduct(small.toDenseVector()), query.dotProduct(grown));
+        small.clearDenseVector(grown);
+        assertArrayEquals(new byte[grown.length], grown);
+    }
+
     public void testDotProduct() {
         // Create sparse vector
         List<SparseVector.Item> items = new ArrayList<>();
@@ -281,6 +380,177 @@ public class SparseVectorTests extends AbstractSparseTestBase {
         Assert.assertEquals(2750, dotProduct);
     }
 
+    public void testBatchDotProduct() {
+        List<SparseVector.Item> items1 = new ArrayList<>();
+        items1.add(new SparseVector.Item(0, (byte) 10));
+        items1.add(new SparseVector.Item(2, (byte) 20));
+        List<SparseVector.Item> items2 = new ArrayList<>();
+        items2.add(new SparseVector.Item(1, (byte) 30));
+        items2.add(new SparseVector.Item(5, (byte) 40));
+        SparseVector vector1 = new SparseVector(items1);
+        SparseVector vector2 = new SparseVector(items2);
+        byte[] denseVector = new byte[] { 5, 2, 10 };
+
+        List<SparseVector> vectors = new ArrayList<>();
+        vectors.add(vector1);
+        vectors.add(null);
+        vectors.add(vector2);
+        int[] scores = new int[] { -1, -1, -1, -1 };
+        SparseVector.dotProduct(vectors, denseVector, scores);
+
+        Assert.assertEquals(vector1.dotProduct(denseVector), scores[0]);
+        Assert.assertEquals(0, scores[1]);
+        Assert.assertEquals(vector2.dotProduct(denseVector), scores[2]);
+        // entries beyond the batch are left untouched
+        Assert.assertEquals(-1, scores[3]);
+    }
+
+    public void testBatchDotProductWithEmptyDenseVector() {
+        List<SparseVector.Item> items = new ArrayList<>();
+        items.add(new SparseVector.Item(0, (byte) 10));
+        List<SparseVector> vectors = List.of(new SparseVector(items));
+        int[] scores = new int[] { -1 };
+
+        SparseVector.dotProduct(vectors, null, scores);
+        Assert.assertEquals(0, scores[0]);
+
+        scores[0] = -1;
+        SparseVector.dotProduct(vectors, new byte[0], scores);
+        Assert.assertEquals(0, scores[0]);
+    }
+
+    public void testBatchDotProductWithSmallScoresArray() {
+        List<SparseVector.Item> items = new ArrayList<>();
+        items.add(new SparseVector.Item(0, (byte) 10));
+        List<SparseVector> vectors = List.of(new SparseVector(items), new SparseVector(items));
+
+        expectThrows(IllegalArgumentException.class, () -> SparseVector.dotProduct(vectors, new byte[] { 1 }, new int[1]));
+    }
+
+    public void testWritePackedAndReadPacked() throws IOException {
+        List<SparseVector.Item> items = new ArrayList<>();
+        items.add(new SparseVector.Item(1, (byte) 20));
+        items.add(new SparseVector.Item(300, (byte) 200));
+        items.add(new SparseVector.Item(7, (byte) 1));
+        SparseVector vector = new SparseVector(items);
+
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        // leading byte checks that the read honours the offset
+        out.writeByte((byte) 42);
+        vector.writePacked(out);
+        Assert.assertEquals(1 + vector.getSize() * SparseVector.PACKED_BYTES_PER_ENTRY, out.size());
+
+        SparseVector readVector = SparseVector.readPacked(out.toDataInput(), 1, vector.getSize());
+        Assert.assertEquals(vector, readVector);
+    }
+
+    public void testWritePackedAndReadPackedWithEmptyVector() throws IOException {
+        SparseVector vector = new SparseVector(new ArrayList<>());
+
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        vector.writePacked(out);
+        Assert.assertEquals(0, out.size());
+
+        SparseVector readVector = SparseVector.readPacked(out.toDataInput(), 0, 0);
+        Assert.assertEquals(0, readVector.getSize());
+    }
+
+    public void testConstructorWithBytesRef_withHalfByteQuantizer_thenPacksWeights() throws IOException {
+        Map<Integer, Float> map = Map.of(3, 0.2f, 1, 3.0f, 2, 1.5f, 9, 0.0f, 5, 0.7f);
+        ByteQuantizer byteQuantizer = new ByteQuantizer(3.0f, 15);
+
+        SparseVector vector = new SparseVector(serializeMap(map), byteQuantizer);
+
+        Assert.assertTrue(vector.isHalfByte());
+        Assert.assertEquals(5, vector.getSize());
+        byte[] denseVector = vector.toDenseVector();
+        Assert.assertEquals(15, denseVector[1]);
+        Assert.assertEquals(8, denseVector[2]);
+        Assert.assertEquals(1, denseVector[3]);
+        Assert.assertEquals(4, denseVector[5]);
+        IteratorWrapper<SparseVector.Item> iterator = vector.iterator();
+        Assert.assertEquals(new SparseVector.Item(1, (byte) 15), iterator.next());
+        Assert.assertEquals(new SparseVector.Item(2, (byte) 8), iterator.next());
+        Assert.assertEquals(new SparseVector.Item(3, (byte) 1), iterator.next());
+        Assert.assertEquals(new SparseVector.Item(5, (byte) 4), iterator.next());
+        Assert.assertEquals(new SparseVector.Item(9, (byte) 0), iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    public void testDotProduct_withHalfByteWeights_thenMatchesUnpackedWeights() throws IOException {
+        Map<Integer, Float> map = new HashMap<>();
+        for (int token = 1; token <= 9; token++) {
+            map.put(token * 3, token / 3.0f);
+        }
+        SparseVector packed = new SparseVector(serializeMap(map), new ByteQuantizer(3.0f, 15));
+        List<SparseVector.Item> items = new ArrayList<>();
+        packed.iterator().forEachRemaining(items::add);
+        SparseVector unpacked = new SparseVector(items);
+
+        // dense vectors cutting the tokens at every position, including between the tokens of a packed byte
+        for (int length = 1; length <= 30; length++) {
+            byte[] denseVector = new byte[length];
+            for (int i = 0; i < length; i++) {
+                denseVector[i] = (byte) (i * 11);
+            }
+            Assert.assertEquals(unpacked.dotProduct(denseVector), packed.dotProduct(denseVector));
+        }
+    }
+
+    public void testWritePackedAndReadPacked_withHalfByteWeights() throws IOException {
+        ByteQuantizer byteQuantizer = new ByteQuantizer(3.0f, 15);
+        for (Map<Integer, Float> map : List.of(Map.of(1, 0.3f, 300, 3.0f, 7, 1.2f, 40, 2.2f, 8, 0.1f), Map.of(2, 1.0f, 4, 2.0f))) {
+            SparseVector vector = new SparseVector(serializeMap(map), byteQuantizer);
+
+            ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+            out.writeByte((byte) 42);
+            vector.writePacked(out);
+            long length = SparseVector.packedLength(vector.getSize(), true);
+            Assert.assertEquals(1 + length, out.size());
+            Assert.assertEquals(vector.getSize(), SparseVector.packedEntryCount(length, true));
+
+            SparseVector readVector = SparseVector.readPacked(out.toDataInput(), 1, vector.getSize(), true);
+            Assert.assertEquals(vector, readVector);
+        }
+    }
+
+    public void testDotProductPacked_thenMatchesReadPackedDotProduct() throws IOException {
+        List<SparseVector.Item> items = new ArrayList<>();
+        items.add(new SparseVector.Item(1, (byte) 20));
+        items.add(new SparseVector.Item(300, (byte) 3));
+        items.add(new SparseVector.Item(7, (byte) 200));
+        SparseVector byteVector = new SparseVector(items);
+        SparseVector halfByteVector = new SparseVector(
+            serializeMap(Map.of(1, 0.3f, 300, 3.0f, 7, 1.2f, 40, 2.2f, 8, 0.1f)),
+            new ByteQuantizer(3.0f, 15)
+        );
+        for (SparseVector vector : List.of(byteVector, halfByteVector)) {
+            ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+            out.writeByte((byte) 42);
+            vector.writePacked(out);
+            RandomAccessInput input = out.toDataInput();
+
+            // dense vectors both shorter and longer than the largest token
+            for (int length : new int[] { 1, 8, 41, 301 }) {
+                byte[] denseVector = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    denseVector[i] = (byte) (i * 7);
+                }
+                Assert.assertEquals(
+                    SparseVector.readPacked(input, 1, vector.getSize(), vector.isHalfByte()).dotProduct(denseVector),
+                    SparseVector.dotProductPacked(input, 1, vector.getSize(), vector.isHalfByte(), denseVector)
+                );
+            }
+        }
+    }
+
+    public void testDotProductPacked_withEmptyInput_thenReturnZero() throws IOException {
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+
+        Assert.assertEquals(0, SparseVector.dotProductPacked(out.toDataInput(), 0, 0, false, new byte[] { 1, 2 }));
+        Assert.assertEquals(0, SparseVector.dotProductPacked(out.toDataInput(), 0, 0, false, null));
+    }
+
     public void testEquals() {
         // Create two identical vectors
         List<SparseVector.Item> items1 = new ArrayList<>();
@@ -9,6 +9,9 @@ import org.apache.lucene.index.IndexableFieldType;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
 
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_HEAP;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.FORWARD_INDEX_STORAGE_MMAP;
 import static org.opensearch.neuralsearch.sparse.mapper.SparseVectorField.SPARSE_FIELD;
 
 public class SparseVectorFieldTests extends AbstractSparseTestBase {
@@ -52,4 +55,28 @@ public class SparseVectorFieldTests extends AbstractSparseTestBase {
 
         assertFalse("Should return false for field with false attribute", result);
     }
+
+    public void testIsMmapForwardIndexWithMmapStorage() {
+        FieldInfo field = TestsPrepareUtils.prepareKeyFieldInfo();
+        field.putAttribute(SPARSE_FIELD, "true");
+        field.putAttribute(FORWARD_INDEX_STORAGE_FIELD, FORWARD_INDEX_STORAGE_MMAP);
+
+        assertTrue("Should return true for sparse field in mmap mode", SparseVectorField.isMmapForwardIndex(field));
+    }
+
+    public void testIsMmapForwardIndexWithHeapStorage() {
+        FieldInfo field = TestsPrepareUtils.prepareKeyFieldInfo();
+        field.putAttribute(SPARSE_FIELD, "true");
+        field.putAttribute(FORWARD_INDEX_STORAGE_FIELD, FORWARD_INDEX_STORAGE_HEAP);
+
+        assertFalse("Should return false for sparse field in heap mode", SparseVectorField.isMmapForwardIndex(field));
+    }
+
+    public void testIsMmapForwardIndexWithNonSparseField() {
+        FieldInfo field = TestsPrepareUtils.prepareKeyFieldInfo();
+        field.putAttribute(FORWARD_INDEX_STORAGE_FIELD, FORWARD_INDEX_STORAGE_MMAP);
+
+        assertFalse("Should return false for non sparse field", SparseVectorField.isMmapForwardIndex(field));
+        assertFalse("Should return false for null field", SparseVectorField.isMmapForwardIndex(null));
+    }
 }
@@ -4,15 +4,33 @@
  */
 package org.opensearch.neuralsearch.sparse.quantization;
 
+import lombok.SneakyThrows;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.util.BytesRef;
 import org.junit.Assert;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+import org.opensearch.neuralsearch.sparse.common.MergeStateFacade;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT_ADAPTIVE;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_8BIT_ADAPTIVE;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_INGEST_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_SEARCH_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_SEGMENT_CEILING_FIELD;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_INGEST;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.Seismic.DEFAULT_QUANTIZATION_CEILING_SEARCH;
 
@@ -155,4 +173,103 @@ public class ByteQuantizationUtilTests extends AbstractSparseTestBase {
         assertEquals(255, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(5.0f)), DELTA_FOR_ASSERTION);
         assertEquals(128, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(2.5f)), DELTA_FOR_ASSERTION);
     }
+
+    public void testGetCeilingValueIngest_withAdaptiveQuantization_thenReturnsSegmentCeiling() {
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        fieldInfo.putAttribute(QUANTIZATION_CEILING_INGEST_FIELD, "3.0");
+        fieldInfo.putAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD, "1.5");
+
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT);
+        assertEquals(3.0f, ByteQuantizationUtil.getCeilingValueIngest(fieldInfo), DELTA_FOR_ASSERTION);
+
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT_ADAPTIVE);
+        assertEquals(1.5f, ByteQuantizationUtil.getCeilingValueIngest(fieldInfo), DELTA_FOR_ASSERTION);
+    }
+
+    public void testGetByteQuantizerIngest_withHalfByteQuantization() {
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        fieldInfo.putAttribute(QUANTIZATION_CEILING_INGEST_FIELD, "3.0");
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT);
+
+        ByteQuantizer byteQuantizer = ByteQuantizationUtil.getByteQuantizerIngest(fieldInfo);
+
+        assertEquals(15, ByteQuantizationUtil.getMaxValueIngest(fieldInfo));
+        assertTrue(byteQuantizer.isHalfByte());
+        assertEquals(15, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(3.0f)));
+    }
+
+    @SneakyThrows
+    public void testLearnCeilingValueIngest_withAdaptiveQuantization_thenClipsOutliers() {
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_8BIT_ADAPTIVE);
+        float[] weights = new float[1000];
+        Arrays.fill(weights, 1.0f);
+        weights[0] = 100.0f;
+        BinaryDocValues binaryDocValues = prepareBinaryDocValues(weights);
+
+        ByteQuantizationUtil.learnCeilingValueIngest(fieldInfo, binaryDocValues);
+
+        float ceiling = ByteQuantizationUtil.getCeilingValueIngest(fieldInfo);
+        assertTrue(ceiling >= 1.0f && ceiling < 1.05f);
+    }
+
+    @SneakyThrows
+    public void testLearnCeilingValueIngest_withoutAdaptiveQuantization_thenKeepsCeiling() {
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT);
+        BinaryDocValues binaryDocValues = prepareBinaryDocValues(1.0f);
+
+        ByteQuantizationUtil.learnCeilingValueIngest(fieldInfo, binaryDocValues);
+
+        assertNull(fieldInfo.getAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD));
+        verify(binaryDocValues, never()).nextDoc();
+    }
+
+    public void testMergeCeilingValueIngest_thenTakesCeilingOfLargestSegment() {
+        FieldInfo small = prepareAdaptiveFieldInfo("1.0");
+        FieldInfo large = prepareAdaptiveFieldInfo("2.0");
+        MergeStateFacade mergeStateFacade = prepareMergeStateFacade(new int[] { 10, 100 }, small, large);
+        FieldInfo merged = prepareAdaptiveFieldInfo(null);
+
+        ByteQuantizationUtil.mergeCeilingValueIngest(merged, mergeStateFacade);
+
+        assertEquals(2.0f, ByteQuantizationUtil.getCeilingValueIngest(merged), DELTA_FOR_ASSERTION);
+        assertFalse(ByteQuantizationUtil.hasUniformCeilingValueIngest(merged, mergeStateFacade));
+        assertTrue(ByteQuantizationUtil.hasUniformCeilingValueIngest(merged, prepareMergeStateFacade(new int[] { 10, 100 }, large, large)));
+    }
+
+    private static FieldInfo prepareAdaptiveFieldInfo(String segmentCeiling) {
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT_ADAPTIVE);
+        if (segmentCeiling != null) {
+            fieldInfo.putAttribute(QUANTIZATION_SEGMENT_CEILING_FIELD, segmentCeiling);
+        }
+        return fieldInfo;
+    }
+
+    private static MergeStateFacade prepareMergeStateFacade(int[] maxDocs, FieldInfo... segmentFieldInfos) {
+        FieldInfos[] fieldInfos = new FieldInfos[segmentFieldInfos.length];
+        for (int i = 0; i < segmentFieldInfos.length; i++) {
+            fieldInfos[i] = mock(FieldInfos.class);
+            when(fieldInfos[i].fieldInfo(segmentFieldInfos[i].name)).thenReturn(segmentFieldInfos[i]);
+        }
+        MergeStateFacade mergeStateFacade = mock(MergeStateFacade.class);
+        when(mergeStateFacade.getFieldInfos()).thenReturn(fieldInfos);
+        when(mergeStateFacade.getMaxDocs()).thenReturn(maxDocs);
+        return mergeStateFacade;
+    }
+
+    @SneakyThrows
+    private static BinaryDocValues prepareBinaryDocValues(float... weights) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(baos);
+        for (int i = 0; i < weights.length; i++) {
+            dos.writeInt(i);
+            dos.writeFloat(weights[i]);
+        }
+        BinaryDocValues binaryDocValues = mock(BinaryDocValues.class);
+        when(binaryDocValues.nextDoc()).thenReturn(0, DocIdSetIterator.NO_MORE_DOCS);
+        when(binaryDocValues.binaryValue()).thenReturn(new BytesRef(baos.toByteArray()));
+        return binaryDocValues;
+    }
 }
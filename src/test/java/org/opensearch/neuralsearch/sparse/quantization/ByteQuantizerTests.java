@@ -32,4 +32,33 @@ public class ByteQuantizerTests extends AbstractSparseTestBase {
         // Test value above maximum (should be clamped to 3.0f)
         Assert.assertEquals(255, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(4.0f)));
     }
+
+    public void testConstructor_withInvalidMaxValue_thenThrowsException() {
+        IllegalArgumentException exception = Assert.assertThrows(IllegalArgumentException.class, () -> new ByteQuantizer(1.0f, 256));
+        assertEquals("Max value must be in (0, 255] for byte quantizer", exception.getMessage());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ByteQuantizer(1.0f, 0));
+    }
+
+    public void testQuantize_withHalfByteMaxValue() {
+        ByteQuantizer byteQuantizer = new ByteQuantizer(3.0f, 15);
+
+        assertTrue(byteQuantizer.isHalfByte());
+        Assert.assertEquals(0, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(0.0f)));
+        Assert.assertEquals(15, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(3.0f)));
+        Assert.assertEquals(8, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(1.5f)));
+        Assert.assertEquals(15, ByteQuantizationUtil.getUnsignedByte(byteQuantizer.quantize(4.0f)));
+        assertFalse(new ByteQuantizer(3.0f).isHalfByte());
+    }
+
+    public void testRequantize() {
+        ByteQuantizer byteQuantizer = new ByteQuantizer(2.0f, 15);
+
+        // same ceiling keeps the value
+        Assert.assertEquals(7, byteQuantizer.requantize((byte) 7, 2.0f));
+        // 10 / 15 * 1.0 = 0.67 -> 5 / 15 * 2.0
+        Assert.assertEquals(5, byteQuantizer.requantize((byte) 10, 1.0f));
+        // values above the ceiling are clipped
+        Assert.assertEquals(15, byteQuantizer.requantize((byte) 15, 4.0f));
+        Assert.assertEquals(255, ByteQuantizationUtil.getUnsignedByte(new ByteQuantizer(1.0f).requantize((byte) 200, 2.0f)));
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.quantization;
+
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+public class CeilingEstimatorTests extends AbstractSparseTestBase {
+
+    public void testCeiling_withoutWeights_thenReturnsZero() {
+        CeilingEstimator estimator = new CeilingEstimator();
+        estimator.add(0.0f);
+        estimator.add(-1.0f);
+        estimator.add(Float.NaN);
+        estimator.add(Float.POSITIVE_INFINITY);
+
+        assertEquals(0.0f, estimator.ceiling(), DELTA_FOR_ASSERTION);
+    }
+
+    public void testCeiling_thenCoversQuantile() {
+        CeilingEstimator estimator = new CeilingEstimator();
+        for (int i = 1; i <= 10000; i++) {
+            estimator.add(i / 1000.0f);
+        }
+
+        float ceiling = estimator.ceiling();
+
+        // the 0.999 quantile is 9.99, within the 4.4% width of its bucket
+        assertTrue(ceiling >= 9.99f && ceiling < 9.99f * 1.045f);
+    }
+
+    public void testCeiling_withOutliers_thenClipsThem() {
+        CeilingEstimator estimator = new CeilingEstimator();
+        for (int i = 0; i < 10000; i++) {
+            estimator.add(0.5f);
+        }
+        for (int i = 0; i < 5; i++) {
+            estimator.add(1000.0f);
+        }
+
+        float ceiling = estimator.ceiling();
+
+        assertTrue(ceiling >= 0.5f && ceiling < 0.53f);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.quantization;
+
+import org.apache.lucene.index.FieldInfo;
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
+
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_4BIT_ADAPTIVE;
+import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_FIELD;
+
+public class QuantizationTypeTests extends AbstractSparseTestBase {
+
+    public void testFromName() {
+        for (QuantizationType type : QuantizationType.values()) {
+            assertEquals(type, QuantizationType.fromName(type.getName()));
+        }
+        assertEquals(15, QuantizationType.HALF_BYTE.getMaxValue());
+        assertTrue(QuantizationType.BYTE_ADAPTIVE.isAdaptive());
+    }
+
+    public void testFromName_withUnknownName_thenThrowsException() {
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> QuantizationType.fromName("2bit"));
+        assertEquals("Unknown quantization [2bit]", exception.getMessage());
+    }
+
+    public void testFromFieldInfo() {
+        FieldInfo fieldInfo = TestsPrepareUtils.prepareKeyFieldInfo();
+        assertEquals(QuantizationType.BYTE, QuantizationType.fromFieldInfo(null));
+        assertEquals(QuantizationType.BYTE, QuantizationType.fromFieldInfo(fieldInfo));
+
+        fieldInfo.putAttribute(QUANTIZATION_FIELD, QUANTIZATION_4BIT_ADAPTIVE);
+
+        assertEquals(QuantizationType.HALF_BYTE_ADAPTIVE, QuantizationType.fromFieldInfo(fieldInfo));
+    }
+}
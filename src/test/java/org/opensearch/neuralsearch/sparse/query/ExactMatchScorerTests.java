@@ -5,24 +5,34 @@
 package org.opensearch.neuralsearch.sparse.query;
 
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
 import org.opensearch.neuralsearch.sparse.data.SparseVector;
+import org.opensearch.neuralsearch.sparse.quantization.ByteQuantizationUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 public class ExactMatchScorerTests extends AbstractSparseTestBase {
 
-    @Mock
+    // scores docs with their dot product
+    private static final Similarity.SimScorer IDENTITY_SIM_SCORER = ByteQuantizationUtil.getSimScorer(1.0f);
+
+    // default methods such as dotProduct go through the stubbed read
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private SparseVectorReader mockReader;
 
     @Mock
@@ -68,9 +78,9 @@ public class ExactMatchScorerTests extends AbstractSparseTestBase {
         assertNotNull(iterator);
         assertEquals(bitSetIterator, iterator);
 
-        // Test getMaxScore always returns 0
+        // Test getMaxScore gives no bound, so the scorer is never skipped
         try {
-            assertEquals(0.0f, scorer.getMaxScore(5), 0.0f);
+            assertEquals(Float.POSITIVE_INFINITY, scorer.getMaxScore(5), 0.0f);
         } catch (IOException e) {
             fail("Unexpected exception: " + e.getMessage());
         }
@@ -170,4 +180,100 @@ public class ExactMatchScorerTests extends AbstractSparseTestBase {
         // Score should match the expected score based on dot product
         assertEquals(3.5f, scorer.score(), 0.0f);
     }
+
+    public void testBulkScorer_thenCollectsCandidatesWithScores() throws IOException {
+        SparseVector docVector0 = createVector(1, 1, 3, 2);
+        SparseVector docVector5 = createVector(3, 1, 5, 2);
+        SparseVectorReader reader = docId -> docId == 0 ? docVector0 : docId == 5 ? docVector5 : null;
+        scorer = new ExactMatchScorer(bitSetIterator, queryVector, reader, IDENTITY_SIM_SCORER);
+        RecordingCollector collector = new RecordingCollector();
+
+        int next = scorer.bulkScorer().score(collector, null, 0, 10);
+
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, next);
+        assertEquals(List.of(0, 2, 5), collector.docIds);
+        assertEquals(List.of(5.0f, 0.0f, 8.0f), collector.scores);
+    }
+
+    public void testBulkScorer_withWindowAndAcceptDocs_thenCollectsAcceptedDocsInWindow() throws IOException {
+        SparseVectorReader reader = docId -> createVector(1, 1);
+        scorer = new ExactMatchScorer(bitSetIterator, queryVector, reader, IDENTITY_SIM_SCORER);
+        FixedBitSet acceptDocs = new FixedBitSet(10);
+        acceptDocs.set(0, 10);
+        acceptDocs.clear(2);
+        RecordingCollector collector = new RecordingCollector();
+
+        int next = scorer.bulkScorer().score(collector, acceptDocs, 1, 5);
+
+        assertEquals(5, next);
+        assertTrue(collector.docIds.isEmpty());
+        next = scorer.bulkScorer().score(collector, acceptDocs, 5, 10);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, next);
+        assertEquals(List.of(5), collector.docIds);
+    }
+
+    public void testBulkScorer_withMoreCandidatesThanBlock_thenReadsInBlocks() throws IOException {
+        int maxDoc = ExactMatchScorer.BLOCK_SIZE * 2 + 10;
+        FixedBitSet bitSet = new FixedBitSet(maxDoc);
+        bitSet.set(0, maxDoc);
+        List<Integer> blockSizes = new ArrayList<>();
+        SparseVectorReader reader = new SparseVectorReader() {
+            @Override
+            public SparseVector read(int docId) {
+                return createVector(1, docId % 100 + 1);
+            }
+
+            @Override
+            public void read(int[] docIds, int count, SparseVector[] vectors) throws IOException {
+                blockSizes.add(count);
+                SparseVectorReader.super.read(docIds, count, vectors);
+            }
+        };
+        scorer = new ExactMatchScorer(new BitSetIterator(bitSet, maxDoc), queryVector, reader, IDENTITY_SIM_SCORER);
+        RecordingCollector collector = new RecordingCollector();
+
+        scorer.bulkScorer().score(collector, null, 0, DocIdSetIterator.NO_MORE_DOCS);
+
+        assertEquals(List.of(ExactMatchScorer.BLOCK_SIZE, ExactMatchScorer.BLOCK_SIZE, 10), blockSizes);
+        assertEquals(maxDoc, collector.docIds.size());
+        for (int docId = 0; docId < maxDoc; docId++) {
+            assertEquals(docId, (int) collector.docIds.get(docId));
+            assertEquals(docId % 100 + 1, collector.scores.get(docId), 0.0f);
+        }
+    }
+
+    public void testBulkScorer_withMinCompetitiveScore_thenSkipsLowerScores() throws IOException {
+        SparseVectorReader reader = docId -> createVector(5, docId + 1);
+        scorer = new ExactMatchScorer(bitSetIterator, queryVector, reader, IDENTITY_SIM_SCORER);
+        RecordingCollector collector = new RecordingCollector() {
+            @Override
+            public void setScorer(Scorable scorer) throws IOException {
+                super.setScorer(scorer);
+                // doc 0 scores 3, doc 2 scores 9, doc 5 scores 18
+                scorer.setMinCompetitiveScore(9.0f);
+            }
+        };
+
+        scorer.bulkScorer().score(collector, null, 0, 10);
+
+        assertEquals(List.of(2, 5), collector.docIds);
+        assertEquals(List.of(9.0f, 18.0f), collector.scores);
+    }
+
+    private static class RecordingCollector implements LeafCollector {
+        private final List<Integer> docIds = new ArrayList<>();
+        private final List<Float> scores = new ArrayList<>();
+        private Scorable scorer;
+
+        @Override
+        public void setScorer(Scorable scorer) throws IOException {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            docIds.add(doc);
+            scores.add(scorer.score());
+        }
+    }
 }
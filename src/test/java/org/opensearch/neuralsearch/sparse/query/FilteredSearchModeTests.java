@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.query;
+
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+public class FilteredSearchModeTests extends AbstractSparseTestBase {
+
+    public void testSelect_withCardinalityNotAboveK_thenExact() {
+        assertEquals(FilteredSearchMode.EXACT, FilteredSearchMode.select(10, 1000, 10, 0));
+    }
+
+    public void testSelect_withCardinalityNotAboveApproximateSearchCost_thenExact() {
+        assertEquals(FilteredSearchMode.EXACT, FilteredSearchMode.select(100, 1000, 10, 100));
+    }
+
+    public void testSelect_withSelectiveFilter_thenFilteredAnn() {
+        assertEquals(FilteredSearchMode.FILTERED_ANN, FilteredSearchMode.select(200, 1000, 10, 100));
+    }
+
+    public void testSelect_withPermissiveFilter_thenPostFilter() {
+        assertEquals(FilteredSearchMode.POST_FILTER, FilteredSearchMode.select(900, 1000, 10, 100));
+        assertEquals(FilteredSearchMode.POST_FILTER, FilteredSearchMode.select(1000, 1000, 10, 100));
+    }
+
+    public void testPostFilterResultSize_thenEnlargedBySelectivity() {
+        assertEquals(13, FilteredSearchMode.postFilterResultSize(800, 1000, 10));
+        assertEquals(10, FilteredSearchMode.postFilterResultSize(1000, 1000, 10));
+    }
+
+    public void testPostFilterResultSize_withSmallSegment_thenCappedByMaxDoc() {
+        assertEquals(20, FilteredSearchMode.postFilterResultSize(1, 20, 10));
+        assertEquals(10, FilteredSearchMode.postFilterResultSize(1, 5, 10));
+        assertEquals(10, FilteredSearchMode.postFilterResultSize(0, 0, 10));
+    }
+}
@@ -5,7 +5,6 @@
 package org.opensearch.neuralsearch.sparse.query;
 
 import lombok.SneakyThrows;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.SegmentInfo;
@@ -19,6 +18,7 @@ import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
@@ -54,7 +54,8 @@ public class OrderedPostingWithClustersScorerTests extends AbstractSparseTestBas
     private Terms terms;
     @Mock
     private TermsEnum termsEnum;
-    @Mock
+    // default methods such as dotProduct go through the stubbed read
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private SparseVectorReader vectorReader;
     @Mock
     private SparsePostingsEnum postingsEnum1;
@@ -70,7 +71,7 @@ public class OrderedPostingWithClustersScorerTests extends AbstractSparseTestBas
     private static final List<String> TEST_TOKENS = Arrays.asList("token1", "token2");
 
     private SparseVector queryVector;
-    private List<Pair<Integer, Integer>> searchResults;
+    private SeismicBaseScorer.ResultsDocValueIterator searchResults;
     private Similarity.SimScorer simScorer;
     private byte[] queryDenseVector;
     private SparseQueryContext sparseQueryContext;
@@ -87,7 +88,7 @@ public class OrderedPostingWithClustersScorerTests extends AbstractSparseTestBas
         // Setup query vector
         queryVector = createVector(1, 5, 2, 3, 3, 7);
         queryDenseVector = queryVector.toDenseVector();
-        searchResults = Arrays.asList(Pair.of(3, 1), Pair.of(2, 2), Pair.of(3, 3));
+        searchResults = new SeismicBaseScorer.ResultsDocValueIterator(new int[] { 3, 2, 3 }, new int[] { 1, 2, 3 });
         // Setup sparse query context
         sparseQueryContext = constructSparseQueryContext(K_VALUE, 1.0f, TEST_TOKENS);
 
@@ -271,7 +272,7 @@ public class OrderedPostingWithClustersScorerTests extends AbstractSparseTestBas
         when(docIterator.docID()).thenReturn(1).thenReturn(NO_MORE_DOCS);
 
         // Mock SparseVectorReader
-        SparseVectorReader reader = mock(SparseVectorReader.class);
+        SparseVectorReader reader = mock(SparseVectorReader.class, Answers.CALLS_REAL_METHODS);
         SparseVector docVector = mock(SparseVector.class);
         when(reader.read(1)).thenReturn(docVector);
         when(docVector.dotProduct(queryDenseVector)).thenReturn(5);
@@ -321,7 +322,7 @@ public class OrderedPostingWithClustersScorerTests extends AbstractSparseTestBas
         when(acceptedDocs.get(30)).thenReturn(true);
 
         // Mock SparseVectorReader
-        SparseVectorReader reader = mock(SparseVectorReader.class);
+        SparseVectorReader reader = mock(SparseVectorReader.class, Answers.CALLS_REAL_METHODS);
         SparseVector docVector = mock(SparseVector.class);
         when(reader.read(30)).thenReturn(docVector);
         // make first access to doc 20 return due to null doc, but second time due to visited.
@@ -378,6 +379,9 @@ public class OrderedPostingWithClustersScorerTests extends AbstractSparseTestBas
 
         // Process all documents
         DocIdSetIterator iterator = scorer.iterator();
+        assertEquals(3, iterator.cost());
+        assertEquals(15, scorer.getMaxScore(NO_MORE_DOCS), DELTA_FOR_ASSERTION);
+        assertEquals(10, scorer.getMaxScore(2), DELTA_FOR_ASSERTION);
 
         // First doc (doc 1)
         assertEquals(1, iterator.nextDoc());
@@ -5,19 +5,21 @@
 package org.opensearch.neuralsearch.sparse.query;
 
 import lombok.SneakyThrows;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 import org.opensearch.neuralsearch.sparse.accessor.SparseVectorReader;
 import org.opensearch.neuralsearch.sparse.codec.SparsePostingsEnum;
+import org.opensearch.neuralsearch.sparse.codec.SparseTerms;
 import org.opensearch.neuralsearch.sparse.common.DocWeightIterator;
 import org.opensearch.neuralsearch.sparse.common.IteratorWrapper;
 import org.opensearch.neuralsearch.sparse.data.DocumentCluster;
@@ -35,6 +37,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,7 +50,8 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
     @Mock
     private SparseQueryContext sparseQueryContext;
 
-    @Mock
+    // default methods such as dotProduct go through the stubbed read
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private SparseVectorReader vectorReader;
 
     @Mock
@@ -107,6 +111,19 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         verify(sparseQueryContext).getTokens();
     }
 
+    public void testInitialize_withBypassCache_thenUncachedIterator() throws IOException {
+        SparseTerms sparseTerms = mock(SparseTerms.class);
+        when(leafReader.terms(FIELD_NAME)).thenReturn(sparseTerms);
+        when(sparseTerms.uncachedIterator()).thenReturn(termsEnum);
+        when(sparseQueryContext.isBypassCache()).thenReturn(true);
+
+        init();
+
+        assertEquals(1, testScorer.subScorers.size());
+        verify(sparseTerms, times(2)).uncachedIterator();
+        verify(sparseTerms, never()).iterator();
+    }
+
     public void testInitialize_nullTerms() throws IOException {
         when(leafReader.terms(anyString())).thenReturn(null);
         init();
@@ -131,7 +148,7 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         when(acceptedDocs.get(anyInt())).thenReturn(true);
 
         // Call searchUpfront
-        List<Pair<Integer, Integer>> results = testScorer.searchUpfront(5);
+        SeismicBaseScorer.ResultsDocValueIterator results = testScorer.searchUpfront(5);
 
         // Verify results
         assertEquals(3, results.size());
@@ -143,7 +160,7 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
     public void testSearchUpfront_acceptedDocsIsNull() throws IOException {
         testScorer = new TestSeismicScorer(leafReader, FIELD_NAME, sparseQueryContext, MAX_DOC_COUNT, queryVector, vectorReader, null);
         // Call searchUpfront
-        List<Pair<Integer, Integer>> results = testScorer.searchUpfront(5);
+        SeismicBaseScorer.ResultsDocValueIterator results = testScorer.searchUpfront(5);
 
         // Verify results
         assertEquals(3, results.size());
@@ -158,7 +175,7 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         when(acceptedDocs.get(eq(1))).thenReturn(false);
         when(acceptedDocs.get(eq(2))).thenReturn(true);
         when(acceptedDocs.get(eq(3))).thenReturn(true);
-        List<Pair<Integer, Integer>> results = testScorer.searchUpfront(5);
+        SeismicBaseScorer.ResultsDocValueIterator results = testScorer.searchUpfront(5);
 
         // Verify results
         assertEquals(expectedDocsCount, results.size());
@@ -173,7 +190,7 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         when(acceptedDocs.get(anyInt())).thenReturn(true);
         DocWeightIterator docWeightIterator = constructDocWeightIterator(1, 2, 3, 2);
         when(cluster.getDisi()).thenReturn(docWeightIterator);
-        List<Pair<Integer, Integer>> results = testScorer.searchUpfront(5);
+        SeismicBaseScorer.ResultsDocValueIterator results = testScorer.searchUpfront(5);
 
         // Verify results
         assertEquals(expectedDocsCount, results.size());
@@ -186,7 +203,7 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         init();
         int expectedDocsCount = 2;
         when(vectorReader.read(eq(1))).thenReturn(null);
-        List<Pair<Integer, Integer>> results = testScorer.searchUpfront(5);
+        SeismicBaseScorer.ResultsDocValueIterator results = testScorer.searchUpfront(5);
 
         // Verify results
         assertEquals(expectedDocsCount, results.size());
@@ -195,59 +212,83 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         verify(vectorReader, times(expectedDocsCount + 1)).read(anyInt());
     }
 
-    public void testHeapWrapper() {
+    public void testHeapWrapper() throws IOException {
         // Create a heap wrapper
         SeismicBaseScorer.HeapWrapper heapWrapper = new SeismicBaseScorer.HeapWrapper(3);
 
         // Add some pairs
-        heapWrapper.add(Pair.of(1, 10));
-        heapWrapper.add(Pair.of(2, 20));
-        heapWrapper.add(Pair.of(3, 30));
+        heapWrapper.add(1, 10);
+        heapWrapper.add(2, 20);
+        heapWrapper.add(3, 30);
 
         // Verify heap is full
         assertTrue(heapWrapper.isFull());
 
         // Add a pair with lower score, should not be added
-        heapWrapper.add(Pair.of(4, 5));
+        heapWrapper.add(4, 5);
         assertEquals(3, heapWrapper.size());
 
         // Add a pair with higher score, should replace lowest score
-        heapWrapper.add(Pair.of(5, 40));
+        heapWrapper.add(5, 40);
         assertEquals(3, heapWrapper.size());
 
-        // Get ordered list
-        List<Pair<Integer, Integer>> orderedList = heapWrapper.toOrderedList();
-        assertEquals(3, orderedList.size());
-        assertEquals(2, orderedList.get(0).getLeft().intValue());
-        assertEquals(3, orderedList.get(1).getLeft().intValue());
-        assertEquals(5, orderedList.get(2).getLeft().intValue());
+        // Get ordered results
+        SeismicBaseScorer.ResultsDocValueIterator orderedResults = heapWrapper.toOrderedResults();
+        assertEquals(3, orderedResults.size());
+        assertEquals(2, orderedResults.nextDoc());
+        assertEquals(20, orderedResults.score());
+        assertEquals(3, orderedResults.nextDoc());
+        assertEquals(30, orderedResults.score());
+        assertEquals(5, orderedResults.nextDoc());
+        assertEquals(40, orderedResults.score());
+
+        assertEquals(20, heapWrapper.peekScore());
+    }
+
+    public void testHeapWrapper_withManyDocs_thenKeepsTopScores() throws IOException {
+        SeismicBaseScorer.HeapWrapper heapWrapper = new SeismicBaseScorer.HeapWrapper(5);
+        // scores go up and down so the top changes while adding
+        for (int docId = 0; docId < 100; ++docId) {
+            heapWrapper.add(docId, (docId * 37) % 101);
+        }
+        // equal score to the lowest one is not added
+        heapWrapper.add(200, heapWrapper.peekScore());
+
+        SeismicBaseScorer.ResultsDocValueIterator orderedResults = heapWrapper.toOrderedResults();
+        assertEquals(5, orderedResults.size());
+        int[] expectedDocIds = { 19, 30, 49, 60, 90 };
+        for (int expectedDocId : expectedDocIds) {
+            assertEquals(expectedDocId, orderedResults.nextDoc());
+            assertEquals((expectedDocId * 37) % 101, orderedResults.score());
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, orderedResults.nextDoc());
+    }
 
-        assertEquals(20, heapWrapper.peek().getRight().intValue());
+    public void testResultsDocValueIterator_withMismatchedLengths_thenThrowsException() {
+        expectThrows(IllegalArgumentException.class, () -> new SeismicBaseScorer.ResultsDocValueIterator(new int[] { 1 }, new int[0]));
     }
 
     public void testResultsDocValueIterator() throws IOException {
         init();
         // Create test results
-        List<Pair<Integer, Integer>> results = new ArrayList<>();
-        results.add(Pair.of(1, 10));
-        results.add(Pair.of(3, 30));
-        results.add(Pair.of(5, 50));
-
         // Create iterator
-        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(results);
+        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(
+            new int[] { 1, 3, 5 },
+            new int[] { 10, 30, 50 }
+        );
 
         // Test nextDoc
         assertEquals(-1, iterator.docID());
         assertEquals(1, iterator.nextDoc());
         assertEquals(1, iterator.docID());
         assertEquals(1, iterator.docID());
-        assertEquals(10, iterator.cost());
+        assertEquals(10, iterator.score());
         assertEquals(3, iterator.nextDoc());
         assertEquals(3, iterator.docID());
-        assertEquals(30, iterator.cost());
+        assertEquals(30, iterator.score());
         assertEquals(5, iterator.nextDoc());
         assertEquals(5, iterator.docID());
-        assertEquals(50, iterator.cost());
+        assertEquals(50, iterator.score());
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.docID());
     }
@@ -255,13 +296,10 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
     public void testResultsDocValueIterator_advance() throws IOException {
         init();
         // Create new iterator for advance test
-        List<Pair<Integer, Integer>> results = new ArrayList<>();
-        results.add(Pair.of(1, 10));
-        results.add(Pair.of(3, 30));
-        results.add(Pair.of(5, 50));
-        results.add(Pair.of(7, 70));
-
-        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(results);
+        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(
+            new int[] { 1, 3, 5, 7 },
+            new int[] { 10, 30, 50, 70 }
+        );
         // Test advance
         assertEquals(1, iterator.nextDoc());
         assertEquals(1, iterator.advance(0));
@@ -273,21 +311,35 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.docID());
     }
 
-    public void testResultsDocValueIterator_cost() throws IOException {
+    public void testResultsDocValueIterator_costAndScore() throws IOException {
         init();
-        // Create new iterator for advance test
-        List<Pair<Integer, Integer>> results = new ArrayList<>();
-        results.add(Pair.of(1, 10));
-        results.add(Pair.of(3, 30));
-        results.add(Pair.of(5, 50));
-        results.add(Pair.of(7, 70));
-
-        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(results);
-        assertEquals(0, iterator.cost());
+        // Create new iterator for cost and score test
+        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(
+            new int[] { 1, 3, 5, 7 },
+            new int[] { 10, 30, 50, 70 }
+        );
+        assertEquals(4, iterator.cost());
+        assertEquals(0, iterator.score());
         assertEquals(1, iterator.nextDoc());
-        assertEquals(10, iterator.cost());
+        assertEquals(10, iterator.score());
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.advance(100));
-        assertEquals(0, iterator.cost());
+        assertEquals(0, iterator.score());
+        assertEquals(4, iterator.cost());
+    }
+
+    public void testResultsDocValueIterator_maxScore() throws IOException {
+        SeismicBaseScorer.ResultsDocValueIterator iterator = new SeismicBaseScorer.ResultsDocValueIterator(
+            new int[] { 1, 3, 5, 7 },
+            new int[] { 10, 50, 30, 70 }
+        );
+        assertEquals(50, iterator.maxScore(5));
+        assertEquals(70, iterator.maxScore(DocIdSetIterator.NO_MORE_DOCS));
+        assertEquals(0, iterator.maxScore(0));
+
+        // docs before the current one are not counted
+        assertEquals(5, iterator.advance(4));
+        assertEquals(30, iterator.maxScore(6));
+        assertEquals(70, iterator.maxScore(7));
     }
 
     public void testSingleScorer_basic() throws IOException {
@@ -311,11 +363,9 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         // Test nextDoc
         assertEquals(-1, iterator.docID());
         assertEquals(1, iterator.nextDoc());
-        assertEquals(0, iterator.advance(3));
-        assertEquals(0, iterator.cost());
-        assertEquals(2, iterator.nextDoc());
-        assertEquals(3, iterator.nextDoc());
+        assertEquals(3, iterator.advance(3));
         assertEquals(3, iterator.docID());
+        assertEquals(0, iterator.cost());
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
     }
 
@@ -352,11 +402,215 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
         // Test nextDoc
         for (int i = 1; i < 13; ++i) {
             assertEquals(i, iterator.nextDoc());
-            testScorer.scoreHeap.add(Pair.of(i, i));
+            testScorer.scoreHeap.add(i, i);
         }
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
     }
 
+    public void testSingleScorer_withSharedThreshold_thenSkipsClustersBeforeLocalHeapIsFull() throws IOException {
+        DocumentCluster cluster2 = mock(DocumentCluster.class);
+        when(cluster2.getDisi()).thenReturn(constructDocWeightIterator(4, 5, 6));
+        when(cluster2.isShouldNotSkip()).thenReturn(false);
+        when(cluster2.getSummary()).thenReturn(createVector(1, 4, 2, 5));
+
+        IteratorWrapper<DocumentCluster> clusterIterator = mock(IteratorWrapper.class);
+        when(clusterIterator.next()).thenReturn(cluster, cluster2, null);
+        when(postingsEnum.clusterIterator()).thenReturn(clusterIterator);
+
+        // another segment already found docs scoring far above the summary of cluster2
+        SharedScoreThreshold sharedThreshold = new SharedScoreThreshold();
+        sharedThreshold.update(1000);
+        testScorer = new TestSeismicScorer(
+            leafReader,
+            FIELD_NAME,
+            sparseQueryContext,
+            MAX_DOC_COUNT,
+            queryVector.toDenseVector(),
+            vectorReader,
+            acceptedDocs,
+            null,
+            sharedThreshold
+        );
+
+        DocIdSetIterator iterator = testScorer.subScorers.getFirst().iterator();
+        assertEquals(1, iterator.nextDoc());
+        assertEquals(2, iterator.nextDoc());
+        assertEquals(3, iterator.nextDoc());
+        assertFalse(testScorer.scoreHeap.isFull());
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+    }
+
+    public void testSearchUpfront_withFullScoreHeap_thenPublishesSharedThreshold() throws IOException {
+        when(cluster.getDisi()).thenReturn(constructDocWeightIterator(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        byte[] queryDenseVector = queryVector.toDenseVector();
+        for (int docId = 1; docId <= 12; ++docId) {
+            prepareVector(docId, docId * 10, vectorReader, queryDenseVector);
+        }
+        SharedScoreThreshold sharedThreshold = new SharedScoreThreshold();
+        testScorer = new TestSeismicScorer(
+            leafReader,
+            FIELD_NAME,
+            sparseQueryContext,
+            MAX_DOC_COUNT + 3,
+            queryDenseVector,
+            vectorReader,
+            acceptedDocs,
+            null,
+            sharedThreshold
+        );
+
+        testScorer.searchUpfront(5);
+
+        // the 10th best score of the segment is the one of doc 3
+        assertEquals(30, sharedThreshold.get());
+    }
+
+    public void testSearchUpfront_withKLargerThanScoreHeapOverSegments_thenSameResultsAsUnshared() throws IOException {
+        byte[] queryDenseVector = queryVector.toDenseVector();
+        int k = 15;
+        int[] firstSegmentDocScores = new int[40];
+        for (int i = 0; i < 20; ++i) {
+            firstSegmentDocScores[2 * i] = i + 1;
+            firstSegmentDocScores[2 * i + 1] = 101 + i;
+        }
+        // 108, 107 and 106 belong to the shard-wide top 15, but the cluster summary scores below the 10th best of the
+        // first segment divided by the heap factor, so it is only searched if the shared threshold respects k
+        int[] secondSegmentDocScores = { 1, 108, 2, 107, 3, 106 };
+        SharedScoreThreshold sharedThreshold = new SharedScoreThreshold();
+
+        createSegmentScorer(queryDenseVector, true, 0, sharedThreshold, firstSegmentDocScores).searchUpfront(k);
+        List<Integer> shared = collectResults(
+            createSegmentScorer(queryDenseVector, false, 53, sharedThreshold, secondSegmentDocScores).searchUpfront(k)
+        );
+        List<Integer> unshared = collectResults(
+            createSegmentScorer(queryDenseVector, false, 53, new SharedScoreThreshold(), secondSegmentDocScores).searchUpfront(k)
+        );
+
+        // the published threshold is the 15th best score of the first segment, not its 10th best
+        assertEquals(106, sharedThreshold.get());
+        assertEquals(List.of(1, 108, 2, 107, 3, 106), unshared);
+        assertEquals(unshared, shared);
+    }
+
+    public void testSearchUpfront_withScoreHeapNotFull_thenSharedThresholdIsNotSet() throws IOException {
+        SharedScoreThreshold sharedThreshold = new SharedScoreThreshold();
+        testScorer = new TestSeismicScorer(
+            leafReader,
+            FIELD_NAME,
+            sparseQueryContext,
+            MAX_DOC_COUNT,
+            queryVector.toDenseVector(),
+            vectorReader,
+            acceptedDocs,
+            null,
+            sharedThreshold
+        );
+
+        testScorer.searchUpfront(5);
+
+        assertEquals(Integer.MIN_VALUE, sharedThreshold.get());
+    }
+
+    public void testSearchUpfront_withFilter_thenScoresOnlyFilteredDocs() throws IOException {
+        FixedBitSet filter = new FixedBitSet(MAX_DOC_COUNT);
+        filter.set(2);
+        when(cluster.containsAny(filter)).thenReturn(true);
+        testScorer = new TestSeismicScorer(
+            leafReader,
+            FIELD_NAME,
+            sparseQueryContext,
+            MAX_DOC_COUNT,
+            queryVector.toDenseVector(),
+            vectorReader,
+            acceptedDocs,
+            filter,
+            new SharedScoreThreshold()
+        );
+
+        SeismicBaseScorer.ResultsDocValueIterator results = testScorer.searchUpfront(5);
+
+        assertEquals(1, results.size());
+        assertEquals(2, results.nextDoc());
+        verify(vectorReader, times(1)).read(anyInt());
+    }
+
+    public void testSingleScorer_withFilter_thenSkipsClustersWithoutFilteredDocs() throws IOException {
+        FixedBitSet filter = new FixedBitSet(MAX_DOC_COUNT);
+        filter.set(5);
+        DocumentCluster cluster2 = mock(DocumentCluster.class);
+        when(cluster2.getDisi()).thenReturn(constructDocWeightIterator(4, 5, 6));
+        when(cluster2.isShouldNotSkip()).thenReturn(true);
+        when(cluster2.containsAny(filter)).thenReturn(true);
+
+        IteratorWrapper<DocumentCluster> clusterIterator = mock(IteratorWrapper.class);
+        when(clusterIterator.next()).thenReturn(cluster, cluster2, null);
+        when(postingsEnum.clusterIterator()).thenReturn(clusterIterator);
+        testScorer = new TestSeismicScorer(
+            leafReader,
+            FIELD_NAME,
+            sparseQueryContext,
+            MAX_DOC_COUNT,
+            queryVector.toDenseVector(),
+            vectorReader,
+            acceptedDocs,
+            filter,
+            new SharedScoreThreshold()
+        );
+
+        // the first cluster has none of the filtered docs, even though it should not be skipped by score
+        DocIdSetIterator iterator = testScorer.subScorers.getFirst().iterator();
+        assertEquals(4, iterator.nextDoc());
+        verify(cluster, never()).getDisi();
+        verify(cluster, never()).getSummary();
+    }
+
+    private TestSeismicScorer createSegmentScorer(
+        byte[] queryDenseVector,
+        boolean shouldNotSkip,
+        int summaryDP,
+        SharedScoreThreshold sharedThreshold,
+        int... docScores
+    ) throws IOException {
+        LeafReader segmentReader = mock(LeafReader.class);
+        Terms segmentTerms = mock(Terms.class);
+        TermsEnum segmentTermsEnum = mock(TermsEnum.class);
+        SparsePostingsEnum segmentPostingsEnum = mock(SparsePostingsEnum.class);
+        SparseVectorReader segmentVectorReader = mock(SparseVectorReader.class, Answers.CALLS_REAL_METHODS);
+        preparePostings(
+            segmentReader,
+            FIELD_NAME,
+            segmentTerms,
+            segmentTermsEnum,
+            segmentPostingsEnum,
+            Map.of("token1", true, "token2", false)
+        );
+        DocumentCluster segmentCluster = prepareCluster(summaryDP, shouldNotSkip, queryDenseVector);
+        prepareClusterAndItsDocs(segmentVectorReader, queryDenseVector, segmentCluster, docScores);
+        IteratorWrapper<DocumentCluster> clusterIterator = mock(IteratorWrapper.class);
+        when(clusterIterator.next()).thenReturn(segmentCluster).thenReturn(null);
+        when(segmentPostingsEnum.clusterIterator()).thenReturn(clusterIterator);
+        return new TestSeismicScorer(
+            segmentReader,
+            FIELD_NAME,
+            sparseQueryContext,
+            docScores.length,
+            queryDenseVector,
+            segmentVectorReader,
+            null,
+            null,
+            sharedThreshold
+        );
+    }
+
+    private List<Integer> collectResults(SeismicBaseScorer.ResultsDocValueIterator results) throws IOException {
+        List<Integer> docScores = new ArrayList<>();
+        while (results.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+            docScores.add(results.docID());
+            docScores.add(results.score());
+        }
+        return docScores;
+    }
+
     // Test implementation of SeismicBaseScorer for testing
     private static class TestSeismicScorer extends SeismicBaseScorer {
 
@@ -372,6 +626,20 @@ public class SeismicBaseScorerTests extends AbstractSparseTestBase {
             super(leafReader, fieldName, sparseQueryContext, maxDocCount, queryVector, reader, acceptedDocs);
         }
 
+        public TestSeismicScorer(
+            LeafReader leafReader,
+            String fieldName,
+            SparseQueryContext sparseQueryContext,
+            int maxDocCount,
+            byte[] queryDenseVector,
+            SparseVectorReader reader,
+            Bits acceptedDocs,
+            Bits filter,
+            SharedScoreThreshold sharedThreshold
+        ) throws IOException {
+            super(leafReader, fieldName, sparseQueryContext, maxDocCount, queryDenseVector, reader, acceptedDocs, filter, sharedThreshold);
+        }
+
         @Override
         public float getMaxScore(int upTo) {
             return 0;
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.sparse.query;
+
+import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+
+import java.util.concurrent.CountDownLatch;
+
+public class SharedScoreThresholdTests extends AbstractSparseTestBase {
+
+    public void testGet_whenNotUpdated_thenReturnsMinValue() {
+        assertEquals(Integer.MIN_VALUE, new SharedScoreThreshold().get());
+    }
+
+    public void testUpdate_thenKeepsHighestScore() {
+        SharedScoreThreshold threshold = new SharedScoreThreshold();
+        threshold.update(10);
+        assertEquals(10, threshold.get());
+        threshold.update(5);
+        assertEquals(10, threshold.get());
+        threshold.update(20);
+        assertEquals(20, threshold.get());
+    }
+
+    public void testUpdate_withConcurrentSegments_thenKeepsHighestScore() throws InterruptedException {
+        SharedScoreThreshold threshold = new SharedScoreThreshold();
+        int threadCount = 4;
+        int updatesPerThread = 1000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; ++t) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < updatesPerThread; ++i) {
+                    threshold.update(i * threadCount + offset);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(updatesPerThread * threadCount - 1, threshold.get());
+    }
+}
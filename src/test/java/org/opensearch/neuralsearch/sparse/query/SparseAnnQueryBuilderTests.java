@@ -13,6 +13,7 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.junit.Before;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.ParsingException;
@@ -38,6 +39,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.sparse.common.SparseConstants.QUANTIZATION_CEILING_SEARCH_FIELD;
@@ -100,6 +102,68 @@ public class SparseAnnQueryBuilderTests extends AbstractSparseTestBase {
         assertEquals(Float.valueOf(2.0f), parsed.heapFactor());
     }
 
+    public void testFromXContent_withQueryMassRatio_parsesCorrectly() throws IOException {
+        XContentParser parser = createParser("{\"top_n\": 5, \"query_mass_ratio\": 0.8}");
+        parser.nextToken();
+
+        SparseAnnQueryBuilder parsed = SparseAnnQueryBuilder.fromXContent(parser);
+
+        assertEquals(Integer.valueOf(5), parsed.queryCut());
+        assertEquals(Float.valueOf(0.8f), parsed.queryMassRatio());
+    }
+
+    public void testFromXContent_withInvalidQueryMassRatio_throwsException() throws IOException {
+        for (String ratio : List.of("0", "-0.5", "1.5")) {
+            XContentParser parser = createParser("{\"query_mass_ratio\": " + ratio + "}");
+            parser.nextToken();
+
+            ParsingException exception = expectThrows(ParsingException.class, () -> SparseAnnQueryBuilder.fromXContent(parser));
+            assertTrue(exception.getMessage().contains("query_mass_ratio must be in range (0, 1]"));
+        }
+    }
+
+    public void testFromXContent_withBypassCache_parsesCorrectly() throws IOException {
+        XContentParser parser = createParser("{\"top_n\": 5, \"bypass_cache\": true}");
+        parser.nextToken();
+
+        SparseAnnQueryBuilder parsed = SparseAnnQueryBuilder.fromXContent(parser);
+
+        assertEquals(Boolean.TRUE, parsed.bypassCache());
+        assertTrue(parsed.queryTokens(Map.of("1", 1.0f)).constructSparseQueryContext().isBypassCache());
+    }
+
+    public void testConstructSparseQueryContext_withoutBypassCache_usesCache() {
+        assertFalse(queryBuilder.constructSparseQueryContext().isBypassCache());
+        queryBuilder.bypassCache(false);
+        assertFalse(queryBuilder.constructSparseQueryContext().isBypassCache());
+    }
+
+    public void testConstructSparseQueryContext_sortsTokensByWeight() {
+        Map<String, Float> tokens = Map.of("1", 0.1f, "2", 0.9f, "3", 0.5f, "4", 0.3f);
+        SparseAnnQueryBuilder builder = SparseAnnQueryBuilder.builder().queryCut(3).queryTokens(tokens).build();
+
+        assertEquals(List.of("2", "3", "4"), builder.constructSparseQueryContext().getTokens());
+    }
+
+    public void testConstructSparseQueryContext_withQueryMassRatio_dropsLowWeightTail() {
+        // total mass of the top 4 tokens is 2.0
+        Map<String, Float> tokens = Map.of("1", 1.0f, "2", 0.5f, "3", 0.3f, "4", 0.2f, "5", 0.1f);
+        SparseAnnQueryBuilder builder = SparseAnnQueryBuilder.builder().queryCut(4).queryTokens(tokens).build();
+
+        builder.queryMassRatio(0.7f);
+        assertEquals(List.of("1", "2"), builder.constructSparseQueryContext().getTokens());
+
+        builder.queryMassRatio(0.8f);
+        assertEquals(List.of("1", "2", "3"), builder.constructSparseQueryContext().getTokens());
+
+        // the heaviest token is always kept
+        builder.queryMassRatio(0.01f);
+        assertEquals(List.of("1"), builder.constructSparseQueryContext().getTokens());
+
+        builder.queryMassRatio(1.0f);
+        assertEquals(List.of("1", "2", "3", "4"), builder.constructSparseQueryContext().getTokens());
+    }
+
     public void testFromXContent_withInvalidField_throwsException() throws IOException {
         String json = "{\"invalid_field\": \"value\"}";
         XContentParser parser = createParser(json);
@@ -120,6 +184,17 @@ public class SparseAnnQueryBuilderTests extends AbstractSparseTestBase {
         assertTrue(result.contains("\"k\":10"));
         assertTrue(result.contains("\"heap_factor\":1.5"));
         assertTrue(result.contains("\"filter\":{"));
+        assertFalse(result.contains("query_mass_ratio"));
+        assertFalse(result.contains("bypass_cache"));
+
+        queryBuilder.queryMassRatio(0.5f);
+        queryBuilder.bypassCache(true);
+        builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        queryBuilder.doXContent(builder, null);
+        builder.endObject();
+        assertTrue(builder.toString().contains("\"query_mass_ratio\":0.5"));
+        assertTrue(builder.toString().contains("\"bypass_cache\":true"));
     }
 
     public void testDoXContent_withNullCut() throws IOException {
@@ -232,6 +307,8 @@ public class SparseAnnQueryBuilderTests extends AbstractSparseTestBase {
         assertFalse(queryBuilder.doEquals(other));
         other = SparseAnnQueryBuilder.builder().queryCut(1).k(10).heapFactor(1.5f).filter(filter).build();
         assertFalse(queryBuilder.doEquals(other));
+        other = SparseAnnQueryBuilder.builder().queryCut(2).k(10).heapFactor(1.5f).filter(filter).bypassCache(true).build();
+        assertFalse(queryBuilder.doEquals(other));
     }
 
     public void testHashCode_withSameValues_returnsSameHashCode() {
@@ -347,24 +424,75 @@ public class SparseAnnQueryBuilderTests extends AbstractSparseTestBase {
 
     public void testStreamConstructor_readsCorrectly() throws IOException {
         org.opensearch.core.common.io.stream.StreamInput streamInput = mock(org.opensearch.core.common.io.stream.StreamInput.class);
+        when(streamInput.getVersion()).thenReturn(Version.CURRENT);
         when(streamInput.readOptionalInt()).thenReturn(5, 20);
-        when(streamInput.readOptionalFloat()).thenReturn(1.5f);
+        when(streamInput.readOptionalFloat()).thenReturn(1.5f, 0.7f);
 
         SparseAnnQueryBuilder fromStream = new SparseAnnQueryBuilder(streamInput);
 
         assertEquals(Integer.valueOf(5), fromStream.queryCut());
         assertEquals(Integer.valueOf(20), fromStream.k());
         assertEquals(Float.valueOf(1.5f), fromStream.heapFactor());
+        assertEquals(Float.valueOf(0.7f), fromStream.queryMassRatio());
+    }
+
+    public void testStreamConstructor_readsBypassCache() throws IOException {
+        org.opensearch.core.common.io.stream.StreamInput streamInput = mock(org.opensearch.core.common.io.stream.StreamInput.class);
+        when(streamInput.getVersion()).thenReturn(Version.CURRENT);
+        when(streamInput.readOptionalBoolean()).thenReturn(true);
+
+        SparseAnnQueryBuilder fromStream = new SparseAnnQueryBuilder(streamInput);
+
+        assertEquals(Boolean.TRUE, fromStream.bypassCache());
+    }
+
+    public void testStreamConstructor_withOldVersion_skipsQueryMassRatio() throws IOException {
+        org.opensearch.core.common.io.stream.StreamInput streamInput = mock(org.opensearch.core.common.io.stream.StreamInput.class);
+        when(streamInput.getVersion()).thenReturn(Version.V_3_3_0);
+        when(streamInput.readOptionalInt()).thenReturn(5, 20);
+        when(streamInput.readOptionalFloat()).thenReturn(1.5f, 0.7f);
+
+        SparseAnnQueryBuilder fromStream = new SparseAnnQueryBuilder(streamInput);
+
+        assertEquals(Float.valueOf(1.5f), fromStream.heapFactor());
+        assertNull(fromStream.queryMassRatio());
+        assertNull(fromStream.bypassCache());
+        verify(streamInput, never()).readOptionalBoolean();
     }
 
     public void testDoWriteTo_writesCorrectly() throws IOException {
         StreamOutput streamOutput = mock(StreamOutput.class);
+        when(streamOutput.getVersion()).thenReturn(Version.CURRENT);
+        queryBuilder.queryMassRatio(0.7f);
 
         queryBuilder.doWriteTo(streamOutput);
 
         verify(streamOutput).writeOptionalInt(2);
         verify(streamOutput).writeOptionalInt(10);
         verify(streamOutput).writeOptionalFloat(1.5f);
+        verify(streamOutput).writeOptionalFloat(0.7f);
+    }
+
+    public void testDoWriteTo_withOldVersion_skipsQueryMassRatio() throws IOException {
+        StreamOutput streamOutput = mock(StreamOutput.class);
+        when(streamOutput.getVersion()).thenReturn(Version.V_3_3_0);
+        queryBuilder.queryMassRatio(0.7f);
+
+        queryBuilder.doWriteTo(streamOutput);
+
+        verify(streamOutput).writeOptionalFloat(1.5f);
+        verify(streamOutput, never()).writeOptionalFloat(0.7f);
+        verify(streamOutput, never()).writeOptionalBoolean(any());
+    }
+
+    public void testDoWriteTo_writesBypassCache() throws IOException {
+        StreamOutput streamOutput = mock(StreamOutput.class);
+        when(streamOutput.getVersion()).thenReturn(Version.CURRENT);
+        queryBuilder.bypassCache(true);
+
+        queryBuilder.doWriteTo(streamOutput);
+
+        verify(streamOutput).writeOptionalBoolean(true);
     }
 
     public void testFromXContent_withInvalidStartToken_throwsException() throws IOException {
@@ -420,6 +548,8 @@ public class SparseAnnQueryBuilderTests extends AbstractSparseTestBase {
         assertEquals(queryBuilder.queryCut(), rewritten.queryCut());
         assertEquals(queryBuilder.k(), rewritten.k());
         assertEquals(queryBuilder.heapFactor(), rewritten.heapFactor());
+        assertEquals(queryBuilder.queryMassRatio(), rewritten.queryMassRatio());
+        assertEquals(queryBuilder.bypassCache(), rewritten.bypassCache());
         assertEquals(queryBuilder.filter(), rewritten.filter());
     }
 
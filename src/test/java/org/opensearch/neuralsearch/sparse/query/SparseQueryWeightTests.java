@@ -104,7 +104,7 @@ public class SparseQueryWeightTests extends AbstractSparseTestBase {
         // Create query vector
         queryVector = createVector(1, 1, 3, 2, 5, 3);
         when(sparseVectorQuery.getQueryVector()).thenReturn(queryVector);
-        when(sparseVectorQuery.getQueryContext()).thenReturn(new SparseQueryContext(List.of("token1", "token2"), 1.0f, 5));
+        when(sparseVectorQuery.getQueryContext()).thenReturn(new SparseQueryContext(List.of("token1", "token2"), 1.0f, 5, false));
 
         // Create a mock original query that returns our mock weight
         when(mockOriginalQuery.createWeight(any(IndexSearcher.class), any(ScoreMode.class), anyFloat())).thenReturn(mockBooleanQueryWeight);
@@ -255,7 +255,9 @@ public class SparseQueryWeightTests extends AbstractSparseTestBase {
         Scorer scorer = mock(Scorer.class);
         DocIdSetIterator iter = mock(DocIdSetIterator.class);
         when(scorer.iterator()).thenReturn(iter);
-        when(iter.nextDoc()).thenReturn(1, 2, DocIdSetIterator.NO_MORE_DOCS);
+        when(iter.docID()).thenReturn(-1);
+        when(iter.advance(0)).thenReturn(1);
+        when(iter.nextDoc()).thenReturn(2, DocIdSetIterator.NO_MORE_DOCS);
         SparseQueryWeight weight = spy(new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache));
         doReturn(scorer).when(weight).selectScorer(any(), any(), any());
 
@@ -272,6 +274,52 @@ public class SparseQueryWeightTests extends AbstractSparseTestBase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, result);
     }
 
+    public void testBulkScorerScoreMethod_withWindowsAndAcceptDocs() throws Exception {
+        Scorer scorer = mock(Scorer.class);
+        SeismicBaseScorer.ResultsDocValueIterator iter = new SeismicBaseScorer.ResultsDocValueIterator(
+            new int[] { 1, 3, 5, 8 },
+            new int[] { 10, 30, 50, 80 }
+        );
+        when(scorer.iterator()).thenReturn(iter);
+        SparseQueryWeight weight = spy(
+            new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache)
+        );
+        doReturn(scorer).when(weight).selectScorer(any(), any(), any());
+
+        ScorerSupplier scorerSupplier = weight.scorerSupplier(leafReaderContext);
+        assertEquals(4, scorerSupplier.cost());
+        BulkScorer bulkScorer = scorerSupplier.bulkScorer();
+        assertEquals(4, bulkScorer.cost());
+
+        FixedBitSet acceptDocs = new FixedBitSet(10);
+        acceptDocs.set(0, 10);
+        acceptDocs.clear(5);
+        // first window stops at the first doc not smaller than max
+        assertEquals(5, bulkScorer.score(mockLeafCollector, acceptDocs, 2, 4));
+        // second window skips the doc which is not accepted
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, bulkScorer.score(mockLeafCollector, acceptDocs, 4, 10));
+
+        verify(mockLeafCollector, never()).collect(1);
+        verify(mockLeafCollector).collect(3);
+        verify(mockLeafCollector, never()).collect(5);
+        verify(mockLeafCollector).collect(8);
+    }
+
+    public void testBulkScorer_withExactMatchScorer_thenUsesBlockBulkScorer() throws Exception {
+        ExactMatchScorer scorer = mock(ExactMatchScorer.class);
+        when(scorer.iterator()).thenReturn(DocIdSetIterator.empty());
+        BulkScorer exactBulkScorer = mock(BulkScorer.class);
+        when(scorer.bulkScorer()).thenReturn(exactBulkScorer);
+        SparseQueryWeight weight = spy(
+            new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache)
+        );
+        doReturn(scorer).when(weight).selectScorer(any(), any(), any());
+
+        ScorerSupplier scorerSupplier = weight.scorerSupplier(leafReaderContext);
+
+        assertSame(exactBulkScorer, scorerSupplier.bulkScorer());
+    }
+
     public void testExactMatchScorerPath() throws Exception {
         // Create filter results with small cardinality to trigger ExactMatchScorer
         Map<Object, BitSet> filterResults = new HashMap<>();
@@ -338,6 +386,69 @@ public class SparseQueryWeightTests extends AbstractSparseTestBase {
         assertTrue(scorer instanceof ExactMatchScorer);
     }
 
+    public void test_selectScorer_withBypassCache_thenCacheNotWritten() throws IOException {
+        SparseBinaryDocValuesPassThrough mockDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(sparseSegmentReader.getBinaryDocValues(anyString())).thenReturn(mockDocValues);
+        when(sparseVectorQuery.getQueryContext()).thenReturn(new SparseQueryContext(List.of("token1", "token2"), 1.0f, 5, true));
+        when(sparseVectorQuery.getFilterResults()).thenReturn(null);
+        when(mockForwardIndexCache.get(any())).thenReturn(mockForwardIndexCacheItem);
+
+        SparseQueryWeight weight = new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache);
+        Scorer scorer = weight.selectScorer(sparseVectorQuery, leafReaderContext, segmentInfo);
+
+        assertTrue(scorer instanceof OrderedPostingWithClustersScorer);
+        verify(mockForwardIndexCacheItem).getReader();
+        verify(mockForwardIndexCacheItem, never()).getWriter();
+        verify(mockForwardIndexCache, never()).getOrCreate(any(), anyInt());
+    }
+
+    public void test_selectScorer_withBypassCacheAndNoCachedSegment_thenCacheNotCreated() throws IOException {
+        SparseBinaryDocValuesPassThrough mockDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(sparseSegmentReader.getBinaryDocValues(anyString())).thenReturn(mockDocValues);
+        when(sparseVectorQuery.getQueryContext()).thenReturn(new SparseQueryContext(List.of("token1", "token2"), 1.0f, 5, true));
+        when(sparseVectorQuery.getFilterResults()).thenReturn(null);
+        when(mockForwardIndexCache.get(any())).thenReturn(null);
+
+        SparseQueryWeight weight = new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache);
+        Scorer scorer = weight.selectScorer(sparseVectorQuery, leafReaderContext, segmentInfo);
+
+        assertTrue(scorer instanceof OrderedPostingWithClustersScorer);
+        verify(mockForwardIndexCache).get(any());
+        verify(mockForwardIndexCache, never()).getOrCreate(any(), anyInt());
+        verify(mockForwardIndexCacheItem, never()).getReader();
+    }
+
+    public void test_selectScorerWithFilter_cheaperThanApproximateSearch_thenExactMatch() throws IOException {
+        SparseBinaryDocValuesPassThrough mockDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(sparseSegmentReader.getBinaryDocValues(anyString())).thenReturn(mockDocValues);
+        when(sparseSegmentReader.maxDoc()).thenReturn(1000);
+        String id = "1";
+        when(leafReaderContext.id()).thenReturn(id);
+        BitSet bitSet = mock(BitSet.class);
+        when(sparseVectorQuery.getFilterResults()).thenReturn(Map.of(id, bitSet));
+        // above k but below the 2 tokens * 10 postings visited by the approximate search
+        when(bitSet.cardinality()).thenReturn(15);
+
+        SparseQueryWeight weight = new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache);
+        Scorer scorer = weight.selectScorer(sparseVectorQuery, leafReaderContext, segmentInfo);
+        assertTrue(scorer instanceof ExactMatchScorer);
+    }
+
+    public void test_selectScorerWithFilter_selectiveFilter_thenApproximateSearch() throws IOException {
+        SparseBinaryDocValuesPassThrough mockDocValues = mock(SparseBinaryDocValuesPassThrough.class);
+        when(sparseSegmentReader.getBinaryDocValues(anyString())).thenReturn(mockDocValues);
+        when(sparseSegmentReader.maxDoc()).thenReturn(1000);
+        String id = "1";
+        when(leafReaderContext.id()).thenReturn(id);
+        FixedBitSet bitSet = new FixedBitSet(1000);
+        bitSet.set(0, 50);
+        when(sparseVectorQuery.getFilterResults()).thenReturn(Map.of(id, bitSet));
+
+        SparseQueryWeight weight = new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache);
+        Scorer scorer = weight.selectScorer(sparseVectorQuery, leafReaderContext, segmentInfo);
+        assertTrue(scorer instanceof OrderedPostingWithClustersScorer);
+    }
+
     public void test_selectScorer_IOException() throws IOException {
         doThrow(IOException.class).when(sparseSegmentReader).getBinaryDocValues(anyString());
         SparseQueryWeight weight = new SparseQueryWeight(sparseVectorQuery, mockSearcher, ScoreMode.COMPLETE, 1.0f, mockForwardIndexCache);
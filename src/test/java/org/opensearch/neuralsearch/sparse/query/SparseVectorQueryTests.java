@@ -151,7 +151,7 @@ public class SparseVectorQueryTests extends AbstractSparseTestBase {
 
     public void testHashCode() {
         Query originalQuery = new MatchAllDocsQuery();
-        SparseQueryContext context = new SparseQueryContext(List.of("1", "2"), 1.0f, 2);
+        SparseQueryContext context = new SparseQueryContext(List.of("1", "2"), 1.0f, 2, false);
         SparseVectorQuery query = SparseVectorQuery.builder()
             .queryVector(queryVector)
             .queryContext(context)
@@ -179,7 +179,7 @@ public class SparseVectorQueryTests extends AbstractSparseTestBase {
 
     public void testEquals() {
         Query originalQuery = new MatchAllDocsQuery();
-        SparseQueryContext context = new SparseQueryContext(List.of("1", "2"), 1.0f, 2);
+        SparseQueryContext context = new SparseQueryContext(List.of("1", "2"), 1.0f, 2, false);
         SparseVectorQuery query = SparseVectorQuery.builder()
             .queryVector(queryVector)
             .queryContext(context)
@@ -193,7 +193,7 @@ public class SparseVectorQueryTests extends AbstractSparseTestBase {
 
         SparseVectorQuery query2 = SparseVectorQuery.builder()
             .queryVector(queryVector)
-            .queryContext(new SparseQueryContext(List.of("3", "2"), 1.0f, 2))
+            .queryContext(new SparseQueryContext(List.of("3", "2"), 1.0f, 2, false))
             .fieldName(FIELD_NAME)
             .fallbackQuery(originalQuery)
             .filter(originalQuery)
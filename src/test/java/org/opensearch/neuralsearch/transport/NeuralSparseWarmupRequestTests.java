@@ -7,9 +7,13 @@ package org.opensearch.neuralsearch.transport;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
 
 import java.io.IOException;
+import java.util.Map;
 
 public class NeuralSparseWarmupRequestTests extends AbstractSparseTestBase {
 
@@ -56,4 +60,26 @@ public class NeuralSparseWarmupRequestTests extends AbstractSparseTestBase {
         assertArrayEquals(originalIndices, deserializedRequest.indices());
         assertEquals(originalRequest.indicesOptions(), deserializedRequest.indicesOptions());
     }
+
+    public void testStreamConstructor_withWarmupTaskId_thenKeepsIt() throws IOException {
+        NeuralSparseWarmupRequest originalRequest = new NeuralSparseWarmupRequest("index1");
+        originalRequest.setWarmupTaskId(new TaskId("node1", 42));
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        originalRequest.writeTo(out);
+        NeuralSparseWarmupRequest deserializedRequest = new NeuralSparseWarmupRequest(out.bytes().streamInput());
+
+        assertEquals(new TaskId("node1", 42), deserializedRequest.getWarmupTaskId());
+        assertEquals(TaskId.EMPTY_TASK_ID, new NeuralSparseWarmupRequest("index1").getWarmupTaskId());
+    }
+
+    public void testCreateTask_thenCancellableTaskCancellingItsChildren() {
+        NeuralSparseWarmupRequest request = new NeuralSparseWarmupRequest("index1", "index2");
+
+        Task task = request.createTask(1L, "transport", NeuralSparseWarmupAction.NAME, TaskId.EMPTY_TASK_ID, Map.of());
+
+        assertTrue(task instanceof NeuralSparseWarmupTask);
+        assertTrue(((CancellableTask) task).shouldCancelChildrenOnCancellation());
+        assertEquals("warm up [index1, index2]", task.getDescription());
+    }
 }
@@ -4,15 +4,23 @@
  */
 package org.opensearch.neuralsearch.transport;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.action.support.DefaultShardOperationFailedException;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public class NeuralSparseWarmupResponseTests extends AbstractSparseTestBase {
 
@@ -90,4 +98,42 @@ public class NeuralSparseWarmupResponseTests extends AbstractSparseTestBase {
         assertEquals(originalResponse.getFailedShards(), deserializedResponse.getFailedShards());
         assertEquals(originalResponse.getShardFailures().length, deserializedResponse.getShardFailures().length);
     }
+
+    public void testStreamConstructor_withLoadedItems() throws IOException {
+        NeuralSparseWarmupResponse originalResponse = new NeuralSparseWarmupResponse(2, 2, 0, new ArrayList<>(), 10, 1024);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        originalResponse.writeTo(out);
+        NeuralSparseWarmupResponse deserializedResponse = new NeuralSparseWarmupResponse(out.bytes().streamInput());
+
+        assertEquals(10, deserializedResponse.getLoadedItems());
+        assertEquals(1024, deserializedResponse.getLoadedBytes());
+    }
+
+    public void testStreamConstructor_withOlderVersion_thenNoLoadedItems() throws IOException {
+        NeuralSparseWarmupResponse originalResponse = new NeuralSparseWarmupResponse(2, 2, 0, new ArrayList<>(), 10, 1024);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_3_0);
+        originalResponse.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_3_0);
+        NeuralSparseWarmupResponse deserializedResponse = new NeuralSparseWarmupResponse(in);
+
+        assertEquals(2, deserializedResponse.getTotalShards());
+        assertEquals(0, deserializedResponse.getLoadedItems());
+        assertEquals(0, deserializedResponse.getLoadedBytes());
+    }
+
+    public void testToXContent_withLoadedItems() throws IOException {
+        NeuralSparseWarmupResponse response = new NeuralSparseWarmupResponse(2, 2, 0, new ArrayList<>(), 10, 1024);
+
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Map<String, Object> map = XContentHelper.convertToMap(BytesReference.bytes(builder), false, MediaTypeRegistry.JSON).v2();
+
+        assertEquals(10, map.get("loaded_items"));
+        assertEquals(1024, map.get("loaded_bytes"));
+        assertNotNull(map.get("_shards"));
+    }
 }
@@ -8,35 +8,45 @@ import org.junit.Before;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.support.ActionFilters;
-import org.opensearch.action.support.broadcast.node.TransportBroadcastByNodeAction;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardsIterator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.support.DefaultShardOperationFailedException;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.neuralsearch.sparse.AbstractSparseTestBase;
+import org.opensearch.neuralsearch.sparse.SparseWarmupProgress;
 import org.opensearch.neuralsearch.sparse.TestsPrepareUtils;
-
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -67,6 +77,9 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
     @Mock
     private RoutingTable routingTable;
 
+    @Mock
+    private TaskManager taskManager;
+
     private NeuralSparseWarmupTransportAction transportAction;
 
     @Before
@@ -74,6 +87,7 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
     public void setUp() {
         super.setUp();
         MockitoAnnotations.openMocks(this);
+        when(transportService.getTaskManager()).thenReturn(taskManager);
 
         transportAction = new NeuralSparseWarmupTransportAction(
             clusterService,
@@ -85,14 +99,19 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
     }
 
     public void testReadShardResult() throws IOException {
+        SparseWarmupProgress progress = new SparseWarmupProgress();
+        progress.addTotalItems(3);
+        progress.recordLoaded(100);
         BytesStreamOutput out = new BytesStreamOutput();
-        TransportBroadcastByNodeAction.EmptyResult.INSTANCE.writeTo(out);
+        progress.writeTo(out);
 
         StreamInput in = out.bytes().streamInput();
-        TransportBroadcastByNodeAction.EmptyResult result = transportAction.readShardResult(in);
+        SparseWarmupProgress result = transportAction.readShardResult(in);
 
         assertNotNull(result);
-        assertEquals(TransportBroadcastByNodeAction.EmptyResult.INSTANCE, result);
+        assertEquals(3, result.getTotalItems());
+        assertEquals(1, result.getLoadedItems());
+        assertEquals(100, result.getLoadedBytes());
     }
 
     public void testNewResponse() {
@@ -100,7 +119,13 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
         int totalShards = 5;
         int successfulShards = 4;
         int failedShards = 1;
-        List<TransportBroadcastByNodeAction.EmptyResult> emptyResults = new ArrayList<>();
+        List<SparseWarmupProgress> shardProgresses = new ArrayList<>();
+        for (int i = 0; i < successfulShards; ++i) {
+            SparseWarmupProgress progress = new SparseWarmupProgress();
+            progress.recordLoaded(10);
+            progress.recordLoaded(20);
+            shardProgresses.add(progress);
+        }
         List<DefaultShardOperationFailedException> shardFailures = new ArrayList<>();
 
         NeuralSparseWarmupResponse response = transportAction.newResponse(
@@ -108,7 +133,7 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
             totalShards,
             successfulShards,
             failedShards,
-            emptyResults,
+            shardProgresses,
             shardFailures,
             clusterState
         );
@@ -118,6 +143,8 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
         assertEquals(successfulShards, response.getSuccessfulShards());
         assertEquals(failedShards, response.getFailedShards());
         assertEquals(shardFailures, Arrays.asList(response.getShardFailures()));
+        assertEquals(8, response.getLoadedItems());
+        assertEquals(120, response.getLoadedBytes());
     }
 
     public void testReadRequestFrom() throws IOException {
@@ -152,15 +179,108 @@ public class NeuralSparseWarmupTransportActionTests extends AbstractSparseTestBa
         when(indexService.getShard(anyInt())).thenReturn(indexShard);
 
         NeuralSparseWarmupRequest request = new NeuralSparseWarmupRequest("test-index");
+        Map<String, Task> registeredTasks = new HashMap<>();
+        when(taskManager.register(anyString(), anyString(), any(TaskAwareRequest.class))).thenAnswer(invocation -> {
+            TaskAwareRequest taskRequest = invocation.getArgument(2);
+            Task task = taskRequest.createTask(1L, invocation.getArgument(0), invocation.getArgument(1), TaskId.EMPTY_TASK_ID, Map.of());
+            registeredTasks.put(task.getAction(), task);
+            return task;
+        });
 
         // Execute
-        TransportBroadcastByNodeAction.EmptyResult result = transportAction.shardOperation(request, shardRouting);
+        SparseWarmupProgress result = transportAction.shardOperation(request, shardRouting);
 
         // Verify
         assertNotNull(result);
-        assertEquals(TransportBroadcastByNodeAction.EmptyResult.INSTANCE, result);
+        assertTrue(result.getLoadedItems() > 0);
         verify(indicesService).indexServiceSafe(index);
         verify(indexService).getShard(0);
+        // The shard warm up runs under a cancellable task reporting its progress, which is unregistered once done
+        NeuralSparseWarmupShardTask task = (NeuralSparseWarmupShardTask) registeredTasks.get(NeuralSparseWarmupAction.NAME + "[shard]");
+        assertNotNull(task);
+        assertSame(result, task.getStatus());
+        assertEquals("warm up " + shardId, task.getDescription());
+        verify(taskManager).unregister(task);
+    }
+
+    public void testShardOperation_thenShardTaskIsChildOfWarmupTask() throws IOException {
+        Index index = new Index("test-index", "test-uuid");
+        ShardId shardId = new ShardId(index, 0);
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        when(shardRouting.shardId()).thenReturn(shardId);
+
+        IndexService indexService = mock(IndexService.class);
+        IndexShard indexShard = mock(IndexShard.class);
+        Engine.Searcher searcher = mock(Engine.Searcher.class);
+
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(indexShard.acquireSearcher(any())).thenReturn(searcher);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+
+        when(indicesService.indexServiceSafe(index)).thenReturn(indexService);
+        when(indexService.getShard(anyInt())).thenReturn(indexShard);
+        List<TaskId> parentTaskIds = new ArrayList<>();
+        when(taskManager.register(anyString(), anyString(), any(TaskAwareRequest.class))).thenAnswer(invocation -> {
+            TaskAwareRequest taskRequest = invocation.getArgument(2);
+            parentTaskIds.add(taskRequest.getParentTask());
+            return taskRequest.createTask(1L, invocation.getArgument(0), invocation.getArgument(1), taskRequest.getParentTask(), Map.of());
+        });
+        NeuralSparseWarmupRequest request = new NeuralSparseWarmupRequest("test-index");
+        request.setWarmupTaskId(new TaskId("coordinating-node", 7));
+
+        transportAction.shardOperation(request, shardRouting);
+
+        assertEquals(List.of(new TaskId("coordinating-node", 7)), parentTaskIds);
+    }
+
+    public void testDoExecute_thenRecordsTaskOfRequest() {
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("local-node");
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.state()).thenThrow(new IllegalStateException("stop before the broadcast"));
+        NeuralSparseWarmupRequest request = new NeuralSparseWarmupRequest("test-index");
+        Task task = request.createTask(5L, "transport", NeuralSparseWarmupAction.NAME, TaskId.EMPTY_TASK_ID, Map.of());
+
+        expectThrows(IllegalStateException.class, () -> transportAction.doExecute(task, request, ActionListener.wrap(r -> {}, e -> {})));
+
+        assertEquals(new TaskId("local-node", 5), request.getWarmupTaskId());
+    }
+
+    public void testShardOperation_whenTaskCancelled_thenStopsWarmUp() throws IOException {
+        // Setup
+        Index index = new Index("test-index", "test-uuid");
+        ShardId shardId = new ShardId(index, 0);
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        when(shardRouting.shardId()).thenReturn(shardId);
+
+        IndexService indexService = mock(IndexService.class);
+        IndexShard indexShard = mock(IndexShard.class);
+        Engine.Searcher searcher = mock(Engine.Searcher.class);
+
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(indexShard.acquireSearcher(any())).thenReturn(searcher);
+        when(searcher.getIndexReader()).thenReturn(TestsPrepareUtils.prepareIndexReaderWithSparseField(15));
+
+        when(indicesService.indexServiceSafe(index)).thenReturn(indexService);
+        when(indexService.getShard(anyInt())).thenReturn(indexShard);
+        when(taskManager.register(anyString(), anyString(), any(TaskAwareRequest.class))).thenAnswer(invocation -> {
+            TaskAwareRequest taskRequest = invocation.getArgument(2);
+            CancellableTask task = (CancellableTask) taskRequest.createTask(
+                1L,
+                invocation.getArgument(0),
+                invocation.getArgument(1),
+                TaskId.EMPTY_TASK_ID,
+                Map.of()
+            );
+            task.cancel("test");
+            return task;
+        });
+
+        NeuralSparseWarmupRequest request = new NeuralSparseWarmupRequest("test-index");
+
+        // Execute and verify exception
+        expectThrows(TaskCancelledException.class, () -> transportAction.shardOperation(request, shardRouting));
+        verify(taskManager).unregister(any());
     }
 
     public void testShardOperationWithRuntimeException() {